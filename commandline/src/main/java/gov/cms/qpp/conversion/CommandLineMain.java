@@ -21,6 +21,7 @@ public class CommandLineMain {
 	public static final String BYGONE = "bygone";
 	public static final String SKIP_VALIDATION = "skipValidation";
 	public static final String RECURSIVE = "recursive";
+	public static final String VALIDATE_ONLY = "validateOnly";
 	public static final String HELP = "help";
 
 	static {
@@ -28,6 +29,7 @@ public class CommandLineMain {
 		OPTIONS.addOption("b", BYGONE, false, "Signals a historical conversion");
 		OPTIONS.addOption("v", SKIP_VALIDATION, false, "Skip validations");
 		OPTIONS.addOption("r", RECURSIVE, false, "Search for specified files recursively");
+		OPTIONS.addOption("o", VALIDATE_ONLY, false, "Validate the files without converting them");
 		OPTIONS.addOption("h", HELP, false, "This help message");
 
 		HELP_FORMAT = new HelpFormatter();
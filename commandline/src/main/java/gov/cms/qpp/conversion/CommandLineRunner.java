@@ -34,6 +34,7 @@ public class CommandLineRunner implements Runnable {
 	private final FileSystem fileSystem;
 	private boolean doValidation;
 	private boolean historical;
+	private boolean validateOnly;
 	private Pattern normalPathPattern;
 	private Pattern globFinderPattern;
 
@@ -76,11 +77,14 @@ public class CommandLineRunner implements Runnable {
 			if (invalid.isEmpty()) {
 				doValidation = !commandLine.hasOption(CommandLineMain.SKIP_VALIDATION);
 				historical = commandLine.hasOption(CommandLineMain.BYGONE);
+				validateOnly = commandLine.hasOption(CommandLineMain.VALIDATE_ONLY);
 
+				ConversionEngine engine = createEngine();
 				convert.parallelStream()
 					.map(ConversionFileWriterWrapper::new)
-					.peek(conversion -> conversion.setContext(createContext()))
-					.forEach(ConversionFileWriterWrapper::transform);
+					.peek(conversion -> conversion.setContext(engine.newContext()))
+					.forEach(validateOnly ? ConversionFileWriterWrapper::validate
+							: ConversionFileWriterWrapper::transform);
 			} else {
 				DEV_LOG.error("Invalid or missing paths: " + invalid);
 				sendHelpHint();
@@ -91,11 +95,11 @@ public class CommandLineRunner implements Runnable {
 		}
 	}
 
-	private Context createContext() {
-		Context context = new Context();
-		context.setDoValidation(doValidation);
-		context.setHistorical(historical);
-		return context;
+	private ConversionEngine createEngine() {
+		Context configuration = new Context();
+		configuration.setDoValidation(doValidation);
+		configuration.setHistorical(historical);
+		return new ConversionEngine(configuration);
 	}
 
 	private boolean isHelp() {
@@ -5,7 +5,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import gov.cms.qpp.conversion.encode.JsonWrapper;
 import gov.cms.qpp.conversion.model.error.AllErrors;
+import gov.cms.qpp.conversion.model.error.Error;
 import gov.cms.qpp.conversion.model.error.TransformException;
+import gov.cms.qpp.conversion.model.error.ValidationResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -54,6 +56,26 @@ public class ConversionFileWriterWrapper {
 		executeConverter(converter);
 	}
 
+	/**
+	 * Execute the validation only. Nothing is written unless there are errors.
+	 */
+	public void validate() {
+		if (context == null) {
+			context = new Context();
+		}
+		ValidationResult result = new Converter(source, context).validate();
+
+		if (result.getErrors().isEmpty()) {
+			DEV_LOG.info("Successful validation of {}", source.getName());
+		} else {
+			AllErrors allErrors = new AllErrors();
+			allErrors.addError(new Error(source.getName(), result.getErrors()));
+			Path outFile = getOutputFile(source.getName(), false);
+			DEV_LOG.error("There were errors during validation. Writing out errors to {}", outFile);
+			writeOutErrors(allErrors, outFile);
+		}
+	}
+
 	/**
 	 * Execute the converter and do initial handling of the result.
 	 *
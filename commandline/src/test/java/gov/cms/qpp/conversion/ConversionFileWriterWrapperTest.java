@@ -27,6 +27,7 @@ public class ConversionFileWriterWrapperTest {
 	@After
 	public void deleteFiles() throws IOException {
 		Files.deleteIfExists(Paths.get("valid-QRDA-III-latest-qpp.json"));
+		Files.deleteIfExists(Paths.get("valid-QRDA-III-latest-error.json"));
 		Files.deleteIfExists(Paths.get("not-a-QRDA-III-file-error.json"));
 		Files.deleteIfExists(Paths.get("qrda_bad_denominator-qpp.json"));
 		Files.deleteIfExists(Paths.get("qrda_bad_denominator-error.json"));
@@ -53,6 +54,28 @@ public class ConversionFileWriterWrapperTest {
 		assertFileExists("not-a-QRDA-III-file-error.json");
 	}
 
+	@Test
+	public void testValidateOnlyValidQrda() {
+		Path path = Paths.get("../qrda-files/valid-QRDA-III-latest.xml");
+		ConversionFileWriterWrapper converterWrapper = new ConversionFileWriterWrapper(path);
+
+		converterWrapper.validate();
+
+		assertFileDoesNotExists("valid-QRDA-III-latest-qpp.json");
+		assertFileDoesNotExists("valid-QRDA-III-latest-error.json");
+	}
+
+	@Test
+	public void testValidateOnlyInvalidQrda() {
+		Path path = Paths.get("src/test/resources/qrda_bad_denominator.xml");
+		ConversionFileWriterWrapper converterWrapper = new ConversionFileWriterWrapper(path);
+
+		converterWrapper.validate();
+
+		assertFileExists("qrda_bad_denominator-error.json");
+		assertFileDoesNotExists("qrda_bad_denominator-qpp.json");
+	}
+
 	@Test
 	public void testSkipValidations() {
 		Path path = Paths.get("src/test/resources/qrda_bad_denominator.xml");
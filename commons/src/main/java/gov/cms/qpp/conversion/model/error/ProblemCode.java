@@ -160,8 +160,8 @@ public enum ProblemCode implements LocalizedProblem {
 	INCORRECT_API_NPI_COMBINATION(80, "The given National Provider Identifier `(npi)`, Taxpayer Identification Number `(tin)`, "
 		+ "and Alternative Payment Model `(apm)` are not a valid combination", true),
 	MEASURE_SECTION_MISSING_MEASURE(81, "At least one measure is required in a measure section"),
-	TOO_MANY_ERRORS(82, "There are too many errors associated with this QRDA-III file. Showing 100 out of `(Error amount)` errors."
-		+ " Please fix the given errors and re-submit", true),
+	TOO_MANY_ERRORS(82, "There are too many errors associated with this QRDA-III file. "
+		+ "Showing `(Shown amount)` out of `(Error amount)` errors. Please fix the given errors and re-submit", true),
 	CPC_PLUS_TIN_REQUIRED(84, "CPC+ QRDA-III Submissions require at least one TIN to be present."),
 	CPC_PLUS_INVALID_TIN(85, "CPC+ QRDA-III Submission TINs require a 9 digit numerical value"),
 	CPC_PLUS_MISSING_TIN(86, "This CPC+ QRDA-III submission is missing a TIN. Please ensure there is a TIN associated with every "
@@ -23,6 +23,7 @@ public class MeasureConfigs {
 	private static String measureDataFileName = DEFAULT_MEASURE_DATA_FILE_NAME;
 	private static Map<String, MeasureConfig> configurationMap;
 	private static Map<String, List<MeasureConfig>> cpcPlusGroups;
+	private static Map<String, ValidationPlan> validationPlans;
 
 	/**
 	 * Static initialization
@@ -55,6 +56,8 @@ public class MeasureConfigs {
 				.filter(config -> config.getCpcPlusGroup() != null)
 				.forEach(config -> cpcPlusGroups.computeIfAbsent(
 						config.getCpcPlusGroup(), key -> new ArrayList<>()).add(config));
+		validationPlans = configurationMap.entrySet().stream()
+				.collect(Collectors.toMap(Map.Entry::getKey, entry -> ValidationPlan.compile(entry.getValue())));
 	}
 
 	public static Map<String, MeasureConfig> grabConfiguration(String fileName) {
@@ -130,6 +133,15 @@ public class MeasureConfigs {
 		return cpcPlusGroups;
 	}
 
+	/**
+	 * Retrieves a mapping of the validation plans, keyed as the configurations are
+	 *
+	 * @return mapped validation plans
+	 */
+	public static Map<String, ValidationPlan> getValidationPlanMap() {
+		return validationPlans;
+	}
+
 	/**
 	 * Retrieves a list of required mappings for any given section
 	 *
@@ -0,0 +1,137 @@
+package gov.cms.qpp.conversion.model.validation;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * What a quality measure's sub populations require of a document, worked out once from its {@link MeasureConfig}.
+ */
+public final class ValidationPlan {
+
+	public static final String SINGLE_TO_MULTIPLE_SUB_POPULATION = "CMS159v7";
+
+	private final String electronicMeasureId;
+	private final List<SubPopulation> subPopulations;
+	private final Map<SubPopulationLabel, Integer> expectedCounts;
+	private final Map<String, Integer> subPopulationIndex;
+	private final boolean stratified;
+	private final int requiredPerformanceRateCount;
+
+	private ValidationPlan(MeasureConfig measureConfig) {
+		List<SubPopulation> configured = measureConfig.getSubPopulation();
+		boolean singleToMultiple = SINGLE_TO_MULTIPLE_SUB_POPULATION.equalsIgnoreCase(
+				measureConfig.getElectronicMeasureId());
+		if (singleToMultiple) {
+			configured = configured.stream().filter(Objects::nonNull).collect(Collectors.toList());
+		}
+
+		electronicMeasureId = measureConfig.getElectronicMeasureId();
+		subPopulations = Collections.unmodifiableList(configured);
+		expectedCounts = Collections.unmodifiableMap(countUniqueIds(configured));
+		subPopulationIndex = Collections.unmodifiableMap(indexSubPopulations(configured));
+		stratified = measureConfig.getStrata() != null;
+		requiredPerformanceRateCount = !stratified ? 0 : singleToMultiple ? 1 : measureConfig.getStrata().size();
+	}
+
+	/**
+	 * Works out the plan for the given measure configuration
+	 *
+	 * @param measureConfig the configuration to plan for
+	 * @return the plan
+	 */
+	public static ValidationPlan compile(MeasureConfig measureConfig) {
+		Objects.requireNonNull(measureConfig, "measureConfig");
+		return new ValidationPlan(measureConfig);
+	}
+
+	private static Map<SubPopulationLabel, Integer> countUniqueIds(List<SubPopulation> subPopulations) {
+		Map<SubPopulationLabel, Integer> counts = new EnumMap<>(SubPopulationLabel.class);
+		for (SubPopulationLabel label : SubPopulationLabel.values()) {
+			int count = 0;
+			for (SubPopulation subPopulation : subPopulations) {
+				if (subPopulation != null && SubPopulations.getUniqueIdForKey(label.name(), subPopulation) != null) {
+					count++;
+				}
+			}
+			counts.put(label, count);
+		}
+		return counts;
+	}
+
+	private static Map<String, Integer> indexSubPopulations(List<SubPopulation> subPopulations) {
+		Map<String, Integer> index = new HashMap<>();
+		int position = 0;
+		for (SubPopulation subPopulation : subPopulations) {
+			if (subPopulation != null && subPopulation.getNumeratorUuid() != null) {
+				index.put(subPopulation.getDenominatorUuid(), position);
+				index.put(subPopulation.getDenominatorExceptionsUuid(), position);
+				index.put(subPopulation.getDenominatorExclusionsUuid(), position);
+				index.put(subPopulation.getNumeratorUuid(), position);
+				index.put(subPopulation.getInitialPopulationUuid(), position);
+				position++;
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * The electronic measure id of the planned measure
+	 *
+	 * @return electronic measure id
+	 */
+	public String getElectronicMeasureId() {
+		return electronicMeasureId;
+	}
+
+	/**
+	 * The sub populations a document must report, in configured order
+	 *
+	 * @return unmodifiable list of sub populations
+	 */
+	public List<SubPopulation> getSubPopulations() {
+		return subPopulations;
+	}
+
+	/**
+	 * How many measure data children of the given type a document must report
+	 *
+	 * @param label the type of measure data
+	 * @return the expected count
+	 */
+	public int getExpectedCount(SubPopulationLabel label) {
+		return expectedCounts.get(label);
+	}
+
+	/**
+	 * Finds the sub population group to which a population uuid belongs
+	 *
+	 * @param populationUuid a population uuid, as configured
+	 * @return index of the group, or null if the uuid belongs to none
+	 */
+	public Integer getSubPopulationIndex(String populationUuid) {
+		return subPopulationIndex.get(populationUuid);
+	}
+
+	/**
+	 * Whether the measure configures any strata
+	 *
+	 * @return true if strata are configured
+	 */
+	public boolean isStratified() {
+		return stratified;
+	}
+
+	/**
+	 * How many performance rates a document must report for a stratified measure
+	 *
+	 * @return the required performance rate count, or 0 if the measure is not stratified
+	 */
+	public int getRequiredPerformanceRateCount() {
+		return requiredPerformanceRateCount;
+	}
+}
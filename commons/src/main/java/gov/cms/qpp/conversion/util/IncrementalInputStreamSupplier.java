@@ -0,0 +1,182 @@
+package gov.cms.qpp.conversion.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A reusable input stream supplier that reads its source only as its streams are read.
+ *
+ * Unlike {@link MeasuredInputStreamSupplier}, the source is not read up front. Each supplied stream replays the bytes
+ * read from the source so far, then continues reading from the source, so the first consumer receives bytes as soon
+ * as they arrive. Every byte read is retained for the streams that follow. The source must remain open until it
+ * has been read to its end, and is not closed by this supplier.
+ */
+public class IncrementalInputStreamSupplier implements Supplier<InputStream> {
+
+	private static final int INITIAL_CAPACITY = 8192;
+
+	private final InputStream source;
+	private byte[] buffer = new byte[INITIAL_CAPACITY];
+	private int length;
+	private boolean exhausted;
+
+	private IncrementalInputStreamSupplier(InputStream source) {
+		this.source = source;
+	}
+
+	/**
+	 * Creates a {@link IncrementalInputStreamSupplier} that takes ownership of reading the given {@link InputStream}
+	 *
+	 * @param source the source for the new {@link IncrementalInputStreamSupplier}. Must not be null.
+	 * @return a new {@link IncrementalInputStreamSupplier} from the given {@link InputStream}
+	 */
+	public static IncrementalInputStreamSupplier incrementallyTransformInputStream(InputStream source) {
+		Objects.requireNonNull(source, "source");
+
+		return new IncrementalInputStreamSupplier(source);
+	}
+
+	/**
+	 * Gets a new one-time use {@link InputStream}
+	 *
+	 * @return A new one-time use {@link InputStream}, from the original source
+	 */
+	@Override
+	public InputStream get() {
+		return new ReplayingInputStream();
+	}
+
+	/**
+	 * Gets the size of the original {@link InputStream}, reading the remainder of the source if need be
+	 *
+	 * @return The size of the original {@link InputStream}
+	 */
+	public synchronized int size() {
+		try {
+			while (fill()) {
+				// read until the source is exhausted
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return length;
+	}
+
+	/**
+	 * Copies bytes, from the given position onward, that have been read from the source. Reads from the source when
+	 * no such bytes have been read yet.
+	 *
+	 * @param position the position of the first byte to copy
+	 * @param destination the array to copy bytes to
+	 * @param offset the offset in the destination of the first byte copied
+	 * @param count the maximum number of bytes to copy
+	 * @return the number of bytes copied, or -1 if the source ends before the given position
+	 * @throws IOException when reading from the source fails
+	 */
+	private synchronized int read(int position, byte[] destination, int offset, int count) throws IOException {
+		if (!awaitPosition(position)) {
+			return -1;
+		}
+
+		int copied = Math.min(count, length - position);
+		System.arraycopy(buffer, position, destination, offset, copied);
+		return copied;
+	}
+
+	/**
+	 * Reads the byte at the given position, reading from the source when it has not been read yet.
+	 *
+	 * @param position the position of the byte
+	 * @return the byte, or -1 if the source ends before the given position
+	 * @throws IOException when reading from the source fails
+	 */
+	private synchronized int read(int position) throws IOException {
+		return awaitPosition(position) ? buffer[position] & 0xFF : -1;
+	}
+
+	private synchronized int available(int position) {
+		return length - position;
+	}
+
+	/**
+	 * Reads from the source until the byte at the given position has been read.
+	 *
+	 * @param position the position of the byte
+	 * @return false if the source ends before the given position
+	 * @throws IOException when reading from the source fails
+	 */
+	private boolean awaitPosition(int position) throws IOException {
+		while (position >= length) {
+			if (!fill()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Reads whatever the source has available, blocking until at least one byte arrives or the source ends.
+	 *
+	 * @return false if the source has ended
+	 * @throws IOException when reading from the source fails
+	 */
+	private boolean fill() throws IOException {
+		if (exhausted) {
+			return false;
+		}
+
+		if (length == buffer.length) {
+			buffer = Arrays.copyOf(buffer, buffer.length * 2);
+		}
+
+		int read = source.read(buffer, length, buffer.length - length);
+		if (read == -1) {
+			exhausted = true;
+			return false;
+		}
+
+		length += read;
+		return true;
+	}
+
+	/**
+	 * A stream over the bytes of the source, as read by this supplier.
+	 */
+	private class ReplayingInputStream extends InputStream {
+		private int position;
+
+		@Override
+		public int read() throws IOException {
+			int read = IncrementalInputStreamSupplier.this.read(position);
+			if (read != -1) {
+				position++;
+			}
+			return read;
+		}
+
+		@Override
+		public int read(byte[] destination, int offset, int count) throws IOException {
+			if (offset < 0 || count < 0 || count > destination.length - offset) {
+				throw new IndexOutOfBoundsException();
+			}
+			if (count == 0) {
+				return 0;
+			}
+
+			int copied = IncrementalInputStreamSupplier.this.read(position, destination, offset, count);
+			if (copied > 0) {
+				position += copied;
+			}
+			return copied;
+		}
+
+		@Override
+		public int available() {
+			return IncrementalInputStreamSupplier.this.available(position);
+		}
+	}
+}
@@ -0,0 +1,153 @@
+package gov.cms.qpp.conversion.util;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.truth.Truth;
+
+import gov.cms.qpp.test.io.SlowClientInputStream;
+
+class IncrementalInputStreamSupplierTest {
+
+	private static final String CONTENT = "Moof! The DogCow says Moof!";
+
+	@Test
+	void testSourceIsNotReadUpFront() throws IOException {
+		InputStream use = stream(CONTENT);
+		IncrementalInputStreamSupplier.incrementallyTransformInputStream(use);
+		Truth.assertThat(use.available()).isEqualTo(CONTENT.length());
+	}
+
+	@Test
+	void testFirstStreamReadsChunksAsTheyArrive() throws IOException {
+		SlowClientInputStream client = slowClient(CONTENT, 4);
+		IncrementalInputStreamSupplier objectToTest = IncrementalInputStreamSupplier.incrementallyTransformInputStream(client);
+
+		byte[] read = new byte[CONTENT.length()];
+		Truth.assertThat(objectToTest.get().read(read)).isEqualTo(4);
+		Truth.assertThat(client.getDelivered()).isEqualTo(4);
+		Truth.assertThat(client.isComplete()).isFalse();
+	}
+
+	@Test
+	void testStreamsReplayTheSource() throws IOException {
+		IncrementalInputStreamSupplier objectToTest =
+				IncrementalInputStreamSupplier.incrementallyTransformInputStream(slowClient(CONTENT, 4));
+
+		Truth.assertThat(read(objectToTest.get())).isEqualTo(CONTENT);
+		Truth.assertThat(read(objectToTest.get())).isEqualTo(CONTENT);
+	}
+
+	@Test
+	void testLaterStreamsContinueReadingTheSource() throws IOException {
+		IncrementalInputStreamSupplier objectToTest =
+				IncrementalInputStreamSupplier.incrementallyTransformInputStream(slowClient(CONTENT, 4));
+
+		InputStream first = objectToTest.get();
+		Truth.assertThat(first.read()).isEqualTo('M');
+		Truth.assertThat(read(objectToTest.get())).isEqualTo(CONTENT);
+		Truth.assertThat(read(first)).isEqualTo(CONTENT.substring(1));
+	}
+
+	@Test
+	void testLargeSourceIsRetained() throws IOException {
+		String content = String.join("", Collections.nCopies(5000, CONTENT));
+		IncrementalInputStreamSupplier objectToTest =
+				IncrementalInputStreamSupplier.incrementallyTransformInputStream(stream(content));
+
+		Truth.assertThat(read(objectToTest.get())).isEqualTo(content);
+		Truth.assertThat(objectToTest.size()).isEqualTo(content.length());
+	}
+
+	@Test
+	void testSingleByteReads() throws IOException {
+		InputStream objectToTest = IncrementalInputStreamSupplier.incrementallyTransformInputStream(stream("ab")).get();
+
+		Truth.assertThat(objectToTest.read()).isEqualTo('a');
+		Truth.assertThat(objectToTest.read()).isEqualTo('b');
+		Truth.assertThat(objectToTest.read()).isEqualTo(-1);
+		Truth.assertThat(objectToTest.read(new byte[1], 0, 1)).isEqualTo(-1);
+	}
+
+	@Test
+	void testAvailableCountsBytesAlreadyRead() throws IOException {
+		IncrementalInputStreamSupplier objectToTest =
+				IncrementalInputStreamSupplier.incrementallyTransformInputStream(stream(CONTENT));
+		InputStream first = objectToTest.get();
+
+		Truth.assertThat(first.available()).isEqualTo(0);
+		Truth.assertThat(first.read()).isEqualTo('M');
+		Truth.assertThat(first.available()).isEqualTo(CONTENT.length() - 1);
+	}
+
+	@Test
+	void testZeroLengthRead() throws IOException {
+		InputStream objectToTest = IncrementalInputStreamSupplier.incrementallyTransformInputStream(stream(CONTENT)).get();
+		Truth.assertThat(objectToTest.read(new byte[4], 0, 0)).isEqualTo(0);
+	}
+
+	@Test
+	void testOutOfBoundsRead() {
+		InputStream objectToTest = IncrementalInputStreamSupplier.incrementallyTransformInputStream(stream(CONTENT)).get();
+		byte[] destination = new byte[4];
+
+		assertThrows(IndexOutOfBoundsException.class, () -> objectToTest.read(destination, -1, 2));
+		assertThrows(IndexOutOfBoundsException.class, () -> objectToTest.read(destination, 0, -1));
+		assertThrows(IndexOutOfBoundsException.class, () -> objectToTest.read(destination, 3, 2));
+	}
+
+	@Test
+	void testSizeReadsTheRemainingSource() {
+		SlowClientInputStream client = slowClient(CONTENT, 4);
+		IncrementalInputStreamSupplier objectToTest = IncrementalInputStreamSupplier.incrementallyTransformInputStream(client);
+
+		Truth.assertThat(objectToTest.size()).isEqualTo(CONTENT.length());
+		Truth.assertThat(client.isComplete()).isTrue();
+	}
+
+	@Test
+	void testSizeOfFailingSource() {
+		InputStream failing = new InputStream() {
+			@Override
+			public int read() throws IOException {
+				throw new IOException("Moof");
+			}
+		};
+		IncrementalInputStreamSupplier objectToTest = IncrementalInputStreamSupplier.incrementallyTransformInputStream(failing);
+
+		assertThrows(UncheckedIOException.class, objectToTest::size);
+	}
+
+	@Test
+	void testGetInputStreamReturnsUnique() {
+		IncrementalInputStreamSupplier objectToTest =
+				IncrementalInputStreamSupplier.incrementallyTransformInputStream(stream(CONTENT));
+		int expected = 5;
+		long count = Stream.generate(objectToTest::get).limit(expected).distinct().count();
+		Truth.assertThat(count).isEqualTo(expected);
+	}
+
+	private SlowClientInputStream slowClient(String data, int chunkSize) {
+		return new SlowClientInputStream(data.getBytes(StandardCharsets.UTF_8), chunkSize, 1, TimeUnit.MILLISECONDS);
+	}
+
+	private String read(InputStream stream) throws IOException {
+		return IOUtils.toString(stream, StandardCharsets.UTF_8);
+	}
+
+	private InputStream stream(String data) {
+		return new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
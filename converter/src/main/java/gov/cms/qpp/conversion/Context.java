@@ -1,25 +1,78 @@
 package gov.cms.qpp.conversion;
 
 import java.lang.annotation.Annotation;
+import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import gov.cms.qpp.conversion.model.Program;
 import gov.cms.qpp.conversion.model.Registry;
+import gov.cms.qpp.conversion.util.EnvironmentHelper;
 import gov.cms.qpp.conversion.validate.pii.MissingPiiValidator;
 import gov.cms.qpp.conversion.validate.pii.PiiValidator;
 
 /**
  * Stateful converter context. The values in this data structure will change
  * throughout the conversion.
+ *
+ * Contexts for many conversions with the same configuration are best created by a {@link ConversionEngine}.
  */
 public class Context {
 	public static final String REPORTING_YEAR = "2019";
+	public static final String STRICT_EXTENSION = "STRICT_EXTENSION";
+	public static final int DEFAULT_PARALLEL_DECODE_THRESHOLD = 64;
+	public static final int DEFAULT_ERROR_BUDGET = 100;
+	private static final long DECODE_THREAD_KEEP_ALIVE_SECONDS = 60;
 	private final Map<Class<? extends Annotation>, Registry<?>> registries = new IdentityHashMap<>();
+	private final Map<Class<? extends Annotation>, Registry<?>> inheritedRegistries;
 	private Program program = Program.ALL;
 	private boolean historical;
 	private boolean doValidation = true;
+	private boolean streamingDecode;
+	private boolean parallelDecode;
+	private int parallelDecodeThreshold = DEFAULT_PARALLEL_DECODE_THRESHOLD;
+	private boolean strictExtension;
+	private boolean internDecodedValues;
+	private boolean parallelValidation;
+	private int errorBudget = DEFAULT_ERROR_BUDGET;
 	private PiiValidator piiValidator = MissingPiiValidator.INSTANCE;
+	private Executor decodeExecutor;
+
+	/**
+	 * Creates a context with the default configuration, whose registries are looked up on first use.
+	 */
+	public Context() {
+		this.inheritedRegistries = Collections.emptyMap();
+		this.strictExtension = EnvironmentHelper.isPresent(STRICT_EXTENSION);
+	}
+
+	/**
+	 * Creates a context with the configuration of another, whose registries start out as those given.
+	 *
+	 * @param configuration the context whose configuration to copy
+	 * @param inheritedRegistries the registries to build upon, by annotation
+	 * @see ConversionEngine#newContext()
+	 */
+	Context(Context configuration, Map<Class<? extends Annotation>, Registry<?>> inheritedRegistries) {
+		this.inheritedRegistries = inheritedRegistries;
+		this.historical = configuration.historical;
+		this.doValidation = configuration.doValidation;
+		this.streamingDecode = configuration.streamingDecode;
+		this.parallelDecode = configuration.parallelDecode;
+		this.parallelDecodeThreshold = configuration.parallelDecodeThreshold;
+		this.strictExtension = configuration.strictExtension;
+		this.internDecodedValues = configuration.internDecodedValues;
+		this.parallelValidation = configuration.parallelValidation;
+		this.errorBudget = configuration.errorBudget;
+		this.piiValidator = configuration.piiValidator;
+		this.decodeExecutor = configuration.decodeExecutor;
+	}
 
 	/**
 	 * Gets the current contextual {@link Program}
@@ -75,6 +128,175 @@ public class Context {
 		this.doValidation = doValidation;
 	}
 
+	/**
+	 * Whether this context wants input decoded by pull parsing rather than building the full document.
+	 *
+	 * @return streamingDecode
+	 */
+	public boolean isStreamingDecode() {
+		return streamingDecode;
+	}
+
+	/**
+	 * Switch for enabling or disabling streaming decode.
+	 *
+	 * @param streamingDecode toggle value
+	 * @see gov.cms.qpp.conversion.decode.StaxDecoderEngine
+	 */
+	public void setStreamingDecode(boolean streamingDecode) {
+		this.streamingDecode = streamingDecode;
+	}
+
+	/**
+	 * Whether this context wants the measures of a quality measure section decoded concurrently.
+	 *
+	 * @return parallelDecode
+	 */
+	public boolean isParallelDecode() {
+		return parallelDecode;
+	}
+
+	/**
+	 * Switch for enabling or disabling concurrent decoding of quality measures.
+	 *
+	 * @param parallelDecode toggle value
+	 */
+	public void setParallelDecode(boolean parallelDecode) {
+		this.parallelDecode = parallelDecode;
+	}
+
+	/**
+	 * The fewest elements a quality measure section must hold for them to be decoded concurrently.
+	 * Defaults to {@value #DEFAULT_PARALLEL_DECODE_THRESHOLD}.
+	 *
+	 * @return parallelDecodeThreshold
+	 */
+	public int getParallelDecodeThreshold() {
+		return parallelDecodeThreshold;
+	}
+
+	/**
+	 * Sets the fewest elements a quality measure section must hold for them to be decoded concurrently, so that
+	 * small submissions are decoded on a single thread.
+	 *
+	 * @param parallelDecodeThreshold threshold value
+	 */
+	public void setParallelDecodeThreshold(int parallelDecodeThreshold) {
+		this.parallelDecodeThreshold = parallelDecodeThreshold;
+	}
+
+	/**
+	 * The executor that decodes the measures of a quality measure section concurrently. Unless one has been set, a
+	 * bounded executor owned by this context is created on first use, with a thread per available processor that
+	 * ends once idle. Contexts created by a {@link ConversionEngine} share the executor of the engine.
+	 *
+	 * @return decodeExecutor
+	 * @see #isParallelDecode()
+	 */
+	public Executor getDecodeExecutor() {
+		if (decodeExecutor == null) {
+			decodeExecutor = newDecodeExecutor();
+		}
+		return decodeExecutor;
+	}
+
+	/**
+	 * Sets the executor that decodes the measures of a quality measure section concurrently. The executor is not
+	 * shut down by the context.
+	 *
+	 * @param decodeExecutor the executor to use
+	 */
+	public void setDecodeExecutor(Executor decodeExecutor) {
+		this.decodeExecutor = decodeExecutor;
+	}
+
+	private static Executor newDecodeExecutor() {
+		int threads = Runtime.getRuntime().availableProcessors();
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads,
+				DECODE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+				new ThreadFactoryBuilder().setNameFormat("qpp-decode-%d").setDaemon(true).build());
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	/**
+	 * Whether this context wants the measures of a quality measure section validated concurrently.
+	 *
+	 * @return parallelValidation
+	 */
+	public boolean isParallelValidation() {
+		return parallelValidation;
+	}
+
+	/**
+	 * Switch for enabling or disabling concurrent validation of quality measures. The validation result is the same
+	 * either way, down to the order of its details.
+	 *
+	 * @param parallelValidation toggle value
+	 * @see gov.cms.qpp.conversion.validate.QrdaValidator
+	 */
+	public void setParallelValidation(boolean parallelValidation) {
+		this.parallelValidation = parallelValidation;
+	}
+
+	/**
+	 * The most validation errors reported for a document. Defaults to {@value #DEFAULT_ERROR_BUDGET}.
+	 *
+	 * @return errorBudget
+	 */
+	public int getErrorBudget() {
+		return errorBudget;
+	}
+
+	/**
+	 * Sets the most validation errors reported for a document. Once the budget is spent, the remaining errors are
+	 * only counted by problem code, which bounds the work spent on documents with very many errors.
+	 *
+	 * @param errorBudget the most errors to report
+	 * @see gov.cms.qpp.conversion.validate.QrdaValidator
+	 */
+	public void setErrorBudget(int errorBudget) {
+		this.errorBudget = errorBudget;
+	}
+
+	/**
+	 * Whether template id extensions must match exactly. Defaults to whether the {@value #STRICT_EXTENSION}
+	 * system property or environment variable was present when this context was created.
+	 *
+	 * @return strictExtension
+	 */
+	public boolean isStrictExtension() {
+		return strictExtension;
+	}
+
+	/**
+	 * Switch for enabling or disabling strict template id extension matching.
+	 *
+	 * @param strictExtension toggle value
+	 */
+	public void setStrictExtension(boolean strictExtension) {
+		this.strictExtension = strictExtension;
+	}
+
+	/**
+	 * Whether this context wants the values decoded from a document held as one instance per distinct value.
+	 *
+	 * @return internDecodedValues
+	 */
+	public boolean isInternDecodedValues() {
+		return internDecodedValues;
+	}
+
+	/**
+	 * Switch for enabling or disabling the sharing of equal decoded values, such as measure and population
+	 * identifiers, which are repeated throughout large documents.
+	 *
+	 * @param internDecodedValues toggle value
+	 */
+	public void setInternDecodedValues(boolean internDecodedValues) {
+		this.internDecodedValues = internDecodedValues;
+	}
+
 	public PiiValidator getPiiValidator() {
 		return piiValidator;
 	}
@@ -93,7 +315,13 @@ public class Context {
 	 */
 	@SuppressWarnings("unchecked")
 	public <A extends Annotation, R> Registry<R> getRegistry(Class<A> annotation) {
-		return (Registry<R>) registries.computeIfAbsent(annotation, key -> new Registry<>(this, key));
+		return (Registry<R>) registries.computeIfAbsent(annotation, this::createRegistry);
+	}
+
+	@SuppressWarnings("unchecked") // registries are keyed by annotation, so their handler types agree
+	private <R> Registry<R> createRegistry(Class<? extends Annotation> annotation) {
+		Registry<R> inherited = (Registry<R>) inheritedRegistries.get(annotation);
+		return inherited == null ? new Registry<>(this, annotation) : new Registry<>(this, inherited);
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,84 @@
+package gov.cms.qpp.conversion;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import gov.cms.qpp.conversion.model.Decoder;
+import gov.cms.qpp.conversion.model.Encoder;
+import gov.cms.qpp.conversion.model.Registry;
+import gov.cms.qpp.conversion.model.Validator;
+
+/**
+ * An immutable, thread safe starting point for conversions that share a configuration.
+ *
+ * The engine resolves the decoder, encoder and validator registries once, and takes a snapshot of the configuration
+ * of the {@link Context} it is created from. Each {@link #newContext()} copies that configuration and builds upon the
+ * resolved registries, so creating one neither searches for handlers nor copies them. Handlers that are not
+ * constructed with a {@link Context}, such as the validators, are instantiated once and shared by every context of
+ * the engine, while the rest are constructed for each context. Handlers registered on a context are seen by that
+ * context alone, and the engine is unaffected by later changes to the context it was created from. When measures
+ * are decoded concurrently, every context of the engine decodes them on the one bounded
+ * {@link Context#getDecodeExecutor() executor} of the engine.
+ */
+public final class ConversionEngine {
+	static final List<Class<? extends Annotation>> HANDLER_ANNOTATIONS = Collections.unmodifiableList(
+			Arrays.asList(Decoder.class, Encoder.class, Validator.class));
+
+	private final Context configuration;
+	private final Map<Class<? extends Annotation>, Registry<?>> registries;
+
+	/**
+	 * Creates an engine with the default configuration.
+	 */
+	public ConversionEngine() {
+		this(new Context());
+	}
+
+	/**
+	 * Creates an engine with the configuration, and any registered handlers, of the given context.
+	 *
+	 * @param configuration the context whose configuration to use. Must not be null.
+	 */
+	public ConversionEngine(Context configuration) {
+		Objects.requireNonNull(configuration, "configuration");
+
+		Map<Class<? extends Annotation>, Registry<?>> resolved = new IdentityHashMap<>();
+		this.registries = Collections.unmodifiableMap(resolved);
+		this.configuration = new Context(configuration, registries);
+		for (Class<? extends Annotation> annotation : HANDLER_ANNOTATIONS) {
+			resolved.put(annotation, snapshot(configuration.getRegistry(annotation)));
+		}
+		if (this.configuration.isParallelDecode()) {
+			// created now, so that every context of the engine shares it
+			this.configuration.getDecodeExecutor();
+		}
+	}
+
+	private <R> Registry<R> snapshot(Registry<R> registry) {
+		return new Registry<>(configuration, registry);
+	}
+
+	/**
+	 * Creates a context for a single conversion.
+	 *
+	 * @return a new context with the engine's configuration
+	 */
+	public Context newContext() {
+		return new Context(configuration, registries);
+	}
+
+	/**
+	 * Creates a converter for a single conversion.
+	 *
+	 * @param source the source to convert
+	 * @return a new converter with a context of its own
+	 */
+	public Converter newConverter(Source source) {
+		return new Converter(source, newContext());
+	}
+}
@@ -3,6 +3,7 @@ package gov.cms.qpp.conversion;
 import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -25,14 +26,17 @@ public class ConversionReport {
 	private JsonWrapper encodedWithMetadata;
 	private AllErrors reportDetails;
 	private List<Detail> warnings;
+	private Map<Integer, Integer> suppressedErrorCounts;
 
 	private String qppValidationDetails;
 
 	/**
 	 * Construct a conversion report
 	 */
-	ConversionReport(Source source, List<Detail> errors, List<Detail> warnings, Node decoded, JsonWrapper encodedWithMetadata) {
+	ConversionReport(Source source, List<Detail> errors, List<Detail> warnings, Node decoded, JsonWrapper encodedWithMetadata,
+			Map<Integer, Integer> suppressedErrorCounts) {
 		this.source = source;
+		this.suppressedErrorCounts = suppressedErrorCounts;
 		this.decoded = decoded;
 		this.encodedWithMetadata = encodedWithMetadata;
 		this.warnings = warnings;
@@ -166,6 +170,24 @@ public class ConversionReport {
 		this.warnings = warnings;
 	}
 
+	/**
+	 * Whether validation stopped reporting errors once the {@link Context#getErrorBudget() error budget} was spent.
+	 *
+	 * @return true if some validation errors were not reported
+	 */
+	public boolean isValidationCutShort() {
+		return !suppressedErrorCounts.isEmpty();
+	}
+
+	/**
+	 * Get the number of validation errors that were found but not reported, by error code.
+	 *
+	 * @return suppressed error counts, in the order the codes were first found
+	 */
+	public Map<Integer, Integer> getSuppressedErrorCounts() {
+		return suppressedErrorCounts;
+	}
+
 	/**
 	 * Get the {@link Source} for the raw QPP validation errors (if any).
 	 *
@@ -1,8 +1,11 @@
 package gov.cms.qpp.conversion;
 
+import gov.cms.qpp.conversion.decode.QrdaDocumentSniffer;
+import gov.cms.qpp.conversion.decode.StaxDecoderEngine;
 import gov.cms.qpp.conversion.decode.XmlDecoderEngine;
 import gov.cms.qpp.conversion.decode.XmlInputFileException;
 import gov.cms.qpp.conversion.encode.EncodeException;
+import gov.cms.qpp.conversion.encode.EncodeReport;
 import gov.cms.qpp.conversion.encode.JsonOutputEncoder;
 import gov.cms.qpp.conversion.encode.JsonWrapper;
 import gov.cms.qpp.conversion.encode.QppOutputEncoder;
@@ -22,6 +25,7 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -37,6 +41,7 @@ public class Converter {
 	private final Context context;
 	private List<Detail> errors = new ArrayList<>();
 	private List<Detail> warnings = new ArrayList<>();
+	private Map<Integer, Integer> suppressedErrorCounts = Collections.emptyMap();
 	private Node decoded;
 	private JsonWrapper encoded;
 
@@ -76,13 +81,9 @@ public class Converter {
 		try {
 			encoded = transform(source.toInputStream());
 		} catch (XmlInputFileException | XmlException xe) {
-			DEV_LOG.error(ProblemCode.NOT_VALID_XML_DOCUMENT.getMessage(), xe);
-			Detail detail = Detail.forProblemCode(ProblemCode.NOT_VALID_XML_DOCUMENT);
-			errors.add(detail);
+			addInvalidXmlError(xe);
 		} catch (RuntimeException exception) {
-			DEV_LOG.error(ProblemCode.UNEXPECTED_ERROR.getMessage(), exception);
-			Detail detail = Detail.forProblemCode(ProblemCode.UNEXPECTED_ERROR);
-			errors.add(detail);
+			addUnexpectedError(exception);
 		}
 
 		if (!errors.isEmpty()) {
@@ -92,6 +93,35 @@ public class Converter {
 		return encoded;
 	}
 
+	/**
+	 * Decode and validate the source, without encoding it. The source is validated whether or not the context asks
+	 * for validation, and errors are returned rather than thrown.
+	 *
+	 * @return the errors and warnings found
+	 */
+	public ValidationResult validate() {
+		DEV_LOG.info("Validate invoked");
+		try {
+			decoded = decode(source.toInputStream());
+			if (null != decoded) {
+				DEV_LOG.info("Decoded template ID {}", decoded.getType());
+				validateDecoded();
+			} else {
+				addNotQrdaDocumentError();
+			}
+		} catch (XmlInputFileException | XmlException xe) {
+			addInvalidXmlError(xe);
+		} catch (RuntimeException exception) {
+			addUnexpectedError(exception);
+		}
+
+		int errorCount = errors.size() + suppressedErrorCounts.values().stream().mapToInt(Integer::intValue).sum();
+		if (!suppressedErrorCounts.isEmpty()) {
+			errorCount--; // the TOO_MANY_ERRORS detail stands in for the suppressed errors and is not one of them
+		}
+		return new ValidationResult(errors, warnings, errorCount, suppressedErrorCounts);
+	}
+
 	/**
 	 * Transform the content in a given input stream
 	 *
@@ -100,41 +130,77 @@ public class Converter {
 	 * @throws XmlException during transform
 	 */
 	private JsonWrapper transform(InputStream inStream) {
-		Element doc = XmlUtils.parseXmlStream(inStream);
-		decoded = XmlDecoderEngine.decodeXml(context, doc);
+		decoded = decode(inStream);
 		JsonWrapper qpp = null;
 		if (null != decoded) {
 			DEV_LOG.info("Decoded template ID {}", decoded.getType());
 
 			if (context.isDoValidation()) {
-				QrdaValidator validator = new QrdaValidator(context);
-				ValidationResult result = validator.validate(decoded);
-				List<Detail> truncatedErrors = truncateTooManyErrors(result.getErrors());
-				errors.addAll(truncatedErrors);
-				warnings.addAll(result.getWarnings());
+				validateDecoded();
 			}
 
 			if (errors.isEmpty()) {
 				qpp = encode();
 			}
 		} else {
-			Detail detail = Detail.forProblemCode(ProblemCode.NOT_VALID_QRDA_DOCUMENT.format(
-				Context.REPORTING_YEAR, DocumentationReference.CLINICAL_DOCUMENT));
-			errors.add(detail);
+			addNotQrdaDocumentError();
 		}
 
 		return qpp;
 	}
 
-	private List<Detail> truncateTooManyErrors(List<Detail> errors) {
-		int sizeLimit = 100;
-		if (errors != null && errors.size() > sizeLimit) {
-			List<Detail> truncatedList = errors.subList(0, sizeLimit);
-			truncatedList.add(Detail.forProblemCode(
-				ProblemCode.TOO_MANY_ERRORS.format((errors.size()))));
-			return truncatedList;
+	/**
+	 * Validate the decoded content, collecting the errors and warnings found
+	 */
+	private void validateDecoded() {
+		QrdaValidator validator = new QrdaValidator(context);
+		ValidationResult result = validator.validate(decoded);
+		errors.addAll(result.getErrors());
+		warnings.addAll(result.getWarnings());
+		if (result.isCutShort()) {
+			suppressedErrorCounts = result.getSuppressedErrorCounts();
+			errors.add(Detail.forProblemCode(
+				ProblemCode.TOO_MANY_ERRORS.format(result.getErrors().size(), result.getErrorCount())));
+		}
+	}
+
+	private void addNotQrdaDocumentError() {
+		Detail detail = Detail.forProblemCode(ProblemCode.NOT_VALID_QRDA_DOCUMENT.format(
+			Context.REPORTING_YEAR, DocumentationReference.CLINICAL_DOCUMENT));
+		errors.add(detail);
+	}
+
+	private void addInvalidXmlError(RuntimeException exception) {
+		DEV_LOG.error(ProblemCode.NOT_VALID_XML_DOCUMENT.getMessage(), exception);
+		Detail detail = Detail.forProblemCode(ProblemCode.NOT_VALID_XML_DOCUMENT);
+		errors.add(detail);
+	}
+
+	private void addUnexpectedError(RuntimeException exception) {
+		DEV_LOG.error(ProblemCode.UNEXPECTED_ERROR.getMessage(), exception);
+		Detail detail = Detail.forProblemCode(ProblemCode.UNEXPECTED_ERROR);
+		errors.add(detail);
+	}
+
+	/**
+	 * Decode the content in a given input stream
+	 *
+	 * @param inStream source content
+	 * @return the decoded root node, or null if the content is not a QRDA III document
+	 * @throws XmlException during decode
+	 */
+	private Node decode(InputStream inStream) {
+		InputStream sniffable = QrdaDocumentSniffer.sniffable(inStream);
+		if (!new QrdaDocumentSniffer(context).accepts(sniffable)) {
+			DEV_LOG.error("The XML file is not a QRDA III document");
+			return null;
+		}
+
+		if (context.isStreamingDecode()) {
+			return new StaxDecoderEngine(context).decode(sniffable);
 		}
-		return errors;
+		Element doc = XmlUtils.parseXmlStream(sniffable);
+		return XmlDecoderEngine.decodeXml(context, doc);
 	}
 
 	/**
@@ -147,10 +213,10 @@ public class Converter {
 		DEV_LOG.info("Encoding template ID {}", decoded.getType());
 
 		try {
-			encoder.setNodes(Collections.singletonList(decoded));
-			JsonWrapper qpp = encoder.encode();
-			errors.addAll(encoder.getErrors());
-			warnings.addAll(encoder.getWarnings());
+			EncodeReport report = new EncodeReport();
+			JsonWrapper qpp = encoder.encode(Collections.singletonList(decoded), report);
+			errors.addAll(report.getErrors());
+			warnings.addAll(report.getWarnings());
 			return qpp;
 		} catch (EncodeException e) {
 			throw new XmlInputFileException("Issues decoding/encoding.", e);
@@ -173,7 +239,7 @@ public class Converter {
 	 * @return the conversion report
 	 */
 	public ConversionReport getReport() {
-		return new ConversionReport(source, errors, warnings, decoded, encoded);
+		return new ConversionReport(source, errors, warnings, decoded, encoded, suppressedErrorCounts);
 	}
 
 }
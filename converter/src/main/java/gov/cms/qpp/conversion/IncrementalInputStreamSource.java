@@ -0,0 +1,66 @@
+package gov.cms.qpp.conversion;
+
+import gov.cms.qpp.conversion.util.IncrementalInputStreamSupplier;
+
+import java.io.InputStream;
+import java.util.Objects;
+
+
+/**
+ * A {@link Source} represented by an {@link InputStream} that is read as the conversion proceeds.
+ *
+ * Unlike {@link InputStreamSupplierSource}, the stream is not read into memory when the source is created, so a
+ * conversion may begin while the stream's content is still arriving, such as during an upload. The stream must
+ * remain open until it has been read to its end.
+ */
+public class IncrementalInputStreamSource extends SkeletalSource {
+
+	private final IncrementalInputStreamSupplier stream;
+
+	private final String purpose;
+
+	/**
+	 * Creates a new Source with the given name and {@link InputStream}.
+	 *
+	 * @param name The name of the source.
+	 * @param source an {@link InputStream}.
+	 * @param purpose The purpose of the conversion, or null.
+	 */
+	public IncrementalInputStreamSource(String name, InputStream source, String purpose) {
+		super(name);
+
+		Objects.requireNonNull(source, "source");
+
+		this.stream = IncrementalInputStreamSupplier.incrementallyTransformInputStream(source);
+		this.purpose = purpose;
+	}
+
+	/**
+	 * An {@link InputStream} of the source's content. Content that has not yet been read from the original stream is
+	 * read as the returned stream is.
+	 *
+	 * @return An InputStream representing the source.
+	 */
+	@Override
+	public InputStream toInputStream() {
+		return stream.get();
+	}
+
+	/**
+	 * The size of the source, which reads the remainder of the original stream.
+	 *
+	 * @return The source's size.
+	 */
+	@Override
+	public long getSize() {
+		return stream.size();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getPurpose() {
+		return purpose;
+	}
+}
@@ -0,0 +1,26 @@
+package gov.cms.qpp.conversion.correlation;
+
+import java.util.List;
+
+import org.jdom2.Element;
+import org.jdom2.Namespace;
+
+/**
+ * Direct navigation equivalent of a correlation xpath.
+ *
+ * Implementations are generated from
+ * <a href="https://github.com/CMSgov/qpp-conversion-tool/blob/master/converter/src/main/resources/pathing/path-correlation.json">path-correlation.json</a>
+ * at build time and may be looked up through {@code PathAccessors}.
+ */
+@FunctionalInterface
+public interface PathAccessor {
+
+	/**
+	 * Select the content the correlated xpath would select.
+	 *
+	 * @param context element the xpath would be evaluated against
+	 * @param namespace namespace substituted for the correlation's namespace uri placeholder
+	 * @return matching elements or attributes, in document order
+	 */
+	List<Object> select(Element context, Namespace namespace);
+}
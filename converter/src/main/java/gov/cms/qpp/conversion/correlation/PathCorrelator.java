@@ -2,10 +2,15 @@ package gov.cms.qpp.conversion.correlation;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.reflections.util.ClasspathHelper;
@@ -27,8 +32,12 @@ import gov.cms.qpp.conversion.encode.JsonWrapper;
 public class PathCorrelator {
 	private static final Logger DEV_LOG = LoggerFactory.getLogger(PathCorrelator.class);
 	public static final String KEY_DELIMITER = "#";
+	private static final String ELEMENT_XML_TYPE = "element";
+	private static final Pattern ELEMENT_NAME = Pattern.compile("local-name\\(\\) = '([^']+)'");
 	private static String config = "pathing/path-correlation.json";
 	private static Map<String, Goods> pathCorrelationMap = new HashMap<>();
+	private static Set<String> referencedElementNames = new HashSet<>();
+	private static Set<String> elementValueNames = new HashSet<>();
 	private static String uriSubstitution = "";
 
 
@@ -78,10 +87,48 @@ public class PathCorrelator {
 				}
 				conf.getEncodeLabels().forEach(label ->
 					pathCorrelationMap.put(getKey(template.getTemplateId(), label), conf.getGoods()));
+				collectElementNames(conf.getGoods());
 			});
 		});
 	}
 
+	/**
+	 * Records the local names of every element step found in the given correlation's xpath. When the correlation
+	 * selects an element (rather than an attribute) the name of the final step is also recorded, as the selected
+	 * element's textual value will be read.
+	 *
+	 * @param goods correlation whose relative xpath will be inspected
+	 */
+	private static void collectElementNames(Goods goods) {
+		Matcher matcher = ELEMENT_NAME.matcher(goods.getRelativeXPath());
+		String last = null;
+		while (matcher.find()) {
+			last = matcher.group(1);
+			referencedElementNames.add(last);
+		}
+		if (last != null && ELEMENT_XML_TYPE.equals(goods.getXmltype())) {
+			elementValueNames.add(last);
+		}
+	}
+
+	/**
+	 * Retrieve the local names of all elements that a correlated xpath may step through.
+	 *
+	 * @return unmodifiable set of element local names
+	 */
+	public static Set<String> getReferencedElementNames() {
+		return Collections.unmodifiableSet(referencedElementNames);
+	}
+
+	/**
+	 * Retrieve the local names of elements whose full textual value is selected by a correlated xpath.
+	 *
+	 * @return unmodifiable set of element local names
+	 */
+	public static Set<String> getElementValueNames() {
+		return Collections.unmodifiableSet(elementValueNames);
+	}
+
 	/**
 	 * Retrieve the replacement marker for namespace uri substitution.
 	 *
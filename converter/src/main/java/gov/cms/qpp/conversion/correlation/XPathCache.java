@@ -0,0 +1,168 @@
+package gov.cms.qpp.conversion.correlation;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.lang3.StringUtils;
+import org.jdom2.Namespace;
+import org.jdom2.filter.Filter;
+import org.jdom2.xpath.XPathExpression;
+import org.jdom2.xpath.XPathFactory;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.MapMaker;
+
+/**
+ * Bounded cache of compiled correlation xpaths, shared by the conversions run on a thread.
+ *
+ * Expressions are keyed by template, correlation attribute, namespace uri and filter. JDOM does not make its compiled
+ * expressions safe for use by several threads at once, as the Jaxen form of an expression holds the context of its
+ * current evaluation, so each thread compiles and keeps its own. Hits, misses, loads and evictions are counted across
+ * all threads, and the size covers every live thread's cache.
+ */
+public class XPathCache {
+	static final int MAXIMUM_SIZE = 512;
+	private static final String XPATH_NS_PREFIX = "ns";
+
+	private static final LongAdder HITS = new LongAdder();
+	private static final LongAdder MISSES = new LongAdder();
+	private static final LongAdder LOADS = new LongAdder();
+	private static final LongAdder FAILED_LOADS = new LongAdder();
+	private static final LongAdder LOAD_NANOS = new LongAdder();
+	private static final LongAdder EVICTIONS = new LongAdder();
+
+	private static final Set<Cache<Key, XPathExpression<?>>> CACHES =
+			Collections.newSetFromMap(new MapMaker().weakKeys().makeMap());
+	private static final ThreadLocal<Cache<Key, XPathExpression<?>>> EXPRESSIONS =
+			ThreadLocal.withInitial(XPathCache::newCache);
+
+	private XPathCache() {}
+
+	/**
+	 * Retrieve the compiled expression that corresponds to the given template and attribute.
+	 *
+	 * @param template template name
+	 * @param attribute name decoded for the given template
+	 * @param uri namespace uri of the element the expression will be evaluated against
+	 * @param filter filter to apply to the expression results
+	 * @param <T> type of the expression results
+	 * @return compiled expression, or null if no correlation exists
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> XPathExpression<T> getExpression(String template, String attribute, String uri,
+			Filter<T> filter) {
+		Key key = new Key(template, attribute, uri, filter);
+		Cache<Key, XPathExpression<?>> expressions = EXPRESSIONS.get();
+		XPathExpression<?> expression = expressions.getIfPresent(key);
+		if (expression != null) {
+			HITS.increment();
+			return (XPathExpression<T>) expression;
+		}
+
+		MISSES.increment();
+		long start = System.nanoTime();
+		expression = compile(key);
+		LOAD_NANOS.add(System.nanoTime() - start);
+		if (expression == null) {
+			FAILED_LOADS.increment();
+		} else {
+			LOADS.increment();
+			expressions.put(key, expression);
+		}
+		return (XPathExpression<T>) expression;
+	}
+
+	private static Cache<Key, XPathExpression<?>> newCache() {
+		Cache<Key, XPathExpression<?>> cache = CacheBuilder.newBuilder()
+				.maximumSize(MAXIMUM_SIZE)
+				.removalListener(removal -> {
+					if (removal.wasEvicted()) {
+						EVICTIONS.increment();
+					}
+				})
+				.build();
+		CACHES.add(cache);
+		return cache;
+	}
+
+	/**
+	 * Compile the expression identified by the given key.
+	 *
+	 * @param key identifies the correlation and its evaluation parameters
+	 * @return compiled expression, or null if no correlation exists
+	 */
+	private static XPathExpression<?> compile(Key key) {
+		String xpath = PathCorrelator.getXpath(key.template, key.attribute, key.uri);
+		if (xpath == null) {
+			return null;
+		}
+		Namespace xpathNs = StringUtils.isEmpty(key.uri)
+				? Namespace.NO_NAMESPACE : Namespace.getNamespace(XPATH_NS_PREFIX, key.uri);
+		return XPathFactory.instance().compile(xpath, key.filter, null, xpathNs);
+	}
+
+	/**
+	 * Retrieve the cache statistics of all threads, including hit and miss counts. Lookups of unknown correlations
+	 * count as failed loads.
+	 *
+	 * @return snapshot of the cache statistics
+	 */
+	public static CacheStats stats() {
+		return new CacheStats(HITS.sum(), MISSES.sum(), LOADS.sum(), FAILED_LOADS.sum(), LOAD_NANOS.sum(),
+				EVICTIONS.sum());
+	}
+
+	/**
+	 * Retrieve the number of compiled expressions currently held across the caches of all live threads.
+	 *
+	 * @return cache size
+	 */
+	public static long size() {
+		long size = 0;
+		for (Cache<Key, XPathExpression<?>> cache : CACHES) {
+			size += cache.size();
+		}
+		return size;
+	}
+
+	/**
+	 * Cache key.
+	 */
+	static final class Key {
+		private final String template;
+		private final String attribute;
+		private final String uri;
+		private final Filter<?> filter;
+
+		private Key(String template, String attribute, String uri, Filter<?> filter) {
+			this.template = template;
+			this.attribute = attribute;
+			this.uri = uri == null ? "" : uri;
+			this.filter = filter;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			Key that = (Key) o;
+			return Objects.equals(template, that.template)
+					&& Objects.equals(attribute, that.attribute)
+					&& Objects.equals(uri, that.uri)
+					&& Objects.equals(filter, that.filter);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(template, attribute, uri, filter);
+		}
+	}
+}
@@ -89,7 +89,7 @@ public class ClinicalDocumentDecoder extends QrdaDecoder {
 		if (Program.isCpc(thisNode)) {
 			Consumer<Attribute> consumer = id ->
 				thisNode.putValue(PRACTICE_ID, id.getValue(), false);
-			setOnNode(element, getXpath(PRACTICE_ID), consumer, Filters.attribute(), false);
+			setOnNode(element, PRACTICE_ID, consumer, Filters.attribute(), false);
 		}
 	}
 
@@ -103,7 +103,7 @@ public class ClinicalDocumentDecoder extends QrdaDecoder {
 		if (Program.isCpc(thisNode)) {
 			Consumer<Element> consumer = p ->
 					thisNode.putValue(PRACTICE_SITE_ADDR, p.getValue().trim(), false);
-			setOnNode(element, getXpath(PRACTICE_SITE_ADDR), consumer, Filters.element(), false);
+			setOnNode(element, PRACTICE_SITE_ADDR, consumer, Filters.element(), false);
 		}
 	}
 
@@ -117,7 +117,7 @@ public class ClinicalDocumentDecoder extends QrdaDecoder {
 	private void setCehrtOnNode(Element element, Node thisNode) {
 		Consumer<Attribute> consumer = cehrt ->
 			thisNode.putValue(CEHRT, cehrt.getValue(), false);
-		setOnNode(element, getXpath(CEHRT), consumer, Filters.attribute(), false);
+		setOnNode(element, CEHRT, consumer, Filters.attribute(), false);
 	}
 
 	/**
@@ -133,7 +133,7 @@ public class ClinicalDocumentDecoder extends QrdaDecoder {
 			thisNode.putValue(ENTITY_TYPE, nameEntityPair.getRight(), false);
 			thisNode.putValue(RAW_PROGRAM_NAME, nameEntityPair.getKey(), false);
 		};
-		setOnNode(element, getXpath(PROGRAM_NAME), consumer, Filters.attribute(), false);
+		setOnNode(element, PROGRAM_NAME, consumer, Filters.attribute(), false);
 		context.setProgram(Program.extractProgram(thisNode));
 	}
 
@@ -146,21 +146,19 @@ public class ClinicalDocumentDecoder extends QrdaDecoder {
 	private void setNationalProviderIdOnNode(Element element, Node thisNode) {
 		Consumer<? super Attribute> consumer = p ->
 				thisNode.putValue(NATIONAL_PROVIDER_IDENTIFIER, p.getValue());
-			setOnNode(element, getXpath(NATIONAL_PROVIDER_IDENTIFIER),
+			setOnNode(element, NATIONAL_PROVIDER_IDENTIFIER,
 				consumer, Filters.attribute(), true);
 	}
 
 	/**
-	 * Will decode multiple NPIs from the xml into a list and remove all brackets.
+	 * Will decode multiple NPIs from the xml into a list.
 	 *
 	 * @param element Xml fragment being parsed.
 	 * @param thisNode The output internal representation of the document
 	 */
 	private void setMultipleNationalProviderIdsOnNode(Element element, Node thisNode) {
-		Consumer<List<String>> consumer = p ->
-			thisNode.putValue(NATIONAL_PROVIDER_IDENTIFIER,
-				p.toString().substring(1, p.toString().length() - 1).trim());
-		setMultipleAttributesOnNode(element, getXpath(NATIONAL_PROVIDER_IDENTIFIER),
+		Consumer<List<String>> consumer = p -> thisNode.putValues(NATIONAL_PROVIDER_IDENTIFIER, p);
+		setMultipleAttributesOnNode(element, NATIONAL_PROVIDER_IDENTIFIER,
 			consumer, Filters.attribute());
 	}
 
@@ -174,21 +172,19 @@ public class ClinicalDocumentDecoder extends QrdaDecoder {
 		Consumer<? super Attribute> consumer = p ->
 				thisNode.putValue(TAX_PAYER_IDENTIFICATION_NUMBER,
 						p.getValue());
-		setOnNode(element, getXpath(TAX_PAYER_IDENTIFICATION_NUMBER),
+		setOnNode(element, TAX_PAYER_IDENTIFICATION_NUMBER,
 			consumer, Filters.attribute(), true);
 	}
 
 	/**
-	 * Will decode multiple TINs from the xml into a list and remove all brackets.
+	 * Will decode multiple TINs from the xml into a list.
 	 *
 	 * @param element Xml fragment being parsed.
 	 * @param thisNode The output internal representation of the document
 	 */
 	private void setMultipleTaxProviderTaxIdsOnNode(Element element, Node thisNode) {
-		Consumer<List<String>> consumer = p ->
-			thisNode.putValue(TAX_PAYER_IDENTIFICATION_NUMBER,
-				p.toString().substring(1, p.toString().length() - 1).trim());
-		setMultipleAttributesOnNode(element, getXpath(TAX_PAYER_IDENTIFICATION_NUMBER),
+		Consumer<List<String>> consumer = p -> thisNode.putValues(TAX_PAYER_IDENTIFICATION_NUMBER, p);
+		setMultipleAttributesOnNode(element, TAX_PAYER_IDENTIFICATION_NUMBER,
 			consumer, Filters.attribute());
 	}
 
@@ -196,7 +192,7 @@ public class ClinicalDocumentDecoder extends QrdaDecoder {
 		Consumer<? super Attribute> consumer = p ->
 			thisNode.putValue(ENTITY_ID,
 				p.getValue());
-		setOnNode(element, getXpath(ENTITY_ID),
+		setOnNode(element, ENTITY_ID,
 			consumer, Filters.attribute(), true);
 	}
 
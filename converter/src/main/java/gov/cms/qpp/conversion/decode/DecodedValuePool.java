@@ -0,0 +1,91 @@
+package gov.cms.qpp.conversion.decode;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.UnaryOperator;
+
+import gov.cms.qpp.conversion.model.validation.MeasureConfig;
+import gov.cms.qpp.conversion.model.validation.MeasureConfigs;
+import gov.cms.qpp.conversion.model.validation.SubPopulation;
+
+/**
+ * Canonical instances of the values decoded from a single document, so that a value repeated throughout the
+ * document is held once by its {@link gov.cms.qpp.conversion.model.Node}s.
+ *
+ * The measure, population and stratum identifiers of the {@link MeasureConfigs} are shared by every pool, and are
+ * gathered again whenever the measure configurations are reloaded. Any other value is pooled on first sight. A pool
+ * may be used by several threads decoding the same document.
+ */
+final class DecodedValuePool implements UnaryOperator<String> {
+
+	private static volatile Seeds seeds;
+
+	private final Map<String, String> seeded;
+	private final ConcurrentMap<String, String> pooled = new ConcurrentHashMap<>();
+
+	DecodedValuePool() {
+		this.seeded = seeds();
+	}
+
+	/**
+	 * Returns the canonical instance of the given value.
+	 *
+	 * @param value a decoded value
+	 * @return an equal value, the same instance for every equal value given to this pool
+	 */
+	@Override
+	public String apply(String value) {
+		if (value == null) {
+			return null;
+		}
+		String canonical = seeded.get(value);
+		if (canonical == null) {
+			canonical = pooled.putIfAbsent(value, value);
+		}
+		return canonical == null ? value : canonical;
+	}
+
+	private static Map<String, String> seeds() {
+		Map<String, MeasureConfig> configurations = MeasureConfigs.getConfigurationMap();
+		Seeds current = seeds;
+		if (current == null || current.configurations != configurations) {
+			current = new Seeds(configurations);
+			seeds = current;
+		}
+		return current.values;
+	}
+
+	/**
+	 * The identifiers of a set of measure configurations.
+	 */
+	private static final class Seeds {
+		private final Map<String, MeasureConfig> configurations;
+		private final Map<String, String> values = new HashMap<>();
+
+		private Seeds(Map<String, MeasureConfig> configurations) {
+			this.configurations = configurations;
+			for (Map.Entry<String, MeasureConfig> configuration : configurations.entrySet()) {
+				add(configuration.getKey());
+				for (SubPopulation subPopulation : configuration.getValue().getSubPopulation()) {
+					if (subPopulation == null) {
+						continue;
+					}
+					add(subPopulation.getInitialPopulationUuid());
+					add(subPopulation.getDenominatorUuid());
+					add(subPopulation.getDenominatorExclusionsUuid());
+					add(subPopulation.getNumeratorUuid());
+					add(subPopulation.getDenominatorExceptionsUuid());
+					subPopulation.getStrata().forEach(this::add);
+				}
+			}
+		}
+
+		private void add(String value) {
+			if (value != null) {
+				values.putIfAbsent(value, value);
+			}
+		}
+	}
+}
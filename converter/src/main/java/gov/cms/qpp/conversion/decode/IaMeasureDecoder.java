@@ -31,9 +31,8 @@ public class IaMeasureDecoder extends QrdaDecoder {
 	 */
 	@Override
 	protected DecodeResult decode(Element element, Node thisNode) {
-		String expressionStr = getXpath("measureId");
 		Consumer<? super Attribute> consumer = p -> thisNode.putValue("measureId", p.getValue());
-		setOnNode(element, expressionStr, consumer, Filters.attribute(), true);
+		setOnNode(element, "measureId", consumer, Filters.attribute(), true);
 
 		return DecodeResult.TREE_CONTINUE;
 	}
@@ -51,14 +51,13 @@ public class MeasureDataDecoder extends QrdaDecoder {
 	 * @param thisNode Holder for decoded data
 	 */
 	private void setMeasure(Element element, Node thisNode) {
-		String expressionStr = getXpath(MEASURE_TYPE);
 		Consumer<? super Attribute> consumer = attr -> {
 			String code = attr.getValue();
 			if (MEASURES.contains(code)) {
 				thisNode.putValue(MEASURE_TYPE, code, false);
 			}
 		};
-		setOnNode(element, expressionStr, consumer, Filters.attribute(), false);
+		setOnNode(element, MEASURE_TYPE, consumer, Filters.attribute(), false);
 	}
 
 	/**
@@ -68,9 +67,8 @@ public class MeasureDataDecoder extends QrdaDecoder {
 	 * @param thisNode Holder for decoded data
 	 */
 	private void setPopulationId(Element element, Node thisNode) {
-		String expressionStr = getXpath(MEASURE_POPULATION);
 		Consumer<? super Attribute> consumer = attr ->
 				thisNode.putValue(MEASURE_POPULATION, attr.getValue(), false);
-		setOnNode(element, expressionStr, consumer, Filters.attribute(), false);
+		setOnNode(element, MEASURE_POPULATION, consumer, Filters.attribute(), false);
 	}
 }
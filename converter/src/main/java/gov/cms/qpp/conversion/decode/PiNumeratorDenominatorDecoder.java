@@ -45,9 +45,8 @@ public class PiNumeratorDenominatorDecoder extends QrdaDecoder {
 	 * @param thisNode Object that will retrieve the parsed measure id
 	 */
 	private void setMeasureIdOnNode(Element element, Node thisNode) {
-		String expressionStr = getXpath(MEASURE_ID);
 		Consumer<? super Attribute> consumer = p ->
 				thisNode.putValue(MEASURE_ID, p.getValue(), false);
-		setOnNode(element, expressionStr, consumer, Filters.attribute(), false);
+		setOnNode(element, MEASURE_ID, consumer, Filters.attribute(), false);
 	}
 }
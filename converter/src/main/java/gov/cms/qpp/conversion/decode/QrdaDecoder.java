@@ -1,88 +1,126 @@
 package gov.cms.qpp.conversion.decode;
 
 import gov.cms.qpp.conversion.Context;
-import gov.cms.qpp.conversion.correlation.PathCorrelator;
+import gov.cms.qpp.conversion.correlation.PathAccessor;
+import gov.cms.qpp.conversion.correlation.PathAccessors;
+import gov.cms.qpp.conversion.correlation.XPathCache;
 import gov.cms.qpp.conversion.model.Decoder;
 import gov.cms.qpp.conversion.model.Node;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.function.Consumer;
 
-import org.apache.commons.lang3.StringUtils;
 import org.jdom2.Attribute;
 import org.jdom2.Element;
 import org.jdom2.Namespace;
 import org.jdom2.filter.Filter;
 import org.jdom2.xpath.XPathExpression;
-import org.jdom2.xpath.XPathFactory;
 
+/**
+ * The parent class that all decoders must inherit from.
+ *
+ * A decoder is created once per {@link Context} and is shared by every element it decodes, including elements decoded
+ * concurrently, so implementations must not keep per element state in fields. Selections are resolved against the
+ * namespace of the element they are made against, which is passed to each call rather than held by the decoder.
+ */
 public abstract class QrdaDecoder {
 
 	protected final Context context;
-	protected Namespace xpathNs = Namespace.NO_NAMESPACE;
-	private Namespace defaultNs = Namespace.NO_NAMESPACE;
+	private final String template;
 
 	public QrdaDecoder(Context context) {
 		this.context = context;
+		this.template = findTemplate(this.getClass());
 	}
 
 	protected abstract DecodeResult decode(Element element, Node thisNode);
 
 	/**
-	 * Sets the xml namespace.
+	 * Retrieves the generated accessor for the path-correlation.json meta data
 	 *
-	 * Required so that we find the correct elements.  For example, XPath evaluation needs to know namespaces.
+	 * @param attribute Key to the correlation data
+	 * @return accessor, or null if the correlation must be resolved through xpath evaluation
+	 */
+	protected PathAccessor getAccessor(String attribute) {
+		return PathAccessors.get(template, attribute);
+	}
+
+	/**
+	 * Retrieves the compiled xpath from the path-correlation.json meta data
 	 *
-	 * @param defaultNs namespace assigned to decoder
+	 * @param attribute Key to the correlation data
+	 * @param namespace Namespace of the element the xpath is evaluated against
+	 * @param filter Filter to apply for the xpath
+	 * @param <T> type of the xpath results
+	 * @return compiled xpath expression
 	 */
-	public void setNamespace(Namespace defaultNs) {
-		this.defaultNs = defaultNs;
-		String defaultNsUri = defaultNs.getURI();
-		xpathNs = StringUtils.isEmpty(defaultNsUri) ? Namespace.NO_NAMESPACE : Namespace.getNamespace("ns", defaultNsUri);
+	protected <T> XPathExpression<T> getExpression(String attribute, Namespace namespace, Filter<T> filter) {
+		return XPathCache.getExpression(template, attribute, namespace.getURI(), filter);
 	}
 
 	/**
-	 * Returns the xpath from the path-correlation.json meta data
+	 * Selects the content identified by the path-correlation.json meta data, preferring the generated accessor
+	 * over xpath evaluation
 	 *
+	 * @param element Element the selection is made against
 	 * @param attribute Key to the correlation data
-	 * @return xpath expression as a string
+	 * @param filter Filter to apply to the selection
+	 * @param <T> type of the selected content
+	 * @return selected content, in document order
 	 */
-	protected String getXpath(String attribute) {
-		String template = this.getClass().getAnnotation(Decoder.class).value().name();
-		return PathCorrelator.getXpath(template, attribute, defaultNs.getURI());
+	protected <T> List<T> select(Element element, String attribute, Filter<T> filter) {
+		PathAccessor accessor = getAccessor(attribute);
+		if (accessor != null) {
+			return filter.filter(accessor.select(element, element.getNamespace()));
+		}
+		return getExpression(attribute, element.getNamespace(), filter).evaluate(element);
 	}
 
 	/**
-	 * Executes an Xpath for an element and executes the consumer
+	 * Names the template of the nearest {@link Decoder} annotated class in a decoder's hierarchy
 	 *
-	 * @param element Element the xpath is executed against
-	 * @param expressionStr Xpath
-	 * @param consumer Consumer to execute if the xpath matches
-	 * @param filter Filter to apply for the xpath
+	 * @param type decoder class
+	 * @return template name, or null if no class in the hierarchy is annotated
+	 */
+	private static String findTemplate(Class<?> type) {
+		for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+			Decoder decoder = current.getAnnotation(Decoder.class);
+			if (decoder != null) {
+				return decoder.value().name();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Selects content for an element and executes the consumer
+	 *
+	 * @param element Element the selection is made against
+	 * @param attribute Key to the correlation data that identifies the content
+	 * @param consumer Consumer to execute if the content is found
+	 * @param filter Filter to apply to the selection
 	 * @param selectOne Whether to execute for the first match or multiple matches
 	 */
 	@SuppressWarnings({ "rawtypes", "unchecked" })
-	protected void setOnNode(Element element, String expressionStr,
+	protected void setOnNode(Element element, String attribute,
 		Consumer consumer, Filter<?> filter, boolean selectOne) {
-		XPathExpression<?> expression = XPathFactory.instance().compile(expressionStr, filter, null,  xpathNs);
+		List<?> elems = select(element, attribute, filter);
 
 		if (selectOne) {
-			Optional.ofNullable(expression.evaluateFirst(element)).ifPresent(consumer);
+			if (!elems.isEmpty()) {
+				consumer.accept(elems.get(0));
+			}
 		} else {
-			List<?> elems = expression.evaluate(element);
-			Optional.ofNullable(elems)
-				.ifPresent(notNullElems -> notNullElems.forEach(consumer));
+			elems.forEach(consumer);
 		}
 	}
 
-	protected void setMultipleAttributesOnNode(Element element, String expressionStr,
+	protected void setMultipleAttributesOnNode(Element element, String attribute,
 		Consumer<List<String>> consumer, Filter<Attribute> filter) {
-		XPathExpression<Attribute> expression = XPathFactory.instance().compile(expressionStr, filter, null,  xpathNs);
-		List<Attribute> elems = expression.evaluate(element);
+		List<Attribute> elems = select(element, attribute, filter);
 		List<String> values = new ArrayList<>();
-		elems.forEach(attr -> values.add(attr.getValue()));
+		elems.forEach(attr -> values.add(attr.getValue().trim()));
 		consumer.accept(values);
 	}
 
@@ -1,22 +1,24 @@
 package gov.cms.qpp.conversion.decode;
 
 import gov.cms.qpp.conversion.Context;
-import gov.cms.qpp.conversion.correlation.PathCorrelator;
-import gov.cms.qpp.conversion.model.DecodeData;
 import gov.cms.qpp.conversion.model.Decoder;
+import gov.cms.qpp.conversion.model.ElementPath;
 import gov.cms.qpp.conversion.model.Node;
 import gov.cms.qpp.conversion.model.Registry;
 import gov.cms.qpp.conversion.model.TemplateId;
+import org.jdom2.Content;
 import org.jdom2.Element;
 import org.jdom2.located.Located;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
-import java.util.EnumSet;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -30,8 +32,16 @@ public class QrdaDecoderEngine extends XmlDecoderEngine {
 	private static final String ROOT_STRING = "root";
 	private static final String EXTENSION_STRING = "extension";
 
+	private static final int INITIAL_DEPTH = 32;
+
 	protected final Context context;
 	private final Registry<QrdaDecoder> decoders;
+	private final DecodedValuePool values;
+	private final boolean detached;
+
+	// the elements along the path last described by pathOf, and their locations, indexed by depth
+	private Element[] pathElements = new Element[INITIAL_DEPTH];
+	private ElementPath[] paths = new ElementPath[INITIAL_DEPTH];
 
 	/**
 	 * Initialize a QPP xml decoder
@@ -43,6 +53,24 @@ public class QrdaDecoderEngine extends XmlDecoderEngine {
 
 		this.context = context;
 		this.decoders = context.getRegistry(Decoder.class);
+		this.values = context.isInternDecodedValues() ? new DecodedValuePool() : null;
+		this.detached = false;
+	}
+
+	/**
+	 * Initialize a decoder that continues the work of the given engine on another thread. It decodes all measures
+	 * on that thread, so that no decode executor thread waits upon others.
+	 *
+	 * @param engine The engine to continue from
+	 */
+	private QrdaDecoderEngine(QrdaDecoderEngine engine) {
+		this.context = engine.context;
+		this.decoders = engine.decoders;
+		this.values = engine.values;
+		this.detached = true;
+		this.defaultNs = engine.defaultNs;
+		this.pathElements = engine.pathElements.clone();
+		this.paths = engine.paths.clone();
 	}
 
 	/**
@@ -57,8 +85,9 @@ public class QrdaDecoderEngine extends XmlDecoderEngine {
 		Element rootElement = xmlDoc.getDocument().getRootElement();
 		defaultNs = rootElement.getNamespace();
 
+		ElementPath rootPath = ElementPath.root(rootElement);
 		rootNode.setType(TemplateId.PLACEHOLDER);
-		rootNode.setElementForLocation(rootElement);
+		rootNode.setElementPath(rootPath);
 
 		addLineAndColumnToNode(rootElement, rootNode);
 
@@ -70,173 +99,259 @@ public class QrdaDecoderEngine extends XmlDecoderEngine {
 			}
 		}
 
+		pathElements[0] = rootElement;
+		paths[0] = rootPath;
+		try {
+			decodeChildren(rootElement, 0, rootNode);
+		} finally {
+			Arrays.fill(pathElements, null);
+			Arrays.fill(paths, null);
+		}
+
 		if (rootDecoder != null) {
-			rootNode = this.decodeTree(rootElement, rootNode).getNode().getChildNodes().get(0);
-		} else {
-			rootNode = this.decodeTree(rootElement, rootNode).getNode();
+			rootNode = rootNode.getChildNodes().get(0);
 		}
 
 		return rootNode;
 	}
 
 	/**
-	 * Decodes the element specified and the entire tree of child {@link Element}s below.
+	 * Decodes the children of the passed in {@link Element}, and the entire tree below each of them.
+	 * Each {@code templateId} child that is decoded becomes the parent of the {@link Node}s decoded from the children
+	 * that follow it. Only {@code templateId} children are decoded themselves, so the traversal allocates nothing
+	 * for any other element.
 	 *
-	 * @param element The element who's tree to decode.
-	 * @param parentNode The node to add any possible decoded child {@link Node}s.
-	 * @return The tuple of a {@link DecodeResult} and {@link Node} that was decoded from this tree.
+	 * @param element The element who's children will be decoded.
+	 * @param depth The depth of the element within its document, the root element being at depth 0.
+	 * @param parentNode The parent node
 	 */
-	private DecodeData decodeTree(final Element element, final Node parentNode) {
-		DecodeData result = decodeSingleElement(element, parentNode);
-		DecodeResult decodedResult = result.getDecodeResult();
-		Node decodedNode = result.getNode();
+	private void decodeChildren(final Element element, final int depth, final Node parentNode) {
+		if (hasOnlyUnimplementedTemplateIds(element)) {
+			return;
+		}
 
-		decodedNode = decideNewParentNode(decodedNode, parentNode);
+		Node currentParentNode = parentNode;
 
-		if (DecodeResult.TREE_FINISHED == decodedResult) {
-			return new DecodeData(DecodeResult.TREE_FINISHED, decodedNode);
-		} else if (DecodeResult.TREE_ESCAPED == decodedResult) {
-			return new DecodeData(DecodeResult.TREE_FINISHED, null);
-		}
+		for (int index = 0; index < element.getContentSize(); index++) {
+			Content content = element.getContent(index);
+			if (!(content instanceof Element)) {
+				continue;
+			}
 
-		return decodeChildren(element, decodedNode);
+			Element childElement = (Element) content;
+			if (TEMPLATE_ID.equals(childElement.getName())) {
+				currentParentNode = decodeTemplateId(childElement, index, depth, currentParentNode);
+				if (currentParentNode == null) {
+					break;
+				}
+			} else if (context.isParallelDecode() && currentParentNode.getType() == TemplateId.MEASURE_SECTION_V3) {
+				index = decodeMeasures(element, index, depth, currentParentNode);
+			} else {
+				decodeChildren(childElement, depth + 1, currentParentNode);
+			}
+		}
 	}
 
 	/**
-	 * Decodes the passed in element if it is a {@code templateId} and assigns it to the {@code parentNode}.
+	 * Decodes the passed in {@code templateId} element and assigns the decoded {@link Node} to the
+	 * {@code parentNode}. Elements identifying a template without a decoder, or identifying the same template as an
+	 * earlier sibling, are skipped.
 	 *
-	 * @param element The element to decode.
+	 * @param element The {@code templateId} element to decode.
+	 * @param index The index of the element within its parent's content.
+	 * @param parentDepth The depth of the element's parent within its document.
 	 * @param parentNode The node add the child decoded {@link Node} to.
-	 * @return The tuple of a {@link DecodeResult} and {@link Node} that was decoded from the {@link Element}.
+	 * @return The node that parents what is decoded from the following siblings, or null when they must not be
+	 * decoded.
 	 */
-	private DecodeData decodeSingleElement(Element element, Node parentNode) {
-
-		QrdaDecoder decoder = decoderForElement(element);
+	private Node decodeTemplateId(Element element, int index, int parentDepth, Node parentNode) {
+		TemplateId templateId = getTemplateId(element);
+		QrdaDecoder decoder = getDecoder(templateId);
 
-		if (null == decoder) {
-			return new DecodeData(DecodeResult.TREE_CONTINUE, null);
+		if (null == decoder || isDuplicateTemplateId(element.getParentElement(), index, templateId)) {
+			return parentNode;
 		}
 
-		TemplateId templateId = getTemplateId(element);
 		Node childNode = new Node(templateId, parentNode);
 		childNode.setDefaultNsUri(defaultNs.getURI());
-		decoder.setNamespace(element.getNamespace());
 
 		Element parentElement = element.getParentElement();
 
 		DecodeResult decodeResult = decoder.decode(parentElement, childNode);
 
 		if (decodeResult == DecodeResult.TREE_ESCAPED) {
-			return new DecodeData(DecodeResult.TREE_ESCAPED, null);
+			return null;
 		}
 
-		childNode.setElementForLocation(parentElement);
+		if (values != null) {
+			childNode.replaceValues(values);
+		}
+
+		childNode.setElementPath(pathOf(parentElement, parentDepth));
 
 		addLineAndColumnToNode(element, childNode);
 
 		parentNode.addChildNode(childNode);
 
-		return new DecodeData(decodeResult, childNode);
+		if (decodeResult == DecodeResult.TREE_FINISHED) {
+			return null;
+		}
+
+		decodeChildren(element, parentDepth + 1, childNode);
+
+		return childNode;
 	}
 
 	/**
-	 * Iterates over all the children of the passed in {@link Element} and calls {@link #decodeTree(Element, Node)} on them.
+	 * Decodes the consecutive children of a quality measure section that are not {@code templateId}s, starting at
+	 * the given index. The measures within them are independent of one another, so when there are at least
+	 * {@link Context#getParallelDecodeThreshold()} of them they are decoded concurrently on the
+	 * {@link Context#getDecodeExecutor() decode executor}. The decoded {@link Node}s are added to the section in
+	 * document order, exactly as if they had been decoded one after another.
 	 *
-	 * @param element The element who's children will be decoded.
-	 * @param parentNode The parent node
-	 * @return The tuple of a {@link DecodeResult} and {@link Node} that was decoded from the children.
+	 * @param element The element containing the quality measure section's {@code templateId}.
+	 * @param from The index of the first child to decode within the element's content.
+	 * @param depth The depth of the element within its document.
+	 * @param sectionNode The quality measure section node
+	 * @return The index of the last child decoded.
 	 */
-	private DecodeData decodeChildren(final Element element, final Node parentNode) {
-
-		List<Element> filteredChildElements = getUniqueTemplateIdElements(element.getChildren());
-
-		DecodeData decodeData = new DecodeData(DecodeResult.TREE_CONTINUE, parentNode);
-
-		Node currentParentNode = parentNode;
-
-		for (Element childElement : filteredChildElements) {
-			DecodeData childDecodeData = decodeTree(childElement, currentParentNode);
-
-			DecodeResult childDecodeResult = childDecodeData.getDecodeResult();
-			Node childDecodedNode = childDecodeData.getNode();
-
-			if (DecodeResult.TREE_FINISHED == childDecodeResult) {
-				decodeData = new DecodeData(DecodeResult.TREE_CONTINUE, parentNode);
+	private int decodeMeasures(Element element, int from, int depth, Node sectionNode) {
+		List<Element> measures = new ArrayList<>();
+		int index = from;
+		for (; index < element.getContentSize(); index++) {
+			Content content = element.getContent(index);
+			if (isTemplateIdElement(content)) {
 				break;
 			}
+			if (content instanceof Element) {
+				measures.add((Element) content);
+			}
+		}
 
-			currentParentNode = childDecodedNode == null ? currentParentNode : childDecodedNode;
+		if (detached || measures.size() < context.getParallelDecodeThreshold()) {
+			measures.forEach(measure -> decodeChildren(measure, depth + 1, sectionNode));
+		} else {
+			pathOf(element, depth);
+			Executor executor = context.getDecodeExecutor();
+			List<CompletableFuture<Node>> decoding = measures.stream()
+					.map(measure -> CompletableFuture.supplyAsync(
+							() -> new QrdaDecoderEngine(this).decodeDetached(measure, depth + 1), executor))
+					.collect(Collectors.toList());
+			for (CompletableFuture<Node> measure : decoding) {
+				Node holder = join(measure);
+				List<Node> measureNodes = new ArrayList<>(holder.getChildNodes());
+				holder.getChildNodes().clear();
+				for (Node measureNode : measureNodes) {
+					measureNode.setParent(sectionNode);
+					sectionNode.addChildNode(measureNode);
+				}
+			}
 		}
 
-		return decodeData;
+		return index - 1;
 	}
 
 	/**
-	 * Reduces the {@code templateId} {@link Element}s so there are no duplicates. All other {@link Element}s are left alone.
+	 * Waits for a measure to be decoded, rethrowing whatever failed its decoding.
 	 *
-	 * @param childElements The elements to filter
-	 * @return A {@link List} of {@link Element}s that are filtered. If no template ids or at least one implemented template id
-	 * appears within the filtered child elements then the filtered children will be returned otherwise an empty list will
-	 * be returned.
+	 * @param measure The decoding of the measure.
+	 * @return The placeholder node holding the decoded measure.
 	 */
-	private List<Element> getUniqueTemplateIdElements(final List<Element> childElements) {
-		Set<TemplateId> uniqueTemplates = EnumSet.noneOf(TemplateId.class);
-
-		List<Element> children = childElements.stream()
-			.filter(filterElement -> {
-				boolean isTemplateId = TEMPLATE_ID.equals(filterElement.getName());
-				TemplateId filterTemplateId = getTemplateId(filterElement);
+	private static Node join(CompletableFuture<Node> measure) {
+		try {
+			return measure.join();
+		} catch (CompletionException exception) {
+			if (exception.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) exception.getCause();
+			}
+			if (exception.getCause() instanceof Error) {
+				throw (Error) exception.getCause();
+			}
+			throw exception;
+		}
+	}
 
-				boolean elementWillStay = true;
+	/**
+	 * Decodes the children of the given element into a placeholder {@link Node}, rather than the node that will
+	 * eventually parent them.
+	 *
+	 * @param element The element who's children will be decoded.
+	 * @param depth The depth of the element within its document.
+	 * @return The placeholder node
+	 */
+	private Node decodeDetached(Element element, int depth) {
+		Node holder = new Node();
+		decodeChildren(element, depth, holder);
+		return holder;
+	}
 
-				if (isTemplateId) {
-					if (getDecoder(filterTemplateId) == null || uniqueTemplates.contains(filterTemplateId)) {
-						elementWillStay = false;
-					}
-					uniqueTemplates.add(filterTemplateId);
+	/**
+	 * Checks whether the element has {@code templateId} children, none of which identify an implemented template.
+	 * The children of such an element are not decoded.
+	 *
+	 * @param element The element to check.
+	 * @return True or false.
+	 */
+	private boolean hasOnlyUnimplementedTemplateIds(Element element) {
+		boolean hasTemplateIds = false;
+
+		for (int index = 0; index < element.getContentSize(); index++) {
+			Content content = element.getContent(index);
+			if (isTemplateIdElement(content)) {
+				if (getTemplateId((Element) content) != TemplateId.UNIMPLEMENTED) {
+					return false;
 				}
+				hasTemplateIds = true;
+			}
+		}
 
-				return elementWillStay;
-			})
-			.collect(Collectors.toList());
-
-		return (uniqueTemplates.isEmpty()
-			|| uniqueTemplates.stream().anyMatch(template -> TemplateId.UNIMPLEMENTED != template))
-			? children
-			: new ArrayList<>();
+		return hasTemplateIds;
 	}
 
 	/**
-	 * Get the {@link QrdaDecoder} for the passed in {@link Element}.
+	 * Checks whether a {@code templateId} element preceding the given index identifies the same template.
 	 *
-	 * @param element The element.
-	 * @return The QRDA decoder.
+	 * @param parentElement The parent of the {@code templateId} element.
+	 * @param index The index of the {@code templateId} element within its parent's content.
+	 * @param templateId The template it identifies.
+	 * @return True or false.
 	 */
-	private QrdaDecoder decoderForElement(final Element element) {
-		if (!TEMPLATE_ID.equals(element.getName())) {
-			return null;
+	private boolean isDuplicateTemplateId(Element parentElement, int index, TemplateId templateId) {
+		for (int earlier = 0; earlier < index; earlier++) {
+			Content content = parentElement.getContent(earlier);
+			if (isTemplateIdElement(content) && getTemplateId((Element) content) == templateId) {
+				return true;
+			}
 		}
 
-		TemplateId templateId = getTemplateId(element);
+		return false;
+	}
 
-		return getDecoder(templateId);
+	private boolean isTemplateIdElement(Content content) {
+		return content instanceof Element && TEMPLATE_ID.equals(((Element) content).getName());
 	}
 
 	/**
-	 *  If the {@code decodedNode} is not null, it is returned, else the {@code originalParent} is returned.
+	 * Describes the location of an element, reusing the description of its ancestors shared with the element last
+	 * described. Locations are only described for elements that parent a decoded {@link Node}.
 	 *
-	 * @param decodedNode The newly decoded {@link Node}.
-	 * @param originalParent The original parent {@link Node}.
-	 * @return The new parent node.
+	 * @param element The element to describe.
+	 * @param depth The depth of the element within its document.
+	 * @return The location of the element.
 	 */
-	private Node decideNewParentNode(final Node decodedNode, final Node originalParent) {
-		Node newParent = originalParent;
+	private ElementPath pathOf(Element element, int depth) {
+		if (depth >= paths.length) {
+			pathElements = Arrays.copyOf(pathElements, depth * 2);
+			paths = Arrays.copyOf(paths, depth * 2);
+		}
 
-		if (null != decodedNode) {
-			newParent = decodedNode;
+		if (pathElements[depth] != element) {
+			ElementPath parentPath = pathOf(element.getParentElement(), depth - 1);
+			pathElements[depth] = element;
+			paths[depth] = parentPath.child(element, ElementPath.positionOf(element));
 		}
 
-		return newParent;
+		return paths[depth];
 	}
 
 	/**
@@ -322,14 +437,4 @@ public class QrdaDecoderEngine extends XmlDecoderEngine {
 		}
 	}
 
-	/**
-	 * Returns the xpath from the path-correlation.json meta data
-	 *
-	 * @param attribute Key to the correlation data
-	 * @return xpath expression as a string
-	 */
-	protected String getXpath(String attribute) {
-		String template = this.getClass().getAnnotation(Decoder.class).value().name();
-		return PathCorrelator.getXpath(template, attribute, defaultNs.getURI());
-	}
 }
@@ -0,0 +1,139 @@
+package gov.cms.qpp.conversion.decode;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.commons.io.input.BoundedInputStream;
+import org.apache.commons.io.input.CountingInputStream;
+
+import gov.cms.qpp.conversion.Context;
+import gov.cms.qpp.conversion.model.TemplateId;
+import gov.cms.qpp.conversion.xml.ParserProvider;
+import gov.cms.qpp.conversion.xml.XmlException;
+
+/**
+ * Decides whether a stream of XML could be a QRDA III document by pull parsing no further than the root element's
+ * header, so that other documents can be turned away without being parsed in full.
+ *
+ * A QRDA III document has a {@code ClinicalDocument} root element with a {@code templateId} child identifying
+ * the {@link TemplateId#CLINICAL_DOCUMENT}. The CDA header places {@code templateId}s among the {@code realmCode} and
+ * {@code typeId} elements at the start of the root, so the sniffer stops reading at the root's first child that is
+ * none of those. Documents it can not decide upon within {@link #SNIFF_LIMIT} bytes, such as those with an unusually
+ * long prologue, are let through to be decided by the decoder engine.
+ */
+public class QrdaDocumentSniffer {
+	static final int SNIFF_LIMIT = 8 * 1024;
+
+	private static final String CLINICAL_DOCUMENT = "ClinicalDocument";
+	private static final String TEMPLATE_ID = "templateId";
+	private static final String REALM_CODE = "realmCode";
+	private static final String TYPE_ID = "typeId";
+	private static final String ROOT_STRING = "root";
+	private static final String EXTENSION_STRING = "extension";
+
+	private final Context context;
+
+	/**
+	 * Initialize a sniffer that identifies template ids as the given context does.
+	 *
+	 * @param context conversion context
+	 */
+	public QrdaDocumentSniffer(Context context) {
+		this.context = Objects.requireNonNull(context, "context");
+	}
+
+	/**
+	 * Wraps the stream, if need be, so that it may be sniffed and then read again from the start.
+	 *
+	 * @param xmlStream XML to be sniffed
+	 * @return a stream that supports {@link InputStream#mark(int)}
+	 */
+	public static InputStream sniffable(InputStream xmlStream) {
+		return xmlStream.markSupported() ? xmlStream : new BufferedInputStream(xmlStream);
+	}
+
+	/**
+	 * Reads the beginning of the stream to determine whether it could be a QRDA III document. The stream is reset to
+	 * its start before returning.
+	 *
+	 * @param xmlStream XML to be sniffed, see {@link #sniffable(InputStream)}
+	 * @return false if the stream is certainly not a QRDA III document
+	 * @throws XmlException When the beginning of the stream is not well formed XML
+	 */
+	public boolean accepts(InputStream xmlStream) {
+		xmlStream.mark(SNIFF_LIMIT);
+		BoundedInputStream bounded = new BoundedInputStream(xmlStream, SNIFF_LIMIT);
+		bounded.setPropagateClose(false);
+		CountingInputStream counting = new CountingInputStream(bounded);
+		try {
+			return sniff(counting);
+		} catch (XMLStreamException e) {
+			if (counting.getByteCount() >= SNIFF_LIMIT) {
+				return true;
+			}
+			throw new XmlException("Failed to process XML stream", e);
+		} finally {
+			reset(xmlStream);
+		}
+	}
+
+	private boolean sniff(InputStream xmlStream) throws XMLStreamException {
+		XMLStreamReader reader = ParserProvider.inputFactory().createXMLStreamReader(xmlStream);
+		try {
+			int depth = 0;
+			String rootNamespace = null;
+			while (reader.hasNext()) {
+				int event = reader.next();
+				if (event == XMLStreamConstants.DTD) {
+					throw new XMLStreamException("DOCTYPE is disallowed", reader.getLocation());
+				} else if (event == XMLStreamConstants.END_ELEMENT) {
+					depth--;
+				} else if (event == XMLStreamConstants.START_ELEMENT) {
+					depth++;
+					if (depth == 1) {
+						if (!CLINICAL_DOCUMENT.equals(reader.getLocalName())) {
+							return false;
+						}
+						rootNamespace = nullToEmpty(reader.getNamespaceURI());
+					} else if (depth == 2) {
+						String name = reader.getLocalName();
+						if (TEMPLATE_ID.equals(name) && rootNamespace.equals(nullToEmpty(reader.getNamespaceURI()))
+								&& isClinicalDocument(reader)) {
+							return true;
+						} else if (!TEMPLATE_ID.equals(name) && !REALM_CODE.equals(name) && !TYPE_ID.equals(name)) {
+							return false;
+						}
+					}
+				}
+			}
+			return false;
+		} finally {
+			reader.close();
+		}
+	}
+
+	private boolean isClinicalDocument(XMLStreamReader reader) {
+		String root = reader.getAttributeValue(null, ROOT_STRING);
+		String extension = reader.getAttributeValue(null, EXTENSION_STRING);
+		return TemplateId.getTemplateId(root, extension, context) == TemplateId.CLINICAL_DOCUMENT;
+	}
+
+	private static void reset(InputStream xmlStream) {
+		try {
+			xmlStream.reset();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static String nullToEmpty(String value) {
+		return value == null ? "" : value;
+	}
+}
@@ -47,9 +47,6 @@ public class ReportingParametersActDecoder extends QrdaDecoder {
 	 * @param thisNode Reporting parameter node
 	 */
 	private void setPerformanceTimeRangeOnNode(Element element, Node thisNode) {
-		String performanceStartExprStr = getXpath(PERFORMANCE_START);
-		String performanceEndExprStr = getXpath(PERFORMANCE_END);
-
 		Consumer<? super Attribute> performanceStartConsumer =
 				p -> {
 					String start = p.getValue();
@@ -60,7 +57,7 @@ public class ReportingParametersActDecoder extends QrdaDecoder {
 		Consumer<? super Attribute> performanceEndConsumer =
 				p -> thisNode.putValue(PERFORMANCE_END, p.getValue(), false);
 
-		setOnNode(element, performanceStartExprStr, performanceStartConsumer, Filters.attribute(), false);
-		setOnNode(element, performanceEndExprStr, performanceEndConsumer, Filters.attribute(), false);
+		setOnNode(element, PERFORMANCE_START, performanceStartConsumer, Filters.attribute(), false);
+		setOnNode(element, PERFORMANCE_END, performanceEndConsumer, Filters.attribute(), false);
 	}
 }
@@ -48,7 +48,7 @@ public abstract class SkeletalKeyValueDecoder extends QrdaDecoder {
 	private void setMeasureSectionV4OnNode(Element element, Node thisNode) {
 		Consumer<? super Attribute> consumer = p ->
 			thisNode.putValue(QualitySectionDecoder.MEASURE_SECTION_V4, p.getValue());
-		setOnNode(element, getXpath(QualitySectionDecoder.MEASURE_SECTION_V4),
+		setOnNode(element, QualitySectionDecoder.MEASURE_SECTION_V4,
 			consumer, Filters.attribute(), true);
 	}
 
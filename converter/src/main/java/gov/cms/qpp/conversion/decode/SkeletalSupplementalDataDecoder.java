@@ -53,12 +53,11 @@ public abstract class SkeletalSupplementalDataDecoder extends QrdaDecoder {
 	void setSupplementalDataOnNode(Element element, Node thisNode, SupplementalData.SupplementalType type) {
 		String supplementalXpathCode = type.equals(SupplementalData.SupplementalType.PAYER)
 				? SUPPLEMENTAL_DATA_PAYER_CODE :  SUPPLEMENTAL_DATA_CODE;
-		String expressionStr = getXpath(supplementalXpathCode);
 		Consumer<? super Attribute> consumer = attr -> {
 			String code = attr.getValue();
 			thisNode.putValue(SUPPLEMENTAL_DATA_KEY, code, false);
 		};
-		setOnNode(element, expressionStr, consumer, Filters.attribute(), false);
+		setOnNode(element, supplementalXpathCode, consumer, Filters.attribute(), false);
 	}
 
 }
@@ -0,0 +1,54 @@
+package gov.cms.qpp.conversion.decode;
+
+import java.io.InputStream;
+
+import org.jdom2.Element;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import gov.cms.qpp.conversion.Context;
+import gov.cms.qpp.conversion.correlation.PathCorrelator;
+import gov.cms.qpp.conversion.model.Node;
+import gov.cms.qpp.conversion.xml.StreamingElementReader;
+
+/**
+ * Decoder engine that pull parses QRDA III input rather than materializing the complete JDom document.
+ *
+ * The stream is read by a {@link StreamingElementReader} which only retains the elements referenced by the
+ * path correlations along with the ancestry of every {@code templateId}. The resulting skeleton is then decoded
+ * exactly as {@link QrdaDecoderEngine} would decode the full document, so the produced {@link Node} tree
+ * (including paths, lines and columns) is identical.
+ */
+public class StaxDecoderEngine extends QrdaDecoderEngine {
+
+	private static final Logger DEV_LOG = LoggerFactory.getLogger(StaxDecoderEngine.class);
+	private static final StreamingElementReader READER = new StreamingElementReader(
+			PathCorrelator.getReferencedElementNames(), PathCorrelator.getElementValueNames());
+
+	/**
+	 * Initialize a streaming QPP xml decoder
+	 *
+	 * @param context Establish context for decoder engine
+	 */
+	public StaxDecoderEngine(Context context) {
+		super(context);
+	}
+
+	/**
+	 * Decodes a stream of QRDA III XML.
+	 *
+	 * @param xmlStream XML to be parsed
+	 * @return The root node, or null if the stream is not a QRDA III document
+	 * @throws gov.cms.qpp.conversion.xml.XmlException When a failure to parse the XML.
+	 */
+	public Node decode(InputStream xmlStream) {
+		Element skeleton = READER.read(xmlStream);
+		if (accepts(skeleton)) {
+			return decode(skeleton);
+		}
+
+		DEV_LOG.error("The XML file is an unknown document");
+
+		return null;
+	}
+}
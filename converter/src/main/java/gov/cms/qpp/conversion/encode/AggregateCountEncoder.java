@@ -22,10 +22,11 @@ public class AggregateCountEncoder extends QppOutputEncoder {
 	 *
 	 * @param wrapper JsonWrapper
 	 * @param node Node
+	 * @param report holder of the errors and warnings found
 	 * @throws EncodeException
 	 */
 	@Override
-	protected void internalEncode(JsonWrapper wrapper, Node node) {
+	protected void internalEncode(JsonWrapper wrapper, Node node, EncodeReport report) {
 		// simply writes the value in the Node
 		wrapper.putInteger(VALUE, node.getValue(AggregateCountDecoder.AGGREGATE_COUNT));
 	}
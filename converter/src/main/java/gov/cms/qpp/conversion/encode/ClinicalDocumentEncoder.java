@@ -33,14 +33,15 @@ public class ClinicalDocumentEncoder extends QppOutputEncoder {
 	 *
 	 * @param wrapper will hold the json format of nodes
 	 * @param thisNode holds the decoded node sections of clinical document
+	 * @param report holder of the errors and warnings found
 	 */
 	@Override
-	public void internalEncode(JsonWrapper wrapper, Node thisNode) {
+	public void internalEncode(JsonWrapper wrapper, Node thisNode, EncodeReport report) {
 		encodeToplevel(wrapper, thisNode);
 		Map<TemplateId, Node> childMapByTemplateId = thisNode.getChildNodes().stream().collect(
 				Collectors.toMap(Node::getType, Function.identity(), (v1, v2) -> v1, LinkedHashMap::new));
 
-		JsonWrapper measurementSets = encodeMeasurementSets(childMapByTemplateId);
+		JsonWrapper measurementSets = encodeMeasurementSets(childMapByTemplateId, report);
 		wrapper.put(MEASUREMENT_SETS, measurementSets);
 	}
 
@@ -94,9 +95,10 @@ public class ClinicalDocumentEncoder extends QppOutputEncoder {
 	 * Method for encoding each child measurement set
 	 *
 	 * @param childMapByTemplateId object that represents the document's children
+	 * @param report holder of the errors and warnings found
 	 * @return encoded measurement sets
 	 */
-	private JsonWrapper encodeMeasurementSets(Map<TemplateId, Node> childMapByTemplateId) {
+	private JsonWrapper encodeMeasurementSets(Map<TemplateId, Node> childMapByTemplateId, EncodeReport report) {
 		JsonWrapper measurementSetsWrapper = new JsonWrapper();
 		JsonWrapper childWrapper;
 		JsonOutputEncoder sectionEncoder;
@@ -112,7 +114,7 @@ public class ClinicalDocumentEncoder extends QppOutputEncoder {
 				childWrapper = new JsonWrapper();
 				sectionEncoder = encoders.get(childType);
 
-				sectionEncoder.encode(childWrapper, child);
+				sectionEncoder.encode(childWrapper, child, report);
 				childWrapper.put("source", "qrda3");
 
 				measurementSetsWrapper.put(childWrapper);
@@ -0,0 +1,51 @@
+package gov.cms.qpp.conversion.encode;
+
+import gov.cms.qpp.conversion.model.error.Detail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The errors and warnings found by one call to encode, including those found by the encoders it calls upon.
+ *
+ * A report is handed down through {@link JsonOutputEncoder#encode(JsonWrapper, gov.cms.qpp.conversion.model.Node,
+ * EncodeReport)} so that the encoders themselves keep no per call state, and may be shared by every node they encode.
+ */
+public class EncodeReport {
+	private final List<Detail> errors = new ArrayList<>();
+	private final List<Detail> warnings = new ArrayList<>();
+
+	/**
+	 * Add a new validation error
+	 * @param detail the error information
+	 */
+	public void addValidationError(Detail detail) {
+		errors.add(detail);
+	}
+
+	/**
+	 * Add a new validation warning
+	 * @param detail the warning information
+	 */
+	public void addValidationWarning(Detail detail) {
+		warnings.add(detail);
+	}
+
+	/**
+	 * get the list of all validation errors.
+	 *
+	 * @return list of error details
+	 */
+	public List<Detail> getErrors() {
+		return errors;
+	}
+
+	/**
+	 * get the list of all validation warnings.
+	 *
+	 * @return list of warning details
+	 */
+	public List<Detail> getWarnings() {
+		return warnings;
+	}
+}
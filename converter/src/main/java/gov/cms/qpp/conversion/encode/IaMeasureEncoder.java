@@ -20,10 +20,11 @@ public class IaMeasureEncoder extends QppOutputEncoder {
 	 *
 	 * @param wrapper object that will represent a IA Performed Measure
 	 * @param node object that represents a IA Performed Measure
+	 * @param report holder of the errors and warnings found
 	 * @throws EncodeException If error occurs during encoding
 	 */
 	@Override
-	protected void internalEncode(JsonWrapper wrapper, Node node) {
+	protected void internalEncode(JsonWrapper wrapper, Node node, EncodeReport report) {
 		wrapper.put("measureId", node.getValue("measureId"));
 
 		Node measurePerformedNode = node.findFirstNode(TemplateId.MEASURE_PERFORMED);
@@ -32,7 +33,7 @@ public class IaMeasureEncoder extends QppOutputEncoder {
 			JsonOutputEncoder measurePerformedEncoder = encoders.get(measurePerformedNode.getType());
 
 			JsonWrapper value = new JsonWrapper();
-			measurePerformedEncoder.encode(value, measurePerformedNode);
+			measurePerformedEncoder.encode(value, measurePerformedNode, report);
 			maintainContinuity(wrapper, measurePerformedNode, VALUE);
 
 			if (null != value.getBoolean(VALUE)) { // TODO asdf have the wrapper check for nulls?
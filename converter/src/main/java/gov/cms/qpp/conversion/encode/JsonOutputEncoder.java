@@ -9,24 +9,21 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.Writer;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Output JSON to a Writer.
+ *
+ * Encoders found through a {@link gov.cms.qpp.conversion.model.Registry} are created once per
+ * {@link gov.cms.qpp.conversion.Context} and shared by every node they encode, so the errors and warnings found while
+ * encoding belong to the {@link EncodeReport} of the call, which is handed on to the encoders it calls upon.
  */
 public abstract class JsonOutputEncoder implements OutputEncoder {
 	private static final Logger DEV_LOG = LoggerFactory.getLogger(JsonOutputEncoder.class);
-	private List<Node> nodes;
-	private List<Detail> errors = new ArrayList<>();
-	private List<Detail> warnings = new ArrayList<>();
 
 	@Override
-	public void encode(Writer writer, boolean filter) {
-		JsonWrapper wrapper = new JsonWrapper();
-		for (Node curNode : nodes) {
-			encode(wrapper, curNode);
-		}
+	public void encode(List<Node> nodes, Writer writer, boolean filter, EncodeReport report) {
+		JsonWrapper wrapper = encode(nodes, report);
 		if (filter) {
 			wrapper = wrapper.copyWithoutMetadata();
 		}
@@ -37,7 +34,7 @@ public abstract class JsonOutputEncoder implements OutputEncoder {
 			DEV_LOG.error("Couldn't write out JSON file.", exception);
 			Detail detail = Detail.forProblemCode(ProblemCode.UNEXPECTED_ENCODE_ERROR);
 			detail.setMessage(exception.getMessage());
-			errors.add(detail);
+			report.addValidationError(detail);
 		}
 	}
 
@@ -46,9 +43,10 @@ public abstract class JsonOutputEncoder implements OutputEncoder {
 	 *
 	 * @param wrapper structure that facilitates json serialization
 	 * @param node structure to be converted to json
+	 * @param report holder of the errors and warnings found
 	 */
-	public void encode(JsonWrapper wrapper, Node node) {
-		encode(wrapper, node, true);
+	public void encode(JsonWrapper wrapper, Node node, EncodeReport report) {
+		encode(wrapper, node, true, report);
 	}
 
 	/**
@@ -57,10 +55,11 @@ public abstract class JsonOutputEncoder implements OutputEncoder {
 	 * @param wrapper structure that facilitates json serialization
 	 * @param node structure to be converted to json
 	 * @param mergeMetadata instruction on whether or not metadata should be included in the wrapper
+	 * @param report holder of the errors and warnings found
 	 */
-	public void encode(JsonWrapper wrapper, Node node, boolean mergeMetadata) {
+	public void encode(JsonWrapper wrapper, Node node, boolean mergeMetadata, EncodeReport report) {
 		try {
-			internalEncode(wrapper, node);
+			internalEncode(wrapper, node, report);
 			if (mergeMetadata && wrapper.isMap()) {
 				wrapper.attachMetadata(node);
 			}
@@ -68,71 +67,33 @@ public abstract class JsonOutputEncoder implements OutputEncoder {
 			DEV_LOG.warn("Encode error when doing internalEncode, adding a new Detail", exception);
 			Detail detail = Detail.forProblemAndNode(ProblemCode.UNEXPECTED_ENCODE_ERROR, node);
 			detail.setMessage(exception.getMessage());
-			addValidationError(detail);
+			report.addValidationError(detail);
 		}
 	}
 
 	/**
 	 * Encodes the nodes as JSON.
+	 *
+	 * @param nodes the QPP element nodes to encode
+	 * @param report holder of the errors and warnings found
 	 * @return a custom JSON wrapper class that knows how to process QPP Nodes.
 	 */
 	@Override
-	public JsonWrapper encode() {
+	public JsonWrapper encode(List<Node> nodes, EncodeReport report) {
 		JsonWrapper wrapper = new JsonWrapper();
 		for (Node curNode : nodes) {
-			encode(wrapper, curNode);
+			encode(wrapper, curNode, report);
 		}
 		return wrapper;
 	}
 
-	/**
-	 * Add a new validation error
-	 * @param detail the error information
-	 */
-	public void addValidationError(Detail detail) {
-		errors.add(detail);
-	}
-
-	/**
-	 * Add a new validation warning
-	 * @param detail the warning information
-	 */
-	public void addValidationWarning(Detail detail) {
-		warnings.add(detail);
-	}
-
-	/**
-	 * get the list of all validation errors.
-	 * 
-	 * @return list of error details
-	 */
-	public List<Detail> getErrors() {
-		return this.errors;
-	}
-
-	/**
-	 * get the list of all validation earnings.
-	 * 
-	 * @return list of warning details
-	 */
-	public List<Detail> getWarnings() {
-		return this.warnings;
-	}
-
-	/**
-	 * Assign a new list of QPP element nodes.
-	 * @param someNodes the new list of nodes
-	 */
-	public void setNodes(List<Node> someNodes) {
-		this.nodes = someNodes;
-	}
-
 	/**
 	 * Subclasses must implement this method with the
 	 * specific encoding method for its node type handling.
 	 * 
 	 * @param wrapper the entire JSON node collection.
 	 * @param node the current node
+	 * @param report holder of the errors and warnings found
 	 */
-	protected abstract void internalEncode(JsonWrapper wrapper, Node node);
+	protected abstract void internalEncode(JsonWrapper wrapper, Node node, EncodeReport report);
 }
@@ -25,10 +25,11 @@ public class MeasureDataEncoder extends QppOutputEncoder {
 	 *
 	 * @param wrapper object that will represent the measure data
 	 * @param node object that represents the measure data
+	 * @param report holder of the errors and warnings found
 	 * @throws EncodeException If error occurs during encoding
 	 */
 	@Override
-	protected void internalEncode(JsonWrapper wrapper, Node node) {
+	protected void internalEncode(JsonWrapper wrapper, Node node, EncodeReport report) {
 		if (!SubPopulationLabel.IPOP.hasAlias(node.getValue(MEASURE_TYPE))) {
 			String measureType = node.getValue(MEASURE_TYPE);
 			Node aggCount = node.findFirstNode(TemplateId.PI_AGGREGATE_COUNT);
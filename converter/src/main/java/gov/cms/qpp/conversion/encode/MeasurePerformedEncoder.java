@@ -20,10 +20,11 @@ public class MeasurePerformedEncoder extends QppOutputEncoder {
 	 *
 	 * @param wrapper object that will represent the measure performed
 	 * @param node object that represents the measure performed
+	 * @param report holder of the errors and warnings found
 	 * @throws EncodeException If error occurs during encoding
 	 */
 	@Override
-	protected void internalEncode(JsonWrapper wrapper, Node node) {
+	protected void internalEncode(JsonWrapper wrapper, Node node, EncodeReport report) {
 		wrapper.putBoolean(VALUE, node.getValue("measurePerformed"));
 	}
 }
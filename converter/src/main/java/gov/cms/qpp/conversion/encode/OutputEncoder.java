@@ -1,6 +1,9 @@
 package gov.cms.qpp.conversion.encode;
 
+import gov.cms.qpp.conversion.model.Node;
+
 import java.io.Writer;
+import java.util.List;
 
 /**
  * Interface for encoding output.
@@ -10,12 +13,18 @@ public interface OutputEncoder {
 	/**
 	 * Encode data to a Writer
 	 * 
+	 * @param nodes the QPP element nodes to encode
 	 * @param writer
+	 * @param filter
+	 * @param report holder of the errors and warnings found
 	 */
-	void encode(Writer writer, boolean filter);
+	void encode(List<Node> nodes, Writer writer, boolean filter, EncodeReport report);
 
 	/**
 	 * Encode data to JsonWrapper
+	 *
+	 * @param nodes the QPP element nodes to encode
+	 * @param report holder of the errors and warnings found
 	 */
-	JsonWrapper encode();
+	JsonWrapper encode(List<Node> nodes, EncodeReport report);
 }
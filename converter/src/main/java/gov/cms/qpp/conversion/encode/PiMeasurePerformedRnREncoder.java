@@ -17,9 +17,10 @@ public class PiMeasurePerformedRnREncoder extends QppOutputEncoder {
 	 *
 	 * @param wrapper Wrapper representing the {@link TemplateId#PI_MEASURE_PERFORMED_REFERENCE_AND_RESULTS} type
 	 * @param node Node that represents the {@link TemplateId#PI_MEASURE_PERFORMED_REFERENCE_AND_RESULTS}
+	 * @param report holder of the errors and warnings found
 	 */
 	@Override
-	protected void internalEncode(JsonWrapper wrapper, Node node) {
+	protected void internalEncode(JsonWrapper wrapper, Node node, EncodeReport report) {
 		wrapper.put("measureId", node.getValue("measureId"));
 		encodeChild(wrapper, node);
 	}
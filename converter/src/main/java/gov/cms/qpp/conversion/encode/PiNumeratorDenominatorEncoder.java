@@ -28,10 +28,11 @@ public class PiNumeratorDenominatorEncoder extends QppOutputEncoder {
 	 *
 	 * @param wrapper Wrapper that will represent the PI Numerator Denominator Type Measure
 	 * @param node Node that represents the PI Numerator Denominator Type Measure
+	 * @param report holder of the errors and warnings found
 	 * @throws EncodeException If an error occurs during encoding
 	 */
 	@Override
-	protected void internalEncode(JsonWrapper wrapper, Node node) {
+	protected void internalEncode(JsonWrapper wrapper, Node node, EncodeReport report) {
 
 		//the measure node will have 2 child nodes
 		//one for the numerator and one for the denominator
@@ -40,7 +41,7 @@ public class PiNumeratorDenominatorEncoder extends QppOutputEncoder {
 		Map<TemplateId, Node> childMapByTemplateId = node.getChildNodes().stream().collect(
 				Collectors.toMap(Node::getType, Function.identity(), (v1, v2) -> v1, LinkedHashMap::new));
 
-		JsonWrapper childWrapper = encodeChildren(childMapByTemplateId);
+		JsonWrapper childWrapper = encodeChildren(childMapByTemplateId, report);
 
 		wrapper.put("measureId", node.getValue("measureId"));
 		wrapper.put(VALUE, childWrapper);
@@ -50,18 +51,19 @@ public class PiNumeratorDenominatorEncoder extends QppOutputEncoder {
 	 * Encodes PI Numerator Denominator Children
 	 *
 	 * @param childMapByTemplateId Map of children that will be encoded
+	 * @param report holder of the errors and warnings found
 	 * @return JsonWrapper that will represent the encoded children
 	 */
-	private JsonWrapper encodeChildren(Map<TemplateId, Node> childMapByTemplateId) {
+	private JsonWrapper encodeChildren(Map<TemplateId, Node> childMapByTemplateId, EncodeReport report) {
 		JsonWrapper childWrapper = new JsonWrapper();
 		for (Node currentChild : childMapByTemplateId.values()) {
 
 			JsonOutputEncoder childEncoder = encoders.get(currentChild.getType());
 
 			if (childEncoder != null) {
-				childEncoder.encode(childWrapper, currentChild);
+				childEncoder.encode(childWrapper, currentChild, report);
 			} else {
-				addValidationError(Detail.forProblemAndNode(ProblemCode.ENCODER_MISSING, currentChild));
+				report.addValidationError(Detail.forProblemAndNode(ProblemCode.ENCODER_MISSING, currentChild));
 			}
 		}
 
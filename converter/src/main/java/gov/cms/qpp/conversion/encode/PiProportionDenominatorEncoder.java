@@ -20,7 +20,7 @@ public class PiProportionDenominatorEncoder extends QppOutputEncoder {
 	}
 
 	@Override
-	protected void internalEncode(JsonWrapper wrapper, Node node) {
+	protected void internalEncode(JsonWrapper wrapper, Node node, EncodeReport report) {
 		// simply writes the value in the Node
 
 		// the ACI Proportion Denominator Node should have a single child
@@ -30,7 +30,7 @@ public class PiProportionDenominatorEncoder extends QppOutputEncoder {
 			JsonOutputEncoder denominatorValueEncoder = encoders.get(denominatorValueNode.getType());
 
 			JsonWrapper value = new JsonWrapper();
-			denominatorValueEncoder.encode(value, denominatorValueNode);
+			denominatorValueEncoder.encode(value, denominatorValueNode, report);
 
 			if (null != value.getInteger(VALUE)) {
 				wrapper.put(ENCODE_LABEL, value.getInteger(VALUE));
@@ -22,15 +22,16 @@ public class PiProportionNumeratorEncoder extends QppOutputEncoder {
 	 *
 	 * @param wrapper Wrapper that will represent the PI Numerator Measure
 	 * @param node Node that represents the PI Numerator Measure
+	 * @param report holder of the errors and warnings found
 	 * @throws EncodeException If an error occurs during encoding
 	 */
 	@Override
-	protected void internalEncode(JsonWrapper wrapper, Node node) {
+	protected void internalEncode(JsonWrapper wrapper, Node node, EncodeReport report) {
 
 		Node piNumeratorNode = node.findFirstNode(TemplateId.PI_AGGREGATE_COUNT);
 
 		if (piNumeratorNode != null) {
-			JsonWrapper numerator = encodeChild(piNumeratorNode);
+			JsonWrapper numerator = encodeChild(piNumeratorNode, report);
 
 			if (null != numerator.getInteger(VALUE)) {
 				wrapper.put(ENCODE_LABEL, numerator.getInteger(VALUE));
@@ -39,11 +40,11 @@ public class PiProportionNumeratorEncoder extends QppOutputEncoder {
 		}
 	}
 
-	private JsonWrapper encodeChild(Node numeratorValueNode) {
+	private JsonWrapper encodeChild(Node numeratorValueNode, EncodeReport report) {
 		JsonOutputEncoder numeratorValueEncoder = encoders.get(numeratorValueNode.getType());
 
 		JsonWrapper jsonWrapper = new JsonWrapper();
-		numeratorValueEncoder.encode(jsonWrapper, numeratorValueNode);
+		numeratorValueEncoder.encode(jsonWrapper, numeratorValueNode, report);
 
 		return jsonWrapper;
 	}
@@ -35,20 +35,21 @@ public class PiSectionEncoder extends QppOutputEncoder {
 	 *
 	 * @param wrapper JsonWrapper that will represent the PI Section
 	 * @param node Node that represents the PI Section
+	 * @param report holder of the errors and warnings found
 	 * @throws EncodeException If an error occurs during encoding
 	 */
 	@Override
-	public void internalEncode(JsonWrapper wrapper, Node node) {
+	public void internalEncode(JsonWrapper wrapper, Node node, EncodeReport report) {
 		encodeTopLevelValues(wrapper, node);
 		List<Node> children = node.getChildNodes();
 		JsonWrapper measurementsWrapper = new JsonWrapper();
 
-		encodeChildren(children, measurementsWrapper);
+		encodeChildren(children, measurementsWrapper, report);
 
 		wrapper.put("measurements", measurementsWrapper);
 
 		Optional.ofNullable(node.getParent()).ifPresent(parent -> pilferParent(wrapper, parent));
-		encodeReportingParameter(wrapper, node);
+		encodeReportingParameter(wrapper, node, report);
 	}
 
 	private void encodeTopLevelValues(JsonWrapper wrapper, Node node) {
@@ -64,8 +65,9 @@ public class PiSectionEncoder extends QppOutputEncoder {
 	 *
 	 * @param children child nodes of the given section
 	 * @param measurementsWrapper wrapper that holds the measurements of a section
+	 * @param report holder of the errors and warnings found
 	 */
-	private void encodeChildren(List<Node> children, JsonWrapper measurementsWrapper) {
+	private void encodeChildren(List<Node> children, JsonWrapper measurementsWrapper, EncodeReport report) {
 		JsonWrapper childWrapper;
 		for (Node currentChild : children) {
 			childWrapper = new JsonWrapper();
@@ -74,10 +76,10 @@ public class PiSectionEncoder extends QppOutputEncoder {
 				JsonOutputEncoder childEncoder = encoders.get(templateId);
 
 				if (childEncoder != null) {
-					childEncoder.encode(childWrapper, currentChild);
+					childEncoder.encode(childWrapper, currentChild, report);
 					measurementsWrapper.put(childWrapper);
 				} else {
-					addValidationError(Detail.forProblemAndNode(ProblemCode.ENCODER_MISSING, currentChild));
+					report.addValidationError(Detail.forProblemAndNode(ProblemCode.ENCODER_MISSING, currentChild));
 				}
 			}
 		}
@@ -114,15 +116,16 @@ public class PiSectionEncoder extends QppOutputEncoder {
 	 *
 	 * @param wrapper wrapper that holds the section
 	 * @param node PI Section Node
+	 * @param report holder of the errors and warnings found
 	 */
-	private void encodeReportingParameter(JsonWrapper wrapper, Node node) {
+	private void encodeReportingParameter(JsonWrapper wrapper, Node node, EncodeReport report) {
 		JsonOutputEncoder reportingParamEncoder = encoders.get(TemplateId.REPORTING_PARAMETERS_ACT);
 		Node reportingChild = node.findFirstNode(TemplateId.REPORTING_PARAMETERS_ACT);
 		if (reportingChild == null) {
 			DEV_LOG.error("Missing Reporting Parameters from PI Section");
 			return;
 		}
-		reportingParamEncoder.encode(wrapper, reportingChild, false);
+		reportingParamEncoder.encode(wrapper, reportingChild, false, report);
 		maintainContinuity(wrapper, reportingChild, ReportingParametersActDecoder.PERFORMANCE_END);
 		maintainContinuity(wrapper, reportingChild, ReportingParametersActDecoder.PERFORMANCE_START);
 	}
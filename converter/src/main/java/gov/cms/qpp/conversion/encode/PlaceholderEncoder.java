@@ -22,17 +22,18 @@ public class PlaceholderEncoder extends QppOutputEncoder {
 	 *
 	 * @param wrapper object that will represent a placeholder
 	 * @param node object that represents a placeholder
+	 * @param report holder of the errors and warnings found
 	 * @throws EncodeException If error occurs during encoding
 	 */
 	@Override
-	protected void internalEncode(JsonWrapper wrapper, Node node) {
+	protected void internalEncode(JsonWrapper wrapper, Node node, EncodeReport report) {
 
 		for (Node child : node.getChildNodes()) {
 			JsonOutputEncoder encoder = encoders.get(child.getType());
 			if (encoder != null) {
-				encoder.encode(wrapper, child);
+				encoder.encode(wrapper, child, report);
 			} else {
-				addValidationError(Detail.forProblemAndNode(ProblemCode.ENCODER_MISSING, child));
+				report.addValidationError(Detail.forProblemAndNode(ProblemCode.ENCODER_MISSING, child));
 			}
 		}
 	}
@@ -23,9 +23,9 @@ public class QppOutputEncoder extends JsonOutputEncoder {
 	}
 
 	@Override
-	public final void encode(JsonWrapper wrapper, Node node) {
+	public final void encode(JsonWrapper wrapper, Node node, EncodeReport report) {
 		DEV_LOG.debug("Using {} to encode {}", this.getClass().getName(), node);
-		super.encode(wrapper, node);
+		super.encode(wrapper, node, report);
 	}
 
 	/**
@@ -34,14 +34,15 @@ public class QppOutputEncoder extends JsonOutputEncoder {
 	 *
 	 * @param wrapper object to encode into
 	 * @param node object to encode
+	 * @param report holder of the errors and warnings found
 	 * @throws EncodeException If error occurs during encoding
 	 */
 	@Override
-	protected void internalEncode(JsonWrapper wrapper, Node node) {
+	protected void internalEncode(JsonWrapper wrapper, Node node, EncodeReport report) {
 		JsonOutputEncoder encoder = encoders.get(node.getType());
 
 		if (null != encoder) {
-			encoder.encode(wrapper, node);
+			encoder.encode(wrapper, node, report);
 		}
 	}
 
@@ -48,21 +48,22 @@ public class QualityMeasureIdEncoder extends QppOutputEncoder {
 	 *
 	 * @param wrapper JsonWrapper that will represent the Quality Measure Identifier
 	 * @param node Node that represents the Quality Measure Identifier
+	 * @param report holder of the errors and warnings found
 	 * @throws EncodeException If an error occurs during encoding
 	 */
 	@Override
-	public void internalEncode(JsonWrapper wrapper, Node node) {
+	public void internalEncode(JsonWrapper wrapper, Node node, EncodeReport report) {
 		MeasureConfig measureConfig = MeasureConfigHelper.getMeasureConfig(node);
 		String measureId = measureConfig.getMeasureId();
 		wrapper.put(MEASURE_ID, measureId);
 		if (MULTI_TO_SINGLE_PERF_RATE_MEASURE_ID.contains(measureId)) {
 			encodeAllSubPopulationSums(wrapper, node);
 		} else if (SINGLE_TO_MULTI_PERF_RATE_MEASURE_ID.equalsIgnoreCase(measureId)) {
-			encodeSingleToMultiPerformance(wrapper, node, measureConfig);
+			encodeSingleToMultiPerformance(wrapper, node, measureConfig, report);
 		} else if (isASinglePerformanceRate(measureConfig)) {
-			encodeChildren(wrapper, node, measureConfig);
+			encodeChildren(wrapper, node, measureConfig, report);
 		} else {
-			encodeMultiPerformanceRate(wrapper, node, measureConfig);
+			encodeMultiPerformanceRate(wrapper, node, measureConfig, report);
 		}
 	}
 
@@ -147,11 +148,13 @@ public class QualityMeasureIdEncoder extends QppOutputEncoder {
 	 * @param wrapper holder for encoded node data
 	 * @param parentNode holder of the Quality Measures
 	 * @param measureConfig The measure configuration for the current measure.
+	 * @param report holder of the errors and warnings found
 	 */
-	private void encodeChildren(JsonWrapper wrapper, Node parentNode, final MeasureConfig measureConfig) {
+	private void encodeChildren(JsonWrapper wrapper, Node parentNode, final MeasureConfig measureConfig,
+		EncodeReport report) {
 		JsonWrapper childWrapper = new JsonWrapper();
 		childWrapper.put(IS_END_TO_END_REPORTED, Boolean.TRUE);
-		encodeSubPopulation(parentNode, childWrapper, false, measureConfig);
+		encodeSubPopulation(parentNode, childWrapper, false, measureConfig, report);
 		wrapper.put(VALUE, childWrapper);
 	}
 
@@ -161,10 +164,13 @@ public class QualityMeasureIdEncoder extends QppOutputEncoder {
 	 * @param wrapper object to be encoded into
 	 * @param node parent node that holds the current performance rate proportion measures
 	 * @param measureConfig configurations to group performance rate proportion measures
+	 * @param report holder of the errors and warnings found
 	 */
-	private void encodeMultiPerformanceRate(JsonWrapper wrapper, Node node, MeasureConfig measureConfig) {
-		List<Node> subPopNodes = MeasureConfigHelper.createSubPopulationGrouping(node, measureConfig);
-		encodeMultiPerformanceChildren(wrapper, subPopNodes, measureConfig);
+	private void encodeMultiPerformanceRate(JsonWrapper wrapper, Node node, MeasureConfig measureConfig,
+		EncodeReport report) {
+		List<Node> subPopNodes = MeasureConfigHelper.createSubPopulationGrouping(node,
+			MeasureConfigHelper.getValidationPlan(node));
+		encodeMultiPerformanceChildren(wrapper, subPopNodes, measureConfig, report);
 	}
 
 	/**
@@ -173,21 +179,24 @@ public class QualityMeasureIdEncoder extends QppOutputEncoder {
 	 * @param wrapper holder for encoded node data
 	 * @param subPopNodes holder of the Quality Measures
 	 * @param measureConfig The measure configuration for the current measure.
+	 * @param report holder of the errors and warnings found
 	 */
-	private void encodeMultiPerformanceChildren(JsonWrapper wrapper, List<Node> subPopNodes, final MeasureConfig measureConfig) {
+	private void encodeMultiPerformanceChildren(JsonWrapper wrapper, List<Node> subPopNodes, final MeasureConfig measureConfig,
+		EncodeReport report) {
 		JsonWrapper childWrapper = new JsonWrapper();
 		childWrapper.put(IS_END_TO_END_REPORTED, Boolean.TRUE);
 		JsonWrapper strataListWrapper = new JsonWrapper();
 		for (Node subPopNode : subPopNodes) {
 			JsonWrapper strataWrapper = new JsonWrapper();
-			encodeSubPopulation(subPopNode, strataWrapper, true, measureConfig);
+			encodeSubPopulation(subPopNode, strataWrapper, true, measureConfig, report);
 			strataListWrapper.put(strataWrapper);
 		}
 		childWrapper.put("strata", strataListWrapper);
 		wrapper.put(VALUE, childWrapper);
 	}
 
-	private void encodeSingleToMultiPerformance(JsonWrapper wrapper, Node parentNode, final MeasureConfig measureConfig) {
+	private void encodeSingleToMultiPerformance(JsonWrapper wrapper, Node parentNode, final MeasureConfig measureConfig,
+		EncodeReport report) {
 		JsonWrapper childWrapper = new JsonWrapper();
 		childWrapper.put(IS_END_TO_END_REPORTED, Boolean.TRUE);
 
@@ -196,7 +205,7 @@ public class QualityMeasureIdEncoder extends QppOutputEncoder {
 		for (int index = 0; index < subPopCount; index++) {
 			JsonWrapper strataWrapper = new JsonWrapper();
 			if (measureConfig.getStrata().get(index).getElectronicMeasureUuids() != null) {
-				encodeSubPopulation(parentNode, strataWrapper, true, measureConfig);
+				encodeSubPopulation(parentNode, strataWrapper, true, measureConfig, report);
 			} else {
 				encodeDefaultSubPopulation(strataWrapper, measureConfig, index);
 			}
@@ -230,16 +239,17 @@ public class QualityMeasureIdEncoder extends QppOutputEncoder {
 	 * @param parentNode holder of the sub populations
 	 * @param childWrapper holder of encoded sub populations
 	 * @param measureConfig The measure configuration for the current measure.
+	 * @param report holder of the errors and warnings found
 	 */
 	private void encodeSubPopulation(Node parentNode, JsonWrapper childWrapper, boolean isMultiRate,
-		final MeasureConfig measureConfig) {
+		final MeasureConfig measureConfig, EncodeReport report) {
 		this.encodePerformanceMet(childWrapper, parentNode);
 		this.encodePerformanceNotMet(childWrapper, parentNode);
 
 		for (Node childNode : parentNode.getChildNodes()) {
 			if (TemplateId.MEASURE_DATA_CMS_V2 == childNode.getType()) {
 				JsonOutputEncoder measureDataEncoder = encoders.get(childNode.getType());
-				measureDataEncoder.encode(childWrapper, childNode);
+				measureDataEncoder.encode(childWrapper, childNode, report);
 			}
 		}
 		if (isMultiRate) {
@@ -26,9 +26,10 @@ public class ReportingParametersActEncoder extends QppOutputEncoder {
 	 *
 	 * @param wrapper JsonWrapper
 	 * @param node Node
+	 * @param report holder of the errors and warnings found
 	 */
 	@Override
-	protected void internalEncode(JsonWrapper wrapper, Node node) {
+	protected void internalEncode(JsonWrapper wrapper, Node node, EncodeReport report) {
 		encodeDate(wrapper, node, PERFORMANCE_START);
 		encodeDate(wrapper, node, PERFORMANCE_END);
 	}
@@ -1,5 +1,6 @@
 package gov.cms.qpp.conversion.encode.placeholder;
 
+import gov.cms.qpp.conversion.encode.EncodeReport;
 import gov.cms.qpp.conversion.encode.JsonOutputEncoder;
 import gov.cms.qpp.conversion.encode.JsonWrapper;
 import gov.cms.qpp.conversion.model.Encoder;
@@ -23,7 +24,7 @@ public class DefaultEncoder extends JsonOutputEncoder {
 	}
 
 	@Override
-	protected void internalEncode(JsonWrapper wrapper, Node node) {
+	protected void internalEncode(JsonWrapper wrapper, Node node, EncodeReport report) {
 		DEV_LOG.debug("Default JSON encoder {} is handling templateId {} and is described as '{}' ",
 				getClass(), node.getType().name(), description);
 
@@ -31,7 +32,7 @@ public class DefaultEncoder extends JsonOutputEncoder {
 
 		for (Node child : node.getChildNodes()) { // LIST encoding for this node
 			//childWrapper.put(child.getType().name(), childWrapper); // cyclic self reference
-			encode(childWrapper, child); // child LIST entry for this node
+			encode(childWrapper, child, report); // child LIST entry for this node
 		}
 		
 		for (String name : node.getKeys()) { // MAP encoding
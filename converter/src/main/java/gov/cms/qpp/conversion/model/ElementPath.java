@@ -0,0 +1,156 @@
+package gov.cms.qpp.conversion.model;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.jdom2.Element;
+import org.jdom2.Namespace;
+
+/**
+ * A compact description of an element's location within its document, linked to the location of its parent.
+ * Describing the location, instead of holding on to the element, lets the parsed document be released once
+ * decoding completes. The absolute path is rendered in the same form as
+ * {@link org.jdom2.xpath.XPathHelper#getAbsolutePath(org.jdom2.Element)}.
+ */
+public final class ElementPath {
+
+	public static final int NO_POSITION = 0;
+
+	private final ElementPath parent;
+	private final String name;
+	private final String namespaceUri;
+	private final int position;
+
+	private ElementPath(ElementPath parent, String name, String namespaceUri, int position) {
+		this.parent = parent;
+		this.name = name;
+		this.namespaceUri = namespaceUri;
+		this.position = position;
+	}
+
+	/**
+	 * Describes a document's root element.
+	 *
+	 * @param root the root element
+	 * @return the root element's path
+	 */
+	public static ElementPath root(Element root) {
+		return new ElementPath(null, root.getName(), root.getNamespaceURI(), NO_POSITION);
+	}
+
+	/**
+	 * Describes the location of the given element by walking up to the document's root.
+	 *
+	 * @param element the element to describe
+	 * @return the element's path
+	 */
+	public static ElementPath of(Element element) {
+		Element parentElement = element.getParentElement();
+		if (parentElement == null) {
+			return root(element);
+		}
+		return of(parentElement).child(element, positionOf(element));
+	}
+
+	/**
+	 * Describes a child element of the element this path describes.
+	 *
+	 * @param child the child element
+	 * @param childPosition the child's one based position among its siblings of the same name and namespace, or
+	 *                      {@link #NO_POSITION} when it has no such siblings
+	 * @return the child element's path
+	 */
+	public ElementPath child(Element child, int childPosition) {
+		return new ElementPath(this, child.getName(), child.getNamespaceURI(), childPosition);
+	}
+
+	/**
+	 * Determine the one based position of an element among its siblings of the same name and namespace.
+	 *
+	 * @param element the element to locate
+	 * @return the element's position, or {@link #NO_POSITION} when it has no such siblings
+	 */
+	public static int positionOf(Element element) {
+		List<Element> siblings = element.getParentElement().getChildren(element.getName(), element.getNamespace());
+		return siblings.size() == 1 ? NO_POSITION : siblings.indexOf(element) + 1;
+	}
+
+	/**
+	 * Returns the path of this element's parent.
+	 *
+	 * @return the parent's path, or null for a root element
+	 */
+	public ElementPath getParent() {
+		return parent;
+	}
+
+	/**
+	 * Renders the absolute xpath of the described element.
+	 *
+	 * @return the absolute path
+	 */
+	public String getAbsolutePath() {
+		StringBuilder path = new StringBuilder();
+		appendTo(path);
+		return path.toString();
+	}
+
+	private void appendTo(StringBuilder path) {
+		if (parent != null) {
+			parent.appendTo(path);
+		}
+		path.append('/');
+		if (Namespace.NO_NAMESPACE.getURI().equals(namespaceUri)) {
+			path.append(name);
+		} else {
+			path.append("*[local-name() = '").append(name)
+					.append("' and namespace-uri() = '").append(namespaceUri).append("']");
+		}
+		if (position != NO_POSITION) {
+			path.append('[').append(position).append(']');
+		}
+	}
+
+	/**
+	 * Returns whether this object is equal to another.
+	 *
+	 * @param o The other object
+	 * @return {@code true} if this object equals {@code o}.
+	 */
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+
+		ElementPath that = (ElementPath) o;
+		return position == that.position
+				&& Objects.equals(name, that.name)
+				&& Objects.equals(namespaceUri, that.namespaceUri)
+				&& Objects.equals(parent, that.parent);
+	}
+
+	/**
+	 * Computes and returns the hash code for this object.
+	 *
+	 * @return The hash code.
+	 */
+	@Override
+	public int hashCode() {
+		return Objects.hash(parent, name, namespaceUri, position);
+	}
+
+	/**
+	 * Renders the absolute path
+	 *
+	 * @return the absolute path
+	 */
+	@Override
+	public String toString() {
+		return getAbsolutePath();
+	}
+}
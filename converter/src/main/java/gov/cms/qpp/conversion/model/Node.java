@@ -1,49 +1,77 @@
 package gov.cms.qpp.conversion.model;
 
+import java.util.AbstractList;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.jdom2.Element;
-import org.jdom2.xpath.XPathHelper;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.Lists;
 
 /**
- * Represents a node of data that should be converted. Consists of a key/value
- * Map that holds the data gleaned from an input file.
+ * Represents a node of data that should be converted. Consists of key/value
+ * pairs that hold the data gleaned from an input file.
  * Nodes can contain other nodes as children to create a hierarchy.
+ *
+ * A decoded document holds a great many nodes, each with only a few values, so the values are kept in a single
+ * array of alternating keys and values, sized to fit, rather than in a map. Duplicate values are rare and their map
+ * is created on first use.
+ *
+ * A key may also hold a list of values, such as the identifiers of every clinician in an APM entity. The list is
+ * stored once, as given, and read back with {@link #getValues(String)}.
+ *
+ * The first {@link #findNode(TemplateId)} or {@link #findFirstNode(TemplateId)} within a tree indexes the whole tree
+ * by {@link TemplateId}, and later ones within it are answered from that index. The list of child nodes notifies its
+ * node of every change, which discards the index of the tree it belongs to along with the node's count of its
+ * children by type.
  */
 public class Node {
 
 	public static final int DEFAULT_LOCATION_NUMBER = -1;
 
-	private final List<Node> childNodes = new ArrayList<>();
-	private final Map<String, String> data = new HashMap<>();
-	private final Map<String, List<String>> duplicateData = new HashMap<>();
+	private static final Object[] NO_DATA = new Object[0];
+	private static final String LIST_DELIMITER = ", ";
+	private static final int TEMPLATE_ID_COUNT = TemplateId.values().length;
+
+	private final List<Node> childNodes = new ChildNodes();
+	private Object[] data = NO_DATA;
+	private Map<String, List<String>> duplicateData;
 
 	private TemplateId type;
 	private Node parent;
 	private boolean validated;
 
-	private Element elementForLocation;
+	private ElementPath elementPath;
 	private String defaultNsUri;
 	private String path;
 	private int line = DEFAULT_LOCATION_NUMBER;
 	private int column = DEFAULT_LOCATION_NUMBER;
 
+	private final transient boolean grouping;
+	private transient Node owner;
+	private transient List<Node> otherOwners;
+	private transient volatile TreeIndex index;
+	private transient int indexOrder;
+	private transient ChildCounts childTypeCounts;
+
 	/**
 	 * Default constructor initializes internal list of Nodes
 	 */
@@ -68,17 +96,60 @@ public class Node {
 	 * @param templateId String of the parsed template id.
 	 */
 	public Node(TemplateId templateId) {
+		this(templateId, false);
+	}
+
+	private Node(TemplateId templateId, boolean grouping) {
 		this.type = templateId;
+		this.grouping = grouping;
+	}
+
+	/**
+	 * Creates a node that groups nodes of another tree without taking them as its children. The grouped nodes keep
+	 * their place in their own tree, which stays indexable, and a lookup from the grouping searches it breadth first.
+	 *
+	 * @param templateId type of the grouping
+	 * @return the grouping node
+	 */
+	public static Node grouping(TemplateId templateId) {
+		return new Node(templateId, true);
 	}
 
 	/**
-	 * getValue returns the string value of the xml fragment parsed into this Node
+	 * getValue returns the string value of the xml fragment parsed into this Node.
+	 * A list of values is returned joined by commas.
 	 *
 	 * @param name String key for the value
 	 * @return String
 	 */
 	public String getValue(String name) {
-		return data.get(name);
+		int index = indexOf(name);
+		if (index < 0) {
+			return null;
+		}
+		Object value = data[index + 1];
+		return value instanceof List ? String.join(LIST_DELIMITER, asList(value)) : (String) value;
+	}
+
+	/**
+	 * Returns every value stored under the key: name
+	 *
+	 * @param name String key for the values
+	 * @return an unmodifiable list of the values, a list of the single value, or an empty list if there are none
+	 * @see #putValues(String, List)
+	 */
+	public List<String> getValues(String name) {
+		int index = indexOf(name);
+		if (index < 0 || data[index + 1] == null) {
+			return Collections.emptyList();
+		}
+		Object value = data[index + 1];
+		return value instanceof List ? asList(value) : Collections.singletonList((String) value);
+	}
+
+	@SuppressWarnings("unchecked") // only lists of strings are stored
+	private static List<String> asList(Object value) {
+		return (List<String>) value;
 	}
 
 	/**
@@ -100,7 +171,7 @@ public class Node {
 	 * @return mapped duplicates of target value
 	 */
 	public List<String> getDuplicateValues(String name) {
-		return duplicateData.get(name);
+		return duplicateData == null ? null : duplicateData.get(name);
 	}
 
 	/**
@@ -121,20 +192,57 @@ public class Node {
 	 * @param replace replace existing value
 	 */
 	public void putValue(String name, String value, boolean replace) {
-		if (getValue(name) == null || replace) {
-			data.put(name, value);
+		int index = indexOf(name);
+		if (index < 0) {
+			append(name, value);
+		} else if (data[index + 1] == null || replace) {
+			data[index + 1] = value;
 		} else {
+			if (duplicateData == null) {
+				duplicateData = new HashMap<>();
+			}
 			duplicateData.computeIfAbsent(name, ignore -> new ArrayList<>()).add(value);
 		}
 	}
 
+	/**
+	 * putValues stores a list of values under the key: name, replacing any value already stored there
+	 *
+	 * @param name String key to store the values under
+	 * @param values that are stored with this xml parsed Node
+	 * @see #getValues(String)
+	 */
+	public void putValues(String name, List<String> values) {
+		List<String> stored = Collections.unmodifiableList(new ArrayList<>(values));
+		int index = indexOf(name);
+		if (index < 0) {
+			append(name, stored);
+		} else {
+			data[index + 1] = stored;
+		}
+	}
+
+	private void append(String name, Object value) {
+		int index = data.length;
+		data = Arrays.copyOf(data, index + 2);
+		data[index] = name;
+		data[index + 1] = value;
+	}
+
 	/**
 	 * removeValue deletes the Value under the key: name
 	 *
 	 * @param name String key to remove value under
 	 */
 	public void removeValue(String name) {
-		data.remove(name);
+		int index = indexOf(name);
+		if (index < 0) {
+			return;
+		}
+		Object[] remaining = data.length == 2 ? NO_DATA : new Object[data.length - 2];
+		System.arraycopy(data, 0, remaining, 0, index);
+		System.arraycopy(data, index + 2, remaining, index, data.length - index - 2);
+		data = remaining;
 	}
 
 	/**
@@ -144,7 +252,36 @@ public class Node {
 	 * @return corresponding value
 	 */
 	public boolean hasValue(String name) {
-		return data.containsKey(name);
+		return indexOf(name) >= 0;
+	}
+
+	/**
+	 * Finds where the value for a key is held.
+	 *
+	 * @param name key
+	 * @return the index of the key in {@link #data}, or -1 when no value has been assigned to it
+	 */
+	private int indexOf(String name) {
+		for (int index = 0; index < data.length; index += 2) {
+			if (Objects.equals(data[index], name)) {
+				return index;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Replaces each single value of this {@code Node} with the one given for it, such as a shared instance of an
+	 * equal value. Lists of values are left as they are.
+	 *
+	 * @param replacement gives the value to hold in place of each value
+	 */
+	public void replaceValues(UnaryOperator<String> replacement) {
+		for (int index = 1; index < data.length; index += 2) {
+			if (data[index] instanceof String) {
+				data[index] = replacement.apply((String) data[index]);
+			}
+		}
 	}
 
 	/**
@@ -179,6 +316,24 @@ public class Node {
 				.filter(filter);
 	}
 
+	/**
+	 * Counts the child Nodes of a template id. The children of every type are counted together, and the counts are
+	 * kept until the child Nodes change.
+	 *
+	 * @param templateId the type to count
+	 * @return the number of child Nodes of that type
+	 */
+	public int getChildCount(TemplateId templateId) {
+		ChildCounts counts = childTypeCounts;
+		if (counts == null) {
+			counts = new ChildCounts(this);
+			if (counts.cacheable) {
+				childTypeCounts = counts;
+			}
+		}
+		return counts.byType[templateId.ordinal()];
+	}
+
 	/**
 	 * Returns the first child Node from this Node that satisfies the predicate.
 	 *
@@ -233,10 +388,10 @@ public class Node {
 	/**
 	 * getKeys gets the internal keyset for the list of Nodes
 	 *
-	 * @return The keys the value's set on this Node.
+	 * @return The keys the value's set on this Node, in the order they were first set.
 	 */
 	public Set<String> getKeys() {
-		return data.keySet();
+		return new KeySet();
 	}
 
 	/**
@@ -264,6 +419,10 @@ public class Node {
 	 */
 	public void setType(TemplateId type) {
 		this.type = type;
+		if (owner != null) {
+			owner.childTypeCounts = null;
+		}
+		discardIndex();
 	}
 
 	/**
@@ -317,29 +476,29 @@ public class Node {
 	 * @return The path.
 	 */
 	public String getOrComputePath() {
-		if (path == null && elementForLocation != null) {
-			path = XPathHelper.getAbsolutePath(elementForLocation);
+		if (path == null && elementPath != null) {
+			path = elementPath.getAbsolutePath();
 		}
 
 		return path;
 	}
 
 	/**
-	 * Returns the element location of the node
+	 * Returns the location of the element backing the node
 	 *
 	 * @return The element location of the node.
 	 */
-	public Element getElementForLocation() {
-		return elementForLocation;
+	public ElementPath getElementPath() {
+		return elementPath;
 	}
 
 	/**
-	 * Sets the element location of the node
+	 * Sets the location of the element backing the node
 	 *
-	 * @param elementForLocation The element location for the node
+	 * @param elementPath The element location for the node
 	 */
-	public void setElementForLocation(Element elementForLocation) {
-		this.elementForLocation = elementForLocation;
+	public void setElementPath(ElementPath elementPath) {
+		this.elementPath = elementPath;
 	}
 
 	/**
@@ -368,7 +527,9 @@ public class Node {
 	 * {@link gov.cms.qpp.conversion.model.Node}'s hierarchy that match the searched id
 	 */
 	public List<Node> findNode(TemplateId templateId) {
-		return findNode(templateId, null);
+		TreeIndex treeIndex = getTreeIndex();
+		int order = indexOrder;
+		return treeIndex.contains(this, order) ? treeIndex.find(order, templateId) : findNode(templateId, null);
 	}
 
 	/**
@@ -410,10 +571,87 @@ public class Node {
 	 * if no matches are found
 	 */
 	public Node findFirstNode(TemplateId templateId) {
+		TreeIndex treeIndex = getTreeIndex();
+		int order = indexOrder;
+		if (treeIndex.contains(this, order)) {
+			return treeIndex.findFirst(order, templateId);
+		}
 		List<Node> nodes = this.findNode(templateId, Node::foundNode);
 		return nodes.isEmpty() ? null : nodes.get(0);
 	}
 
+	/**
+	 * Returns the index of the tree this {@code Node} belongs to, indexing the tree if need be.
+	 *
+	 * @return the index, or {@link TreeIndex#UNINDEXABLE}
+	 */
+	private TreeIndex getTreeIndex() {
+		TreeIndex treeIndex = index;
+		if (treeIndex != null && treeIndex.isCurrent()) {
+			return treeIndex;
+		}
+
+		Node root = getRoot();
+		synchronized (root) {
+			treeIndex = root.index;
+			if (treeIndex == null || !treeIndex.isCurrent()) {
+				treeIndex = TreeIndex.build(root);
+				root.index = treeIndex;
+			}
+		}
+		return treeIndex;
+	}
+
+	/**
+	 * Discards what is known of the child nodes of this {@code Node}, after they have changed.
+	 */
+	private void childNodesChanged() {
+		childTypeCounts = null;
+		discardIndex();
+	}
+
+	/**
+	 * Discards the index of the tree this {@code Node} belongs to, after the tree has changed.
+	 */
+	private void discardIndex() {
+		Node root = getRoot();
+		TreeIndex treeIndex = root.index;
+		if (treeIndex != null) {
+			treeIndex.discard();
+			root.index = null;
+		}
+	}
+
+	private Node getRoot() {
+		Node root = this;
+		while (root.owner != null) {
+			root = root.owner;
+		}
+		return root;
+	}
+
+	/**
+	 * Whether this {@code Node} is the child of the given node, and of no other.
+	 *
+	 * @param node the possible parent
+	 * @return true if the given node is the only one with this node as a child
+	 */
+	@SuppressWarnings("ReferenceEquality") // owners are node instances, distinct nodes may be equal
+	boolean isOwnedBy(Node node) {
+		return owner == node && otherOwners == null; //NOSONAR checking identity equals on purpose
+	}
+
+	/**
+	 * Records where this {@code Node} is numbered in the index of its tree.
+	 *
+	 * @param treeIndex the index of the tree
+	 * @param order the number of this node
+	 */
+	void setIndexPosition(TreeIndex treeIndex, int order) {
+		indexOrder = order;
+		index = treeIndex;
+	}
+
 	/**
 	 * setValidated sets the internal state of this Node validation.
 	 * Used to control the recursion of nested validations
@@ -495,13 +733,13 @@ public class Node {
 	public String toString() {
 		return MoreObjects.toStringHelper(this)
 				.add("type", type)
-				.add("data", data)
+				.add("data", dataAsMap())
 				.add("childNodesSize", childNodes.size())
 				.add("parent", parent == null ? "null" : "not null")
 				.add("validated", validated)
 				.add("defaultNsUri", defaultNsUri)
 				.add("path", path)
-				.add("elementForLocation", elementForLocation)
+				.add("elementPath", elementPath)
 				.add("line", line)
 				.add("column", column)
 				.toString();
@@ -527,12 +765,12 @@ public class Node {
 
 		return new EqualsBuilder().append(isValidated(), node.isValidated())
 				.append(getChildNodes(), node.getChildNodes())
-				.append(data, node.data)
-				.append(duplicateData, node.duplicateData)
+				.append(dataAsMap(), node.dataAsMap())
+				.append(duplicatesAsMap(), node.duplicatesAsMap())
 				.append(getType(), node.getType())
 				.append(getDefaultNsUri(), node.getDefaultNsUri())
 				.append(path, node.path)
-				.append(getElementForLocation(), node.getElementForLocation())
+				.append(getElementPath(), node.getElementPath())
 				.append(getLine(), node.getLine())
 				.append(getColumn(), node.getColumn())
 				.isEquals();
@@ -545,8 +783,225 @@ public class Node {
 	 */
 	@Override
 	public final int hashCode() {
-		return Objects.hash(getChildNodes(), data, duplicateData, getType(), isValidated(), getDefaultNsUri(),
-				path, getElementForLocation(), getLine(), getColumn());
+		return Objects.hash(getChildNodes(), dataAsMap(), duplicatesAsMap(), getType(), isValidated(),
+				getDefaultNsUri(), path, getElementPath(), getLine(), getColumn());
+	}
+
+	/**
+	 * The number of child nodes of a node by type, which is safely shared between threads by its final fields.
+	 */
+	private static final class ChildCounts {
+		private final int[] byType = new int[TEMPLATE_ID_COUNT];
+		private final boolean cacheable;
+
+		private ChildCounts(Node node) {
+			boolean owned = true;
+			for (Node childNode : node.childNodes) {
+				if (childNode != null && childNode.type != null) {
+					byType[childNode.type.ordinal()]++;
+				}
+				owned &= childNode != null && childNode.isOwnedBy(node);
+			}
+			cacheable = owned;
+		}
+	}
+
+	/**
+	 * The child nodes of this {@code Node}, which keep track of the nodes they belong to so that the index of the
+	 * tree, and the counts of child nodes, can be discarded whenever the tree changes.
+	 */
+	@SuppressWarnings("ReferenceEquality") // owners are node instances, distinct nodes may be equal
+	private class ChildNodes extends AbstractList<Node> implements RandomAccess {
+		private Node[] elements = new Node[0];
+		private int size;
+
+		@Override
+		public Node get(int position) {
+			checkPosition(position, size);
+			return elements[position];
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public Node set(int position, Node child) {
+			checkPosition(position, size);
+			Node replaced = elements[position];
+			release(replaced);
+			elements[position] = child;
+			adopt(child);
+			childNodesChanged();
+			return replaced;
+		}
+
+		@Override
+		public void add(int position, Node child) {
+			checkPosition(position, size + 1);
+			if (size == elements.length) {
+				elements = Arrays.copyOf(elements, Math.max(4, size + (size >> 1)));
+			}
+			System.arraycopy(elements, position, elements, position + 1, size - position);
+			elements[position] = child;
+			size++;
+			modCount++;
+			adopt(child);
+			childNodesChanged();
+		}
+
+		@Override
+		public Node remove(int position) {
+			checkPosition(position, size);
+			Node removed = elements[position];
+			System.arraycopy(elements, position + 1, elements, position, size - position - 1);
+			elements[--size] = null;
+			modCount++;
+			release(removed);
+			childNodesChanged();
+			return removed;
+		}
+
+		@Override
+		protected void removeRange(int from, int to) {
+			for (int position = from; position < to; position++) {
+				release(elements[position]);
+			}
+			System.arraycopy(elements, to, elements, from, size - to);
+			Arrays.fill(elements, size - (to - from), size, null);
+			size -= to - from;
+			modCount++;
+			childNodesChanged();
+		}
+
+		private void checkPosition(int position, int limit) {
+			if (position < 0 || position >= limit) {
+				throw new IndexOutOfBoundsException("Index: " + position + ", Size: " + size);
+			}
+		}
+
+		private void adopt(Node child) {
+			if (child == null || grouping) {
+				return;
+			}
+			if (child.owner != null) {
+				child.owner.childTypeCounts = null;
+			}
+			child.discardIndex();
+			if (child.owner == null && child.otherOwners == null && !isWithin(Node.this, child)) {
+				child.owner = Node.this;
+			} else {
+				if (child.otherOwners == null) {
+					child.otherOwners = new ArrayList<>(1);
+				}
+				child.otherOwners.add(Node.this);
+			}
+		}
+
+		/**
+		 * Gives up this list's node's ownership of the child. When the child had another parent that one becomes
+		 * its owner, so a child moved from one node to another is owned by the second once the first lets it go.
+		 */
+		private void release(Node child) {
+			if (child == null || grouping) {
+				return;
+			}
+			if (child.owner == Node.this) { //NOSONAR checking identity equals on purpose
+				child.owner = null;
+			} else {
+				removeOwner(child, Node.this);
+			}
+			if (child.otherOwners == null) {
+				return;
+			}
+			if (child.owner == null && !isWithin(child.otherOwners.get(0), child)) {
+				child.owner = child.otherOwners.get(0);
+				removeOwner(child, child.owner);
+			}
+			if (child.owner != null) {
+				child.owner.childTypeCounts = null;
+			}
+		}
+
+		private void removeOwner(Node child, Node former) {
+			List<Node> owners = child.otherOwners;
+			if (owners == null) {
+				return;
+			}
+			for (int position = 0; position < owners.size(); position++) {
+				if (owners.get(position) == former) { //NOSONAR checking identity equals on purpose
+					owners.remove(position);
+					break;
+				}
+			}
+			if (owners.isEmpty()) {
+				child.otherOwners = null;
+			}
+		}
+
+		/**
+		 * Whether the given node is the other node or one of its descendants, such that making the other node a
+		 * child of it would make a cycle.
+		 */
+		private boolean isWithin(Node node, Node other) {
+			for (Node ancestor = node; ancestor != null; ancestor = ancestor.owner) {
+				if (ancestor == other) { //NOSONAR checking identity equals on purpose
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	private Map<String, Object> dataAsMap() {
+		Map<String, Object> map = new LinkedHashMap<>();
+		for (int index = 0; index < data.length; index += 2) {
+			map.put((String) data[index], data[index + 1]);
+		}
+		return map;
+	}
+
+	private Map<String, List<String>> duplicatesAsMap() {
+		return duplicateData == null ? Collections.emptyMap() : duplicateData;
+	}
+
+	/**
+	 * A read only view of the keys of this {@code Node}'s values.
+	 */
+	private class KeySet extends AbstractSet<String> {
+		@Override
+		public Iterator<String> iterator() {
+			Object[] keys = data;
+			return new Iterator<String>() {
+				private int index;
+
+				@Override
+				public boolean hasNext() {
+					return index < keys.length;
+				}
+
+				@Override
+				public String next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					String key = (String) keys[index];
+					index += 2;
+					return key;
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return data.length / 2;
+		}
+
+		@Override
+		public boolean contains(Object key) {
+			return key instanceof String && hasValue((String) key);
+		}
 	}
 
 }
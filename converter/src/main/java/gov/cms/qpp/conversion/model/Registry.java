@@ -1,29 +1,35 @@
 package gov.cms.qpp.conversion.model;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.lang.annotation.Annotation;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
-import java.util.Arrays;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.reflections.Reflections;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import gov.cms.qpp.conversion.Context;
+import gov.cms.qpp.conversion.util.EnvironmentHelper;
 
 /**
  * This class manages the available transformation handlers. Currently it takes
@@ -34,14 +40,28 @@ import gov.cms.qpp.conversion.Context;
  */
 public class Registry<R> {
 
+	/**
+	 * When present, the class path is scanned for handlers that are missing from the index, such as those of
+	 * plug-ins that were not compiled with the index processor.
+	 */
+	public static final String SCAN_CLASSPATH = "SCAN_CLASSPATH_FOR_HANDLERS";
+	static final String INDEX_DIRECTORY = "META-INF/qpp-handlers/";
+
 	private static final Logger DEV_LOG = LoggerFactory.getLogger(Registry.class);
-	private static final Map<Class<?>, Function<Context, Object>> CONSTRUCTORS = new IdentityHashMap<>();
+	private static final Map<Class<?>, HandlerConstructor> CONSTRUCTORS = new ConcurrentHashMap<>();
 	private static final Map<Class<? extends Annotation>, Map<ComponentKey, Class<?>>> SHARED_REGISTRY_MAP
 		= new ConcurrentHashMap<>();
+	private static final Map<Class<? extends Annotation>, Map<Program, Map<TemplateId, Class<?>[]>>> SHARED_DISPATCH
+		= new ConcurrentHashMap<>();
+	private static final Class<?>[] NO_HANDLERS = new Class<?>[0];
 
 	private final Context context;
-	private final Map<ComponentKey, Class<?>> registryMap;
 	private final Class<? extends Annotation> annotationClass;
+	private final Map<Class<?>, Object> instances = new ConcurrentHashMap<>();
+	private final Map<Class<?>, Object> sharedInstances;
+	private Map<ComponentKey, Class<?>> registryMap;
+	private Map<Program, Map<TemplateId, Class<?>[]>> dispatch;
+	private boolean registered;
 
 	/**
 	 * Registry constructor
@@ -55,29 +75,144 @@ public class Registry<R> {
 
 		this.context = context;
 		this.annotationClass = annotationClass;
-		this.registryMap = new HashMap<>(SHARED_REGISTRY_MAP.computeIfAbsent(annotationClass, this::lookupAnnotatedClasses));
+		this.sharedInstances = new ConcurrentHashMap<>();
+		this.registryMap = SHARED_REGISTRY_MAP.computeIfAbsent(annotationClass,
+				key -> Collections.unmodifiableMap(lookupAnnotatedClasses(key)));
+		this.dispatch = SHARED_DISPATCH.computeIfAbsent(annotationClass, key -> buildDispatch(registryMap));
 	}
 
 	/**
-	 * Searches the class path for types with the given annotation
+	 * Creates a registry that starts out with the handlers of another. Handlers registered later on either registry
+	 * are not seen by the other. Instances of handlers that are not constructed with a {@link Context} are shared
+	 * with the other, and with every registry created from it, while the rest are instantiated for this registry's
+	 * context.
+	 *
+	 * @param context The context to use for this registry. Must not be null.
+	 * @param prototype The registry whose handlers to start out with. Must not be null.
+	 */
+	public Registry(Context context, Registry<R> prototype) {
+		Objects.requireNonNull(context, "context");
+		Objects.requireNonNull(prototype, "prototype");
+
+		this.context = context;
+		this.annotationClass = prototype.annotationClass;
+		this.sharedInstances = prototype.sharedInstances;
+		this.registryMap = prototype.registered
+				? Collections.unmodifiableMap(new HashMap<>(prototype.registryMap)) : prototype.registryMap;
+		this.dispatch = prototype.dispatch;
+	}
+
+	/**
+	 * Resolves, for every {@link Program} and {@link TemplateId}, the handler classes that apply, so that lookups
+	 * need neither keys nor collections. Handlers are ordered from general to program specific.
+	 *
+	 * @param registryMap the registered handler classes
+	 * @return an immutable table of handler classes by program and template
+	 */
+	private static Map<Program, Map<TemplateId, Class<?>[]>> buildDispatch(Map<ComponentKey, Class<?>> registryMap) {
+		Map<Program, Map<TemplateId, Class<?>[]>> dispatch = new EnumMap<>(Program.class);
+		for (Program program : Program.values()) {
+			Map<TemplateId, Class<?>[]> byTemplate = new EnumMap<>(TemplateId.class);
+			for (TemplateId templateId : TemplateId.values()) {
+				Class<?> general = registryMap.get(new ComponentKey(templateId, Program.ALL));
+				Class<?> specific = program == Program.ALL ? null : registryMap.get(new ComponentKey(templateId, program));
+				Class<?>[] handlers = Stream.of(general, specific)
+						.filter(Objects::nonNull)
+						.distinct()
+						.toArray(Class<?>[]::new);
+				if (handlers.length > 0) {
+					byTemplate.put(templateId, handlers);
+				}
+			}
+			dispatch.put(program, Collections.unmodifiableMap(byTemplate));
+		}
+		return Collections.unmodifiableMap(dispatch);
+	}
+
+	/**
+	 * Finds the types with the given annotation, from the index written when the handlers were compiled. The class
+	 * path is scanned as well when {@link #SCAN_CLASSPATH} is present, or when no index can be found.
 	 *
 	 * @param annotationClass The annotation for which to search
 	 * @return A map of classes with the given annotation
 	 */
 	private Map<ComponentKey, Class<?>> lookupAnnotatedClasses(Class<? extends Annotation> annotationClass) {
-		Reflections reflections = new Reflections("gov.cms");
-		Set<Class<?>> annotatedClasses = reflections.getTypesAnnotatedWith(annotationClass);
-		Map<ComponentKey, Class<?>> registry = new HashMap<>(annotatedClasses.size());
+		ClassLoader classLoader = Registry.class.getClassLoader();
+		Map<ComponentKey, Class<?>> registry = readIndex(classLoader, annotationClass);
 
-		for (Class<?> annotatedClass : annotatedClasses) {
-			for (ComponentKey key : getComponentKeys(annotatedClass)) {
-				registry.put(key, annotatedClass);
+		if (registry == null || EnvironmentHelper.isPresent(SCAN_CLASSPATH)) {
+			if (registry == null) {
+				DEV_LOG.warn("No handler index found for {}, scanning the class path", annotationClass.getName());
+				registry = new HashMap<>();
+			}
+			for (Class<?> annotatedClass : scanClasspath(annotationClass)) {
+				for (ComponentKey key : getComponentKeys(annotatedClass)) {
+					registry.putIfAbsent(key, annotatedClass);
+				}
 			}
 		}
 
 		return registry;
 	}
 
+	/**
+	 * Reads every handler index for the given annotation that is on the class path
+	 *
+	 * @param classLoader The class loader with which to find the indexes and load the annotated classes
+	 * @param annotationClass The annotation whose index to read
+	 * @return A map of the indexed classes, or null if there is no index
+	 */
+	static Map<ComponentKey, Class<?>> readIndex(ClassLoader classLoader, Class<? extends Annotation> annotationClass) {
+		Enumeration<URL> indexes;
+		try {
+			indexes = classLoader.getResources(INDEX_DIRECTORY + annotationClass.getName());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		if (!indexes.hasMoreElements()) {
+			return null;
+		}
+
+		Map<ComponentKey, Class<?>> registry = new HashMap<>();
+		while (indexes.hasMoreElements()) {
+			URL index = indexes.nextElement();
+			try (BufferedReader reader = new BufferedReader(
+					new InputStreamReader(index.openStream(), StandardCharsets.UTF_8))) {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					readIndexEntry(classLoader, line, registry);
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+		return registry;
+	}
+
+	private static void readIndexEntry(ClassLoader classLoader, String line, Map<ComponentKey, Class<?>> registry) {
+		String[] entry = line.trim().split("\\s+");
+		if (entry.length != 3) {
+			return;
+		}
+
+		try {
+			Class<?> annotatedClass = Class.forName(entry[0], false, classLoader);
+			registry.put(new ComponentKey(TemplateId.valueOf(entry[1]), Program.valueOf(entry[2])), annotatedClass);
+		} catch (ClassNotFoundException | IllegalArgumentException e) {
+			DEV_LOG.warn("Ignoring stale handler index entry " + line, e);
+		}
+	}
+
+	/**
+	 * Searches the class path for types with the given annotation
+	 *
+	 * @param annotationClass The annotation for which to search
+	 * @return The classes with the given annotation
+	 */
+	private static Set<Class<?>> scanClasspath(Class<? extends Annotation> annotationClass) {
+		return new Reflections("gov.cms").getTypesAnnotatedWith(annotationClass);
+	}
+
 	Set<ComponentKey> getComponentKeys(Class<?> annotatedClass) {
 		Annotation annotation = annotatedClass.getAnnotation(annotationClass);
 		Set<ComponentKey> values = new HashSet<>();
@@ -106,39 +241,72 @@ public class Registry<R> {
 	 * @return value corresponding to registry key
 	 */
 	public R get(TemplateId registryKey) {
-		return instantiateHandler(findHandler(registryKey));
+		Class<?>[] handlers = findHandlers(registryKey);
+		return handlers.length == 0 ? null : instantiateHandler(handlers[handlers.length - 1]);
 	}
 
 	/**
-	 * Instantiate a given handler class.
+	 * Provides this registry's instance of a given handler class, instantiating it on first use. Handlers are shared
+	 * by every node of the conversion, and those not constructed with a {@link Context} by every conversion, so they
+	 * must not keep per node state.
 	 *
 	 * @param handlerClass the class to instantiate
-	 * @return an instance of the given class
+	 * @return an instance of the given class, or null if it can not be instantiated
 	 */
-	private R instantiateHandler(Class<? extends R> handlerClass) {
-		if (handlerClass == null) {
-			return null;
+	@SuppressWarnings("unchecked") // only handler classes of type R are registered
+	private R instantiateHandler(Class<?> handlerClass) {
+		Object instance = instances.get(handlerClass);
+		if (instance == null) {
+			HandlerConstructor constructor = CONSTRUCTORS.get(handlerClass);
+			if (constructor == null) {
+				constructor = CONSTRUCTORS.computeIfAbsent(handlerClass, Registry::createHandler);
+			}
+			instance = constructor.contextual
+					? constructor.create.apply(context) : sharedInstance(handlerClass, constructor);
+			if (instance != null) {
+				Object existing = instances.putIfAbsent(handlerClass, instance);
+				instance = existing == null ? instance : existing;
+			}
 		}
+		return (R) instance;
+	}
 
-		return handlerClass.cast(CONSTRUCTORS.computeIfAbsent(handlerClass, this::createHandler).apply(context));
+	/**
+	 * Provides the instance of a handler class that is not constructed with a {@link Context}, which this registry
+	 * shares with the registries it was created from and those created from it.
+	 *
+	 * @param handlerClass the class to instantiate
+	 * @param constructor creates instances of the class
+	 * @return the shared instance, or null if it can not be instantiated
+	 */
+	private Object sharedInstance(Class<?> handlerClass, HandlerConstructor constructor) {
+		Object instance = sharedInstances.get(handlerClass);
+		if (instance == null) {
+			instance = constructor.create.apply(context);
+			if (instance != null) {
+				Object existing = sharedInstances.putIfAbsent(handlerClass, instance);
+				instance = existing == null ? instance : existing;
+			}
+		}
+		return instance;
 	}
 
 	/**
-	 * Creates a function that will return new instances of the handlerClass
+	 * Creates a constructor that will return new instances of the handlerClass
 	 *
 	 * @param handlerClass The class of which to create new instances
-	 * @return A function that returns instances of the handlerClass when supplied with a context
+	 * @return A constructor that returns instances of the handlerClass when supplied with a context
 	 */
-	private Function<Context, Object> createHandler(Class<?> handlerClass) {
+	private static HandlerConstructor createHandler(Class<?> handlerClass) {
 		try {
 			return createHandlerConstructor(handlerClass);
 		} catch (ConstructorNotFoundException e) {
 			DEV_LOG.warn("Unable to create constructor handle for class " + handlerClass.getName(), e);
-			return ignore -> null;
+			return new HandlerConstructor(ignore -> null, true);
 		}
 	}
 
-	private static <T> Function<Context, Object> createHandlerConstructor(Class<T> handlerClass) {
+	private static <T> HandlerConstructor createHandlerConstructor(Class<T> handlerClass) {
 		Constructor<T> constructor;
 		try {
 			try {
@@ -146,13 +314,13 @@ public class Registry<R> {
 				MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor)
 						.asType(MethodType.methodType(Object.class, Context.class));
 
-				return constructorContextArgument(handle);
+				return new HandlerConstructor(constructorContextArgument(handle), true);
 			} catch (NoSuchMethodException thatsOk) {
 				constructor = getNoArgsConstructor(handlerClass);
 				MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor)
 						.asType(MethodType.methodType(Object.class));
 
-				return constructorNoArgs(handle);
+				return new HandlerConstructor(constructorNoArgs(handle), false);
 			}
 		} catch (IllegalAccessException e) {
 			throw new ConstructorNotFoundException("Constructor must be accessible via reflection or " + handlerClass.getName(), e);
@@ -211,68 +379,36 @@ public class Registry<R> {
 	}
 
 	/**
-	 * Retrieve handlers that apply generally and specifically to the given template. The
+	 * Retrieve handlers that apply generally and specifically to the given template. The general handler comes first.
 	 *
 	 * @param registryKey the template for which handlers will be searched
 	 * @return all applicable handlers
 	 */
 	public Set<R> inclusiveGet(TemplateId registryKey) {
-		return findHandlers(getKeys(registryKey, true)).stream()
-				.map(this::instantiateHandler)
-				.collect(Collectors.toCollection(LinkedHashSet<R>::new));
-	}
-
-	/**
-	 * Get a template specific list that specifies the order in which handler classes will be searched.
-	 *
-	 * @param registryKey a template id
-	 * @param generalPriority specify the order of specificity i.e. general first or program specific first.
-	 * @return list of component keys
-	 */
-	private List<ComponentKey> getKeys(TemplateId registryKey, boolean generalPriority) {
-		Program contextProgram = context.getProgram();
-		if (contextProgram == Program.ALL) {
-			return Collections.singletonList(new ComponentKey(registryKey, contextProgram));
+		Class<?>[] handlers = findHandlers(registryKey);
+		if (handlers.length == 0) {
+			return Collections.emptySet();
+		}
+		if (handlers.length == 1) {
+			return Collections.singleton(instantiateHandler(handlers[0]));
 		}
 
-		List<ComponentKey> returnValue = Arrays.asList(
-				new ComponentKey(registryKey, contextProgram),
-				new ComponentKey(registryKey, Program.ALL));
-		if (generalPriority) {
-			Collections.reverse(returnValue);
+		Set<R> instances = new LinkedHashSet<>();
+		for (Class<?> handler : handlers) {
+			instances.add(instantiateHandler(handler));
 		}
-		return returnValue;
+		return Collections.unmodifiableSet(instances);
 	}
 
 	/**
-	 * Retrieve a handler for the given template id
+	 * Retrieve the handler classes for the given template id under the context's current program
 	 *
 	 * @param registryKey template id
-	 * @return handler i.e. {@link Validator}, {@link Decoder} or {@link Encoder}
+	 * @return handler classes, general before program specific
 	 */
-	private Class<? extends R> findHandler(TemplateId registryKey) {
-		return findHandlers(getKeys(registryKey, false))
-				.stream()
-				.findFirst()
-				.orElse(null);
-	}
-
-	/**
-	 * Find and return handler classes that correspond to the given component keys.
-	 *
-	 * @param keys a list of potential {@link Registry#registryMap} keys
-	 * @return ordered set of handler classes
-	 */
-	private Set<Class<? extends R>> findHandlers(List<ComponentKey> keys) {
-		Set<Class<? extends R>> handlers = new LinkedHashSet<>();
-		keys.forEach(key -> {
-			@SuppressWarnings("unchecked")
-			Class<? extends R> handler = (Class<? extends R>) registryMap.get(key);
-			if (handler != null) {
-				handlers.add(handler);
-			}
-		});
-		return handlers;
+	private Class<?>[] findHandlers(TemplateId registryKey) {
+		Class<?>[] handlers = dispatch.get(context.getProgram()).get(registryKey);
+		return handlers == null ? NO_HANDLERS : handlers;
 	}
 
 	/**
@@ -291,10 +427,28 @@ public class Registry<R> {
 						+ " and " + handler.getName());
 		}
 		
+		if (!registered) {
+			registryMap = new HashMap<>(registryMap);
+			registered = true;
+		}
 		registryMap.put(registryKey, handler);
+		dispatch = buildDispatch(registryMap);
 	}
 
 	public int size() {
 		return registryMap.size();
 	}
+
+	/**
+	 * Creates instances of a handler class, and tells whether they are constructed with a {@link Context}.
+	 */
+	private static final class HandlerConstructor {
+		private final Function<Context, Object> create;
+		private final boolean contextual;
+
+		private HandlerConstructor(Function<Context, Object> create, boolean contextual) {
+			this.create = create;
+			this.contextual = contextual;
+		}
+	}
 }
\ No newline at end of file
@@ -3,11 +3,9 @@ package gov.cms.qpp.conversion.model;
 import org.apache.commons.lang3.StringUtils;
 
 import gov.cms.qpp.conversion.Context;
-import gov.cms.qpp.conversion.util.EnvironmentHelper;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
 
 /**
  * An enumeration of known templates IDs.
@@ -56,8 +54,6 @@ public enum TemplateId {
 		NOVEMBER_2016("2016-11-01"),
 		MAY_2018("2018-05-01");
 
-		static final String STRICT_EXTENSION = "STRICT_EXTENSION";
-
 		private final String value;
 
 		Extension(String value) {
@@ -70,16 +66,17 @@ public enum TemplateId {
 		}
 	}
 
-	private static final Map<String, Map<String, TemplateId>> ROOT_AND_TO_TEMPLATE_ID = new HashMap<>();
+	private static final Map<String, RootTemplates> ROOT_TO_TEMPLATES = new HashMap<>();
 
 	static {
 		for (TemplateId templateId : TemplateId.values()) {
-			Map<String, TemplateId> extensionToTemplateId =
-					ROOT_AND_TO_TEMPLATE_ID.computeIfAbsent(templateId.root, ignore -> new HashMap<>());
+			RootTemplates templates = ROOT_TO_TEMPLATES.computeIfAbsent(templateId.root, ignore -> new RootTemplates());
 
-			extensionToTemplateId.put(templateId.extension.toString(), templateId);
-			if (!templateId.alwaysStrict) {
-				extensionToTemplateId.putIfAbsent(null, templateId);
+			templates.byExtension.put(templateId.extension.toString(), templateId);
+			if (templateId.alwaysStrict) {
+				templates.alwaysStrict = true;
+			} else {
+				templates.byExtension.putIfAbsent(null, templateId);
 			}
 		}
 	}
@@ -157,23 +154,13 @@ public enum TemplateId {
 	 * {@code TemplateId.UNIMPLEMENTED}.
 	 */
 	public static TemplateId getTemplateId(final String root, final String extension, final Context context) {
-		TemplateId defaultTemplate = TemplateId.UNIMPLEMENTED;
-		Map<String, TemplateId> extensionsToTemplateId = ROOT_AND_TO_TEMPLATE_ID.get(root);
-		Function<Boolean, TemplateId> templateIdFunction = condition -> condition
-			? extensionsToTemplateId.getOrDefault(extension, defaultTemplate) :
-			extensionsToTemplateId.getOrDefault(null, defaultTemplate);
-		TemplateId retrieved = null;
-
-		if (extensionsToTemplateId == null) {
-			retrieved = defaultTemplate;
-		} else if (context.isHistorical()) {
-			retrieved = templateIdFunction.apply(CLINICAL_DOCUMENT.root.equals(root));
-		} else {
-			retrieved = templateIdFunction.apply(
-				CLINICAL_DOCUMENT.root.equals(root) || EnvironmentHelper.isPresent(Extension.STRICT_EXTENSION));
+		RootTemplates templates = ROOT_TO_TEMPLATES.get(root);
+		if (templates == null) {
+			return TemplateId.UNIMPLEMENTED;
 		}
 
-		return retrieved;
+		boolean strict = templates.alwaysStrict || (!context.isHistorical() && context.isStrictExtension());
+		return templates.byExtension.getOrDefault(strict ? extension : null, TemplateId.UNIMPLEMENTED);
 	}
 
 	/**
@@ -192,4 +179,13 @@ public enum TemplateId {
 		}
 		return templateId;
 	}
+
+	/**
+	 * The templates that share a root, keyed by extension. The null key holds the template matched regardless of
+	 * extension, when extensions are not strictly enforced.
+	 */
+	private static final class RootTemplates {
+		private final Map<String, TemplateId> byExtension = new HashMap<>();
+		private boolean alwaysStrict;
+	}
 }
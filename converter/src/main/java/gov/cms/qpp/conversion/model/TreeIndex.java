@@ -0,0 +1,237 @@
+package gov.cms.qpp.conversion.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An index of the {@link Node}s of a tree by {@link TemplateId}, answering {@link Node#findNode(TemplateId)} and
+ * {@link Node#findFirstNode(TemplateId)} for any node of the tree without searching it.
+ *
+ * The nodes are numbered in pre-order, so the descendants of a node are numbered consecutively after it, and the
+ * nodes of each {@link TemplateId} are listed by number. The matches within a node's subtree are found by binary
+ * search, and are ordered by depth to give the same breadth first order as a search. The first match looks at the
+ * node and its children, which is where it is usually found, before searching and stops at the shallowest depth the
+ * {@link TemplateId} can have below the node, so it seldom looks past the first match.
+ *
+ * Every indexed node refers to the index directly, along with its number, and the index is marked as discarded when
+ * its tree changes. An index is built while holding the lock of the tree's root. A lookup first checks that the index
+ * holds the node at that number, as the nodes of a deep cloned tree keep the numbers, and the index, of the tree they
+ * were cloned from.
+ */
+final class TreeIndex {
+
+	/**
+	 * Marks a tree that cannot be indexed, because one of its nodes is the child of more than one node or has no type.
+	 */
+	static final TreeIndex UNINDEXABLE = new TreeIndex(new Node[0], new int[0], new int[0],
+			new EnumMap<>(TemplateId.class), new int[0]);
+
+	private static final int[] NO_POSITIONS = new int[0];
+
+	private final Node[] nodes;
+	private final int[] depths;
+	private final int[] ends;
+	private final Map<TemplateId, int[]> positions;
+	private final int[] minimumDepths;
+	private volatile boolean current = true;
+
+	private TreeIndex(Node[] nodes, int[] depths, int[] ends, Map<TemplateId, int[]> positions, int[] minimumDepths) {
+		this.nodes = nodes;
+		this.depths = depths;
+		this.ends = ends;
+		this.positions = positions;
+		this.minimumDepths = minimumDepths;
+	}
+
+	/**
+	 * Indexes the tree below the given root.
+	 *
+	 * @param root the root of the tree
+	 * @return the index, or {@link #UNINDEXABLE}
+	 */
+	static TreeIndex build(Node root) {
+		Builder builder = new Builder();
+		if (!builder.add(root, 0)) {
+			return UNINDEXABLE;
+		}
+		TreeIndex index = builder.build();
+		for (int order = 0; order < index.nodes.length; order++) {
+			index.nodes[order].setIndexPosition(index, order);
+		}
+		return index;
+	}
+
+	/**
+	 * Whether the given node has the given number in this index. This is never so for {@link #UNINDEXABLE}, or for
+	 * the copies of it made when a tree is deep cloned.
+	 *
+	 * @param node a node of the tree
+	 * @param order the number the node was given
+	 * @return false if the tree must be searched
+	 */
+	@SuppressWarnings("ReferenceEquality") // a node's copies are equal to it but are not in the index
+	boolean contains(Node node, int order) {
+		return order < nodes.length && nodes[order] == node;
+	}
+
+	/**
+	 * Whether the tree is unchanged since it was indexed.
+	 *
+	 * @return true if the index may be used
+	 */
+	boolean isCurrent() {
+		return current;
+	}
+
+	/**
+	 * Marks the index as out of date, after its tree has changed.
+	 */
+	void discard() {
+		if (nodes.length > 0) {
+			current = false;
+		}
+	}
+
+	/**
+	 * Finds the nodes of a type within the subtree of the node with the given number.
+	 *
+	 * @param order the number of a node this index {@link #contains(Node, int)}
+	 * @param type the type to find
+	 * @return a new list of the matching nodes, breadth first
+	 */
+	List<Node> find(int order, TemplateId type) {
+		if (ends[order] == order + 1) {
+			List<Node> matches = new ArrayList<>();
+			if (nodes[order].getType() == type) {
+				matches.add(nodes[order]);
+			}
+			return matches;
+		}
+		int[] typed = positions.getOrDefault(type, NO_POSITIONS);
+		int from = lowerBound(typed, order);
+		int to = lowerBound(typed, ends[order]);
+		if (from == to) {
+			return new ArrayList<>();
+		}
+
+		int[] found = Arrays.copyOfRange(typed, from, to);
+		sortByDepth(found);
+		List<Node> matches = new ArrayList<>(found.length);
+		for (int position : found) {
+			matches.add(nodes[position]);
+		}
+		return matches;
+	}
+
+	/**
+	 * Finds the first node of a type, breadth first, within the subtree of the node with the given number.
+	 *
+	 * @param order the number of a node this index {@link #contains(Node, int)}
+	 * @param type the type to find
+	 * @return the matching node, or null
+	 */
+	Node findFirst(int order, TemplateId type) {
+		Node node = nodes[order];
+		if (node.getType() == type) {
+			return node;
+		}
+		int[] typed = positions.get(type);
+		if (typed == null || ends[order] == order + 1) {
+			return null;
+		}
+		List<Node> children = node.getChildNodes();
+		for (int index = 0; index < children.size(); index++) {
+			if (children.get(index).getType() == type) {
+				return children.get(index);
+			}
+		}
+
+		int from = lowerBound(typed, order);
+		int to = lowerBound(typed, ends[order]);
+		int shallowest = Math.max(depths[order] + 2, minimumDepths[type.ordinal()]);
+		int first = -1;
+		for (int index = from; index < to; index++) {
+			int position = typed[index];
+			if (depths[position] <= shallowest) {
+				return nodes[position];
+			}
+			if (first < 0 || depths[position] < depths[first]) {
+				first = position;
+			}
+		}
+		return first < 0 ? null : nodes[first];
+	}
+
+	/**
+	 * Stable insertion sort of positions by depth, which leaves the usual already sorted matches untouched.
+	 */
+	private void sortByDepth(int[] found) {
+		for (int index = 1; index < found.length; index++) {
+			int position = found[index];
+			int insert = index;
+			while (insert > 0 && depths[found[insert - 1]] > depths[position]) {
+				found[insert] = found[insert - 1];
+				insert--;
+			}
+			found[insert] = position;
+		}
+	}
+
+	private static int lowerBound(int[] sorted, int key) {
+		int index = Arrays.binarySearch(sorted, key);
+		return index < 0 ? -index - 1 : index;
+	}
+
+	/**
+	 * Numbers the nodes of a tree and gathers them by type.
+	 */
+	private static final class Builder {
+		private final List<Node> nodes = new ArrayList<>();
+		private int[] depths = new int[16];
+		private int[] ends = new int[16];
+		private final int[] typeCounts = new int[TemplateId.values().length];
+
+		private boolean add(Node node, int depth) {
+			if (node.getType() == null) {
+				return false;
+			}
+			int order = nodes.size();
+			nodes.add(node);
+			if (order == depths.length) {
+				depths = Arrays.copyOf(depths, order * 2);
+				ends = Arrays.copyOf(ends, order * 2);
+			}
+			depths[order] = depth;
+			typeCounts[node.getType().ordinal()]++;
+
+			for (Node child : node.getChildNodes()) {
+				if (!child.isOwnedBy(node) || !add(child, depth + 1)) {
+					return false;
+				}
+			}
+			ends[order] = nodes.size();
+			return true;
+		}
+
+		private TreeIndex build() {
+			TemplateId[] types = TemplateId.values();
+			Map<TemplateId, int[]> positions = new EnumMap<>(TemplateId.class);
+			int[] filled = new int[types.length];
+			int[] minimumDepths = new int[types.length];
+			for (int order = 0; order < nodes.size(); order++) {
+				int type = nodes.get(order).getType().ordinal();
+				int[] typed = positions.computeIfAbsent(types[type], ignore -> new int[typeCounts[type]]);
+				if (filled[type] == 0 || depths[order] < minimumDepths[type]) {
+					minimumDepths[type] = depths[order];
+				}
+				typed[filled[type]++] = order;
+			}
+			return new TreeIndex(nodes.toArray(new Node[0]), Arrays.copyOf(depths, nodes.size()),
+					Arrays.copyOf(ends, nodes.size()), Collections.unmodifiableMap(positions), minimumDepths);
+		}
+	}
+}
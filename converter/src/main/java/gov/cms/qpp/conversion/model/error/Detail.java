@@ -3,14 +3,12 @@ package gov.cms.qpp.conversion.model.error;
 import java.io.Serializable;
 import java.util.Objects;
 
-import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.google.common.base.MoreObjects;
 
 import gov.cms.qpp.conversion.model.Node;
-import gov.cms.qpp.conversion.util.MeasureConfigHelper;
 
 /**
  * Holds the error information from {@link Validator}s.
@@ -46,7 +44,8 @@ public class Detail implements Serializable {
 	}
 
 	/**
-	 * Creates a mutable {@link Detail} based on the given {@link LocalizedProblem} and {@link Node}
+	 * Creates a mutable {@link Detail} based on the given {@link LocalizedProblem} and {@link Node}. The path and
+	 * human readable location of the node are worked out when they are first read.
 	 *
 	 * @param problem error to be added
 	 * @param node node that gives the error context
@@ -56,17 +55,7 @@ public class Detail implements Serializable {
 		Detail detail = forProblemCode(problem);
 
 		if (node != null) {
-			Location location = detail.getLocation();
-			if (node.getLine() != Node.DEFAULT_LOCATION_NUMBER) {
-				location.setLine(node.getLine());
-			}
-
-			if (node.getColumn() != Node.DEFAULT_LOCATION_NUMBER) {
-				location.setColumn(node.getColumn());
-			}
-
-			location.setPath(node.getOrComputePath());
-			location.setLocation(computeLocation(node));
+			detail.getLocation().locate(node);
 		}
 
 		return detail;
@@ -87,32 +76,6 @@ public class Detail implements Serializable {
 		return detail;
 	}
 
-	private static String computeLocation(Node node) {
-		StringBuilder location = new StringBuilder();
-
-		Node importantParentNode = node.findParentNodeWithHumanReadableTemplateId();
-
-		if (importantParentNode != null) {
-			String importantParentTitle = importantParentNode.getType().getHumanReadableTitle();
-			String possibleMeasureId = importantParentNode.getValue("measureId");
-
-			location.append(importantParentTitle);
-
-			if (!StringUtils.isEmpty(possibleMeasureId)) {
-				location.append(" ");
-				location.append(possibleMeasureId);
-				String possibleElectronicMeasureId = MeasureConfigHelper.getMeasureConfigIdByUuidOrDefault(possibleMeasureId);
-				if (!StringUtils.isEmpty(possibleElectronicMeasureId)) {
-					location.append(" (");
-					location.append(possibleElectronicMeasureId);
-					location.append(")");
-				}
-			}
-		}
-
-		return location.toString();
-	}
-
 	/**
 	 * The code for the error
 	 *
@@ -1,14 +1,26 @@
 package gov.cms.qpp.conversion.model.error;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.Objects;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 
 import com.google.common.base.MoreObjects;
 
+import gov.cms.qpp.conversion.model.ElementPath;
+import gov.cms.qpp.conversion.model.Node;
+import gov.cms.qpp.conversion.model.TemplateId;
+import gov.cms.qpp.conversion.util.MeasureConfigHelper;
+
 /**
  * Location data holder object
+ *
+ * The path and human readable location of a {@link Node} are only worked out when first read, since many details are
+ * never shown, or only counted. Until then the location keeps just what it needs to work them out, not the node, so
+ * that it does not hold on to the decoded tree.
  */
 public class Location implements Serializable {
 
@@ -18,6 +30,7 @@ public class Location implements Serializable {
 	private String path = "";
 	private Integer line;
 	private Integer column;
+	private transient volatile Pending pending;
 
 	/**
 	 * Default constructor to support ORM and the copy constructor
@@ -32,11 +45,65 @@ public class Location implements Serializable {
 	 */
 	public Location(Location copy) {
 		if (copy != null) {
+			Pending copyPending = copy.pending;
 			location = copy.location;
 			path = copy.path;
 			line = copy.line;
 			column = copy.column;
+			pending = copyPending;
+		}
+	}
+
+	/**
+	 * Locates the given node, leaving its path and human readable location to be worked out when first read.
+	 *
+	 * @param node The node to locate
+	 */
+	void locate(Node node) {
+		if (node.getLine() != Node.DEFAULT_LOCATION_NUMBER) {
+			line = node.getLine();
+		}
+		if (node.getColumn() != Node.DEFAULT_LOCATION_NUMBER) {
+			column = node.getColumn();
 		}
+		Node titled = node.findParentNodeWithHumanReadableTemplateId();
+		pending = titled == null
+				? new Pending(node.getElementPath(), null, null)
+				: new Pending(node.getElementPath(), titled.getType(), titled.getValue("measureId"));
+	}
+
+	/**
+	 * Works out the path and human readable location of the located node, if they have not been already. The
+	 * pending values are cleared after the results are set, so a reader that sees them cleared also sees the results.
+	 */
+	private void resolve() {
+		Pending current = pending;
+		if (current != null) {
+			path = current.elementPath == null ? null : current.elementPath.getAbsolutePath();
+			location = computeLocation(current.title, current.measureId);
+			pending = null;
+		}
+	}
+
+	private static String computeLocation(TemplateId title, String possibleMeasureId) {
+		StringBuilder location = new StringBuilder();
+
+		if (title != null) {
+			location.append(title.getHumanReadableTitle());
+
+			if (!StringUtils.isEmpty(possibleMeasureId)) {
+				location.append(" ");
+				location.append(possibleMeasureId);
+				String possibleElectronicMeasureId = MeasureConfigHelper.getMeasureConfigIdByUuidOrDefault(possibleMeasureId);
+				if (!StringUtils.isEmpty(possibleElectronicMeasureId)) {
+					location.append(" (");
+					location.append(possibleElectronicMeasureId);
+					location.append(")");
+				}
+			}
+		}
+
+		return location.toString();
 	}
 
 	/**
@@ -45,6 +112,7 @@ public class Location implements Serializable {
 	 * @return The path that this error references.
 	 */
 	public String getPath() {
+		resolve();
 		return path;
 	}
 
@@ -54,6 +122,7 @@ public class Location implements Serializable {
 	 * @param path The path that this error references.
 	 */
 	public void setPath(String path) {
+		resolve();
 		this.path = path;
 	}
 
@@ -99,6 +168,7 @@ public class Location implements Serializable {
 	 * @return The location.
 	 */
 	public String getLocation() {
+		resolve();
 		return location;
 	}
 
@@ -108,11 +178,18 @@ public class Location implements Serializable {
 	 * @param location The location.
 	 */
 	public void setLocation(String location) {
+		resolve();
 		this.location = location;
 	}
 
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		resolve();
+		out.defaultWriteObject();
+	}
+
 	@Override
 	public String toString() {
+		resolve();
 		return MoreObjects.toStringHelper(this)
 				.add("location", location)
 				.add("path", path)
@@ -132,6 +209,8 @@ public class Location implements Serializable {
 		}
 
 		Location that = (Location) o;
+		resolve();
+		that.resolve();
 		return new EqualsBuilder()
 				.append(location, that.location)
 				.append(path, that.path)
@@ -142,7 +221,23 @@ public class Location implements Serializable {
 
 	@Override
 	public int hashCode() {
+		resolve();
 		return Objects.hash(location, path, line, column);
 	}
 
+	/**
+	 * The element path of the node to locate, and the template and measure id of its closest ancestor with a human
+	 * readable title, found when the location was made.
+	 */
+	private static final class Pending {
+		private final ElementPath elementPath;
+		private final TemplateId title;
+		private final String measureId;
+
+		private Pending(ElementPath elementPath, TemplateId title, String measureId) {
+			this.elementPath = elementPath;
+			this.title = title;
+			this.measureId = measureId;
+		}
+	}
 }
@@ -1,6 +1,8 @@
 package gov.cms.qpp.conversion.model.error;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * This is a dual collection wrapper that will contain
@@ -19,15 +21,31 @@ public class ValidationResult {
 
 	private final List<Detail> errors;
 	private final List<Detail> warnings;
+	private final int errorCount;
+	private final Map<Integer, Integer> suppressedErrorCounts;
 
 	/**
-	 * The all attributes constructor. 
+	 * The all details constructor.
 	 * @param errors the errors for the node.
 	 * @param warnings the warnings for the node.
 	 */
 	public ValidationResult(List<Detail> errors, List<Detail> warnings) {
+		this(errors, warnings, errors.size(), Collections.emptyMap());
+	}
+
+	/**
+	 * The all attributes constructor, for a result whose errors were cut short.
+	 * @param errors the errors reported.
+	 * @param warnings the warnings for the node.
+	 * @param errorCount the number of errors found, reported or not.
+	 * @param suppressedErrorCounts the number of errors not reported, by error code.
+	 */
+	public ValidationResult(List<Detail> errors, List<Detail> warnings, int errorCount,
+			Map<Integer, Integer> suppressedErrorCounts) {
 		this.errors = errors;
 		this.warnings = warnings;
+		this.errorCount = errorCount;
+		this.suppressedErrorCounts = suppressedErrorCounts;
 	}
 
 	/**
@@ -46,4 +64,28 @@ public class ValidationResult {
 		return warnings;
 	}
 
+	/**
+	 * Get the number of errors found, including those not reported.
+	 * @return error count
+	 */
+	public int getErrorCount() {
+		return errorCount;
+	}
+
+	/**
+	 * Get the number of errors that were found but not reported, by error code, in the order the codes were first
+	 * found.
+	 * @return suppressed error counts
+	 */
+	public Map<Integer, Integer> getSuppressedErrorCounts() {
+		return suppressedErrorCounts;
+	}
+
+	/**
+	 * Whether some errors were found but not reported.
+	 * @return true if the errors were cut short
+	 */
+	public boolean isCutShort() {
+		return !suppressedErrorCounts.isEmpty();
+	}
 }
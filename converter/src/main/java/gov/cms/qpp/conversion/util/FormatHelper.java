@@ -6,6 +6,7 @@ import java.util.Locale;
 
 public class FormatHelper {
 	private static final String DATE_FORMAT = "yyyyMMdd";
+	private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(DATE_FORMAT);
 	
 	private FormatHelper(){}
 
@@ -21,7 +22,7 @@ public class FormatHelper {
 		if (parse.length() > DATE_FORMAT.length()) {
 			parse = parse.substring(0, DATE_FORMAT.length());
 		}
-		return LocalDate.parse(cleanString(parse), DateTimeFormatter.ofPattern(DATE_FORMAT));
+		return LocalDate.parse(cleanString(parse), DATE_FORMATTER);
 	}
 
 	/**
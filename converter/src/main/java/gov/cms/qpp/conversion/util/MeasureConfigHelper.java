@@ -5,12 +5,10 @@ import gov.cms.qpp.conversion.model.Node;
 import gov.cms.qpp.conversion.model.TemplateId;
 import gov.cms.qpp.conversion.model.validation.MeasureConfig;
 import gov.cms.qpp.conversion.model.validation.MeasureConfigs;
-import gov.cms.qpp.conversion.model.validation.SubPopulation;
+import gov.cms.qpp.conversion.model.validation.ValidationPlan;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -20,7 +18,7 @@ public class MeasureConfigHelper {
 
 	public static final String MEASURE_ID = "measureId";
 	public static final String NO_MEASURE = "No given measure id";
-	public static final String SINGLE_TO_MULTIPLE_SUP_POPULATION = "CMS159v7";
+	public static final String SINGLE_TO_MULTIPLE_SUP_POPULATION = ValidationPlan.SINGLE_TO_MULTIPLE_SUB_POPULATION;
 
 	private MeasureConfigHelper() {
 		// private for this helper class
@@ -51,6 +49,21 @@ public class MeasureConfigHelper {
 		return null;
 	}
 
+	/**
+	 * Convenience method to retrieve the validation plan of the measure configuration for an ecqm node
+	 *
+	 * @param node Contains the id that associates with the measure config
+	 * @return the plan, or null if no measure configuration exists
+	 */
+	public static ValidationPlan getValidationPlan(Node node) {
+		String measureId = node.getValue(MEASURE_ID);
+		if (measureId == null) {
+			return null;
+		}
+
+		return MeasureConfigs.getValidationPlanMap().get(measureId.toLowerCase(Locale.US));
+	}
+
 	private static MeasureConfig findMeasureConfigByUuid(String uuid) {
 		if (uuid == null) {
 			return null;
@@ -74,22 +87,15 @@ public class MeasureConfigHelper {
 	 * Creates a grouping of sub populations extracted from the measure configurations
 	 *
 	 * @param node object that holds the nodes to be grouped
-	 * @param measureConfig object that holds the groupings
+	 * @param plan validation plan of the measure configuration that holds the groupings
 	 * @return List of decoded Nodes
 	 */
-	public static List<Node> createSubPopulationGrouping(Node node, MeasureConfig measureConfig) {
-		List<SubPopulation> measureConfigSubPopulations = measureConfig.getSubPopulation();
-		if (SINGLE_TO_MULTIPLE_SUP_POPULATION.equalsIgnoreCase(measureConfig.getElectronicMeasureId())) {
-			measureConfigSubPopulations = setUpSingleToMultiSubPops(measureConfigSubPopulations);
-		}
-		int subPopCount = measureConfigSubPopulations.size();
-		List<Node> subPopNodes = initializeMeasureDataList(subPopCount);
-		Map<String, Integer> mapPopulationIdToSubPopIndex = createSubPopulationIndexMap(measureConfigSubPopulations);
-		node.getChildNodes().stream()
-			.filter(childNode -> TemplateId.MEASURE_DATA_CMS_V2 == childNode.getType())
+	public static List<Node> createSubPopulationGrouping(Node node, ValidationPlan plan) {
+		List<Node> subPopNodes = initializeMeasureDataList(plan.getSubPopulations().size());
+		node.getChildNodes(TemplateId.MEASURE_DATA_CMS_V2)
 			.forEach(childNode -> {
 				String populationId = childNode.getValue(MeasureDataDecoder.MEASURE_POPULATION);
-				Integer subPopIndex = mapPopulationIdToSubPopIndex.get(populationId.toUpperCase(Locale.ENGLISH));
+				Integer subPopIndex = plan.getSubPopulationIndex(populationId.toUpperCase(Locale.ENGLISH));
 				if (subPopIndex != null) {
 					Node newParentNode = subPopNodes.get(subPopIndex);
 					newParentNode.addChildNode(childNode);
@@ -98,13 +104,6 @@ public class MeasureConfigHelper {
 		return subPopNodes;
 	}
 
-	private static List<SubPopulation> setUpSingleToMultiSubPops(List<SubPopulation> measureConfigSubPopulations) {
-		return measureConfigSubPopulations
-			.stream()
-			.filter(Objects::nonNull)
-			.collect(Collectors.toList());
-	}
-
 	/**
 	 * Initializes a list of Measure Section nodes from how many sub populations are being converted
 	 *
@@ -113,33 +112,10 @@ public class MeasureConfigHelper {
 	 */
 	private static List<Node> initializeMeasureDataList(int subPopulationCount) {
 		return IntStream.range(0, subPopulationCount)
-			.mapToObj(ignore -> new Node(TemplateId.MEASURE_REFERENCE_RESULTS_CMS_V2))
+			.mapToObj(ignore -> Node.grouping(TemplateId.MEASURE_REFERENCE_RESULTS_CMS_V2))
 			.collect(Collectors.toList());
 	}
 
-
-	/**
-	 * Creates a map of child uuids to indexes for sub population grouping
-	 *
-	 * @param subPopulations list of Subpopulations to index
-	 * @return Map of Population UUID keys and index values
-	 */
-	private static Map<String, Integer> createSubPopulationIndexMap(List<SubPopulation> subPopulations) {
-		Map<String, Integer> supPopMap = new HashMap<>();
-		int index = 0;
-		for (SubPopulation subPopulation : subPopulations) {
-			if (null !=subPopulation.getNumeratorUuid()) {
-				supPopMap.put(subPopulation.getDenominatorUuid(), index);
-				supPopMap.put(subPopulation.getDenominatorExceptionsUuid(), index);
-				supPopMap.put(subPopulation.getDenominatorExclusionsUuid(), index);
-				supPopMap.put(subPopulation.getNumeratorUuid(), index);
-				supPopMap.put(subPopulation.getInitialPopulationUuid(), index);
-				index++;
-			}
-		}
-		return supPopMap;
-	}
-
 	/**
 	 * Find the best available measure id value within the given {@link MeasureConfig}
 	 *
@@ -0,0 +1,153 @@
+package gov.cms.qpp.conversion.validate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+import gov.cms.qpp.conversion.model.Node;
+import gov.cms.qpp.conversion.util.DuplicationCheckHelper;
+import gov.cms.qpp.conversion.util.FormatHelper;
+
+/**
+ * The values of a node as read by the {@link Checker}s that validate it. Each value is read from the node, and parsed
+ * as a number or date, at most once however many checks of however many validators look at it. A failed parse is kept
+ * too, and thrown again to each check that asks for it.
+ *
+ * An appraisal is made for the validation of one node, during which the node's values must not change. It is not
+ * safe for use by several threads.
+ */
+final class Appraisal {
+	private final Node node;
+	private final Map<String, Reading> readings = new HashMap<>();
+
+	Appraisal(Node node) {
+		this.node = node;
+	}
+
+	/**
+	 * Whether this is an appraisal of the given node
+	 *
+	 * @param other node to compare with
+	 * @return true if this appraisal reads from the given node
+	 */
+	@SuppressWarnings("ReferenceEquality") // an appraisal is of one node instance, not of any node equal to it
+	boolean isOf(Node other) {
+		return node == other;
+	}
+
+	/**
+	 * The value of the appraised node with the given name key
+	 *
+	 * @param name key of the value
+	 * @return the value, or null if there is none
+	 */
+	String value(String name) {
+		return reading(name).value;
+	}
+
+	/**
+	 * The value of the appraised node with the given name key, as an integer
+	 *
+	 * @param name key of the value
+	 * @return the integer value
+	 * @throws NumberFormatException if the value is missing or not an integer
+	 */
+	Integer intValue(String name) {
+		Reading reading = reading(name);
+		if (reading.integer == null) {
+			try {
+				reading.integer = Integer.parseInt(reading.value);
+			} catch (NumberFormatException ex) {
+				reading.integer = ex;
+			}
+		}
+		return (Integer) valueOrThrow(reading.integer);
+	}
+
+	/**
+	 * The value of the appraised node with the given name key, as a decimal
+	 *
+	 * @param name key of the value
+	 * @return the decimal value
+	 * @throws RuntimeException if the value is missing or not a decimal
+	 */
+	Float floatValue(String name) {
+		Reading reading = reading(name);
+		if (reading.decimal == null) {
+			try {
+				reading.decimal = Float.parseFloat(reading.value);
+			} catch (RuntimeException ex) {
+				reading.decimal = ex;
+			}
+		}
+		return (Float) valueOrThrow(reading.decimal);
+	}
+
+	/**
+	 * The value of the appraised node with the given name key, as a date
+	 *
+	 * @param name key of the value
+	 * @return the date value
+	 * @throws DateTimeParseException if the value is not a date
+	 * @see FormatHelper#formattedDateParse(String)
+	 */
+	LocalDate dateValue(String name) {
+		Reading reading = reading(name);
+		if (reading.date == null) {
+			try {
+				reading.date = FormatHelper.formattedDateParse(reading.value);
+			} catch (DateTimeParseException ex) {
+				reading.date = ex;
+			}
+		}
+		return (LocalDate) valueOrThrow(reading.date);
+	}
+
+	/**
+	 * The number of values of the appraised node with the given name key, if it has more than one
+	 *
+	 * @param name key of the values
+	 * @return the number of values, or 0 if there are no duplicates
+	 * @see DuplicationCheckHelper#calculateDuplications(Node, String)
+	 */
+	int duplications(String name) {
+		Reading reading = reading(name);
+		if (reading.duplications < 0) {
+			reading.duplications = DuplicationCheckHelper.calculateDuplications(node, name);
+		}
+		return reading.duplications;
+	}
+
+	private Reading reading(String name) {
+		Reading reading = readings.get(name);
+		if (reading == null) {
+			reading = new Reading(node.getValue(name));
+			readings.put(name, reading);
+		}
+		return reading;
+	}
+
+	private static Object valueOrThrow(Object parsed) {
+		if (parsed instanceof RuntimeException) {
+			throw (RuntimeException) parsed;
+		}
+		return parsed;
+	}
+
+	/**
+	 * A value and what it has been parsed into so far. Each parse holds either the parsed value or the exception that
+	 * parsing threw.
+	 */
+	private static final class Reading {
+		private final String value;
+		private Object integer;
+		private Object decimal;
+		private Object date;
+		private int duplications = -1;
+
+		private Reading(String value) {
+			this.value = value;
+		}
+	}
+}
@@ -8,44 +8,36 @@ import gov.cms.qpp.conversion.model.Node;
 import gov.cms.qpp.conversion.model.TemplateId;
 import gov.cms.qpp.conversion.model.error.Detail;
 import gov.cms.qpp.conversion.model.error.LocalizedProblem;
-import gov.cms.qpp.conversion.util.DuplicationCheckHelper;
-import gov.cms.qpp.conversion.util.FormatHelper;
 import gov.cms.qpp.conversion.util.NumberHelper;
 
 import java.time.format.DateTimeParseException;
-import java.util.Arrays;
 import java.util.Collection;
-import java.util.EnumMap;
-import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.Set;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Node checker DSL to help abbreviate / simplify single node validations
+ *
+ * Checks read the node's values through an {@link Appraisal}, which may be shared with the other checkers of the same
+ * node, so that each value is read and parsed once. Which checks run, and which are shortcut, is the same either way.
  */
 class Checker {
 	private static final Logger DEV_LOG = LoggerFactory.getLogger(Checker.class);
 	private Node node;
 	private List<Detail> details;
 	private boolean force;
-	private Map<TemplateId, AtomicInteger> nodeCount;
+	private ErrorBudget budget;
+	private Appraisal appraisal;
 	private Comparable<?> lastAppraised;
 
-	private Checker(Node node, List<Detail> details, boolean force) {
+	private Checker(Node node, List<Detail> details, boolean force, ErrorBudget budget, Appraisal appraisal) {
 		this.node = node;
 		this.details = details;
 		this.force = force;
-		this.nodeCount = new EnumMap<>(TemplateId.class);
-		node.getChildNodes()
-			.stream()
-			.map(Node::getType)
-			.forEach(type -> this.nodeCount.computeIfAbsent(type, key -> new AtomicInteger()).incrementAndGet());
+		this.budget = budget;
+		this.appraisal = appraisal != null && appraisal.isOf(node) ? appraisal : new Appraisal(node);
 		this.node.setValidated(true);
 	}
 
@@ -57,7 +49,33 @@ class Checker {
 	 * @return The checker, for chaining method calls.
 	 */
 	static Checker check(Node node, List<Detail> details) {
-		return new Checker(node, details, false);
+		return check(node, details, null);
+	}
+
+	/**
+	 * static factory that returns a shortcut validator, which stops describing errors in full once the budget is spent
+	 *
+	 * @param node node to be validated
+	 * @param details holder for validation errors
+	 * @param budget the errors already reported, or null
+	 * @return The checker, for chaining method calls.
+	 */
+	static Checker check(Node node, List<Detail> details, ErrorBudget budget) {
+		return check(node, details, budget, null);
+	}
+
+	/**
+	 * static factory that returns a shortcut validator, which reads the node's values through the given appraisal
+	 * when it is one of the same node
+	 *
+	 * @param node node to be validated
+	 * @param details holder for validation errors
+	 * @param budget the errors already reported, or null
+	 * @param appraisal the values read so far, or null
+	 * @return The checker, for chaining method calls.
+	 */
+	static Checker check(Node node, List<Detail> details, ErrorBudget budget, Appraisal appraisal) {
+		return new Checker(node, details, false, budget, appraisal);
 	}
 
 	/**
@@ -68,7 +86,34 @@ class Checker {
 	 * @return The checker, for chaining method calls.
 	 */
 	static Checker forceCheck(Node node, List<Detail> details) {
-		return new Checker(node, details, true);
+		return forceCheck(node, details, null);
+	}
+
+	/**
+	 * static factory that returns a non-shortcut validator, which stops describing errors in full once the budget is
+	 * spent
+	 *
+	 * @param node node to be validated
+	 * @param details holder for validation errors
+	 * @param budget the errors already reported, or null
+	 * @return The checker, for chaining method calls.
+	 */
+	static Checker forceCheck(Node node, List<Detail> details, ErrorBudget budget) {
+		return forceCheck(node, details, budget, null);
+	}
+
+	/**
+	 * static factory that returns a non-shortcut validator, which reads the node's values through the given appraisal
+	 * when it is one of the same node
+	 *
+	 * @param node node to be validated
+	 * @param details holder for validation errors
+	 * @param budget the errors already reported, or null
+	 * @param appraisal the values read so far, or null
+	 * @return The checker, for chaining method calls.
+	 */
+	static Checker forceCheck(Node node, List<Detail> details, ErrorBudget budget, Appraisal appraisal) {
+		return new Checker(node, details, true, budget, appraisal);
 	}
 
 	/**
@@ -88,7 +133,7 @@ class Checker {
 	 * @return The checker, for chaining method calls.
 	 */
 	public Checker value(LocalizedProblem code, String name) {
-		lastAppraised = node.getValue(name);
+		lastAppraised = appraisal.value(name);
 		if (!shouldShortcut() && lastAppraised == null) {
 			details.add(detail(code));
 		}
@@ -103,7 +148,7 @@ class Checker {
 	 * @return The checker, for chaining method calls.
 	 */
 	Checker valueIsNotEmpty(LocalizedProblem code, String name) {
-		lastAppraised = node.getValue(name);
+		lastAppraised = appraisal.value(name);
 		if (!shouldShortcut() && StringUtils.isEmpty((String) lastAppraised)) {
 			details.add(detail(code));
 		}
@@ -111,18 +156,16 @@ class Checker {
 	}
 
 	Checker listValuesAreValid(LocalizedProblem code, String name, int size) {
-		lastAppraised = node.getValue(name);
+		lastAppraised = null;
 		if (!shouldShortcut()) {
-			List<String> values = Arrays.asList(((String)lastAppraised).split(","));
-			values.forEach(value -> {
-				String trimmedValue = value.trim();
-				if (size != trimmedValue.length()) {
+			for (String value : node.getValues(name)) {
+				if (size != value.length()) {
 					details.add(detail(code));
 				}
-				if (!NumberHelper.isNumeric(trimmedValue)) {
+				if (!NumberHelper.isNumeric(value)) {
 					details.add(detail(code));
 				}
-			});
+			}
 		}
 		return this;
 	}
@@ -136,7 +179,7 @@ class Checker {
 	 */
 	public Checker singleValue(LocalizedProblem code, String name) {
 		value(code, name);
-		if (DuplicationCheckHelper.calculateDuplications(node, name) != 0) {
+		if (appraisal.duplications(name) != 0) {
 			details.add(detail(code));
 		}
 		return this;
@@ -152,7 +195,7 @@ class Checker {
 	public Checker isValidDate(LocalizedProblem code, String name) {
 		if (!shouldShortcut()) {
 			try {
-				FormatHelper.formattedDateParse(node.getValue(name));
+				appraisal.dateValue(name);
 			} catch (DateTimeParseException e) {
 				details.add(detail(code));
 			}
@@ -188,7 +231,7 @@ class Checker {
 			details.add(detail(code));
 			return this; //Short circuit on empty key or empty values
 		}
-		lastAppraised = node.getValue(name);
+		lastAppraised = appraisal.value(name);
 		if (lastAppraised == null || values == null || values.length == 0) {
 			details.add(detail(code));
 			return this; //Short circuit on node doesn't contain key
@@ -215,9 +258,9 @@ class Checker {
 	Checker intValue(LocalizedProblem code, String name) {
 		if (!shouldShortcut()) {
 			try {
-				lastAppraised = Integer.parseInt(node.getValue(name));
+				lastAppraised = appraisal.intValue(name);
 			} catch (NumberFormatException ex) {
-				DEV_LOG.warn("Problem with non int value: " + node.getValue(name), ex);
+				DEV_LOG.warn("Problem with non int value: " + appraisal.value(name), ex);
 				details.add(detail(code));
 			}
 		}
@@ -269,13 +312,13 @@ class Checker {
 	Checker inDecimalRangeOf(LocalizedProblem code, String name, float startValue, float endValue) {
 		if (!shouldShortcut()) {
 			try {
-				lastAppraised = Float.parseFloat(node.getValue(name));
+				lastAppraised = appraisal.floatValue(name);
 				if (((Comparable<Float>) lastAppraised).compareTo(startValue) < 0
 						|| ((Comparable<Float>) lastAppraised).compareTo(endValue) > 0) {
 					details.add(detail(code));
 				}
 			} catch (RuntimeException exc) {
-				DEV_LOG.warn("Problem with non float value: " + node.getValue(name), exc);
+				DEV_LOG.warn("Problem with non float value: " + appraisal.value(name), exc);
 				details.add(detail(code));
 			}
 		}
@@ -291,8 +334,8 @@ class Checker {
 	 */
 	Checker hasParent(LocalizedProblem code, TemplateId type) {
 		if (!shouldShortcut()) {
-			TemplateId parentType = Optional.ofNullable(node.getParent())
-					.orElse(new Node()).getType();
+			Node parent = node.getParent();
+			TemplateId parentType = parent == null ? TemplateId.DEFAULT : parent.getType();
 			if (parentType != type) {
 				details.add(detail(code));
 			}
@@ -419,14 +462,7 @@ class Checker {
 	 */
 	Checker onlyHasChildren(LocalizedProblem code, TemplateId... types) {
 		if (!shouldShortcut()) {
-			Set<TemplateId> templateIds = EnumSet.noneOf(TemplateId.class);
-			for (TemplateId templateId : types) {
-				templateIds.add(templateId);
-			}
-
-			boolean valid = node.getChildNodes()
-				.stream()
-				.allMatch(childNode -> templateIds.contains(childNode.getType()));
+			boolean valid = tallyDistinctNodes(types) == node.getChildNodes().size();
 			if (!valid) {
 				details.add(detail(code));
 			}
@@ -443,14 +479,7 @@ class Checker {
 	 */
 	Checker doesNotHaveChildren(LocalizedProblem code, TemplateId... types) {
 		if (!shouldShortcut()) {
-			Set<TemplateId> templateIds = EnumSet.noneOf(TemplateId.class);
-			for (TemplateId templateId : types) {
-				templateIds.add(templateId);
-			}
-
-			boolean invalid = node.getChildNodes()
-				.stream()
-				.anyMatch(childNode -> templateIds.contains(childNode.getType()));
+			boolean invalid = tallyNodes(types) > 0;
 			if (invalid) {
 				details.add(detail(code));
 			}
@@ -497,19 +526,48 @@ class Checker {
 	 * @return count
 	 */
 	private int tallyNodes(TemplateId... types) {
-		return Arrays.stream(types)
-			.map(nodeCount::get)
-			.filter(Objects::nonNull)
-			.mapToInt(AtomicInteger::get)
-			.sum();
+		int count = 0;
+		for (TemplateId type : types) {
+			count += node.getChildCount(type);
+		}
+		return count;
+	}
+
+	/**
+	 * Aggregate count of nodes of the given types, counting each type once however often it is given
+	 *
+	 * @param types types of nodes to filter by
+	 * @return count
+	 */
+	private int tallyDistinctNodes(TemplateId... types) {
+		int count = 0;
+		for (int index = 0; index < types.length; index++) {
+			if (!isRepeated(types, index)) {
+				count += node.getChildCount(types[index]);
+			}
+		}
+		return count;
+	}
+
+	private boolean isRepeated(TemplateId[] types, int index) {
+		for (int earlier = 0; earlier < index; earlier++) {
+			if (types[earlier] == types[index]) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	/**
-	 * Creates a detail for the given error, and the present node
+	 * Creates a detail for the given error, and the present node. Once the error budget is spent the detail will only
+	 * be counted, so the node's location is left out.
 	 * @param code LocalizedProblem to use when generating details
 	 * @return details for the given error and present node
 	 */
 	private Detail detail(LocalizedProblem code) {
+		if (budget != null && budget.isSpent(details.size())) {
+			return Detail.forProblemCode(code);
+		}
 		return Detail.forProblemAndNode(code, node);
 	}
 
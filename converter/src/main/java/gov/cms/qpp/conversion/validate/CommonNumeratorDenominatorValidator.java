@@ -24,11 +24,11 @@ public class CommonNumeratorDenominatorValidator extends NodeValidator {
 	 * @param node Node parsed xml fragment under consideration
 	 */
 	@Override
-	protected void performValidation(Node node) {
-		Checker checker = checkErrors(node).childExact(format(ProblemCode.NUMERATOR_DENOMINATOR_CHILD_EXACT), 1, TemplateId.PI_AGGREGATE_COUNT);
+	protected void performValidation(Node node, Validation validation) {
+		Checker checker = validation.checkErrors(node).childExact(format(ProblemCode.NUMERATOR_DENOMINATOR_CHILD_EXACT), 1, TemplateId.PI_AGGREGATE_COUNT);
 		if (!checker.shouldShortcut()) {
 			validateAggregateCount(
-					node.findFirstNode(TemplateId.PI_AGGREGATE_COUNT));
+					node.findFirstNode(TemplateId.PI_AGGREGATE_COUNT), validation);
 		}
 	}
 
@@ -38,13 +38,14 @@ public class CommonNumeratorDenominatorValidator extends NodeValidator {
 	 * validation by the {@link AggregateCountValidator}
 	 *
 	 * @param aggregateCountNode aggregate count node
+	 * @param validation errors found so far
 	 */
-	private void validateAggregateCount(Node aggregateCountNode) {
+	private void validateAggregateCount(Node aggregateCountNode, Validation validation) {
 		String aggregateCountValue = aggregateCountNode.getValue(AggregateCountDecoder.AGGREGATE_COUNT);
 		if (aggregateCountValue == null) {
 			aggregateCountValue = "empty";
 		}
-		checkErrors(aggregateCountNode)
+		validation.checkErrors(aggregateCountNode)
 				.singleValue(format(ProblemCode.NUMERATOR_DENOMINATOR_INVALID_VALUE, aggregateCountValue),
 					AggregateCountDecoder.AGGREGATE_COUNT)
 				.intValue(format(ProblemCode.NUMERATOR_DENOMINATOR_MUST_BE_INTEGER, aggregateCountValue),
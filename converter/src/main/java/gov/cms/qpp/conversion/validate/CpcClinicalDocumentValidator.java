@@ -18,7 +18,6 @@ import java.time.Year;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Arrays;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -70,13 +69,13 @@ public class CpcClinicalDocumentValidator extends NodeValidator {
 	 * @param node The node to validate.
 	 */
 	@Override
-	protected void performValidation(Node node) {
-		validateSubmissionDate(node);
+	protected void performValidation(Node node, Validation validation) {
+		validateSubmissionDate(node, validation);
 
 		LocalizedProblem addressError = ProblemCode.CPC_CLINICAL_DOCUMENT_MISSING_PRACTICE_SITE_ADDRESS
 			.format(Context.REPORTING_YEAR);
 
-		checkErrors(node)
+		validation.checkErrors(node)
 			.valueIsNotEmpty(ProblemCode.CPC_PLUS_TIN_REQUIRED, ClinicalDocumentDecoder.TAX_PAYER_IDENTIFICATION_NUMBER)
 			.listValuesAreValid(
 				ProblemCode.CPC_PLUS_INVALID_TIN, ClinicalDocumentDecoder.TAX_PAYER_IDENTIFICATION_NUMBER, 9)
@@ -90,13 +89,13 @@ public class CpcClinicalDocumentValidator extends NodeValidator {
 			.childMinimum(ProblemCode.CPC_CLINICAL_DOCUMENT_ONE_MEASURE_SECTION_REQUIRED,
 					1, TemplateId.MEASURE_SECTION_V3);
 
-		checkWarnings(node)
+		validation.checkWarnings(node)
 			.doesNotHaveChildren(ProblemCode.CPC_PLUS_NO_IA_OR_PI, TemplateId.IA_SECTION, TemplateId.PI_SECTION);
 
-		validateApmEntityId(node);
+		validateApmEntityId(node, validation);
 		if (hasTinAndNpi(node)) {
-			validateNumberOfTinsAndNpis(node);
-			validateApmNpiCombination(node);
+			validateNumberOfTinsAndNpis(node, validation);
+			validateApmNpiCombination(node, validation);
 		}
 	}
 
@@ -106,8 +105,9 @@ public class CpcClinicalDocumentValidator extends NodeValidator {
 	 * A validation error is created if the APM Entity ID is invalid.
 	 *
 	 * @param node The node to validate
+	 * @param validation errors found so far
 	 */
-	private void validateApmEntityId(Node node) {
+	private void validateApmEntityId(Node node, Validation validation) {
 		String apmEntityId = node.getValue(ClinicalDocumentDecoder.PRACTICE_ID);
 
 		if (StringUtils.isEmpty(apmEntityId)) {
@@ -115,7 +115,7 @@ public class CpcClinicalDocumentValidator extends NodeValidator {
 		}
 
 		if (!ApmEntityIds.idExists(apmEntityId)) {
-			addError(Detail.forProblemAndNode(ProblemCode.CPC_CLINICAL_DOCUMENT_INVALID_APM, node));
+			validation.addError(Detail.forProblemAndNode(ProblemCode.CPC_CLINICAL_DOCUMENT_INVALID_APM, node));
 		}
 	}
 
@@ -126,41 +126,41 @@ public class CpcClinicalDocumentValidator extends NodeValidator {
 	 * @return
 	 */
 	private boolean hasTinAndNpi(final Node node) {
-		return null != node.getValue(ClinicalDocumentDecoder.NATIONAL_PROVIDER_IDENTIFIER) &&
-			null != node.getValue(ClinicalDocumentDecoder.TAX_PAYER_IDENTIFICATION_NUMBER);
+		return !node.getValues(ClinicalDocumentDecoder.NATIONAL_PROVIDER_IDENTIFIER).isEmpty() &&
+			!node.getValues(ClinicalDocumentDecoder.TAX_PAYER_IDENTIFICATION_NUMBER).isEmpty();
 	}
 
 	/**
 	 * Validates to ensure that for every TIN there is an NPI submitted to it.
 	 *
 	 * @param node
+	 * @param validation errors found so far
 	 */
-	private void validateNumberOfTinsAndNpis(final Node node) {
-		int numOfTins = Arrays.asList(
-			node.getValue(ClinicalDocumentDecoder.TAX_PAYER_IDENTIFICATION_NUMBER).split(",")).size();
-		int numOfNpis = Arrays.asList(
-			node.getValue(ClinicalDocumentDecoder.NATIONAL_PROVIDER_IDENTIFIER).split(",")).size();
+	private void validateNumberOfTinsAndNpis(final Node node, Validation validation) {
+		int numOfTins = node.getValues(ClinicalDocumentDecoder.TAX_PAYER_IDENTIFICATION_NUMBER).size();
+		int numOfNpis = node.getValues(ClinicalDocumentDecoder.NATIONAL_PROVIDER_IDENTIFIER).size();
 		if (numOfTins > numOfNpis) {
-			addError(Detail.forProblemAndNode(ProblemCode.CPC_PLUS_MISSING_NPI, node));
+			validation.addError(Detail.forProblemAndNode(ProblemCode.CPC_PLUS_MISSING_NPI, node));
 		} else if (numOfNpis > numOfTins) {
-			addError(Detail.forProblemAndNode(ProblemCode.CPC_PLUS_MISSING_TIN, node));
+			validation.addError(Detail.forProblemAndNode(ProblemCode.CPC_PLUS_MISSING_TIN, node));
 		}
 	}
 
-	private void validateApmNpiCombination(Node node) {
-		context.getPiiValidator().validateApmTinNpiCombination(node, this);
+	private void validateApmNpiCombination(Node node, Validation validation) {
+		context.getPiiValidator().validateApmTinNpiCombination(node, validation);
 	}
 
 	/**
 	 * Validates the submission is not after the set end date
 	 *
 	 * @param node The node to give in the error if the submission is after the set end date
+	 * @param validation errors found so far
 	 */
-	private void validateSubmissionDate(Node node) {
+	private void validateSubmissionDate(Node node, Validation validation) {
 		ZonedDateTime endDate = endDate();
 		if (now().isAfter(endDate)) {
 			String formatted = endDate.format(OUTPUT_END_DATE_FORMAT);
-			addError(Detail.forProblemAndNode(
+			validation.addError(Detail.forProblemAndNode(
 				ProblemCode.CPC_PLUS_SUBMISSION_ENDED.format(formatted,
 					EnvironmentHelper.getOrDefault(CPC_PLUS_CONTACT_EMAIL, DEFAULT_CPC_PLUS_CONTACT_EMAIL)),
 				node));
@@ -33,21 +33,22 @@ public class CpcMeasureDataValidator extends NodeValidator {
 	 * @param node The node to validate.
 	 */
 	@Override
-	protected void performValidation(Node node) {
-		validateSupplementalDataByType(node);
+	protected void performValidation(Node node, Validation validation) {
+		validateSupplementalDataByType(node, validation);
 	}
 
 	/**
 	 * Categorizes each validation by specified Supplemental Types
 	 *
 	 * @param node current measure data node
+	 * @param validation errors found so far
 	 */
-	private void validateSupplementalDataByType(Node node) {
+	private void validateSupplementalDataByType(Node node, Validation validation) {
 		Map<SupplementalType, TemplateId> nodeTypeToTemplateIdMap =
 				SupplementalData.getSupplementalTypeMapToTemplateId();
 		for (Map.Entry<SupplementalType, TemplateId> entry: nodeTypeToTemplateIdMap.entrySet()) {
 			validateAllSupplementalNodesOfSpecifiedType(
-					node, entry.getValue(), entry.getKey());
+					node, entry.getValue(), entry.getKey(), validation);
 		}
 	}
 
@@ -57,9 +58,10 @@ public class CpcMeasureDataValidator extends NodeValidator {
 	 * @param node Parent node of the nodes to be validated
 	 * @param currSupplementalDataTemplateId Template Id of the nodes to be validated
 	 * @param supplementalDataType current data type to be validated
+	 * @param validation errors found so far
 	 */
-	private void validateAllSupplementalNodesOfSpecifiedType(
-			Node node, TemplateId currSupplementalDataTemplateId, SupplementalType supplementalDataType) {
+	private void validateAllSupplementalNodesOfSpecifiedType(Node node, TemplateId currSupplementalDataTemplateId,
+			SupplementalType supplementalDataType, Validation validation) {
 		Set<Node> supplementalDataNodes =
 				node.getChildNodes(currSupplementalDataTemplateId).collect(Collectors.toSet());
 		EnumSet<SupplementalData> codes = EnumSet.copyOf(
@@ -71,11 +73,11 @@ public class CpcMeasureDataValidator extends NodeValidator {
 				Node validatedSupplementalNode = filterCorrectNode(supplementalDataNodes, supplementalData);
 
 				if (validatedSupplementalNode == null) {
-					addSupplementalValidationError(node, supplementalData, electronicMeasureId);
+					addSupplementalValidationError(node, supplementalData, electronicMeasureId, validation);
 				} else {
 					LocalizedProblem error = makeIncorrectCountSizeLocalizedError(node, supplementalData.getCode(),
 						electronicMeasureId);
-					checkErrors(validatedSupplementalNode)
+					validation.checkErrors(validatedSupplementalNode)
 						.childExact(error, 1, TemplateId.PI_AGGREGATE_COUNT);
 				}
 			}
@@ -112,13 +114,15 @@ public class CpcMeasureDataValidator extends NodeValidator {
 	 * @param node Object being validated
 	 * @param supplementalData Object holding the current code that was validated
 	 * @param measureId current electronic measure identification
+	 * @param validation errors found so far
 	 */
-	private void addSupplementalValidationError(Node node, SupplementalData supplementalData, String measureId) {
+	private void addSupplementalValidationError(Node node, SupplementalData supplementalData, String measureId,
+			Validation validation) {
 		LocalizedProblem error =
 				ProblemCode.CPC_PLUS_MISSING_SUPPLEMENTAL_CODE.format(
 					supplementalData.getType(), supplementalData, supplementalData.getCode(),
 						measureId, node.getValue(MeasureDataDecoder.MEASURE_TYPE));
-		addError(Detail.forProblemAndNode(error, node));
+		validation.addError(Detail.forProblemAndNode(error, node));
 	}
 
 	/**
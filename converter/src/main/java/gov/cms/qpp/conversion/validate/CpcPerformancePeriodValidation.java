@@ -23,8 +23,8 @@ public class CpcPerformancePeriodValidation extends NodeValidator {
 	 * @param node The node to validate.
 	 */
 	@Override
-	protected void performValidation(Node node) {
-		checkErrors(node)
+	protected void performValidation(Node node, Validation validation) {
+		validation.checkErrors(node)
 			.valueIs(ProblemCode.CPC_PERFORMANCE_PERIOD_START,
 					ReportingParametersActDecoder.PERFORMANCE_START, REPORTING_PERIOD_START)
 			.valueIs(ProblemCode.CPC_PERFORMANCE_PERIOD_END,
@@ -12,9 +12,9 @@ import gov.cms.qpp.conversion.model.Validator;
 import gov.cms.qpp.conversion.model.error.Detail;
 import gov.cms.qpp.conversion.model.error.ProblemCode;
 import gov.cms.qpp.conversion.model.error.LocalizedProblem;
-import gov.cms.qpp.conversion.model.validation.MeasureConfig;
 import gov.cms.qpp.conversion.model.validation.SubPopulation;
 import gov.cms.qpp.conversion.model.validation.SubPopulationLabel;
+import gov.cms.qpp.conversion.model.validation.ValidationPlan;
 import gov.cms.qpp.conversion.util.MeasureConfigHelper;
 import gov.cms.qpp.conversion.util.NumberHelper;
 
@@ -42,16 +42,13 @@ public class CpcQualityMeasureIdValidator extends QualityMeasureIdValidator {
 	 * @param node The node to validate.
 	 */
 	@Override
-	protected void performValidation(Node node) {
-		super.performValidation(node);
-		MeasureConfig measureConfig = MeasureConfigHelper.getMeasureConfig(node);
-		if (measureConfig != null && measureConfig.getStrata() != null) {
-			int requiredPerformanceRateCount = measureConfig.getStrata().size();
-			if (MeasureConfigHelper.SINGLE_TO_MULTIPLE_SUP_POPULATION.equalsIgnoreCase(measureConfig.getElectronicMeasureId())) {
-				requiredPerformanceRateCount = 1;
-			}
+	protected void performValidation(Node node, Validation validation) {
+		super.performValidation(node, validation);
+		ValidationPlan plan = MeasureConfigHelper.getValidationPlan(node);
+		if (plan != null && plan.isStratified()) {
+			int requiredPerformanceRateCount = plan.getRequiredPerformanceRateCount();
 
-			forceCheckErrors(node)
+			validation.forceCheckErrors(node)
 					.childExact(
 						ProblemCode.CPC_QUALITY_MEASURE_ID_INVALID_PERFORMANCE_RATE_COUNT
 							.format(requiredPerformanceRateCount, MeasureConfigHelper.getPrioritizedId(node)),
@@ -60,8 +57,8 @@ public class CpcQualityMeasureIdValidator extends QualityMeasureIdValidator {
 
 		//Validation for the Performance Denominator. Performance denominator is Denominator - Denex - Denexcep.
 		//Skips this validation if any of the measure data errors occur before this.
-		if (viewErrors().isEmpty()) {
-			List<Node> subPopNodes = MeasureConfigHelper.createSubPopulationGrouping(node, measureConfig);
+		if (validation.viewErrors().isEmpty()) {
+			List<Node> subPopNodes = MeasureConfigHelper.createSubPopulationGrouping(node, plan);
 			for (Node subpopulationNode: subPopNodes) {
 				Node numeratorNode = subpopulationNode.findChildNode(
 					n -> SubPopulationLabel.NUMER.hasAlias(n.getValue(QualityMeasureIdEncoder.TYPE)));
@@ -86,16 +83,16 @@ public class CpcQualityMeasureIdValidator extends QualityMeasureIdValidator {
 					calculatePerformanceDenom(denominatorValue, denexValue, denexcepValue);
 
 				if (performanceDenominator < 0) {
-					addError(Detail.forProblemAndNode(ProblemCode.CPC_PLUS_PERFORMANCE_DENOM_LESS_THAN_ZERO
+					validation.addError(Detail.forProblemAndNode(ProblemCode.CPC_PLUS_PERFORMANCE_DENOM_LESS_THAN_ZERO
 						.format(MeasureConfigHelper.getPrioritizedId(node)), node));
 				}
 				if (numeratorValue > performanceDenominator || numeratorValue > denominatorValue) {
-					addError(Detail.forProblemAndNode(ProblemCode.CPC_PLUS_NUMERATOR_GREATER_THAN_EITHER_DENOMINATORS
+					validation.addError(Detail.forProblemAndNode(ProblemCode.CPC_PLUS_NUMERATOR_GREATER_THAN_EITHER_DENOMINATORS
 						.format(numeratorNode
 							.getValue(MEASURE_POPULATION)), node));
 				}
 				if (denexValue > denominatorValue) {
-					addError(Detail.forProblemAndNode(ProblemCode.CPC_PLUS_DENEX_GREATER_THAN_DENOMINATOR
+					validation.addError(Detail.forProblemAndNode(ProblemCode.CPC_PLUS_DENEX_GREATER_THAN_DENOMINATOR
 						.format(denomExclusionNode.getValue(MEASURE_POPULATION)), node));
 				}
 				//skip if performance rate is missing
@@ -103,7 +100,7 @@ public class CpcQualityMeasureIdValidator extends QualityMeasureIdValidator {
 					if (PerformanceRateValidator.NULL_ATTRIBUTE.equals(
 						performanceRateNode.getValue(PerformanceRateProportionMeasureDecoder.NULL_PERFORMANCE_RATE))) {
 						if (performanceDenominator != 0) {
-							addError(Detail.forProblemAndNode(
+							validation.addError(Detail.forProblemAndNode(
 								ProblemCode.CPC_PLUS_INVALID_NULL_PERFORMANCE_RATE
 									.format(performanceRateNode
 										.getValue(PerformanceRateProportionMeasureDecoder.PERFORMANCE_RATE_ID)), node));
@@ -119,30 +116,35 @@ public class CpcQualityMeasureIdValidator extends QualityMeasureIdValidator {
 	 * Initializes the vaidators for various sub-populations.
 	 */
 	@Override
-	List<Consumer<Node>> prepValidations(SubPopulation subPopulation) {
+	List<Consumer<Node>> prepValidations(SubPopulation subPopulation, Validation validation) {
 		return Arrays.asList(
-				makeValidator(subPopulation, subPopulation::getDenominatorExceptionsUuid, SubPopulationLabel.DENEXCEP),
-				makeValidator(subPopulation, subPopulation::getDenominatorExclusionsUuid, SubPopulationLabel.DENEX),
-				makeValidator(subPopulation, subPopulation::getNumeratorUuid, SubPopulationLabel.NUMER),
-				makeValidator(subPopulation, subPopulation::getDenominatorUuid, SubPopulationLabel.DENOM),
-				makeValidator(subPopulation, subPopulation::getInitialPopulationUuid, SubPopulationLabel.IPOP),
-				makePerformanceRateUuidValidator(subPopulation::getNumeratorUuid, PERFORMANCE_RATE_ID));
+				makeValidator(subPopulation, subPopulation::getDenominatorExceptionsUuid, SubPopulationLabel.DENEXCEP,
+						validation),
+				makeValidator(subPopulation, subPopulation::getDenominatorExclusionsUuid, SubPopulationLabel.DENEX,
+						validation),
+				makeValidator(subPopulation, subPopulation::getNumeratorUuid, SubPopulationLabel.NUMER, validation),
+				makeValidator(subPopulation, subPopulation::getDenominatorUuid, SubPopulationLabel.DENOM, validation),
+				makeValidator(subPopulation, subPopulation::getInitialPopulationUuid, SubPopulationLabel.IPOP,
+						validation),
+				makePerformanceRateUuidValidator(validation, subPopulation::getNumeratorUuid, PERFORMANCE_RATE_ID));
 	}
 
 	/**
 	 * Method for Performance Rate Uuid validations
 	 *
+	 * @param validation errors found so far
 	 * @param check a property existence check
 	 * @param keys that identify measures
 	 * @return a callback / consumer that will perform a measure specific validation against a given
 	 * node.
 	 */
-	private Consumer<Node> makePerformanceRateUuidValidator(Supplier<String> check, String... keys) {
+	private Consumer<Node> makePerformanceRateUuidValidator(Validation validation, Supplier<String> check,
+			String... keys) {
 		return node -> {
 			if (check.get() != null) {
 				Predicate<Node> childUuidFinder =
 						makeUuidChildFinder(check, ProblemCode.QUALITY_MEASURE_ID_MISSING_SINGLE_PERFORMANCE_RATE,
-								PERFORMANCE_RATE_ID);
+								PERFORMANCE_RATE_ID, validation);
 
 				Node existingUuidChild = node
 						.getChildNodes(TemplateId.PERFORMANCE_RATE_PROPORTION_MEASURE)
@@ -151,7 +153,7 @@ public class CpcQualityMeasureIdValidator extends QualityMeasureIdValidator {
 						.orElse(null);
 
 				if (existingUuidChild == null) {
-					addMeasureConfigurationValidationMessage(check, keys, node);
+					addMeasureConfigurationValidationMessage(check, keys, node, validation);
 				}
 			}
 		};
@@ -162,9 +164,10 @@ public class CpcQualityMeasureIdValidator extends QualityMeasureIdValidator {
 	 *
 	 * @param node measure node
 	 * @param sub sub population constituent ids
+	 * @param validation errors found so far
 	 */
 	@Override
-	protected void followUpHook(Node node, SubPopulation sub) {
+	protected void followUpHook(Node node, SubPopulation sub, Validation validation) {
 		List<Node> strataNodes = node.getChildNodes(TemplateId.REPORTING_STRATUM_CMS)
 				.collect(Collectors.toList());
 
@@ -174,7 +177,7 @@ public class CpcQualityMeasureIdValidator extends QualityMeasureIdValidator {
 					node.getValue(MeasureDataDecoder.MEASURE_TYPE),
 					node.getValue(MEASURE_POPULATION),
 					sub.getStrata());
-			addError(Detail.forProblemAndNode(error, node));
+			validation.addError(Detail.forProblemAndNode(error, node));
 		}
 
 		sub.getStrata().forEach(stratum -> {
@@ -185,7 +188,7 @@ public class CpcQualityMeasureIdValidator extends QualityMeasureIdValidator {
 				LocalizedProblem error = ProblemCode.CPC_QUALITY_MEASURE_ID_MISSING_STRATA.format(stratum,
 						node.getValue(MeasureDataDecoder.MEASURE_TYPE),
 						node.getValue(MEASURE_POPULATION));
-				addError(Detail.forProblemAndNode(error, node));
+				validation.addError(Detail.forProblemAndNode(error, node));
 			}
 		});
 	}
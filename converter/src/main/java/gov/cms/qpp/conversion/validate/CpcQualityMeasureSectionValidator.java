@@ -25,8 +25,8 @@ public class CpcQualityMeasureSectionValidator extends NodeValidator {
 	 * @param node The node to validate.
 	 */
 	@Override
-	protected void performValidation(Node node) {
-		Checker checker = forceCheckErrors(node);
+	protected void performValidation(Node node, Validation validation) {
+		Checker checker = validation.forceCheckErrors(node);
 
 		Arrays.stream(CpcGroupMinimum.values())
 				.forEach(group -> checkGroupMinimum(checker, group));
@@ -0,0 +1,94 @@
+package gov.cms.qpp.conversion.validate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import gov.cms.qpp.conversion.model.error.Detail;
+
+/**
+ * The validation errors reported for a document, up to a limit. Errors found once the limit is reached are only
+ * counted by their error code, in the order the codes were first seen.
+ */
+final class ErrorBudget {
+
+	private final int limit;
+	private final List<Detail> admitted = new ArrayList<>();
+	private final Map<Integer, Integer> suppressed = new LinkedHashMap<>();
+	private int total;
+
+	/**
+	 * @param limit the most errors to report
+	 */
+	ErrorBudget(int limit) {
+		this.limit = limit;
+	}
+
+	/**
+	 * @return the most errors to report
+	 */
+	int getLimit() {
+		return limit;
+	}
+
+	/**
+	 * Whether errors found after those already reported and the given number of pending ones would be suppressed,
+	 * so that they need not be described in full.
+	 *
+	 * @param pending errors found but not yet admitted
+	 * @return true if the budget is spent
+	 */
+	boolean isSpent(int pending) {
+		return admitted.size() + pending >= limit;
+	}
+
+	/**
+	 * Reports the given errors while the budget lasts, and counts the rest.
+	 *
+	 * @param errors errors in the order they were found
+	 */
+	void admit(List<Detail> errors) {
+		for (Detail error : errors) {
+			total++;
+			if (admitted.size() < limit) {
+				admitted.add(error);
+			} else {
+				suppressed.merge(error.getErrorCode(), 1, Integer::sum);
+			}
+		}
+	}
+
+	/**
+	 * Admits the errors of another budget as though they had been found after those of this one.
+	 *
+	 * @param other a budget for a later part of the document
+	 */
+	void admit(ErrorBudget other) {
+		admit(other.admitted);
+		other.suppressed.forEach((code, count) -> suppressed.merge(code, count, Integer::sum));
+		total += other.total - other.admitted.size();
+	}
+
+	/**
+	 * @return the errors reported, in the order they were found
+	 */
+	List<Detail> getAdmitted() {
+		return admitted;
+	}
+
+	/**
+	 * @return the number of suppressed errors for each error code
+	 */
+	Map<Integer, Integer> getSuppressed() {
+		return Collections.unmodifiableMap(suppressed);
+	}
+
+	/**
+	 * @return the number of errors found, reported or not
+	 */
+	int getTotal() {
+		return total;
+	}
+}
@@ -23,8 +23,8 @@ public class IaMeasureValidator extends NodeValidator {
 	 * @param node Node that represents a IA Measure Performed.
 	 */
 	@Override
-	protected void performValidation(Node node) {
-		checkErrors(node)
+	protected void performValidation(Node node, Validation validation) {
+		validation.checkErrors(node)
 				.childExact(ProblemCode.IA_MEASURE_INCORRECT_CHILDREN_COUNT, 1, TemplateId.MEASURE_PERFORMED);
 	}
 }
\ No newline at end of file
@@ -28,20 +28,20 @@ public class MeasureDataValidator extends NodeValidator {
 	 * @param node Node that represents a IA Measure Performed.
 	 */
 	@Override
-	protected void performValidation(Node node) {
+	protected void performValidation(Node node, Validation validation) {
 		String populationId = node.getValue(MeasureDataDecoder.MEASURE_POPULATION);
 		if (populationId == null) {
 			populationId = EMPTY_POPULATION_ID;
 		}
 
-		Checker checker = checkErrors(node)
+		Checker checker = validation.checkErrors(node)
 				.hasChildren(ProblemCode.MEASURE_PERFORMED_MISSING_AGGREGATE_COUNT.format(populationId))
 				.childExact(ProblemCode.MEASURE_PERFORMED_MISSING_AGGREGATE_COUNT.format(populationId),
 					1, TemplateId.PI_AGGREGATE_COUNT);
 
 		if (!checker.shouldShortcut()) {
 			Node child = node.findFirstNode(TemplateId.PI_AGGREGATE_COUNT);
-			checkErrors(child)
+			validation.checkErrors(child)
 					.singleValue(ProblemCode.AGGREGATE_COUNT_VALUE_NOT_SINGULAR.format(node.getType().name(),
 						DuplicationCheckHelper.calculateDuplications(child, AggregateCountDecoder.AGGREGATE_COUNT)),
 						AggregateCountDecoder.AGGREGATE_COUNT)
@@ -20,8 +20,8 @@ public class MeasurePerformedValidator extends NodeValidator {
 	 * @param node Node that represents a Measure Performed.
 	 */
 	@Override
-	protected void performValidation(Node node) {
-		checkErrors(node)
+	protected void performValidation(Node node, Validation validation) {
+		validation.checkErrors(node)
 			.singleValue(ProblemCode.IA_MEASURE_INVALID_TYPE, FIELD)
 			.valueIn(ProblemCode.IA_MEASURE_INVALID_TYPE, FIELD, BOOLEAN_VALUES);
 	}
@@ -42,12 +42,12 @@ public class MipsQualityMeasureIdValidator extends QualityMeasureIdValidator {
 	 * @param node The node to validate.
 	 */
 	@Override
-	protected void performValidation(Node node) {
-		super.performValidation(node);
+	protected void performValidation(Node node, Validation validation) {
+		super.performValidation(node, validation);
 		MeasureConfig measureConfig = MeasureConfigHelper.getMeasureConfig(node);
 
 		if (measureConfig != null) {
-			validateExistingPerformanceRates(node, measureConfig);
+			validateExistingPerformanceRates(node, measureConfig, validation);
 		}
 	}
 
@@ -55,12 +55,14 @@ public class MipsQualityMeasureIdValidator extends QualityMeasureIdValidator {
 	 * Initializes the vaidators for various sub-populations.
 	 */
 	@Override
-	List<Consumer<Node>> prepValidations(SubPopulation subPopulation) {
+	List<Consumer<Node>> prepValidations(SubPopulation subPopulation, Validation validation) {
 		return Arrays.asList(
-			makeValidator(subPopulation, subPopulation::getDenominatorExceptionsUuid, SubPopulationLabel.DENEXCEP),
-			makeValidator(subPopulation, subPopulation::getDenominatorExclusionsUuid, SubPopulationLabel.DENEX),
-			makeValidator(subPopulation, subPopulation::getNumeratorUuid, SubPopulationLabel.NUMER),
-			makeValidator(subPopulation, subPopulation::getDenominatorUuid, SubPopulationLabel.DENOM));
+			makeValidator(subPopulation, subPopulation::getDenominatorExceptionsUuid, SubPopulationLabel.DENEXCEP,
+					validation),
+			makeValidator(subPopulation, subPopulation::getDenominatorExclusionsUuid, SubPopulationLabel.DENEX,
+					validation),
+			makeValidator(subPopulation, subPopulation::getNumeratorUuid, SubPopulationLabel.NUMER, validation),
+			makeValidator(subPopulation, subPopulation::getDenominatorUuid, SubPopulationLabel.DENOM, validation));
 	}
 
 	/**
@@ -68,8 +70,9 @@ public class MipsQualityMeasureIdValidator extends QualityMeasureIdValidator {
 	 *
 	 * @param node The current parent node
 	 * @param measureConfig The current sub population
+	 * @param validation errors found so far
 	 */
-	private void validateExistingPerformanceRates(Node node, MeasureConfig measureConfig) {
+	private void validateExistingPerformanceRates(Node node, MeasureConfig measureConfig, Validation validation) {
 		if (measureConfig.getSubPopulation().isEmpty()) {
 			return;
 		}
@@ -78,7 +81,7 @@ public class MipsQualityMeasureIdValidator extends QualityMeasureIdValidator {
 				.collect(Collectors.toList());
 
 		for (Node performanceRateNode: performanceRateNodes) {
-			validatePerformanceRateUuid(node, measureConfig, performanceRateNode);
+			validatePerformanceRateUuid(node, measureConfig, performanceRateNode, validation);
 		}
 	}
 
@@ -88,10 +91,12 @@ public class MipsQualityMeasureIdValidator extends QualityMeasureIdValidator {
 	 * @param node The current parent node
 	 * @param measureConfig Holds the current sub population and electronic measure id
 	 * @param performanceRateNode The current performance rate node
+	 * @param validation errors found so far
 	 */
-	private void validatePerformanceRateUuid(Node node, MeasureConfig measureConfig, Node performanceRateNode) {
+	private void validatePerformanceRateUuid(Node node, MeasureConfig measureConfig, Node performanceRateNode,
+			Validation validation) {
 		List<SubPopulation> subPopulations = measureConfig.getSubPopulation();
-		validatePerformanceRateUuidExists(performanceRateNode);
+		validatePerformanceRateUuidExists(performanceRateNode, validation);
 
 		String performanceUuid = performanceRateNode.getValue(PERFORMANCE_RATE_ID);
 
@@ -106,7 +111,8 @@ public class MipsQualityMeasureIdValidator extends QualityMeasureIdValidator {
 					.map(SubPopulation::getNumeratorUuid)
 					.collect(Collectors.toSet());
 				String expectedUuidString = StringHelper.join(expectedPerformanceUuids, ",", "or");
-				addPerformanceRateValidationMessage(node, measureConfig.getElectronicMeasureId(), expectedUuidString);
+				addPerformanceRateValidationMessage(node, measureConfig.getElectronicMeasureId(), expectedUuidString,
+						validation);
 			}
 		}
 	}
@@ -115,9 +121,10 @@ public class MipsQualityMeasureIdValidator extends QualityMeasureIdValidator {
 	 * Validates if the performance rate uuid exists.
 	 *
 	 * @param performanceRateNode The current performance rate node
+	 * @param validation errors found so far
 	 */
-	private void validatePerformanceRateUuidExists(Node performanceRateNode) {
-		forceCheckErrors(performanceRateNode)
+	private void validatePerformanceRateUuidExists(Node performanceRateNode, Validation validation) {
+		validation.forceCheckErrors(performanceRateNode)
 				.incompleteValidation()
 				.singleValue(ProblemCode.QUALITY_MEASURE_ID_MISSING_SINGLE_PERFORMANCE_RATE, PERFORMANCE_RATE_ID);
 	}
@@ -138,10 +145,12 @@ public class MipsQualityMeasureIdValidator extends QualityMeasureIdValidator {
 	 *
 	 * @param node The current parent node of performance rate
 	 * @param performanceUuid The current performance rate uuid
+	 * @param validation errors found so far
 	 */
-	private void addPerformanceRateValidationMessage(Node node, String electronicMeasureId,String performanceUuid) {
+	private void addPerformanceRateValidationMessage(Node node, String electronicMeasureId,String performanceUuid,
+			Validation validation) {
 		LocalizedProblem error = ProblemCode.QUALITY_MEASURE_ID_INCORRECT_UUID.format(electronicMeasureId,
 				PERFORMANCE_RATE_ID, performanceUuid);
-		addError(Detail.forProblemAndNode(error, node));
+		validation.addError(Detail.forProblemAndNode(error, node));
 	}
 }
@@ -1,9 +1,5 @@
 package gov.cms.qpp.conversion.validate;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -14,12 +10,14 @@ import gov.cms.qpp.conversion.model.error.ValidationResult;
 
 /**
  * The parent class that all validators must inherit from.
+ *
+ * A validator is created once per {@link Context} and is shared by every node it validates, including nodes validated
+ * concurrently. The errors and warnings found while validating a node belong to the {@link Validation} of that call of
+ * {@link #validateSingleNode(Node)}, not to the validator, so implementations must not keep per node state in fields.
  */
 public abstract class NodeValidator {
 
 	private static final Logger DEV_LOG = LoggerFactory.getLogger(NodeValidator.class);
-	private final List<Detail> errors = new ArrayList<>();
-	private final List<Detail> warnings = new ArrayList<>();
 	protected final Context context;
 
 	public NodeValidator() {
@@ -30,93 +28,59 @@ public abstract class NodeValidator {
 		this.context = context;
 	}
 
-	public List<Detail> viewErrors() {
-		return Collections.unmodifiableList(errors);
-	}
-
-	public List<Detail> viewWarnings() {
-		return Collections.unmodifiableList(warnings);
-	}
-
 	/**
 	 * Validates a single {@link gov.cms.qpp.conversion.model.Node} and returns the list
 	 * of {@link Detail}s for that node.
 	 *
 	 * @param node The node to validate.
 	 * @return List of errors determined for the node paramter.
-	 * @see #performValidation(Node)
+	 * @see #performValidation(Node, Validation)
 	 */
 	public final ValidationResult validateSingleNode(Node node) {
-		DEV_LOG.debug("Using {} to validate {}", this.getClass().getName(), node);
-		performValidation(node);
-		return new ValidationResult(errors, warnings);
+		return validateSingleNode(node, null);
 	}
 
 	/**
-	 * Overridden by child classes to validate a specific {@link gov.cms.qpp.conversion.model.Node}.
-	 *
-	 * <p>
-	 * The implementation should validate the {@link gov.cms.qpp.conversion.model.Node} passed in.  If an error is
-	 * found, the child class must call {@link #addError(Detail)} for it to be reported.  The
-	 * Node argument will have the same ID as the templateId of the
-	 * {@link gov.cms.qpp.conversion.model.Validator}.
-	 * </p>
+	 * Validates a single {@link gov.cms.qpp.conversion.model.Node}, describing the errors found in full only while
+	 * the given budget lasts.
 	 *
 	 * @param node The node to validate.
+	 * @param budget The errors already reported for the document, or null
+	 * @return List of errors determined for the node paramter.
 	 */
-	protected abstract void performValidation(Node node);
-
-	/**
-	 * Used by child classes to add a {@link Detail}.
-	 *
-	 * @param error The error to add to the list.
-	 */
-	public final void addError(Detail error) {
-		errors.add(error);
+	final ValidationResult validateSingleNode(Node node, ErrorBudget budget) {
+		return validateSingleNode(node, budget, null);
 	}
 
 	/**
-	 * Used by child classes to add a {@link Detail}.
+	 * Validates a single {@link gov.cms.qpp.conversion.model.Node}, describing the errors found in full only while
+	 * the given budget lasts. The node's values are read through the given appraisal, which the other validators of
+	 * the node may share.
 	 *
-	 * @param warning The warning to add to the list.
-	 */
-	public final void addWarning(Detail warning) {
-		warnings.add(warning);
-	}
-
-	/**
-	 * Used to determine if a error detail has been added.
-	 * @param detail the error to check exists
-	 * @return True if detail is contained in the errors collection
-	 */
-	public boolean containsError(Detail detail) {
-		return errors.contains(detail);
-	}
-
-	/**
-	 * Returns a checker for implementations of performValidation(Node)
-	 * @param node the node for the checker to visit
-	 * @return an instance of Checker for the node and the continuing collection of errors.
-	 */
-	protected final Checker checkErrors(Node node) {
-		return Checker.check(node, errors);
-	}
-
-	/**
-	 * Identical use as checkErrors except that the Checker instance is in force mode.
-	 * @param node the node for the checker to visit
-	 * @return an instance of Checker for the node and the continuing collection of errors.
+	 * @param node The node to validate.
+	 * @param budget The errors already reported for the document, or null
+	 * @param appraisal The values of the node read so far, or null
+	 * @return List of errors determined for the node paramter.
 	 */
-	protected final Checker forceCheckErrors(Node node) {
-		return Checker.forceCheck(node, errors);
+	final ValidationResult validateSingleNode(Node node, ErrorBudget budget, Appraisal appraisal) {
+		DEV_LOG.debug("Using {} to validate {}", this.getClass().getName(), node);
+		Validation validation = new Validation(budget, appraisal);
+		performValidation(node, validation);
+		return new ValidationResult(validation.viewErrors(), validation.viewWarnings());
 	}
 
 	/**
-	 * Returns a checker for implementations of performValidation(Node)
-	 * @param node the node for the checker to visit
-	 * @return an instance of Checker for the node and the continuing collection of warnings.
+	 * Overridden by child classes to validate a specific {@link gov.cms.qpp.conversion.model.Node}.
+	 *
+	 * <p>
+	 * The implementation should validate the {@link gov.cms.qpp.conversion.model.Node} passed in.  If an error is
+	 * found, the child class must call {@link Validation#addError(Detail)} for it to be reported.  The
+	 * Node argument will have the same ID as the templateId of the
+	 * {@link gov.cms.qpp.conversion.model.Validator}.
+	 * </p>
+	 *
+	 * @param node The node to validate.
+	 * @param validation The errors and warnings found for the node so far.
 	 */
-	protected final Checker checkWarnings(Node node) {
-		return Checker.check(node, warnings);
-	}
+	protected abstract void performValidation(Node node, Validation validation);
 }
@@ -20,16 +20,16 @@ public class PerformanceRateValidator extends NodeValidator {
 	 * @param node The node to validate.
 	 */
 	@Override
-	protected void performValidation(Node node) {
+	protected void performValidation(Node node, Validation validation) {
 		if (!NULL_ATTRIBUTE.equals(node.getValue(PerformanceRateProportionMeasureDecoder.NULL_PERFORMANCE_RATE))) {
 
-			Checker checker = checkErrors(node)
+			Checker checker = validation.checkErrors(node)
 				.valueIsNotEmpty(ProblemCode.PERFORMANCE_RATE_MISSING, PerformanceRateProportionMeasureDecoder.PERFORMANCE_RATE);
 
 			if (!checker.shouldShortcut()) {
 				String performanceRate = node.getValue(PerformanceRateProportionMeasureDecoder.PERFORMANCE_RATE);
 
-				checkErrors(node)
+				validation.checkErrors(node)
 					.inDecimalRangeOf(ProblemCode.PERFORMANCE_RATE_INVALID_VALUE.format(performanceRate),
 						PerformanceRateProportionMeasureDecoder.PERFORMANCE_RATE, 0F, 1F);
 			}
@@ -14,6 +14,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -22,9 +23,10 @@ import java.util.stream.Stream;
 public class QrdaValidator {
 	private static final Logger DEV_LOG = LoggerFactory.getLogger(QrdaValidator.class);
 
-	private final List<Detail> errors = new ArrayList<>();
+	private final ErrorBudget errors;
 	private final List<Detail> warnings = new ArrayList<>();
 	private final Registry<NodeValidator> validators;
+	private final boolean parallelValidation;
 
 	/**
 	 * Constructs and instance from the Context which contains all
@@ -33,11 +35,28 @@ public class QrdaValidator {
 	 */
 	public QrdaValidator(Context context) {
 		this.validators = context.getRegistry(Validator.class);
+		this.parallelValidation = context.isParallelValidation();
+		this.errors = new ErrorBudget(context.getErrorBudget());
+	}
+
+	/**
+	 * Constructs a validator that collects what it finds apart from the given one, for validating part of the same
+	 * tree on another thread.
+	 *
+	 * @param validator The validator to continue from
+	 */
+	private QrdaValidator(QrdaValidator validator) {
+		this.validators = validator.validators;
+		this.parallelValidation = validator.parallelValidation;
+		this.errors = new ErrorBudget(validator.errors.getLimit());
 	}
 
 	/**
 	 * Validate all the {@link gov.cms.qpp.conversion.model.Node}s from the passed in Node and on down.
 	 *
+	 * Errors are reported up to the {@link Context#getErrorBudget() error budget}. Any found after that are only
+	 * counted by error code, and are not described in full where the validators allow it.
+	 *
 	 * @param rootNode The root node that all other nodes descend from.
 	 * @return The list of validation errors for the entire tree of nodes.
 	 */
@@ -47,7 +66,7 @@ public class QrdaValidator {
 		//validate each node while traversing the tree
 		validateTree(rootNode);
 
-		return new ValidationResult(errors, warnings);
+		return new ValidationResult(errors.getAdmitted(), warnings, errors.getTotal(), errors.getSuppressed());
 	}
 
 	/**
@@ -62,16 +81,18 @@ public class QrdaValidator {
 	}
 
 	/**
-	 * Validates a single {@link gov.cms.qpp.conversion.model.Node} based on its ID.
+	 * Validates a single {@link gov.cms.qpp.conversion.model.Node} based on its ID. Its validators share one
+	 * {@link Appraisal} of the node, so each of its values is read and parsed once.
 	 *
 	 * @param node The node to validate.
 	 */
 	private void validateSingleNode(final Node node) {
+		Appraisal appraisal = new Appraisal(node);
 		getValidators(node.getType())
 			.filter(this::isValidationRequired)
 			.forEach(validatorForNode -> {
-				ValidationResult problems = validatorForNode.validateSingleNode(node);
-				errors.addAll(problems.getErrors());
+				ValidationResult problems = validatorForNode.validateSingleNode(node, errors, appraisal);
+				errors.admit(problems.getErrors());
 				warnings.addAll(problems.getWarnings());
 			});
 	}
@@ -117,8 +138,46 @@ public class QrdaValidator {
 	 * @param parentNode The children of this node are validated.
 	 */
 	private void validateChildren(final Node parentNode) {
+		if (parallelValidation && parentNode.getType() == TemplateId.MEASURE_SECTION_V3) {
+			validateMeasures(parentNode);
+			return;
+		}
 		parentNode.getChildNodes().stream()
 				.filter(Node::isNotValidated)
 				.forEach(this::validateTree);
 	}
+
+	/**
+	 * Validates the measures of a quality measure section, and the entire tree below each of them, concurrently on
+	 * the common fork join pool. A validator only marks nodes below the one it validates as validated, so the measures
+	 * are independent of one another. Each measure is validated by a {@link QrdaValidator} of its own, and what they
+	 * find is added in document order, exactly as if the measures had been validated one after another. Each has the
+	 * full error budget, as it cannot know how much of it the measures before it spend.
+	 *
+	 * @param sectionNode The quality measure section node
+	 */
+	private void validateMeasures(final Node sectionNode) {
+		List<QrdaValidator> measureValidators = sectionNode.getChildNodes().stream()
+				.filter(Node::isNotValidated)
+				.collect(Collectors.toList())
+				.parallelStream()
+				.map(this::validateDetached)
+				.collect(Collectors.toList());
+		for (QrdaValidator measureValidator : measureValidators) {
+			errors.admit(measureValidator.errors);
+			warnings.addAll(measureValidator.warnings);
+		}
+	}
+
+	/**
+	 * Validates the tree below the given node with a {@link QrdaValidator} of its own.
+	 *
+	 * @param node The root node to start validating from.
+	 * @return The validator holding what was found
+	 */
+	private QrdaValidator validateDetached(final Node node) {
+		QrdaValidator validator = new QrdaValidator(this);
+		validator.validateTree(node);
+		return validator;
+	}
 }
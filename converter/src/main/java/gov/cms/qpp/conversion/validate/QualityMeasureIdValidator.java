@@ -10,18 +10,18 @@ import gov.cms.qpp.conversion.model.TemplateId;
 import gov.cms.qpp.conversion.model.error.Detail;
 import gov.cms.qpp.conversion.model.error.ProblemCode;
 import gov.cms.qpp.conversion.model.error.LocalizedProblem;
-import gov.cms.qpp.conversion.model.validation.MeasureConfig;
 import gov.cms.qpp.conversion.model.validation.SubPopulation;
 import gov.cms.qpp.conversion.model.validation.SubPopulationLabel;
-import gov.cms.qpp.conversion.model.validation.SubPopulations;
+import gov.cms.qpp.conversion.model.validation.ValidationPlan;
 import gov.cms.qpp.conversion.util.MeasureConfigHelper;
 import gov.cms.qpp.conversion.util.StringHelper;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -54,91 +54,93 @@ abstract class QualityMeasureIdValidator extends NodeValidator {
 	 * @param node The node to validate.
 	 */
 	@Override
-	protected void performValidation(final Node node) {
+	protected void performValidation(final Node node, Validation validation) {
 		//It is possible that we have a Measure in the input that we have not defined in
 		//the meta data measures-data.json
 		//This should not be an error
-		forceCheckErrors(node)
+		validation.forceCheckErrors(node)
 				.singleValue(ProblemCode.MISSING_OR_DUPLICATED_MEASURE_GUID, MeasureConfigHelper.MEASURE_ID)
 				.childMinimum(ProblemCode.CHILD_MEASURE_MISSING, 1, TemplateId.MEASURE_DATA_CMS_V2);
-		validateMeasureConfigs(node);
+		validateMeasureConfigs(node, validation);
 	}
 
 	/**
 	 * Validate measure configurations
 	 *
 	 * @param node to validate
+	 * @param validation errors found so far
 	 */
-	private void validateMeasureConfigs(Node node) {
-		MeasureConfig measureConfig = MeasureConfigHelper.getMeasureConfig(node);
+	private void validateMeasureConfigs(Node node, Validation validation) {
+		ValidationPlan plan = MeasureConfigHelper.getValidationPlan(node);
 
-		if (measureConfig != null) {
-			validateAllSubPopulations(node, measureConfig);
+		if (plan != null) {
+			validateAllSubPopulations(node, plan, validation);
 		} else {
 			String value = node.getValue(MeasureConfigHelper.MEASURE_ID);
 			if (value != null) { // This check has already been made and a detail will exist if value is null.
 				DEV_LOG.error(ProblemCode.MEASURE_GUID_MISSING.name() + " " + value);
 				LocalizedProblem error = ProblemCode.MEASURE_GUID_MISSING.format(value, Context.REPORTING_YEAR);
-				addError(Detail.forProblemAndNode(error, node));
+				validation.addError(Detail.forProblemAndNode(error, node));
 			}
 		}
 	}
 
 	/**
-	 * Validates all the sub populations in the quality measure based on the measure configuration
+	 * Validates all the sub populations in the quality measure based on the measure configuration's plan
 	 *
 	 * @param node The current parent node
-	 * @param measureConfig The measure configuration's sub population to use
+	 * @param plan The validation plan of the measure configuration to use
+	 * @param validation errors found so far
 	 */
-	void validateAllSubPopulations(final Node node, final MeasureConfig measureConfig) {
-		List<SubPopulation> subPopulations = measureConfig.getSubPopulation();
+	void validateAllSubPopulations(final Node node, final ValidationPlan plan, Validation validation) {
+		List<SubPopulation> subPopulations = plan.getSubPopulations();
 		if (subPopulations.isEmpty()) {
 			return;
 		}
 
-		if (MeasureConfigHelper.SINGLE_TO_MULTIPLE_SUP_POPULATION.equalsIgnoreCase(measureConfig.getElectronicMeasureId())) {
-			List<SubPopulation> replacementList = new ArrayList<>();
-			for (SubPopulation subPopulation: subPopulations) {
-				if (null != subPopulation) {
-					replacementList.add(subPopulation);
-				}
-			}
-			subPopulations = replacementList;
-		}
+		validateChildTypeCounts(plan, node, validation);
 
-		final List<SubPopulation> finalSubPopulationList = subPopulations;
-		SubPopulations.getExclusiveKeys(subPopulationExclusions)
-				.forEach(subPopulationLabel -> validateChildTypeCount(finalSubPopulationList, subPopulationLabel, node));
-
-		for (SubPopulation subPopulation : finalSubPopulationList) {
-			validateSubPopulation(node, subPopulation);
+		for (SubPopulation subPopulation : subPopulations) {
+			validateSubPopulation(node, subPopulation, validation);
 		}
 	}
 
 	/**
-	 * Validates that given subpopulations have the correct number of a given type
+	 * Validates that the node has the number of children of each type that the plan expects, counting them all in
+	 * one pass over the children.
 	 *
-	 * @param subPopulations The subpopulations to test against
-	 * @param key The type to check
+	 * @param plan The plan holding the expected counts
 	 * @param node The node in which the child nodes live
+	 * @param validation errors found so far
 	 */
-	private void validateChildTypeCount(List<SubPopulation> subPopulations, SubPopulationLabel key, Node node) {
-		long expectedChildTypeCount = subPopulations.stream()
-			.map(subPopulation -> SubPopulations.getUniqueIdForKey(key.name(), subPopulation))
-			.filter(Objects::nonNull)
-			.count();
-
-		Predicate<Node> childTypeFinder = makeTypeChildFinder(key.getAliases());
-		long actualChildTypeCount = node.getChildNodes(TemplateId.MEASURE_DATA_CMS_V2).filter(childTypeFinder).count();
-
-		if (expectedChildTypeCount != actualChildTypeCount) {
-			LocalizedProblem error =
-				ProblemCode.POPULATION_CRITERIA_COUNT_INCORRECT.format(
-					MeasureConfigHelper.getMeasureConfig(node).getElectronicMeasureId(),
-					expectedChildTypeCount, StringHelper.join(key.getAliases(), ",", "or"),
-					actualChildTypeCount);
-			Detail detail = Detail.forProblemAndNode(error, node);
-			addError(detail);
+	private void validateChildTypeCounts(ValidationPlan plan, Node node, Validation validation) {
+		Set<SubPopulationLabel> labels = EnumSet.allOf(SubPopulationLabel.class);
+		labels.removeAll(subPopulationExclusions);
+		Map<SubPopulationLabel, Integer> actualCounts = new EnumMap<>(SubPopulationLabel.class);
+
+		node.getChildNodes(TemplateId.MEASURE_DATA_CMS_V2).forEach(child -> {
+			validation.forceCheckErrors(child)
+					.incompleteValidation()
+					.singleValue(ProblemCode.QUALITY_MEASURE_ID_MISSING_SINGLE_MEASURE_TYPE, MEASURE_TYPE);
+			String measureType = child.getValue(MEASURE_TYPE);
+			for (SubPopulationLabel label : labels) {
+				if (label.hasAlias(measureType)) {
+					actualCounts.merge(label, 1, Integer::sum);
+				}
+			}
+		});
+
+		for (SubPopulationLabel label : labels) {
+			int expectedChildTypeCount = plan.getExpectedCount(label);
+			int actualChildTypeCount = actualCounts.getOrDefault(label, 0);
+			if (expectedChildTypeCount != actualChildTypeCount) {
+				LocalizedProblem error =
+					ProblemCode.POPULATION_CRITERIA_COUNT_INCORRECT.format(
+						plan.getElectronicMeasureId(),
+						expectedChildTypeCount, StringHelper.join(label.getAliases(), ",", "or"),
+						actualChildTypeCount);
+				validation.addError(Detail.forProblemAndNode(error, node));
+			}
 		}
 	}
 
@@ -147,12 +149,13 @@ abstract class QualityMeasureIdValidator extends NodeValidator {
 	 *
 	 * @param node          to validate
 	 * @param subPopulation a grouping of measures
+	 * @param validation errors found so far
 	 */
-	private void validateSubPopulation(Node node, SubPopulation subPopulation) {
-		List<Consumer<Node>> validations = prepValidations(subPopulation);
+	private void validateSubPopulation(Node node, SubPopulation subPopulation, Validation validation) {
+		List<Consumer<Node>> validations = prepValidations(subPopulation, validation);
 		validations.forEach(validate -> validate.accept(node));
 
-		validateDenomCountToIpopCount(node, subPopulation);
+		validateDenomCountToIpopCount(node, subPopulation, validation);
 	}
 
 
@@ -163,17 +166,19 @@ abstract class QualityMeasureIdValidator extends NodeValidator {
 	 * Called by validateSubPopulations
 	 *  
 	 * @param subPopulation
+	 * @param validation
 	 * @return
 	 */
-	abstract List<Consumer<Node>> prepValidations(SubPopulation subPopulation);
+	abstract List<Consumer<Node>> prepValidations(SubPopulation subPopulation, Validation validation);
 
 	/**
 	 * Validation check for Denominator and Numerator counts of the same Sub Population
 	 *
 	 * @param node The current parent node
 	 * @param subPopulation the current sub population
+	 * @param validation errors found so far
 	 */
-	private void validateDenomCountToIpopCount(Node node, SubPopulation subPopulation) {
+	private void validateDenomCountToIpopCount(Node node, SubPopulation subPopulation, Validation validation) {
 		Node denomNode = getDenominatorNodeFromCurrentSubPopulation(node, subPopulation);
 
 		Node ipopNode = getIpopNodeFromCurrentSubPopulation(node, subPopulation);
@@ -182,7 +187,7 @@ abstract class QualityMeasureIdValidator extends NodeValidator {
 			Node denomCount = denomNode.findFirstNode(TemplateId.PI_AGGREGATE_COUNT);
 			Node ipopCount = ipopNode.findFirstNode(TemplateId.PI_AGGREGATE_COUNT);
 
-			validateDenominatorCount(denomCount, ipopCount);
+			validateDenominatorCount(denomCount, ipopCount, validation);
 		}
 	}
 
@@ -209,7 +214,7 @@ abstract class QualityMeasureIdValidator extends NodeValidator {
 	 */
 	private Node getIpopNodeFromCurrentSubPopulation(Node node, SubPopulation subPopulation) {
 		return node.getChildNodes(TemplateId.MEASURE_DATA_CMS_V2).filter(thisNode ->
-				(IPOP.contains(thisNode.getValue(MEASURE_TYPE)))
+				IPOP.contains(thisNode.getValue(MEASURE_TYPE))
 						&& subPopulation.getInitialPopulationUuid().equals(thisNode.getValue(MEASURE_POPULATION)))
 				.findFirst().orElse(null);
 	}
@@ -219,9 +224,10 @@ abstract class QualityMeasureIdValidator extends NodeValidator {
 	 *
 	 * @param denomCount Aggregate Count node of denominator
 	 * @param ipopCount Aggregate Count node of initial population
+	 * @param validation errors found so far
 	 */
-	private void validateDenominatorCount(Node denomCount, Node ipopCount) {
-		forceCheckErrors(denomCount)
+	private void validateDenominatorCount(Node denomCount, Node ipopCount, Validation validation) {
+		validation.forceCheckErrors(denomCount)
 				.incompleteValidation()
 				.intValue(ProblemCode.AGGREGATE_COUNT_VALUE_NOT_INTEGER,
 						AggregateCountDecoder.AGGREGATE_COUNT)
@@ -235,17 +241,19 @@ abstract class QualityMeasureIdValidator extends NodeValidator {
 	 * @param sub {@link SubPopulation} against which follow validations may be performed
 	 * @param check a property existence check
 	 * @param subPopulationLabel that houses sub-population aliases
+	 * @param validation errors found so far
 	 * @return a callback / consumer that will perform a measure specific validation against a given
 	 * node.
 	 */
-	Consumer<Node> makeValidator(SubPopulation sub, Supplier<String> check, SubPopulationLabel subPopulationLabel) {
+	Consumer<Node> makeValidator(SubPopulation sub, Supplier<String> check, SubPopulationLabel subPopulationLabel,
+			Validation validation) {
 		return node -> {
 			if (check.get() != null) {
 				String[] keys = subPopulationLabel.getAliases();
-				Predicate<Node> childTypeFinder = makeTypeChildFinder(keys);
+				Predicate<Node> childTypeFinder = makeTypeChildFinder(validation, keys);
 				Predicate<Node> childUuidFinder =
 						makeUuidChildFinder(check, ProblemCode.QUALITY_MEASURE_ID_MISSING_SINGLE_MEASURE_POPULATION,
-								MEASURE_POPULATION);
+								MEASURE_POPULATION, validation);
 
 				Node existingUuidChild = node
 						.getChildNodes(TemplateId.MEASURE_DATA_CMS_V2)
@@ -255,9 +263,9 @@ abstract class QualityMeasureIdValidator extends NodeValidator {
 						.orElse(null);
 
 				if (existingUuidChild == null) {
-					addMeasureConfigurationValidationMessage(check, keys, node);
+					addMeasureConfigurationValidationMessage(check, keys, node, validation);
 				} else {
-					followUpHook(existingUuidChild, sub);
+					followUpHook(existingUuidChild, sub, validation);
 				}
 			}
 		};
@@ -268,8 +276,9 @@ abstract class QualityMeasureIdValidator extends NodeValidator {
 	 *
 	 * @param node a {@link TemplateId#MEASURE_DATA_CMS_V2} node
 	 * @param sub corresponding sub population
+	 * @param validation errors found so far
 	 */
-	protected void followUpHook(Node node, SubPopulation sub){
+	protected void followUpHook(Node node, SubPopulation sub, Validation validation){
 		//Default implementation
 	}
 
@@ -279,24 +288,27 @@ abstract class QualityMeasureIdValidator extends NodeValidator {
 	 * @param check Current SubPopulation to be validated
 	 * @param keys Identifiers for the current measures child
 	 * @param node Contains the current child nodes
+	 * @param validation errors found so far
 	 */
-	protected void addMeasureConfigurationValidationMessage(Supplier<String> check, String[] keys, Node node) {
+	protected void addMeasureConfigurationValidationMessage(Supplier<String> check, String[] keys, Node node,
+			Validation validation) {
 		LocalizedProblem error = ProblemCode.QUALITY_MEASURE_ID_INCORRECT_UUID.format(
 				MeasureConfigHelper.getMeasureConfig(node).getElectronicMeasureId(),
 				String.join(",", keys), check.get());
-		addError(Detail.forProblemAndNode(error, node));
+		validation.addError(Detail.forProblemAndNode(error, node));
 	}
 
 	/**
 	 * Creates a {@link Predicate} which takes a node and tests whether the measure type is equal to the given measure type.
 	 * Also validates that it's the only measure type in the given node.
 	 *
+	 * @param validation errors found so far
 	 * @param populationCriteriaTypes measure type i.e. "DENOM", "NUMER", ...
 	 * @return predicate that filters measure nodes by measure type
 	 */
-	protected Predicate<Node> makeTypeChildFinder(String... populationCriteriaTypes) {
+	protected Predicate<Node> makeTypeChildFinder(Validation validation, String... populationCriteriaTypes) {
 		return thisNode -> {
-			forceCheckErrors(thisNode)
+			validation.forceCheckErrors(thisNode)
 					.incompleteValidation()
 					.singleValue(ProblemCode.QUALITY_MEASURE_ID_MISSING_SINGLE_MEASURE_TYPE, MEASURE_TYPE);
 			return Arrays.asList(populationCriteriaTypes).contains(thisNode.getValue(MEASURE_TYPE));
@@ -309,11 +321,13 @@ abstract class QualityMeasureIdValidator extends NodeValidator {
 	 * @param uuid Supplies a unique id to test against
 	 * @param error Supplies a unique error message and error code to use
 	 * @param name Supplies a node field validate on
+	 * @param validation errors found so far
 	 * @return predicate seeking a matching uuid
 	 */
-	protected Predicate<Node> makeUuidChildFinder(Supplier<String> uuid, LocalizedProblem error, String name) {
+	protected Predicate<Node> makeUuidChildFinder(Supplier<String> uuid, LocalizedProblem error, String name,
+			Validation validation) {
 		return thisNode -> {
-			forceCheckErrors(thisNode)
+			validation.forceCheckErrors(thisNode)
 					.incompleteValidation()
 					.singleValue(error, name);
 			return uuid.get().equalsIgnoreCase(thisNode.getValue(name));
@@ -25,12 +25,12 @@ public class ReportingParametersActValidator extends NodeValidator {
 	 * @param node Node that represents Reporting Parameters.
 	 */
 	@Override
-	protected void performValidation(Node node) {
+	protected void performValidation(Node node, Validation validation) {
 		String performanceStart = node.getValueOrDefault(ReportingParametersActDecoder.PERFORMANCE_START, "");
 
 		String performanceEnd = node.getValueOrDefault(ReportingParametersActDecoder.PERFORMANCE_END,"");
 
-		checkErrors(node)
+		validation.checkErrors(node)
 				.singleValue(ProblemCode.REPORTING_PARAMETERS_MUST_CONTAIN_SINGLE_PERFORMANCE_START,
 						ReportingParametersActDecoder.PERFORMANCE_START)
 				.singleValue(ProblemCode.REPORTING_PARAMETERS_MUST_CONTAIN_SINGLE_PERFORMANCE_END,
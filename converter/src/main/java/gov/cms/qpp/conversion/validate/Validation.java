@@ -0,0 +1,101 @@
+package gov.cms.qpp.conversion.validate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import gov.cms.qpp.conversion.model.Node;
+import gov.cms.qpp.conversion.model.error.Detail;
+
+/**
+ * The errors and warnings found by one call of {@link NodeValidator#validateSingleNode(Node)}, the budget its errors
+ * are reported against, and the values of the node read so far.
+ *
+ * A validation is handed to {@link NodeValidator#performValidation(Node, Validation)} so that the validator itself
+ * keeps no per node state, and may be shared by nodes validated concurrently.
+ */
+public final class Validation {
+
+	private final ErrorBudget budget;
+	private final Appraisal appraisal;
+	private final List<Detail> errors = new ArrayList<>();
+	private final List<Detail> warnings = new ArrayList<>();
+
+	/**
+	 * Starts a validation whose errors are all described in full, for a node whose values have not been read.
+	 */
+	public Validation() {
+		this(null, null);
+	}
+
+	/**
+	 * @param budget the errors already reported for the document, or null
+	 * @param appraisal the values of the node read so far, or null
+	 */
+	Validation(ErrorBudget budget, Appraisal appraisal) {
+		this.budget = budget;
+		this.appraisal = appraisal;
+	}
+
+	/**
+	 * Adds an error {@link Detail}.
+	 *
+	 * @param error The error to add to the list.
+	 */
+	public void addError(Detail error) {
+		errors.add(error);
+	}
+
+	/**
+	 * Adds a warning {@link Detail}.
+	 *
+	 * @param warning The warning to add to the list.
+	 */
+	public void addWarning(Detail warning) {
+		warnings.add(warning);
+	}
+
+	/**
+	 * Used to determine if a error detail has been added.
+	 * @param detail the error to check exists
+	 * @return True if detail is contained in the errors collection
+	 */
+	public boolean containsError(Detail detail) {
+		return errors.contains(detail);
+	}
+
+	public List<Detail> viewErrors() {
+		return Collections.unmodifiableList(errors);
+	}
+
+	public List<Detail> viewWarnings() {
+		return Collections.unmodifiableList(warnings);
+	}
+
+	/**
+	 * Returns a checker for implementations of performValidation(Node, Validation)
+	 * @param node the node for the checker to visit
+	 * @return an instance of Checker for the node and the continuing collection of errors.
+	 */
+	Checker checkErrors(Node node) {
+		return Checker.check(node, errors, budget, appraisal);
+	}
+
+	/**
+	 * Identical use as checkErrors except that the Checker instance is in force mode.
+	 * @param node the node for the checker to visit
+	 * @return an instance of Checker for the node and the continuing collection of errors.
+	 */
+	Checker forceCheckErrors(Node node) {
+		return Checker.forceCheck(node, errors, budget, appraisal);
+	}
+
+	/**
+	 * Returns a checker for implementations of performValidation(Node, Validation)
+	 * @param node the node for the checker to visit
+	 * @return an instance of Checker for the node and the continuing collection of warnings.
+	 */
+	Checker checkWarnings(Node node) {
+		return Checker.check(node, warnings, null, appraisal);
+	}
+}
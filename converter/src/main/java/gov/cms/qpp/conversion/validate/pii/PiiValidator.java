@@ -1,10 +1,10 @@
 package gov.cms.qpp.conversion.validate.pii;
 
 import gov.cms.qpp.conversion.model.Node;
-import gov.cms.qpp.conversion.validate.NodeValidator;
+import gov.cms.qpp.conversion.validate.Validation;
 
 public interface PiiValidator {
 
-	void validateApmTinNpiCombination(Node node, NodeValidator validator);
+	void validateApmTinNpiCombination(Node node, Validation validation);
 
 }
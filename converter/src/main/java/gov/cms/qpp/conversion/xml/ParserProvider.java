@@ -0,0 +1,153 @@
+package gov.cms.qpp.conversion.xml;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.xml.stream.XMLInputFactory;
+
+import org.jdom2.input.SAXBuilder;
+import org.jdom2.located.LocatedJDOMFactory;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * Hands out hardened XML parsers that are reused by the thread they were created for.
+ *
+ * Configuring a {@link SAXBuilder} discovers and configures a JAXP {@code XMLReader}, and creating an
+ * {@link XMLInputFactory} performs a service lookup. Neither is thread safe, so each thread keeps one of each for all
+ * of the documents it parses. Every parser refuses DOCTYPE declarations and external entities.
+ */
+public class ParserProvider {
+	private static final String DISALLOW_DTD = "http://apache.org/xml/features/disallow-doctype-decl";
+	private static final String EXT_GENERAL_ENTITIES = "http://xml.org/sax/features/external-general-entities";
+	private static final String EXT_PARAM_ENTITIES = "http://xml.org/sax/features/external-parameter-entities";
+
+	private static final LongAdder SAX_BUILDERS_CREATED = new LongAdder();
+	private static final LongAdder SAX_BUILDERS_PROVIDED = new LongAdder();
+	private static final LongAdder INPUT_FACTORIES_CREATED = new LongAdder();
+	private static final LongAdder INPUT_FACTORIES_PROVIDED = new LongAdder();
+
+	private static final ThreadLocal<SAXBuilder> SAX_BUILDER = ThreadLocal.withInitial(ParserProvider::newSaxBuilder);
+	private static final ThreadLocal<XMLInputFactory> INPUT_FACTORY =
+			ThreadLocal.withInitial(ParserProvider::newInputFactory);
+
+	/**
+	 * Private constructor so utility class cannot be instantiated.
+	 */
+	private ParserProvider() {
+		//private constructor so utility class cannot be instantiated
+	}
+
+	/**
+	 * Provides the calling thread's {@link SAXBuilder}, which builds located JDom documents.
+	 * The builder must not be reconfigured, nor be shared with other threads.
+	 *
+	 * @return a hardened SAX builder
+	 */
+	public static SAXBuilder saxBuilder() {
+		SAX_BUILDERS_PROVIDED.increment();
+		return SAX_BUILDER.get();
+	}
+
+	/**
+	 * Provides the calling thread's {@link XMLInputFactory}.
+	 * The factory must not be reconfigured, nor be shared with other threads.
+	 *
+	 * @return a hardened StAX input factory
+	 */
+	public static XMLInputFactory inputFactory() {
+		INPUT_FACTORIES_PROVIDED.increment();
+		return INPUT_FACTORY.get();
+	}
+
+	/**
+	 * Reports how parsers have been provided since the application started.
+	 *
+	 * @return parser usage counts
+	 */
+	public static Usage usage() {
+		return new Usage(SAX_BUILDERS_CREATED.sum(), SAX_BUILDERS_PROVIDED.sum(),
+				INPUT_FACTORIES_CREATED.sum(), INPUT_FACTORIES_PROVIDED.sum());
+	}
+
+	private static SAXBuilder newSaxBuilder() {
+		SAXBuilder saxBuilder = new SAXBuilder();
+		saxBuilder.setFeature(DISALLOW_DTD, true);
+		saxBuilder.setFeature(EXT_GENERAL_ENTITIES, false);
+		saxBuilder.setFeature(EXT_PARAM_ENTITIES, false);
+		saxBuilder.setJDOMFactory(new LocatedJDOMFactory());
+		saxBuilder.setReuseParser(true);
+		SAX_BUILDERS_CREATED.increment();
+		return saxBuilder;
+	}
+
+	private static XMLInputFactory newInputFactory() {
+		XMLInputFactory factory = XMLInputFactory.newFactory();
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+		factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+		INPUT_FACTORIES_CREATED.increment();
+		return factory;
+	}
+
+	/**
+	 * A snapshot of how many parsers have been created, and how many times they were handed out.
+	 */
+	public static final class Usage {
+		private final long saxBuildersCreated;
+		private final long saxBuildersProvided;
+		private final long inputFactoriesCreated;
+		private final long inputFactoriesProvided;
+
+		Usage(long saxBuildersCreated, long saxBuildersProvided,
+				long inputFactoriesCreated, long inputFactoriesProvided) {
+			this.saxBuildersCreated = saxBuildersCreated;
+			this.saxBuildersProvided = saxBuildersProvided;
+			this.inputFactoriesCreated = inputFactoriesCreated;
+			this.inputFactoriesProvided = inputFactoriesProvided;
+		}
+
+		/**
+		 * @return number of {@link SAXBuilder}s that were created, at most one per parsing thread
+		 */
+		public long getSaxBuildersCreated() {
+			return saxBuildersCreated;
+		}
+
+		/**
+		 * @return number of times a {@link SAXBuilder} was handed out
+		 */
+		public long getSaxBuildersProvided() {
+			return saxBuildersProvided;
+		}
+
+		/**
+		 * @return number of {@link XMLInputFactory}s that were created, at most one per parsing thread
+		 */
+		public long getInputFactoriesCreated() {
+			return inputFactoriesCreated;
+		}
+
+		/**
+		 * @return number of times an {@link XMLInputFactory} was handed out
+		 */
+		public long getInputFactoriesProvided() {
+			return inputFactoriesProvided;
+		}
+
+		/**
+		 * Creates a readable representation of the usage.
+		 *
+		 * @return A string representation
+		 */
+		@Override
+		public String toString() {
+			return MoreObjects.toStringHelper(this)
+					.add("saxBuildersCreated", saxBuildersCreated)
+					.add("saxBuildersProvided", saxBuildersProvided)
+					.add("inputFactoriesCreated", inputFactoriesCreated)
+					.add("inputFactoriesProvided", inputFactoriesProvided)
+					.toString();
+		}
+	}
+}
@@ -0,0 +1,196 @@
+package gov.cms.qpp.conversion.xml;
+
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.jdom2.Element;
+import org.jdom2.Namespace;
+import org.jdom2.located.LocatedJDOMFactory;
+
+/**
+ * Pull parses a stream of XML into a pruned tree of located JDom elements.
+ *
+ * Only the parts of the document that decoding relies upon are retained:
+ * <ul>
+ *     <li>elements whose local name is one of the retained names, along with their attributes</li>
+ *     <li>the ancestors of every {@code templateId} element</li>
+ *     <li>the full content (including text) of elements whose local name is one of the value names</li>
+ * </ul>
+ * Every other element is hollowed out once its end tag is read. A hollowed element keeps its name and namespace
+ * so that positional (absolute) xpaths computed against the pruned tree match those of the fully parsed document,
+ * but its attributes, text and descendants are discarded. Narrative blocks and other unreferenced content are
+ * therefore never held in memory as a whole.
+ */
+public class StreamingElementReader {
+	private static final String TEMPLATE_ID = "templateId";
+	private static final LocatedJDOMFactory FACTORY = new LocatedJDOMFactory();
+
+	private final Set<String> retainedNames;
+	private final Set<String> valueNames;
+
+	/**
+	 * Creates a reader that will retain the given element names.
+	 *
+	 * @param retainedNames local names of elements whose attributes must be kept
+	 * @param valueNames local names of elements whose textual content must be kept
+	 */
+	public StreamingElementReader(Set<String> retainedNames, Set<String> valueNames) {
+		this.retainedNames = new HashSet<>(retainedNames);
+		this.retainedNames.add(TEMPLATE_ID);
+		this.valueNames = new HashSet<>(valueNames);
+	}
+
+	/**
+	 * Reads a stream of XML into a pruned tree of XML elements.
+	 *
+	 * @param xmlStream The XML.
+	 * @return The root element of the pruned XML tree.
+	 * @throws XmlException When a failure to parse the XML.
+	 */
+	public Element read(InputStream xmlStream) {
+		XMLStreamReader reader = null;
+		try {
+			reader = ParserProvider.inputFactory().createXMLStreamReader(xmlStream);
+			return read(reader);
+		} catch (XMLStreamException e) {
+			throw new XmlException("Failed to process XML stream into DOM Element", e);
+		} finally {
+			close(reader);
+		}
+	}
+
+	/**
+	 * Walks the events of the given reader, assembling the pruned tree.
+	 *
+	 * @param reader positioned at the start of the document
+	 * @return The root element of the pruned XML tree.
+	 * @throws XMLStreamException When a failure to parse the XML.
+	 */
+	private Element read(XMLStreamReader reader) throws XMLStreamException {
+		Deque<Frame> open = new ArrayDeque<>();
+		Element root = null;
+
+		while (reader.hasNext()) {
+			int event = reader.next();
+			switch (event) {
+				case XMLStreamConstants.START_ELEMENT:
+					Frame parent = open.peek();
+					Frame frame = startElement(reader, parent);
+					if (parent == null) {
+						root = frame.element;
+						FACTORY.document(root);
+					} else {
+						parent.element.addContent(frame.element);
+					}
+					open.push(frame);
+					break;
+				case XMLStreamConstants.END_ELEMENT:
+					endElement(open.pop(), open.peek());
+					break;
+				case XMLStreamConstants.CHARACTERS:
+				case XMLStreamConstants.CDATA:
+				case XMLStreamConstants.SPACE:
+					Frame current = open.peek();
+					if (current != null && current.value) {
+						Location location = reader.getLocation();
+						current.element.addContent(
+								FACTORY.text(location.getLineNumber(), location.getColumnNumber(), reader.getText()));
+					}
+					break;
+				case XMLStreamConstants.DTD:
+					throw new XMLStreamException("DOCTYPE is disallowed", reader.getLocation());
+				default:
+					break;
+			}
+		}
+
+		if (root == null) {
+			throw new XMLStreamException("Document contains no root element");
+		}
+		return root;
+	}
+
+	/**
+	 * Creates the located element for the current start tag.
+	 *
+	 * @param reader positioned on a start tag
+	 * @param parent frame of the enclosing element, or null for the root
+	 * @return frame describing the new element
+	 */
+	private Frame startElement(XMLStreamReader reader, Frame parent) {
+		Location location = reader.getLocation();
+		String name = reader.getLocalName();
+		Element element = FACTORY.element(location.getLineNumber(), location.getColumnNumber(), name,
+				Namespace.getNamespace(nullToEmpty(reader.getPrefix()), nullToEmpty(reader.getNamespaceURI())));
+
+		Frame frame = new Frame(element);
+		frame.retained = retainedNames.contains(name);
+		frame.value = (parent != null && parent.value) || valueNames.contains(name);
+
+		if (frame.retained || frame.value) {
+			for (int i = 0; i < reader.getNamespaceCount(); i++) {
+				element.addNamespaceDeclaration(Namespace.getNamespace(
+						nullToEmpty(reader.getNamespacePrefix(i)), nullToEmpty(reader.getNamespaceURI(i))));
+			}
+			for (int i = 0; i < reader.getAttributeCount(); i++) {
+				element.setAttribute(FACTORY.attribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i),
+						Namespace.getNamespace(nullToEmpty(reader.getAttributePrefix(i)),
+								nullToEmpty(reader.getAttributeNamespace(i)))));
+			}
+		}
+		return frame;
+	}
+
+	/**
+	 * Hollows out the closed element when nothing within it is needed and lets the enclosing element know
+	 * whether a {@code templateId} was found beneath it.
+	 *
+	 * @param closed frame of the element whose end tag was read
+	 * @param parent frame of the enclosing element, or null for the root
+	 */
+	private void endElement(Frame closed, Frame parent) {
+		boolean containsTemplate = closed.containsTemplate || TEMPLATE_ID.equals(closed.element.getName());
+		if (!closed.retained && !closed.value && !closed.containsTemplate) {
+			closed.element.removeContent();
+		}
+		if (parent != null && containsTemplate) {
+			parent.containsTemplate = true;
+		}
+	}
+
+	private static void close(XMLStreamReader reader) {
+		if (reader != null) {
+			try {
+				reader.close();
+			} catch (XMLStreamException ignored) {
+				// the underlying stream belongs to the caller
+			}
+		}
+	}
+
+	private static String nullToEmpty(String value) {
+		return value == null ? "" : value;
+	}
+
+	/**
+	 * Book keeping for an element whose end tag has not yet been read.
+	 */
+	private static final class Frame {
+		private final Element element;
+		private boolean retained;
+		private boolean value;
+		private boolean containsTemplate;
+
+		private Frame(Element element) {
+			this.element = element;
+		}
+	}
+}
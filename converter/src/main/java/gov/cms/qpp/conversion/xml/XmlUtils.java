@@ -9,17 +9,11 @@ import java.util.stream.Collectors;
 
 import org.jdom2.Element;
 import org.jdom2.JDOMException;
-import org.jdom2.input.SAXBuilder;
-import org.jdom2.located.LocatedJDOMFactory;
 
 /**
  * Utility for parsing various input types into a JDom Element.
  */
 public class XmlUtils {
-	private static final String DISALLOW_DTD = "http://apache.org/xml/features/disallow-doctype-decl";
-	private static final String EXT_GENERAL_ENTITIES = "http://xml.org/sax/features/external-general-entities";
-	private static final String EXT_PARAM_ENTITIES = "http://xml.org/sax/features/external-parameter-entities";
-
 	/**
 	 * Private constructor so utility class cannot be instantiated.
 	 */
@@ -43,7 +37,7 @@ public class XmlUtils {
 	}
 
 	/**
-	 * Parses a stream of XML into a tree of XML elements.
+	 * Parses a stream of XML into a tree of XML elements, with the calling thread's {@link ParserProvider#saxBuilder()}.
 	 *
 	 * @param xmlStream The XML.
 	 * @return The root element of the XML tree.
@@ -51,13 +45,7 @@ public class XmlUtils {
 	 */
 	public static Element parseXmlStream(InputStream xmlStream) {
 		try {
-			SAXBuilder saxBuilder = new SAXBuilder();
-			saxBuilder.setFeature(DISALLOW_DTD,true);
-			saxBuilder.setFeature(EXT_GENERAL_ENTITIES, false);
-			saxBuilder.setFeature(EXT_PARAM_ENTITIES, false);
-			saxBuilder.setJDOMFactory(new LocatedJDOMFactory());
-
-			return saxBuilder.build(xmlStream).getRootElement();
+			return ParserProvider.saxBuilder().build(xmlStream).getRootElement();
 		} catch (JDOMException | IOException e) {
 			throw new XmlException("Failed to process XML String into DOM Element", e);
 		}
@@ -20,6 +20,7 @@ import gov.cms.qpp.TestHelper;
 import gov.cms.qpp.conversion.Context;
 import gov.cms.qpp.conversion.decode.QrdaDecoderEngine;
 import gov.cms.qpp.conversion.decode.XmlDecoderEngine;
+import gov.cms.qpp.conversion.encode.EncodeReport;
 import gov.cms.qpp.conversion.encode.QppOutputEncoder;
 import gov.cms.qpp.conversion.model.Node;
 import gov.cms.qpp.conversion.model.TemplateId;
@@ -44,10 +45,9 @@ class ClinicalDocumentRoundTripTest {
 		// remove default nodes (will fail if defaults change)
 
 		QppOutputEncoder encoder = new QppOutputEncoder(context);
-		encoder.setNodes(Collections.singletonList(clinicalDocumentNode));
 
 		StringWriter sw = new StringWriter();
-		encoder.encode(new BufferedWriter(sw), true);
+		encoder.encode(Collections.singletonList(clinicalDocumentNode), new BufferedWriter(sw), true, new EncodeReport());
 		JsonNode actual = reader.readTree(sw.toString());
 
 		assertThat(actual).isEqualTo(expected);
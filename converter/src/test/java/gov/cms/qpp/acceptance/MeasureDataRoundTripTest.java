@@ -17,6 +17,7 @@ import org.junit.jupiter.api.BeforeAll;
 import gov.cms.qpp.TestHelper;
 import gov.cms.qpp.conversion.Context;
 import gov.cms.qpp.conversion.encode.EncodeException;
+import gov.cms.qpp.conversion.encode.EncodeReport;
 import gov.cms.qpp.conversion.encode.QppOutputEncoder;
 import gov.cms.qpp.conversion.model.Node;
 import gov.cms.qpp.conversion.model.TemplateId;
@@ -63,10 +64,9 @@ class MeasureDataRoundTripTest {
 		QppOutputEncoder encoder = new QppOutputEncoder(new Context());
 		List<Node> nodes = new ArrayList<>();
 		nodes.add(placeholder);
-		encoder.setNodes(nodes);
 
 		StringWriter sw = new StringWriter();
-		encoder.encode(new BufferedWriter(sw), true);
+		encoder.encode(nodes, new BufferedWriter(sw), true, new EncodeReport());
 		return sw;
 	}
 }
@@ -0,0 +1,73 @@
+package gov.cms.qpp.acceptance;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import gov.cms.qpp.conversion.Context;
+import gov.cms.qpp.conversion.decode.XmlDecoderEngine;
+import gov.cms.qpp.conversion.model.Node;
+import gov.cms.qpp.conversion.model.error.ValidationResult;
+import gov.cms.qpp.conversion.validate.QrdaValidator;
+import gov.cms.qpp.conversion.xml.XmlUtils;
+
+class ParallelValidationTest {
+
+	@ParameterizedTest
+	@ValueSource(strings = {"../qrda-files/valid-QRDA-III-latest.xml",
+			"../sample-files/2019/ComprehensivePrimaryCareSampleQRDA-III_SDE.xml",
+			"../sample-files/2019/CMS22v7InvalidPopulationUuids.xml",
+			"src/test/resources/negative/tooManyErrors.xml",
+			"src/test/resources/negative/angerMeasureDataValidations.xml",
+			"src/test/resources/negative/mipsInvalidPerformanceRateUuid.xml",
+			"src/test/resources/negative/wrongSubPopulationsMeasure135.xml"})
+	void testParallelValidationMatchesSequentialValidation(String file) throws IOException {
+		ValidationResult sequential = validate(file, false);
+		ValidationResult parallel = validate(file, true);
+
+		assertThat(parallel.getErrors()).containsExactlyElementsIn(sequential.getErrors()).inOrder();
+		assertThat(parallel.getWarnings()).containsExactlyElementsIn(sequential.getWarnings()).inOrder();
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {0, 3, 40})
+	void testParallelValidationSpendsErrorBudgetInOrder(int errorBudget) throws IOException {
+		String file = "src/test/resources/negative/tooManyErrors.xml";
+		ValidationResult sequential = validate(file, false, errorBudget);
+		ValidationResult parallel = validate(file, true, errorBudget);
+
+		assertThat(parallel.getErrors()).hasSize(errorBudget);
+		assertThat(parallel.getErrors()).containsExactlyElementsIn(sequential.getErrors()).inOrder();
+		assertThat(parallel.getErrorCount()).isEqualTo(sequential.getErrorCount());
+		assertThat(parallel.getSuppressedErrorCounts())
+				.containsExactlyEntriesIn(sequential.getSuppressedErrorCounts()).inOrder();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"src/test/resources/negative/tooManyErrors.xml",
+			"src/test/resources/negative/wrongSubPopulationsMeasure135.xml"})
+	void testParallelValidationFindsMeasureErrors(String file) throws IOException {
+		assertThat(validate(file, true).getErrors()).isNotEmpty();
+	}
+
+	private static ValidationResult validate(String file, boolean parallel) throws IOException {
+		return validate(file, parallel, Context.DEFAULT_ERROR_BUDGET);
+	}
+
+	private static ValidationResult validate(String file, boolean parallel, int errorBudget) throws IOException {
+		Context context = new Context();
+		context.setParallelValidation(parallel);
+		context.setErrorBudget(errorBudget);
+		Node decoded;
+		try (InputStream in = Files.newInputStream(Paths.get(file))) {
+			decoded = XmlDecoderEngine.decodeXml(context, XmlUtils.parseXmlStream(in));
+		}
+		return new QrdaValidator(context).validate(decoded);
+	}
+}
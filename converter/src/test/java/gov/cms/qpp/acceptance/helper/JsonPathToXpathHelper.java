@@ -20,6 +20,7 @@ import gov.cms.qpp.conversion.Context;
 import gov.cms.qpp.conversion.Converter;
 import gov.cms.qpp.conversion.PathSource;
 import gov.cms.qpp.conversion.correlation.PathCorrelator;
+import gov.cms.qpp.conversion.encode.EncodeReport;
 import gov.cms.qpp.conversion.encode.JsonWrapper;
 import gov.cms.qpp.conversion.encode.QppOutputEncoder;
 import gov.cms.qpp.conversion.xml.XmlException;
@@ -49,7 +50,7 @@ public class JsonPathToXpathHelper {
 		Converter converter = new Converter(new PathSource(inPath), context);
 		converter.transform();
 		QppOutputEncoder encoder = new QppOutputEncoder(context);
-		encoder.encode(wrapper, converter.getReport().getDecoded());
+		encoder.encode(wrapper, converter.getReport().getDecoded(), new EncodeReport());
 	}
 
 	public void executeElementTest(String jsonPath, String xmlElementName)
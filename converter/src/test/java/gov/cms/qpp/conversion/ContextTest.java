@@ -3,6 +3,8 @@ package gov.cms.qpp.conversion;
 import gov.cms.qpp.conversion.model.Decoder;
 import gov.cms.qpp.conversion.model.Program;
 
+import java.util.concurrent.Executor;
+
 import org.junit.jupiter.api.Test;
 
 import static com.google.common.truth.Truth.assertThat;
@@ -33,6 +35,61 @@ class ContextTest {
 		assertThat(context.isHistorical()).isTrue();
 	}
 
+	@Test
+	void testIsNotStrictExtensionByDefault() {
+		assertThat(new Context().isStrictExtension()).isFalse();
+	}
+
+	@Test
+	void testStrictExtensionIsCapturedOnCreation() {
+		System.setProperty(Context.STRICT_EXTENSION, "yep");
+		Context context;
+		try {
+			context = new Context();
+		} finally {
+			System.clearProperty(Context.STRICT_EXTENSION);
+		}
+		assertThat(context.isStrictExtension()).isTrue();
+	}
+
+	@Test
+	void testIsStrictExtensionSetter() {
+		Context context = new Context();
+		context.setStrictExtension(true);
+		assertThat(context.isStrictExtension()).isTrue();
+	}
+
+	@Test
+	void testIsNotParallelDecodeByDefault() {
+		Context context = new Context();
+		assertThat(context.isParallelDecode()).isFalse();
+		assertThat(context.getParallelDecodeThreshold()).isEqualTo(Context.DEFAULT_PARALLEL_DECODE_THRESHOLD);
+	}
+
+	@Test
+	void testParallelDecodeSetters() {
+		Context context = new Context();
+		context.setParallelDecode(true);
+		context.setParallelDecodeThreshold(5);
+		assertThat(context.isParallelDecode()).isTrue();
+		assertThat(context.getParallelDecodeThreshold()).isEqualTo(5);
+	}
+
+	@Test
+	void testDecodeExecutorIsCreatedOnce() {
+		Context context = new Context();
+		assertThat(context.getDecodeExecutor()).isNotNull();
+		assertThat(context.getDecodeExecutor()).isSameInstanceAs(context.getDecodeExecutor());
+	}
+
+	@Test
+	void testDecodeExecutorSetter() {
+		Context context = new Context();
+		Executor executor = Runnable::run;
+		context.setDecodeExecutor(executor);
+		assertThat(context.getDecodeExecutor()).isSameInstanceAs(executor);
+	}
+
 	@Test
 	void testProgramIsAllByDefault() {
 		assertThat(new Context().getProgram())
@@ -0,0 +1,154 @@
+package gov.cms.qpp.conversion;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import gov.cms.qpp.conversion.decode.QrdaDecoder;
+import gov.cms.qpp.conversion.model.ComponentKey;
+import gov.cms.qpp.conversion.model.Decoder;
+import gov.cms.qpp.conversion.model.Encoder;
+import gov.cms.qpp.conversion.model.Program;
+import gov.cms.qpp.conversion.model.Registry;
+import gov.cms.qpp.conversion.model.TemplateId;
+import gov.cms.qpp.conversion.model.Validator;
+import gov.cms.qpp.conversion.stubs.JennyDecoder;
+import gov.cms.qpp.conversion.validate.NodeValidator;
+import gov.cms.qpp.conversion.validate.pii.PiiValidator;
+
+class ConversionEngineTest {
+
+	private static final Path VALID_QRDA = Paths.get("../qrda-files/valid-QRDA-III-latest.xml");
+
+	@Test
+	void testContextsCopyConfiguration() {
+		PiiValidator piiValidator = (node, validator) -> { };
+		Context configuration = new Context();
+		configuration.setHistorical(true);
+		configuration.setDoValidation(false);
+		configuration.setStreamingDecode(true);
+		configuration.setParallelDecode(true);
+		configuration.setParallelDecodeThreshold(3);
+		configuration.setStrictExtension(true);
+		configuration.setInternDecodedValues(true);
+		configuration.setParallelValidation(true);
+		configuration.setErrorBudget(7);
+		configuration.setPiiValidator(piiValidator);
+		configuration.setProgram(Program.CPC);
+
+		Context context = new ConversionEngine(configuration).newContext();
+
+		assertThat(context.isHistorical()).isTrue();
+		assertThat(context.isDoValidation()).isFalse();
+		assertThat(context.isStreamingDecode()).isTrue();
+		assertThat(context.isParallelDecode()).isTrue();
+		assertThat(context.getParallelDecodeThreshold()).isEqualTo(3);
+		assertThat(context.isStrictExtension()).isTrue();
+		assertThat(context.isInternDecodedValues()).isTrue();
+		assertThat(context.isParallelValidation()).isTrue();
+		assertThat(context.getErrorBudget()).isEqualTo(7);
+		assertThat(context.getPiiValidator()).isSameInstanceAs(piiValidator);
+		assertThat(context.getProgram()).isEqualTo(Program.ALL);
+	}
+
+	@Test
+	void testContextsShareTheDecodeExecutor() {
+		Context configuration = new Context();
+		configuration.setParallelDecode(true);
+		ConversionEngine engine = new ConversionEngine(configuration);
+
+		assertThat(engine.newContext().getDecodeExecutor()).isSameInstanceAs(engine.newContext().getDecodeExecutor());
+	}
+
+	@Test
+	void testEngineIgnoresLaterConfigurationChanges() {
+		Context configuration = new Context();
+		ConversionEngine engine = new ConversionEngine(configuration);
+
+		configuration.setHistorical(true);
+		configuration.getRegistry(Decoder.class).register(
+				new ComponentKey(TemplateId.PLACEHOLDER, Program.ALL), JennyDecoder.class);
+
+		Context context = engine.newContext();
+		assertThat(context.isHistorical()).isFalse();
+		assertThat(context.getRegistry(Decoder.class).get(TemplateId.PLACEHOLDER)).isNull();
+	}
+
+	@Test
+	void testContextsInheritRegisteredHandlers() {
+		Context configuration = new Context();
+		configuration.getRegistry(Decoder.class).register(
+				new ComponentKey(TemplateId.PLACEHOLDER, Program.ALL), JennyDecoder.class);
+
+		Context context = new ConversionEngine(configuration).newContext();
+
+		assertThat(context.getRegistry(Decoder.class).get(TemplateId.PLACEHOLDER)).isInstanceOf(JennyDecoder.class);
+		assertThat(context.getRegistry(Decoder.class).get(TemplateId.CLINICAL_DOCUMENT)).isNotNull();
+	}
+
+	@Test
+	void testHandlersRegisteredOnContextStayWithContext() {
+		ConversionEngine engine = new ConversionEngine();
+		Context overridden = engine.newContext();
+		overridden.getRegistry(Decoder.class).register(
+				new ComponentKey(TemplateId.PLACEHOLDER, Program.ALL), JennyDecoder.class);
+
+		assertThat(overridden.getRegistry(Decoder.class).get(TemplateId.PLACEHOLDER)).isInstanceOf(JennyDecoder.class);
+		assertThat(engine.newContext().getRegistry(Decoder.class).get(TemplateId.PLACEHOLDER)).isNull();
+	}
+
+	@Test
+	void testContextsHaveTheirOwnHandlers() {
+		ConversionEngine engine = new ConversionEngine();
+		Context first = engine.newContext();
+		Context second = engine.newContext();
+
+		Registry<QrdaDecoder> firstDecoders = first.getRegistry(Decoder.class);
+		Registry<QrdaDecoder> secondDecoders = second.getRegistry(Decoder.class);
+
+		assertThat(secondDecoders.get(TemplateId.CLINICAL_DOCUMENT))
+				.isNotSameInstanceAs(firstDecoders.get(TemplateId.CLINICAL_DOCUMENT));
+		assertThat(first.getRegistry(Encoder.class).size()).isEqualTo(new Context().getRegistry(Encoder.class).size());
+		assertThat(first.getRegistry(Validator.class).size())
+				.isEqualTo(new Context().getRegistry(Validator.class).size());
+	}
+
+	@Test
+	void testContextsShareHandlersNotConstructedWithContext() {
+		ConversionEngine engine = new ConversionEngine();
+		Registry<NodeValidator> firstValidators = engine.newContext().getRegistry(Validator.class);
+		Registry<NodeValidator> secondValidators = engine.newContext().getRegistry(Validator.class);
+
+		assertThat(secondValidators.get(TemplateId.CLINICAL_DOCUMENT))
+				.isSameInstanceAs(firstValidators.get(TemplateId.CLINICAL_DOCUMENT));
+	}
+
+	@Test
+	void testConcurrentConversionsMatchIndependentConversion() throws Exception {
+		String expected = new Converter(new PathSource(VALID_QRDA)).transform().toString();
+		ConversionEngine engine = new ConversionEngine();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Callable<String>> conversions = IntStream.range(0, 16)
+					.mapToObj(index -> (Callable<String>) () ->
+							engine.newConverter(new PathSource(VALID_QRDA)).transform().toString())
+					.collect(Collectors.toList());
+
+			for (Future<String> conversion : executor.invokeAll(conversions)) {
+				assertThat(conversion.get()).isEqualTo(expected);
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
@@ -28,6 +28,7 @@ import gov.cms.qpp.conversion.model.error.ProblemCode;
 import gov.cms.qpp.conversion.model.error.FormattedProblemCode;
 import gov.cms.qpp.conversion.model.error.LocalizedProblem;
 import gov.cms.qpp.conversion.model.error.TransformException;
+import gov.cms.qpp.conversion.model.error.ValidationResult;
 import gov.cms.qpp.conversion.model.error.correspondence.DetailsErrorEquals;
 import gov.cms.qpp.conversion.stubs.JennyDecoder;
 import gov.cms.qpp.conversion.stubs.TestDefaultValidator;
@@ -44,6 +45,7 @@ import java.util.List;
 import static com.google.common.truth.Truth.assertThat;
 import static com.google.common.truth.Truth.assertWithMessage;
 import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
 import static org.powermock.api.mockito.PowerMockito.doThrow;
 import static org.powermock.api.mockito.PowerMockito.mock;
 import static org.powermock.api.mockito.PowerMockito.when;
@@ -128,7 +130,7 @@ public class ConverterTest {
 		QppOutputEncoder encoder = mock(QppOutputEncoder.class);
 		whenNew(QppOutputEncoder.class).withAnyArguments().thenReturn(encoder);
 		EncodeException ex = new EncodeException("mocked", new RuntimeException());
-		doThrow(ex).when(encoder).encode();
+		doThrow(ex).when(encoder).encode(any(), any());
 
 		Path path = Paths.get(EXCEPT_FILE);
 		Converter converter = new Converter(new PathSource(path));
@@ -195,6 +197,33 @@ public class ConverterTest {
 		}
 	}
 
+	@Test
+	public void testStreamingDecodeMatchesDocumentDecode() {
+		Path path = Paths.get(VALID_FILE);
+		Converter converter = new Converter(new PathSource(path));
+		Converter streaming = new Converter(new PathSource(path));
+		streaming.getContext().setStreamingDecode(true);
+
+		JsonWrapper expected = converter.transform();
+		JsonWrapper actual = streaming.transform();
+
+		assertThat(actual.toString()).isEqualTo(expected.toString());
+	}
+
+	@Test
+	public void testStreamingDecodeOfNonQrdaFile() {
+		Converter converter = new Converter(new PathSource(Paths.get(INVALID_QRDA)));
+		converter.getContext().setStreamingDecode(true);
+		converter.getContext().setDoValidation(false);
+
+		try {
+			converter.transform();
+			fail("The converter should not create valid QPP JSON");
+		} catch (TransformException exception) {
+			checkup(exception, ProblemCode.NOT_VALID_QRDA_DOCUMENT.format(Context.REPORTING_YEAR, DocumentationReference.CLINICAL_DOCUMENT));
+		}
+	}
+
 	@Test
 	public void testSkipDefaults() {
 		Converter converter = new Converter(new PathSource(Paths.get("src/test/resources/converter/defaultedNode.xml")));
@@ -213,7 +242,7 @@ public class ConverterTest {
 		field.setAccessible(true);
 		field.set(converter, new Node());
 		JsonOutputEncoder mockEncoder = Mockito.mock(JsonOutputEncoder.class);
-		Mockito.when(mockEncoder.encode()).thenThrow(EncodeException.class);
+		Mockito.when(mockEncoder.encode(any(), any())).thenThrow(EncodeException.class);
 		Mockito.when(converter.getEncoder()).thenReturn(mockEncoder);
 		Method encode = Converter.class.getDeclaredMethod("encode");
 		encode.setAccessible(true);
@@ -237,7 +266,7 @@ public class ConverterTest {
 
 	@Test
 	public void testTooManyErrorsInQrdaIIIFile() {
-		LocalizedProblem expectedError = ProblemCode.TOO_MANY_ERRORS.format(108);
+		LocalizedProblem expectedError = ProblemCode.TOO_MANY_ERRORS.format(100, 108);
 
 		Path path = Paths.get(TOO_MANY_ERRORS);
 		Converter converter = new Converter(new PathSource(path));
@@ -251,10 +280,79 @@ public class ConverterTest {
 				.that(errors.get(0).getDetails())
 				.comparingElementsUsing(DetailsErrorEquals.INSTANCE)
 				.contains(expectedError);
+			Truth.assertThat(errors.get(0).getDetails()).hasSize(101);
+			Truth.assertThat(exception.getConversionReport().isValidationCutShort()).isTrue();
 		}
 
 	}
 
+	@Test
+	public void testErrorBudgetCutsValidationShort() {
+		Context context = new Context();
+		context.setErrorBudget(5);
+		Converter converter = new Converter(new PathSource(Paths.get(TOO_MANY_ERRORS)), context);
+
+		TransformException exception = Assertions.assertThrows(TransformException.class, converter::transform);
+		ConversionReport report = exception.getConversionReport();
+		List<Detail> details = report.getReportDetails().getErrors().get(0).getDetails();
+
+		Truth.assertThat(details).hasSize(6);
+		Truth.assertThat(details.get(5).getMessage())
+			.isEqualTo(ProblemCode.TOO_MANY_ERRORS.format(5, 108).getMessage());
+		Truth.assertThat(report.isValidationCutShort()).isTrue();
+		Truth.assertThat(report.getSuppressedErrorCounts().values().stream().mapToInt(Integer::intValue).sum())
+			.isEqualTo(103);
+	}
+
+	@Test
+	public void testValidFileIsNotCutShort() {
+		Converter converter = new Converter(new PathSource(Paths.get(VALID_FILE)));
+		converter.transform();
+
+		Truth.assertThat(converter.getReport().isValidationCutShort()).isFalse();
+		Truth.assertThat(converter.getReport().getSuppressedErrorCounts()).isEmpty();
+	}
+
+	@Test
+	public void testValidateOnlyValidFile() {
+		Converter converter = new Converter(new PathSource(Paths.get(VALID_FILE)));
+		ValidationResult result = converter.validate();
+
+		Truth.assertThat(result.getErrors()).isEmpty();
+		Truth.assertThat(result.isCutShort()).isFalse();
+	}
+
+	@Test
+	public void testValidateOnlyInvalidXml() {
+		Converter converter = new Converter(new PathSource(Paths.get(INVALID_XML)));
+		ValidationResult result = converter.validate();
+
+		Truth.assertThat(result.getErrors())
+				.comparingElementsUsing(DetailsErrorEquals.INSTANCE)
+				.containsExactly(ProblemCode.NOT_VALID_XML_DOCUMENT);
+	}
+
+	@Test
+	public void testValidateOnlyValidatesRegardlessOfContext() {
+		Converter converter = new Converter(new PathSource(Paths.get(TOO_MANY_ERRORS)));
+		converter.getContext().setDoValidation(false);
+		ValidationResult result = converter.validate();
+
+		Truth.assertThat(result.getErrors()).isNotEmpty();
+	}
+
+	@Test
+	public void testValidateOnlyCountsErrorsBeyondTheBudget() {
+		Context context = new Context();
+		context.setErrorBudget(5);
+		Converter converter = new Converter(new PathSource(Paths.get(TOO_MANY_ERRORS)), context);
+		ValidationResult result = converter.validate();
+
+		Truth.assertThat(result.isCutShort()).isTrue();
+		Truth.assertThat(result.getErrors()).hasSize(6);
+		Truth.assertThat(result.getErrorCount()).isEqualTo(108);
+	}
+
 	private void checkup(TransformException exception, LocalizedProblem error) {
 		AllErrors allErrors = exception.getDetails();
 		List<Error> errors = allErrors.getErrors();
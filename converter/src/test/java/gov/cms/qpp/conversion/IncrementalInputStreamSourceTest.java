@@ -0,0 +1,78 @@
+package gov.cms.qpp.conversion;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+
+import gov.cms.qpp.conversion.encode.JsonWrapper;
+import gov.cms.qpp.conversion.model.error.TransformException;
+import gov.cms.qpp.test.io.SlowClientInputStream;
+
+class IncrementalInputStreamSourceTest extends SourceTestSuite {
+
+	private static final String CONTENT = "Moof";
+	private static final Path VALID_QRDA = Paths.get("src/test/resources/valid-QRDA-III-abridged.xml");
+
+	IncrementalInputStreamSourceTest() {
+		super("DogCow name", new IncrementalInputStreamSource("DogCow name", stream(CONTENT), null));
+	}
+
+	private static ByteArrayInputStream stream(String content) {
+		return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void testInputStream() throws IOException {
+		assertThat(IOUtils.toString(source.toInputStream(), StandardCharsets.UTF_8)).isEqualTo(CONTENT);
+		assertThat(IOUtils.toString(source.toInputStream(), StandardCharsets.UTF_8)).isEqualTo(CONTENT);
+	}
+
+	@Test
+	void testSize() {
+		assertThat(source.getSize()).isEqualTo(CONTENT.length());
+	}
+
+	@Test
+	void testPurpose() {
+		Source withPurpose = new IncrementalInputStreamSource("DogCow name", stream(CONTENT), "Test");
+		assertThat(withPurpose.getPurpose()).isEqualTo("Test");
+		assertThat(source.getPurpose()).isNull();
+	}
+
+	@Test
+	void testConversionBeginsBeforeTheUploadCompletes() {
+		String document = "<notAClinicalDocument>"
+				+ String.join("", Collections.nCopies(100_000, "<moof/>"))
+				+ "</notAClinicalDocument>";
+		SlowClientInputStream client = new SlowClientInputStream(document.getBytes(StandardCharsets.UTF_8), 1024,
+				1, TimeUnit.MILLISECONDS);
+
+		Converter converter = new Converter(new IncrementalInputStreamSource("slow", client, null));
+
+		assertThrows(TransformException.class, converter::transform);
+		assertThat(client.isComplete()).isFalse();
+	}
+
+	@Test
+	void testSlowUploadConvertsAsTheFileWould() throws IOException {
+		SlowClientInputStream client = new SlowClientInputStream(Files.readAllBytes(VALID_QRDA), 4096,
+				1, TimeUnit.MILLISECONDS);
+
+		JsonWrapper expected = new Converter(new PathSource(VALID_QRDA)).transform();
+		JsonWrapper actual = new Converter(new IncrementalInputStreamSource("slow", client, null)).transform();
+
+		assertThat(actual.toString()).isEqualTo(expected.toString());
+		assertThat(client.isComplete()).isTrue();
+	}
+}
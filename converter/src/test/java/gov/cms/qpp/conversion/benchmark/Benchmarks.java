@@ -0,0 +1,58 @@
+package gov.cms.qpp.conversion.benchmark;
+
+import java.io.File;
+import java.util.Collection;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Runs JMH benchmarks from JUnit. Results are written as json to {@code target/benchmarks}.
+ *
+ * Run with {@code mvn test -P benchmark}.
+ */
+public class Benchmarks {
+	private static final String RESULTS_DIR = "target/benchmarks";
+
+	private Benchmarks() {}
+
+	/**
+	 * Run every benchmark method of the given class.
+	 *
+	 * @param benchmark class declaring JMH benchmark methods
+	 * @return results for each benchmark method
+	 * @throws RunnerException when JMH can not run the benchmarks
+	 */
+	public static Collection<RunResult> run(Class<?> benchmark) throws RunnerException {
+		return run(benchmark, new OptionsBuilder());
+	}
+
+	/**
+	 * Run every benchmark method of the given class with additional options, e.g. profilers.
+	 *
+	 * @param benchmark class declaring JMH benchmark methods
+	 * @param options additional options
+	 * @return results for each benchmark method
+	 * @throws RunnerException when JMH can not run the benchmarks
+	 */
+	public static Collection<RunResult> run(Class<?> benchmark, ChainedOptionsBuilder options)
+			throws RunnerException {
+		new File(RESULTS_DIR).mkdirs();
+		return new Runner(options
+				.include(benchmark.getName().replace("$", "\\$") + "\\.")
+				.forks(1)
+				.warmupIterations(3)
+				.warmupTime(TimeValue.seconds(1))
+				.measurementIterations(5)
+				.measurementTime(TimeValue.seconds(1))
+				.resultFormat(ResultFormatType.JSON)
+				.result(RESULTS_DIR + "/" + benchmark.getSimpleName() + ".json")
+				.build())
+				.run();
+	}
+}
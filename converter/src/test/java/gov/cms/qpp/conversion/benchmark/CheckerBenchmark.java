@@ -0,0 +1,94 @@
+package gov.cms.qpp.conversion.benchmark;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+import org.jdom2.Element;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import gov.cms.qpp.conversion.Context;
+import gov.cms.qpp.conversion.decode.XmlDecoderEngine;
+import gov.cms.qpp.conversion.model.Node;
+import gov.cms.qpp.conversion.model.Registry;
+import gov.cms.qpp.conversion.model.Validator;
+import gov.cms.qpp.conversion.model.error.ValidationResult;
+import gov.cms.qpp.conversion.validate.NodeValidator;
+import gov.cms.qpp.conversion.validate.QrdaValidator;
+import gov.cms.qpp.conversion.xml.XmlUtils;
+import gov.cms.qpp.test.annotations.BenchmarkTest;
+
+/**
+ * Reports the time taken by the validators' checks on the largest samples, with the validators of each node reading
+ * its values through one shared appraisal, and with each validator reading them for itself. Validation marks the
+ * nodes it validates, so each one is validated freshly decoded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CheckerBenchmark {
+
+	@Param({"../sample-files/2019/ComprehensivePrimaryCareSampleQRDA-III_SDE.xml",
+			"../sample-files/2019/valid-mips-sample-file.xml"})
+	public String file;
+
+	private Element document;
+	private Context context;
+	private Node decoded;
+
+	@Setup
+	public void parse() throws IOException {
+		try (InputStream in = Files.newInputStream(Paths.get(file))) {
+			document = XmlUtils.parseXmlStream(in);
+		}
+	}
+
+	@Setup(Level.Invocation)
+	public void decode() {
+		context = new Context();
+		decoded = XmlDecoderEngine.decodeXml(context, document);
+	}
+
+	@Benchmark
+	public ValidationResult sharedAppraisal() {
+		return new QrdaValidator(context).validate(decoded);
+	}
+
+	@Benchmark
+	public void appraisalPerValidator(Blackhole blackhole) {
+		Registry<NodeValidator> validators = context.getRegistry(Validator.class);
+		validateTree(validators, decoded, blackhole);
+	}
+
+	private void validateTree(Registry<NodeValidator> validators, Node node, Blackhole blackhole) {
+		for (NodeValidator validator : validators.inclusiveGet(node.getType())) {
+			if (validator != null) {
+				blackhole.consume(validator.validateSingleNode(node));
+			}
+		}
+		for (Node child : node.getChildNodes()) {
+			if (child.isNotValidated()) {
+				validateTree(validators, child, blackhole);
+			}
+		}
+	}
+
+	@BenchmarkTest
+	void runBenchmarks() throws Exception {
+		assertThat(Benchmarks.run(CheckerBenchmark.class, new OptionsBuilder())).isNotEmpty();
+	}
+}
@@ -0,0 +1,112 @@
+package gov.cms.qpp.conversion.benchmark;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.StringUtils;
+import org.jdom2.Element;
+import org.jdom2.Namespace;
+import org.jdom2.filter.Filters;
+import org.jdom2.xpath.XPathFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import gov.cms.qpp.conversion.Context;
+import gov.cms.qpp.conversion.correlation.PathAccessor;
+import gov.cms.qpp.conversion.correlation.PathAccessors;
+import gov.cms.qpp.conversion.correlation.PathCorrelator;
+import gov.cms.qpp.conversion.correlation.XPathCache;
+import gov.cms.qpp.conversion.model.TemplateId;
+import gov.cms.qpp.conversion.xml.XmlUtils;
+import gov.cms.qpp.test.annotations.BenchmarkTest;
+
+/**
+ * Compares resolving every correlation of every decoded element in a submission through xpath compilation
+ * (the original decoder behavior), cached xpath evaluation and the generated accessors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CorrelationPathBenchmark {
+	private static final String FILE = "src/test/resources/Qrda_CatIII_Provider.xml";
+
+	private final List<Lookup> lookups = new ArrayList<>();
+
+	@Setup
+	public void setUp() throws IOException {
+		Element root;
+		try (InputStream in = Files.newInputStream(Paths.get(FILE))) {
+			root = XmlUtils.parseXmlStream(in);
+		}
+		Context context = new Context();
+		for (Element templateId : root.getDescendants(Filters.element("templateId", root.getNamespace()))) {
+			String template = TemplateId.getTemplateId(templateId.getAttributeValue("root"),
+					templateId.getAttributeValue("extension"), context).name();
+			for (String key : PathAccessors.keys()) {
+				if (key.startsWith(template + PathCorrelator.KEY_DELIMITER)) {
+					lookups.add(new Lookup(templateId.getParentElement(), templateId.getNamespace(), template,
+							key.substring(template.length() + 1)));
+				}
+			}
+		}
+	}
+
+	@Benchmark
+	public void compiledXpath(Blackhole blackhole) {
+		for (Lookup lookup : lookups) {
+			String uri = lookup.namespace.getURI();
+			Namespace xpathNs = StringUtils.isEmpty(uri) ? Namespace.NO_NAMESPACE : Namespace.getNamespace("ns", uri);
+			String xpath = PathCorrelator.getXpath(lookup.template, lookup.attribute, uri);
+			blackhole.consume(XPathFactory.instance().compile(xpath, Filters.fpassthrough(), null, xpathNs)
+					.evaluate(lookup.element));
+		}
+	}
+
+	@Benchmark
+	public void cachedXpath(Blackhole blackhole) {
+		for (Lookup lookup : lookups) {
+			blackhole.consume(XPathCache.getExpression(lookup.template, lookup.attribute, lookup.namespace.getURI(),
+					Filters.fpassthrough()).evaluate(lookup.element));
+		}
+	}
+
+	@Benchmark
+	public void generatedAccessor(Blackhole blackhole) {
+		for (Lookup lookup : lookups) {
+			PathAccessor accessor = PathAccessors.get(lookup.template, lookup.attribute);
+			blackhole.consume(accessor.select(lookup.element, lookup.namespace));
+		}
+	}
+
+	@BenchmarkTest
+	void runBenchmarks() throws Exception {
+		assertThat(Benchmarks.run(CorrelationPathBenchmark.class)).isNotEmpty();
+	}
+
+	private static final class Lookup {
+		private final Element element;
+		private final Namespace namespace;
+		private final String template;
+		private final String attribute;
+
+		private Lookup(Element element, Namespace namespace, String template, String attribute) {
+			this.element = element;
+			this.namespace = namespace;
+			this.template = template;
+			this.attribute = attribute;
+		}
+	}
+}
@@ -0,0 +1,107 @@
+package gov.cms.qpp.conversion.benchmark;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jdom2.Element;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import gov.cms.qpp.conversion.Context;
+import gov.cms.qpp.conversion.decode.QrdaDecoderEngine;
+import gov.cms.qpp.conversion.model.Node;
+import gov.cms.qpp.conversion.xml.XmlUtils;
+import gov.cms.qpp.test.annotations.BenchmarkTest;
+
+/**
+ * Reports the bytes allocated decoding an already parsed document, as {@code gc.alloc.rate.norm}.
+ * Elements that are not template ids should not contribute to the allocation, so each document is also decoded
+ * with many such elements nested in one more, which must allocate next to nothing more than the document alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DecodeAllocationBenchmark {
+	private static final String PADDING = "10000";
+	private static final double MOST_BYTES_ALLOCATED_FOR_PADDING = 10_000;
+	private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+	@Param({"src/test/resources/Qrda_CatIII_Provider.xml"})
+	public String file;
+
+	@Param({"0"})
+	public int padding;
+
+	private final Context context = new Context();
+	private Element document;
+
+	@Setup
+	public void setUp() throws IOException {
+		try (InputStream in = Files.newInputStream(Paths.get(file))) {
+			document = XmlUtils.parseXmlStream(in);
+		}
+		Element container = new Element("padding", document.getNamespace());
+		for (int count = 0; count < padding; count++) {
+			Element paddingElement = new Element("padding", document.getNamespace());
+			paddingElement.addContent(new Element("padding", document.getNamespace()));
+			container.addContent(paddingElement);
+		}
+		document.addContent(container);
+	}
+
+	@Benchmark
+	public Node decode() {
+		return new QrdaDecoderEngine(context).decode(document);
+	}
+
+	@BenchmarkTest
+	void runBenchmarks() throws Exception {
+		Collection<RunResult> results = Benchmarks.run(DecodeAllocationBenchmark.class, new OptionsBuilder()
+				.addProfiler(GCProfiler.class)
+				.param("file", "src/test/resources/Qrda_CatIII_Provider.xml",
+						"../qrda-files/valid-QRDA-III-latest.xml",
+						"../sample-files/2019/ComprehensivePrimaryCareSampleQRDA-III_SDE.xml")
+				.param("padding", "0", PADDING));
+		assertThat(results).isNotEmpty();
+
+		Map<String, Double> unpadded = new HashMap<>();
+		Map<String, Double> padded = new HashMap<>();
+		for (RunResult result : results) {
+			String decodedFile = result.getParams().getParam("file");
+			Map<String, Double> allocations = PADDING.equals(result.getParams().getParam("padding")) ? padded : unpadded;
+			allocations.put(decodedFile, allocation(result));
+		}
+		assertThat(padded.keySet()).isEqualTo(unpadded.keySet());
+		for (Map.Entry<String, Double> allocation : padded.entrySet()) {
+			assertThat(allocation.getValue() - unpadded.get(allocation.getKey()))
+					.isLessThan(MOST_BYTES_ALLOCATED_FOR_PADDING);
+		}
+	}
+
+	private static double allocation(RunResult result) {
+		for (Map.Entry<String, Result> secondary : result.getSecondaryResults().entrySet()) {
+			if (secondary.getKey().endsWith(ALLOCATION)) {
+				return secondary.getValue().getScore();
+			}
+		}
+		throw new AssertionError("No " + ALLOCATION + " result for " + result.getParams());
+	}
+}
@@ -0,0 +1,77 @@
+package gov.cms.qpp.conversion.benchmark;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import gov.cms.qpp.conversion.Context;
+import gov.cms.qpp.conversion.decode.XmlDecoderEngine;
+import gov.cms.qpp.conversion.model.Node;
+import gov.cms.qpp.conversion.model.TemplateId;
+import gov.cms.qpp.conversion.xml.XmlUtils;
+import gov.cms.qpp.test.annotations.BenchmarkTest;
+
+/**
+ * Reports the time and bytes, as {@code gc.alloc.rate.norm}, taken by {@link Node#findFirstNode(TemplateId)} and
+ * {@link Node#findNode(TemplateId)} from every node of the decoded MIPS sample, the way the encoders and validators
+ * look up aggregate counts and measures.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FindNodeBenchmark {
+
+	private List<Node> nodes;
+
+	@Setup
+	public void setUp() throws IOException {
+		Node root;
+		try (InputStream in = Files.newInputStream(Paths.get("../sample-files/2019/valid-mips-sample-file.xml"))) {
+			root = XmlDecoderEngine.decodeXml(new Context(), XmlUtils.parseXmlStream(in));
+		}
+		nodes = new ArrayList<>();
+		collect(root);
+	}
+
+	private void collect(Node node) {
+		nodes.add(node);
+		node.getChildNodes().forEach(this::collect);
+	}
+
+	@Benchmark
+	public void findFirstNode(Blackhole blackhole) {
+		for (Node node : nodes) {
+			blackhole.consume(node.findFirstNode(TemplateId.PI_AGGREGATE_COUNT));
+		}
+	}
+
+	@Benchmark
+	public void findNode(Blackhole blackhole) {
+		for (Node node : nodes) {
+			blackhole.consume(node.findNode(TemplateId.MEASURE_DATA_CMS_V2));
+		}
+	}
+
+	@BenchmarkTest
+	void runBenchmarks() throws Exception {
+		assertThat(Benchmarks.run(FindNodeBenchmark.class, new OptionsBuilder().addProfiler(GCProfiler.class)))
+				.isNotEmpty();
+	}
+}
@@ -0,0 +1,79 @@
+package gov.cms.qpp.conversion.benchmark;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import gov.cms.qpp.conversion.Context;
+import gov.cms.qpp.conversion.decode.QrdaDecoder;
+import gov.cms.qpp.conversion.encode.JsonOutputEncoder;
+import gov.cms.qpp.conversion.model.Decoder;
+import gov.cms.qpp.conversion.model.Encoder;
+import gov.cms.qpp.conversion.model.Program;
+import gov.cms.qpp.conversion.model.Registry;
+import gov.cms.qpp.conversion.model.TemplateId;
+import gov.cms.qpp.conversion.model.Validator;
+import gov.cms.qpp.conversion.validate.NodeValidator;
+import gov.cms.qpp.test.annotations.BenchmarkTest;
+
+/**
+ * Reports the time and bytes, as {@code gc.alloc.rate.norm}, taken to look up the handlers of every
+ * {@link TemplateId} in the decoder, encoder and validator registries, the way a conversion does for each node.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RegistryDispatchBenchmark {
+	private static final TemplateId[] TEMPLATE_IDS = TemplateId.values();
+
+	@Param({"ALL"})
+	public Program program;
+
+	private Registry<QrdaDecoder> decoders;
+	private Registry<JsonOutputEncoder> encoders;
+	private Registry<NodeValidator> validators;
+
+	@Setup
+	public void setUp() {
+		Context context = new Context();
+		context.setProgram(program);
+		decoders = context.getRegistry(Decoder.class);
+		encoders = context.getRegistry(Encoder.class);
+		validators = context.getRegistry(Validator.class);
+	}
+
+	@Benchmark
+	public void get(Blackhole blackhole) {
+		for (TemplateId templateId : TEMPLATE_IDS) {
+			blackhole.consume(decoders.get(templateId));
+			blackhole.consume(encoders.get(templateId));
+		}
+	}
+
+	@Benchmark
+	public void inclusiveGet(Blackhole blackhole) {
+		for (TemplateId templateId : TEMPLATE_IDS) {
+			blackhole.consume(validators.inclusiveGet(templateId));
+		}
+	}
+
+	@BenchmarkTest
+	void runBenchmarks() throws Exception {
+		assertThat(Benchmarks.run(RegistryDispatchBenchmark.class, new OptionsBuilder()
+				.addProfiler(GCProfiler.class)
+				.param("program", Program.ALL.name(), Program.MIPS.name(), Program.CPC.name())))
+				.isNotEmpty();
+	}
+}
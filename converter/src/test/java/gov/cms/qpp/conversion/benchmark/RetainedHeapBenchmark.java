@@ -0,0 +1,86 @@
+package gov.cms.qpp.conversion.benchmark;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openjdk.jol.info.GraphLayout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import gov.cms.qpp.conversion.Context;
+import gov.cms.qpp.conversion.decode.XmlDecoderEngine;
+import gov.cms.qpp.conversion.model.Node;
+import gov.cms.qpp.conversion.xml.XmlUtils;
+import gov.cms.qpp.test.annotations.BenchmarkTest;
+
+/**
+ * Reports the heap retained by the decoded {@link Node} tree of each sample file, which is what a conversion holds
+ * on to from decoding until its report is released, with and without {@link Context#setInternDecodedValues(boolean)}.
+ * The tree must not keep the parsed document reachable.
+ */
+public class RetainedHeapBenchmark {
+	private static final Logger DEV_LOG = LoggerFactory.getLogger(RetainedHeapBenchmark.class);
+	private static final Path SAMPLES = Paths.get("../sample-files");
+
+	@BenchmarkTest
+	void retainedHeapOfDecodedSamples() throws IOException {
+		List<Path> files;
+		try (Stream<Path> walk = Files.walk(SAMPLES)) {
+			files = walk.filter(file -> file.toString().endsWith(".xml")).sorted().collect(Collectors.toList());
+		}
+
+		long total = 0;
+		long internedTotal = 0;
+		long nodes = 0;
+		int measured = 0;
+		for (Path file : files) {
+			Node decoded = decode(file, false);
+			if (decoded == null) {
+				continue;
+			}
+			measured++;
+			GraphLayout layout = GraphLayout.parseInstance(decoded);
+			long interned = GraphLayout.parseInstance(decode(file, true)).totalSize();
+			int count = countNodes(decoded);
+			total += layout.totalSize();
+			internedTotal += interned;
+			nodes += count;
+			DEV_LOG.info(String.format("%-70s %,12d bytes %,8d objects %,6d nodes %,6d bytes/node %,12d bytes interned",
+					SAMPLES.relativize(file), layout.totalSize(), layout.totalCount(), count, layout.totalSize() / count,
+					interned));
+			assertWithMessage("parsed document classes retained by %s", file)
+					.that(layout.getClasses().stream().map(Class::getName).filter(name -> name.startsWith("org.jdom2"))
+						.collect(Collectors.toList()))
+					.isEmpty();
+		}
+		DEV_LOG.info(String.format("%-70s %,12d bytes %,6d bytes/node %,12d bytes interned %,6d bytes/node interned",
+				"average", total / measured, total / nodes, internedTotal / measured, internedTotal / nodes));
+
+		assertThat(measured).isGreaterThan(0);
+	}
+
+	private static Node decode(Path file, boolean intern) throws IOException {
+		Context context = new Context();
+		context.setInternDecodedValues(intern);
+		try (InputStream in = Files.newInputStream(file)) {
+			return XmlDecoderEngine.decodeXml(context, XmlUtils.parseXmlStream(in));
+		}
+	}
+
+	private static int countNodes(Node node) {
+		int count = 1;
+		for (Node child : node.getChildNodes()) {
+			count += countNodes(child);
+		}
+		return count;
+	}
+}
@@ -0,0 +1,75 @@
+package gov.cms.qpp.conversion.benchmark;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+import org.jdom2.Element;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import gov.cms.qpp.conversion.Context;
+import gov.cms.qpp.conversion.decode.XmlDecoderEngine;
+import gov.cms.qpp.conversion.model.Node;
+import gov.cms.qpp.conversion.model.error.ValidationResult;
+import gov.cms.qpp.conversion.validate.QrdaValidator;
+import gov.cms.qpp.conversion.xml.XmlUtils;
+import gov.cms.qpp.test.annotations.BenchmarkTest;
+
+/**
+ * Reports the time taken to validate the decoded CPC+ and MIPS samples, with the measures of their quality measure
+ * sections validated one after another and concurrently. Validation marks the nodes it validates, so each one is
+ * validated freshly decoded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ValidationBenchmark {
+
+	@Param({"../sample-files/2019/ComprehensivePrimaryCareSampleQRDA-III_SDE.xml",
+			"../sample-files/2019/valid-mips-sample-file.xml"})
+	public String file;
+
+	@Param({"false", "true"})
+	public boolean parallel;
+
+	private Element document;
+	private Context context;
+	private Node decoded;
+
+	@Setup
+	public void parse() throws IOException {
+		try (InputStream in = Files.newInputStream(Paths.get(file))) {
+			document = XmlUtils.parseXmlStream(in);
+		}
+	}
+
+	@Setup(Level.Invocation)
+	public void decode() {
+		context = new Context();
+		context.setParallelValidation(parallel);
+		decoded = XmlDecoderEngine.decodeXml(context, document);
+	}
+
+	@Benchmark
+	public ValidationResult validate() {
+		return new QrdaValidator(context).validate(decoded);
+	}
+
+	@BenchmarkTest
+	void runBenchmarks() throws Exception {
+		assertThat(Benchmarks.run(ValidationBenchmark.class, new OptionsBuilder())).isNotEmpty();
+	}
+}
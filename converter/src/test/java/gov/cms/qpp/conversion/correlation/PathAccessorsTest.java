@@ -0,0 +1,71 @@
+package gov.cms.qpp.conversion.correlation;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.jdom2.Element;
+import org.jdom2.filter.Filters;
+import org.jdom2.xpath.XPathExpression;
+import org.jdom2.xpath.XPathHelper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import gov.cms.qpp.conversion.decode.ClinicalDocumentDecoder;
+import gov.cms.qpp.conversion.model.TemplateId;
+import gov.cms.qpp.conversion.xml.XmlUtils;
+
+class PathAccessorsTest {
+
+	static Stream<Path> qrdaFiles() {
+		return Stream.of(Paths.get("../qrda-files/valid-QRDA-III-latest.xml"),
+				Paths.get("src/test/resources/cpc1.xml"),
+				Paths.get("../sample-files/2019/cpcPlusCehrtSample.xml"),
+				Paths.get("../sample-files/2019/CMS22v7MeasureExample.xml"));
+	}
+
+	@Test
+	void testAccessorIsGenerated() {
+		assertThat(PathAccessors.get(TemplateId.CLINICAL_DOCUMENT.name(), ClinicalDocumentDecoder.PROGRAM_NAME))
+				.isNotNull();
+		assertThat(PathAccessors.keys()).isNotEmpty();
+	}
+
+	@Test
+	void testUnknownCorrelation() {
+		assertThat(PathAccessors.get(TemplateId.CLINICAL_DOCUMENT.name(), "meep")).isNull();
+	}
+
+	@ParameterizedTest
+	@MethodSource("qrdaFiles")
+	void testAccessorsSelectWhatXpathsSelect(Path file) throws IOException {
+		Element root;
+		try (InputStream in = Files.newInputStream(file)) {
+			root = XmlUtils.parseXmlStream(in);
+		}
+		String uri = root.getNamespaceURI();
+
+		for (Element templateId : root.getDescendants(Filters.element("templateId", root.getNamespace()))) {
+			Element context = templateId.getParentElement();
+			for (String key : PathAccessors.keys()) {
+				String[] parts = key.split(PathCorrelator.KEY_DELIMITER);
+				XPathExpression<Object> expression = XPathCache.getExpression(
+						parts[0], parts[1], uri, Filters.fpassthrough());
+
+				List<Object> expected = expression.evaluate(context);
+				List<Object> actual = PathAccessors.get(parts[0], parts[1]).select(context, templateId.getNamespace());
+
+				assertWithMessage("%s selection from %s", key, XPathHelper.getAbsolutePath(context))
+						.that(actual).containsExactlyElementsIn(expected).inOrder();
+			}
+		}
+	}
+}
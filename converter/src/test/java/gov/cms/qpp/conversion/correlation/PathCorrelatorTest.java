@@ -41,6 +41,17 @@ class PathCorrelatorTest {
 				.isEqualTo(-1);
 	}
 
+	@Test
+	void referencedElementNames() {
+		assertThat(PathCorrelator.getReferencedElementNames())
+				.containsAtLeast("participant", "associatedEntity", "addr", "value");
+	}
+
+	@Test
+	void elementValueNames() {
+		assertThat(PathCorrelator.getElementValueNames()).containsExactly("addr");
+	}
+
 	@Test
 	void unacknowledgedEncodedLabel() {
 		JsonWrapper metadata = new JsonWrapper();
@@ -0,0 +1,164 @@
+package gov.cms.qpp.conversion.correlation;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.lang.reflect.Constructor;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.jdom2.Attribute;
+import org.jdom2.Element;
+import org.jdom2.filter.Filter;
+import org.jdom2.filter.Filters;
+import org.jdom2.xpath.XPathExpression;
+import org.junit.jupiter.api.Test;
+
+import gov.cms.qpp.conversion.decode.ClinicalDocumentDecoder;
+import gov.cms.qpp.conversion.model.TemplateId;
+import gov.cms.qpp.conversion.xml.XmlUtils;
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+class XPathCacheTest {
+
+	private static final String NS_URI = "urn:hl7-org:v3";
+	private static final String TEMPLATE = TemplateId.CLINICAL_DOCUMENT.name();
+
+	@Test
+	void testPrivateConstructor() throws Exception {
+		Constructor<XPathCache> constructor = XPathCache.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		constructor.newInstance();
+	}
+
+	@Test
+	void testExpressionIsCompiledOnce() {
+		XPathExpression<Attribute> first = XPathCache.getExpression(
+				TEMPLATE, ClinicalDocumentDecoder.PROGRAM_NAME, NS_URI, Filters.attribute());
+		long hits = XPathCache.stats().hitCount();
+		XPathExpression<Attribute> second = XPathCache.getExpression(
+				TEMPLATE, ClinicalDocumentDecoder.PROGRAM_NAME, NS_URI, Filters.attribute());
+
+		assertThat(second).isSameInstanceAs(first);
+		assertThat(XPathCache.stats().hitCount()).isEqualTo(hits + 1);
+	}
+
+	@Test
+	void testEachThreadCompilesItsOwnExpression() throws Exception {
+		XPathExpression<Attribute> mine = XPathCache.getExpression(
+				TEMPLATE, ClinicalDocumentDecoder.PROGRAM_NAME, NS_URI, Filters.attribute());
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			XPathExpression<Attribute> theirs = executor.submit(() -> XPathCache.getExpression(
+					TEMPLATE, ClinicalDocumentDecoder.PROGRAM_NAME, NS_URI, Filters.attribute())).get();
+
+			assertThat(theirs).isNotSameInstanceAs(mine);
+			assertThat(theirs.getExpression()).isEqualTo(mine.getExpression());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void testKeyIncludesNamespace() {
+		XPathExpression<Attribute> hl7 = XPathCache.getExpression(
+				TEMPLATE, ClinicalDocumentDecoder.PROGRAM_NAME, NS_URI, Filters.attribute());
+		XPathExpression<Attribute> other = XPathCache.getExpression(
+				TEMPLATE, ClinicalDocumentDecoder.PROGRAM_NAME, "meep", Filters.attribute());
+
+		assertThat(other).isNotSameInstanceAs(hl7);
+		assertThat(other.getExpression()).contains("meep");
+	}
+
+	@Test
+	void testKeyIncludesFilter() {
+		XPathExpression<Attribute> attribute = XPathCache.getExpression(
+				TEMPLATE, ClinicalDocumentDecoder.PROGRAM_NAME, NS_URI, Filters.attribute());
+		XPathExpression<Element> element = XPathCache.getExpression(
+				TEMPLATE, ClinicalDocumentDecoder.PROGRAM_NAME, NS_URI, Filters.element());
+
+		assertThat(element).isNotSameInstanceAs(attribute);
+	}
+
+	@Test
+	void testMissingNamespace() {
+		XPathExpression<Attribute> expression = XPathCache.getExpression(
+				TEMPLATE, ClinicalDocumentDecoder.PROGRAM_NAME, null, Filters.attribute());
+
+		assertThat(expression).isSameInstanceAs(XPathCache.getExpression(
+				TEMPLATE, ClinicalDocumentDecoder.PROGRAM_NAME, "", Filters.attribute()));
+	}
+
+	@Test
+	void testUnknownCorrelation() {
+		long misses = XPathCache.stats().missCount();
+		XPathExpression<Attribute> expression = XPathCache.getExpression(
+				TEMPLATE, "meep", NS_URI, Filters.attribute());
+
+		assertThat(expression).isNull();
+		assertThat(XPathCache.stats().missCount()).isEqualTo(misses + 1);
+	}
+
+	@Test
+	void testCachedExpressionEvaluates() {
+		Element element = XmlUtils.stringToDom("<ClinicalDocument xmlns=\"" + NS_URI + "\">"
+				+ "<informationRecipient><intendedRecipient>"
+				+ "<id root=\"2.16.840.1.113883.3.249.7\" extension=\"MIPS\"/>"
+				+ "</intendedRecipient></informationRecipient></ClinicalDocument>");
+		XPathExpression<Attribute> expression = XPathCache.getExpression(
+				TEMPLATE, ClinicalDocumentDecoder.PROGRAM_NAME, NS_URI, Filters.attribute());
+
+		List<Attribute> attributes = expression.evaluate(element);
+
+		assertThat(attributes).hasSize(1);
+		assertThat(attributes.get(0).getValue()).isEqualTo("MIPS");
+	}
+
+	@Test
+	void keyEqualsContract() {
+		EqualsVerifier.forClass(XPathCache.Key.class)
+				.usingGetClass()
+				.withPrefabValues(Filter.class, Filters.attribute(), Filters.element())
+				.verify();
+	}
+
+	@Test
+	void testStatsCoverOtherThreads() throws Exception {
+		XPathCache.getExpression(TEMPLATE, ClinicalDocumentDecoder.PROGRAM_NAME, NS_URI, Filters.attribute());
+		long hits = XPathCache.stats().hitCount();
+		long misses = XPathCache.stats().missCount();
+		long size = XPathCache.size();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			executor.submit(() -> {
+				XPathCache.getExpression(TEMPLATE, ClinicalDocumentDecoder.PROGRAM_NAME, NS_URI, Filters.attribute());
+				XPathCache.getExpression(TEMPLATE, ClinicalDocumentDecoder.PROGRAM_NAME, NS_URI, Filters.attribute());
+			}).get();
+
+			assertThat(XPathCache.stats().hitCount()).isAtLeast(hits + 1);
+			assertThat(XPathCache.stats().missCount()).isAtLeast(misses + 1);
+			assertThat(XPathCache.size()).isAtLeast(size + 1);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void testCacheIsBounded() throws Exception {
+		int lookups = XPathCache.MAXIMUM_SIZE * 2;
+		long evictions = XPathCache.stats().evictionCount();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			executor.submit(() -> {
+				for (int uri = 0; uri < lookups; uri++) {
+					XPathCache.getExpression(TEMPLATE, ClinicalDocumentDecoder.PROGRAM_NAME, "urn:" + uri,
+							Filters.attribute());
+				}
+			}).get();
+
+			assertThat(XPathCache.stats().evictionCount()).isAtLeast(evictions + lookups - XPathCache.MAXIMUM_SIZE);
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
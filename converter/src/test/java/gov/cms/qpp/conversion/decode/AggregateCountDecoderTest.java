@@ -5,6 +5,7 @@ import org.jdom2.Namespace;
 import org.junit.jupiter.api.Test;
 
 import gov.cms.qpp.conversion.Context;
+import gov.cms.qpp.conversion.correlation.PathAccessor;
 import gov.cms.qpp.conversion.model.Node;
 import gov.cms.qpp.conversion.model.TemplateId;
 import gov.cms.qpp.conversion.xml.XmlException;
@@ -110,7 +111,6 @@ class AggregateCountDecoderTest {
 		Node thisNode = new Node();
 
 		AggregateCountDecoder instance = new AggregateCountDecoder(context);
-		instance.setNamespace(element.getNamespace());
 
 		instance.decode(element, thisNode);
 
@@ -152,4 +152,29 @@ class AggregateCountDecoderTest {
 		Node root = new QrdaDecoderEngine(new Context()).decode(XmlUtils.stringToDom(DUPLICATE_AGGREGATE_COUNT));
 		assertThat(root.getChildNodes().get(0).getChildNodes(TemplateId.PI_AGGREGATE_COUNT).count()).isEqualTo(2);
 	}
+
+	@Test
+	void testInternalDecodeWithoutAccessor() {
+		Namespace rootNs = Namespace.getNamespace("urn:hl7-org:v3");
+
+		Context context = new Context();
+		Element element = new Element("observation", rootNs);
+		element.addContent(new Element("templateId", rootNs).setAttribute("root", TemplateId.PI_AGGREGATE_COUNT.getTemplateId(context)));
+		element.addContent(new Element("value", rootNs).setAttribute("value", "450"));
+
+		Node thisNode = new Node();
+
+		AggregateCountDecoder instance = new AggregateCountDecoder(context) {
+			@Override
+			protected PathAccessor getAccessor(String attribute) {
+				return null;
+			}
+		};
+
+		instance.decode(element, thisNode);
+
+		assertWithMessage("Should fall back to xpath evaluation")
+				.that(thisNode.getValue("aggregateCount"))
+				.isEqualTo("450");
+	}
 }
@@ -17,7 +17,6 @@ import gov.cms.qpp.conversion.xml.XmlUtils;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
 import java.util.List;
 
 import static com.google.common.truth.Truth.assertThat;
@@ -142,7 +141,6 @@ class ClinicalDocumentDecoderTest {
 		Element clinicalDocument = makeClinicalDocument("MIPS");
 		Node testParentNode = new Node();
 		ClinicalDocumentDecoder objectUnderTest = new ClinicalDocumentDecoder(new Context());
-		objectUnderTest.setNamespace(clinicalDocument.getNamespace());
 		objectUnderTest.decode(clinicalDocument, testParentNode);
 
 		assertWithMessage("Clinical Document doesn't contain program name")
@@ -164,7 +162,6 @@ class ClinicalDocumentDecoderTest {
 		Element clinicalDocument = makeClinicalDocument("MIPS_INDIV");
 		Node testParentNode = new Node();
 		ClinicalDocumentDecoder objectUnderTest = new ClinicalDocumentDecoder(new Context());
-		objectUnderTest.setNamespace(clinicalDocument.getNamespace());
 		objectUnderTest.decode(clinicalDocument, testParentNode);
 
 		assertWithMessage("Clinical Document doesn't contain program name")
@@ -186,7 +183,6 @@ class ClinicalDocumentDecoderTest {
 		Element clinicalDocument = makeClinicalDocument("MIPS_GROUP");
 		Node testParentNode = new Node();
 		ClinicalDocumentDecoder objectUnderTest = new ClinicalDocumentDecoder(new Context());
-		objectUnderTest.setNamespace(clinicalDocument.getNamespace());
 		objectUnderTest.decode(clinicalDocument, testParentNode);
 
 		assertWithMessage("Clinical Document doesn't contain program name")
@@ -208,7 +204,6 @@ class ClinicalDocumentDecoderTest {
 		Element clinicalDocument = makeClinicalDocument(ClinicalDocumentDecoder.CPCPLUS);
 		Node testParentNode = new Node();
 		ClinicalDocumentDecoder objectUnderTest = new ClinicalDocumentDecoder(new Context());
-		objectUnderTest.setNamespace(clinicalDocument.getNamespace());
 		objectUnderTest.decode(clinicalDocument, testParentNode);
 
 		assertWithMessage("Clinical Document doesn't contain program name")
@@ -224,7 +219,6 @@ class ClinicalDocumentDecoderTest {
 		Element clinicalDocument = makeClinicalDocument("Unknown");
 		Node testParentNode = new Node();
 		ClinicalDocumentDecoder objectUnderTest = new ClinicalDocumentDecoder(new Context());
-		objectUnderTest.setNamespace(clinicalDocument.getNamespace());
 		objectUnderTest.decode(clinicalDocument, testParentNode);
 
 		assertWithMessage("Clinical Document doesn't contain program name")
@@ -247,7 +241,6 @@ class ClinicalDocumentDecoderTest {
 		clinicalDocument.addContent(prepareParticipant(clinicalDocument.getNamespace()));
 		Node testParentNode = new Node();
 		ClinicalDocumentDecoder objectUnderTest = new ClinicalDocumentDecoder(new Context());
-		objectUnderTest.setNamespace(clinicalDocument.getNamespace());
 		objectUnderTest.decode(clinicalDocument, testParentNode);
 		assertWithMessage("Clinical Document contains the Entity Id")
 				.that(testParentNode.getValue(ClinicalDocumentDecoder.PRACTICE_ID))
@@ -260,7 +253,6 @@ class ClinicalDocumentDecoderTest {
 		clinicalDocument.addContent( prepareParticipant( clinicalDocument.getNamespace()) );
 		Node testParentNode = new Node();
 		ClinicalDocumentDecoder objectUnderTest = new ClinicalDocumentDecoder(new Context());
-		objectUnderTest.setNamespace(clinicalDocument.getNamespace());
 		objectUnderTest.decode(clinicalDocument, testParentNode);
 		assertWithMessage("Clinical Document contains the Entity Id")
 				.that(testParentNode.getValue(ClinicalDocumentDecoder.PRACTICE_SITE_ADDR))
@@ -273,10 +265,9 @@ class ClinicalDocumentDecoderTest {
 		clinicalDocument.addContent( prepareParticipant(clinicalDocument.getNamespace()) );
 		Node testParentNode = new Node();
 		ClinicalDocumentDecoder objectUnderTest = new ClinicalDocumentDecoder(new Context());
-		objectUnderTest.setNamespace(clinicalDocument.getNamespace());
 		objectUnderTest.decode(clinicalDocument, testParentNode);
-		List<String> tinNumbers =
-			Arrays.asList(testParentNode.getValue(ClinicalDocumentDecoder.TAX_PAYER_IDENTIFICATION_NUMBER).split(","));
+		List<String> tinNumbers = testParentNode.getValues(ClinicalDocumentDecoder.TAX_PAYER_IDENTIFICATION_NUMBER);
+		assertThat(tinNumbers).isNotEmpty();
 		tinNumbers.forEach(tinNumber -> assertThat(tinNumber).isNotEmpty());
 	}
 
@@ -286,10 +277,9 @@ class ClinicalDocumentDecoderTest {
 		clinicalDocument.addContent( prepareParticipant( clinicalDocument.getNamespace()) );
 		Node testParentNode = new Node();
 		ClinicalDocumentDecoder objectUnderTest = new ClinicalDocumentDecoder(new Context());
-		objectUnderTest.setNamespace(clinicalDocument.getNamespace());
 		objectUnderTest.decode(clinicalDocument, testParentNode);
-		List<String> npiNumbers =
-			Arrays.asList(testParentNode.getValue(ClinicalDocumentDecoder.NATIONAL_PROVIDER_IDENTIFIER).split(","));
+		List<String> npiNumbers = testParentNode.getValues(ClinicalDocumentDecoder.NATIONAL_PROVIDER_IDENTIFIER);
+		assertThat(npiNumbers).isNotEmpty();
 		npiNumbers.forEach(npiNumber -> assertThat(npiNumber).isNotEmpty());
 	}
 
@@ -299,7 +289,6 @@ class ClinicalDocumentDecoderTest {
 		Node testParentNode = new Node();
 
 		ClinicalDocumentDecoder objectUnderTest = new ClinicalDocumentDecoder(new Context());
-		objectUnderTest.setNamespace(clinicalDocument.getNamespace());
 		objectUnderTest.decode(clinicalDocument, testParentNode);
 
 		assertThat(testParentNode.getValue(ClinicalDocumentDecoder.ENTITY_TYPE))
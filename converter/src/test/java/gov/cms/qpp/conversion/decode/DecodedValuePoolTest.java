@@ -0,0 +1,40 @@
+package gov.cms.qpp.conversion.decode;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import gov.cms.qpp.conversion.model.validation.MeasureConfig;
+import gov.cms.qpp.conversion.model.validation.MeasureConfigs;
+
+class DecodedValuePoolTest {
+
+	@Test
+	void testEqualValuesAreShared() {
+		DecodedValuePool pool = new DecodedValuePool();
+		String first = new String("IPOP");
+
+		assertThat(pool.apply(first)).isSameInstanceAs(first);
+		assertThat(pool.apply(new String("IPOP"))).isSameInstanceAs(first);
+		assertThat(pool.apply(null)).isNull();
+	}
+
+	@Test
+	void testPoolsAreIndependent() {
+		String first = new String("DENOM");
+		new DecodedValuePool().apply(first);
+
+		assertThat(new DecodedValuePool().apply(new String("DENOM"))).isNotSameInstanceAs(first);
+	}
+
+	@Test
+	void testMeasureIdentifiersAreSeeded() {
+		MeasureConfig config = MeasureConfigs.getConfigurationMap().get("40280382-6258-7581-0162-92d6e6db1680");
+		String numerator = config.getSubPopulation().get(0).getNumeratorUuid();
+
+		DecodedValuePool pool = new DecodedValuePool();
+
+		assertThat(pool.apply(new String(numerator))).isSameInstanceAs(numerator);
+		assertThat(new DecodedValuePool().apply(new String(numerator))).isSameInstanceAs(numerator);
+	}
+}
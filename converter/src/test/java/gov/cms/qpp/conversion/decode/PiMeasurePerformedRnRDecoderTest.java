@@ -40,8 +40,6 @@ class PiMeasurePerformedRnRDecoderTest {
 
 		Node piMeasurePerformedNode = new Node();
 
-		objectUnderTest.setNamespace(element.getNamespace());
-
 		//execute
 		DecodeResult decodeResult = objectUnderTest.decode(element, piMeasurePerformedNode);
 
@@ -162,7 +162,6 @@ class PiNumeratorDenominatorDecoderTest {
 		Node thisNode = new Node();
 
 		PiNumeratorDenominatorDecoder objectUnderTest = new PiNumeratorDenominatorDecoder(new Context());
-		objectUnderTest.setNamespace(element.getNamespace());
 
 		//execute
 		objectUnderTest.decode(element, thisNode);
@@ -6,13 +6,31 @@ import gov.cms.qpp.conversion.model.ComponentKey;
 import gov.cms.qpp.conversion.model.Node;
 import gov.cms.qpp.conversion.model.Program;
 import gov.cms.qpp.conversion.model.TemplateId;
+import gov.cms.qpp.conversion.xml.XmlUtils;
 import org.jdom2.Document;
 import org.jdom2.Element;
+import org.jdom2.filter.Filters;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.google.common.truth.Truth.assertThat;
 
@@ -21,12 +39,14 @@ class QrdaDecoderEngineTest {
 	private static final String TEMPLATE_ID = "templateId";
 	private static final String ROOT = "root";
 	private static final String EXTENSION = "extension";
+	private static final String MEASURE_ID = "measureId";
 
 	private static Context context;
 
 	private static int continueDecodeCount;
 	private static int finishDecodeCount;
 	private static int escapeDecodeCount;
+	private static final Set<Thread> measureThreads = ConcurrentHashMap.newKeySet();
 
 	@BeforeAll
 	static void mockDecoders() {
@@ -274,6 +294,40 @@ class QrdaDecoderEngineTest {
 		assertNodeCount(decodedNodes, 1, 1, 0);
 	}
 
+	@Test
+	void testElementsWithoutTemplateIdsAreTraversedWithoutDecoding() {
+		Element rootElement = createPaddedRootElement(10_000);
+
+		Node decodedNodes = new QrdaDecoderEngine(context).decode(rootElement);
+
+		assertNodeCount(decodedNodes, 1, 0, 0);
+		assertThat(decodedNodes.getChildNodes()).hasSize(1);
+		assertThat(decodedNodes.getChildNodes().get(0).getChildNodes()).isEmpty();
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = {false, true})
+	void testInternedValuesAreShared(boolean parallel) throws IOException {
+		Element document;
+		try (InputStream in = Files.newInputStream(Paths.get("../qrda-files/valid-QRDA-III-latest.xml"))) {
+			document = XmlUtils.parseXmlStream(in);
+		}
+		Context internContext = new Context();
+		internContext.setInternDecodedValues(true);
+		internContext.setParallelDecode(parallel);
+		internContext.setParallelDecodeThreshold(1);
+
+		Node interned = new QrdaDecoderEngine(internContext).decode(document);
+
+		assertThat(interned).isEqualTo(new QrdaDecoderEngine(new Context()).decode(document));
+		Map<String, String> types = new HashMap<>();
+		for (Node measureData : interned.findNode(TemplateId.MEASURE_DATA_CMS_V2)) {
+			String type = measureData.getValue(MeasureDataDecoder.MEASURE_TYPE);
+			assertThat(types.computeIfAbsent(type, key -> type)).isSameInstanceAs(type);
+		}
+		assertThat(types.size()).isGreaterThan(1);
+	}
+
 
 	@Nested
 	@DisplayName("Describe branch pruning")
@@ -365,6 +419,164 @@ class QrdaDecoderEngineTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("Describe parallel decoding")
+	class Parallel {
+		private static final int MEASURE_COUNT = 20;
+
+		Context parallelContext;
+
+		@BeforeEach
+		void makeContext() {
+			parallelContext = new Context();
+			parallelContext.setParallelDecode(true);
+			TestHelper.mockDecoder(parallelContext, TestChildContinue.class,
+					new ComponentKey(TemplateId.MEASURE_SECTION_V3, Program.ALL));
+			TestHelper.mockDecoder(parallelContext, TestMeasure.class,
+					new ComponentKey(TemplateId.MEASURE_REFERENCE_RESULTS_CMS_V2, Program.ALL));
+			measureThreads.clear();
+		}
+
+		@ParameterizedTest
+		@ValueSource(strings = {"src/test/resources/Qrda_CatIII_Provider.xml",
+				"../qrda-files/valid-QRDA-III-latest.xml",
+				"../sample-files/2019/ComprehensivePrimaryCareSampleQRDA-III_SDE.xml"})
+		@DisplayName("Should decode the same tree as sequential decoding")
+		void testParallelDecodeMatchesSequentialDecode(String file) throws IOException {
+			Element document;
+			try (InputStream in = Files.newInputStream(Paths.get(file))) {
+				document = XmlUtils.parseXmlStream(in);
+			}
+			Context context = new Context();
+			context.setParallelDecode(true);
+			context.setParallelDecodeThreshold(1);
+
+			Node sequential = new QrdaDecoderEngine(new Context()).decode(document);
+			Node parallel = new QrdaDecoderEngine(context).decode(document);
+
+			assertThat(parallel).isEqualTo(sequential);
+			assertThat(sequential.findNode(TemplateId.MEASURE_SECTION_V3)).isNotEmpty();
+			assertParentsAreLinked(parallel);
+		}
+
+		@Test
+		@DisplayName("Should keep measures in document order")
+		void testMeasuresStayInDocumentOrder() {
+			parallelContext.setParallelDecodeThreshold(1);
+
+			Node decoded = new QrdaDecoderEngine(parallelContext).decode(createMeasureSectionElement());
+
+			Node section = decoded.findFirstNode(TemplateId.MEASURE_SECTION_V3);
+			assertThat(section.getChildNodes()).hasSize(MEASURE_COUNT);
+			for (int index = 0; index < MEASURE_COUNT; index++) {
+				Node measure = section.getChildNodes().get(index);
+				assertThat(measure.getValue(MEASURE_ID)).isEqualTo(String.valueOf(index));
+				assertThat(measure.getParent()).isSameInstanceAs(section);
+			}
+		}
+
+		@Test
+		@DisplayName("Should decode measures on the decode executor of the context")
+		void testMeasuresDecodeOnTheContextExecutor() {
+			ExecutorService pool = Executors.newFixedThreadPool(2);
+			try {
+				AtomicInteger submitted = new AtomicInteger();
+				parallelContext.setDecodeExecutor(command -> {
+					submitted.incrementAndGet();
+					pool.execute(command);
+				});
+				parallelContext.setParallelDecodeThreshold(1);
+
+				Node decoded = new QrdaDecoderEngine(parallelContext).decode(createMeasureSectionElement());
+
+				assertThat(decoded.findFirstNode(TemplateId.MEASURE_SECTION_V3).getChildNodes()).hasSize(MEASURE_COUNT);
+				assertThat(submitted.get()).isEqualTo(MEASURE_COUNT);
+				assertThat(measureThreads).doesNotContain(Thread.currentThread());
+			} finally {
+				pool.shutdown();
+			}
+		}
+
+		@Test
+		@DisplayName("Should decode fewer measures than the threshold on the calling thread")
+		void testSmallSectionsStaySequential() {
+			parallelContext.setParallelDecodeThreshold(MEASURE_COUNT + 1);
+
+			Node decoded = new QrdaDecoderEngine(parallelContext).decode(createMeasureSectionElement());
+
+			assertThat(decoded.findFirstNode(TemplateId.MEASURE_SECTION_V3).getChildNodes()).hasSize(MEASURE_COUNT);
+			assertThat(measureThreads).containsExactly(Thread.currentThread());
+		}
+
+		@Test
+		@DisplayName("Should decode many real measures concurrently as it would one after another")
+		void testManyMeasuresDecodeConcurrently() throws IOException {
+			Element document;
+			try (InputStream in = Files.newInputStream(Paths.get("../qrda-files/valid-QRDA-III-latest.xml"))) {
+				document = XmlUtils.parseXmlStream(in);
+			}
+			int measureCount = new QrdaDecoderEngine(new Context()).decode(document)
+					.findNode(TemplateId.MEASURE_REFERENCE_RESULTS_CMS_V2).size();
+			Element section = findMeasureSection(document);
+			List<Element> entries = new ArrayList<>(section.getChildren("entry", section.getNamespace()));
+			for (int copy = 0; copy < MEASURE_COUNT; copy++) {
+				entries.forEach(entry -> section.addContent(entry.clone()));
+			}
+			Context context = new Context();
+			context.setParallelDecode(true);
+			context.setParallelDecodeThreshold(1);
+
+			Node sequential = new QrdaDecoderEngine(new Context()).decode(document);
+			for (int run = 0; run < 5; run++) {
+				assertThat(new QrdaDecoderEngine(context).decode(document)).isEqualTo(sequential);
+			}
+			assertThat(sequential.findNode(TemplateId.MEASURE_REFERENCE_RESULTS_CMS_V2))
+					.hasSize(measureCount * (MEASURE_COUNT + 1));
+		}
+
+		private Element findMeasureSection(Element document) {
+			for (Element templateId : document.getDescendants(Filters.element(TEMPLATE_ID, document.getNamespace()))) {
+				if (TemplateId.MEASURE_SECTION_V3.getRoot().equals(templateId.getAttributeValue(ROOT))
+						&& TemplateId.MEASURE_SECTION_V3.getExtension().equals(
+								templateId.getAttributeValue(EXTENSION))) {
+					return templateId.getParentElement();
+				}
+			}
+			throw new AssertionError("No quality measure section");
+		}
+
+		private Element createMeasureSectionElement() {
+			Element rootElement = createRootElement();
+			Element section = createGenericElement();
+			addChildToParent(rootElement, section);
+			addChildToParent(section, createTemplateIdElement(TemplateId.MEASURE_SECTION_V3));
+			for (int index = 0; index < MEASURE_COUNT; index++) {
+				Element entry = createGenericElement();
+				Element organizer = createGenericElement();
+				organizer.setAttribute(MEASURE_ID, String.valueOf(index));
+				addChildToParent(organizer, createTemplateIdElement(TemplateId.MEASURE_REFERENCE_RESULTS_CMS_V2));
+				addChildToParent(entry, organizer);
+				addChildToParent(section, entry);
+			}
+			return rootElement;
+		}
+
+		private void assertParentsAreLinked(Node node) {
+			for (Node child : node.getChildNodes()) {
+				assertThat(child.getParent()).isSameInstanceAs(node);
+				assertParentsAreLinked(child);
+			}
+		}
+	}
+
+	private Element createTemplateIdElement(TemplateId templateId) {
+		Element element = new Element(TEMPLATE_ID);
+		element.setAttribute(ROOT, templateId.getRoot());
+		element.setAttribute(EXTENSION, templateId.getExtension());
+
+		return element;
+	}
+
 	private Element createContinueElement() {
 		Element element = new Element(TEMPLATE_ID);
 		element.setAttribute(ROOT, TemplateId.PI_SECTION.getRoot());
@@ -409,6 +621,18 @@ class QrdaDecoderEngineTest {
 		return subRootElement;
 	}
 
+	private Element createPaddedRootElement(int padding) {
+		Element rootElement = createRootElement();
+		addChildToParent(rootElement, createContinueElement());
+		for (int count = 0; count < padding; count++) {
+			Element paddingElement = createGenericElement();
+			addChildToParent(paddingElement, createGenericElement());
+			addChildToParent(rootElement, paddingElement);
+		}
+
+		return rootElement;
+	}
+
 	private void addChildToParent(Element parent, Element child) {
 		parent.getChildren().add(child);
 	}
@@ -455,6 +679,19 @@ class QrdaDecoderEngineTest {
 		}
 	}
 
+	public static class TestMeasure extends QrdaDecoder {
+		public TestMeasure(Context context) {
+			super(context);
+		}
+
+		@Override
+		public DecodeResult decode(Element element, Node childNode) {
+			measureThreads.add(Thread.currentThread());
+			childNode.putValue(MEASURE_ID, element.getAttributeValue(MEASURE_ID));
+			return DecodeResult.TREE_CONTINUE;
+		}
+	}
+
 	public static class TestChildEscape extends QrdaDecoder {
 		public TestChildEscape(Context context) {
 			super(context);
@@ -0,0 +1,205 @@
+package gov.cms.qpp.conversion.decode;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.jdom2.Element;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import gov.cms.qpp.conversion.Context;
+import gov.cms.qpp.conversion.xml.XmlException;
+import gov.cms.qpp.conversion.xml.XmlUtils;
+
+class QrdaDocumentSnifferTest {
+
+	private static final String HEADER = "<?xml version=\"1.0\" encoding=\"utf-8\"?>"
+			+ "<ClinicalDocument xmlns=\"urn:hl7-org:v3\"><realmCode code=\"US\"/>"
+			+ "<typeId root=\"2.16.840.1.113883.1.3\" extension=\"POCD_HD000040\"/>";
+	private static final String CLINICAL_DOCUMENT_TEMPLATE_ID =
+			"<templateId root=\"2.16.840.1.113883.10.20.27.1.2\" extension=\"2018-05-01\"/>";
+
+	private final QrdaDocumentSniffer sniffer = new QrdaDocumentSniffer(new Context());
+
+	static Stream<Path> xmlFiles() throws IOException {
+		return Stream.of(Paths.get("src/test/resources"), Paths.get("../qrda-files"), Paths.get("../sample-files"))
+				.flatMap(QrdaDocumentSnifferTest::walk)
+				.filter(file -> file.toString().endsWith(".xml"));
+	}
+
+	private static Stream<Path> walk(Path directory) {
+		try (Stream<Path> walk = Files.walk(directory)) {
+			return walk.collect(Collectors.toList()).stream();
+		} catch (IOException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	@ParameterizedTest
+	@MethodSource("xmlFiles")
+	void testSniffingAgreesWithDecoderEngine(Path file) throws IOException {
+		boolean accepted;
+		try (InputStream in = Files.newInputStream(file)) {
+			Element document = XmlUtils.parseXmlStream(in);
+			accepted = new QrdaDecoderEngine(new Context()).accepts(document);
+		} catch (XmlException e) {
+			return;
+		}
+
+		try (InputStream in = QrdaDocumentSniffer.sniffable(Files.newInputStream(file))) {
+			assertWithMessage("sniffing %s", file).that(sniffer.accepts(in)).isEqualTo(accepted);
+		}
+	}
+
+	@Test
+	void testAcceptsClinicalDocument() {
+		assertThat(sniffer.accepts(stream(HEADER + CLINICAL_DOCUMENT_TEMPLATE_ID + "<id/></ClinicalDocument>")))
+				.isTrue();
+	}
+
+	@Test
+	void testRejectsOtherRoot() {
+		assertThat(sniffer.accepts(stream("<meep>" + CLINICAL_DOCUMENT_TEMPLATE_ID + "</meep>"))).isFalse();
+	}
+
+	@Test
+	void testRejectsOtherTemplateIds() {
+		assertThat(sniffer.accepts(stream(HEADER + "<templateId root=\"2.16.840.1.113883.10.20.22.1.1\"/>"
+				+ "<id/></ClinicalDocument>"))).isFalse();
+	}
+
+	@Test
+	void testRejectsTemplateIdAfterTheHeader() {
+		assertThat(sniffer.accepts(stream(HEADER + "<templateId root=\"2.16.840.1.113883.10.20.22.1.1\"/>"
+				+ "<id/><code code=\"55184-6\"/>" + CLINICAL_DOCUMENT_TEMPLATE_ID + "</ClinicalDocument>"))).isFalse();
+	}
+
+	@Test
+	void testAcceptsTemplateIdBeforeRealmCode() {
+		assertThat(sniffer.accepts(stream("<ClinicalDocument xmlns=\"urn:hl7-org:v3\">"
+				+ CLINICAL_DOCUMENT_TEMPLATE_ID + "<realmCode code=\"US\"/></ClinicalDocument>"))).isTrue();
+	}
+
+	@Test
+	void testIgnoresDeeperTemplateIds() {
+		assertThat(sniffer.accepts(stream(HEADER + "<component>" + CLINICAL_DOCUMENT_TEMPLATE_ID + "</component>"
+				+ "</ClinicalDocument>"))).isFalse();
+	}
+
+	@Test
+	void testRejectsEmptyClinicalDocument() {
+		assertThat(sniffer.accepts(stream(HEADER + "</ClinicalDocument>"))).isFalse();
+	}
+
+	@Test
+	void testIgnoresTemplateIdsOfOtherNamespaces() {
+		assertThat(sniffer.accepts(stream(HEADER
+				+ "<templateId xmlns=\"urn:meep\" root=\"2.16.840.1.113883.10.20.27.1.2\" extension=\"2018-05-01\"/>"
+				+ "</ClinicalDocument>"))).isFalse();
+	}
+
+	@Test
+	void testStopsReadingAtTheLimit() {
+		String xml = HEADER + StringUtils.repeat("<templateId root=\"2.16.840.1.113883.10.20.22.1.1\"/>", 100_000)
+				+ "</ClinicalDocument>";
+		CountingStream counting = new CountingStream(stream(xml));
+
+		assertThat(sniffer.accepts(QrdaDocumentSniffer.sniffable(counting))).isTrue();
+		assertThat(counting.read).isLessThan(xml.length() / 10);
+	}
+
+	@Test
+	void testStopsReadingAtTheEndOfTheHeader() {
+		String xml = HEADER + "<id/>" + StringUtils.repeat("<component/>", 100_000) + "</ClinicalDocument>";
+		CountingStream counting = new CountingStream(stream(xml));
+
+		assertThat(sniffer.accepts(QrdaDocumentSniffer.sniffable(counting))).isFalse();
+		assertThat(counting.read).isLessThan(xml.length() / 10);
+	}
+
+	@Test
+	void testStopsReadingAtTheTemplateId() {
+		String xml = HEADER + CLINICAL_DOCUMENT_TEMPLATE_ID + StringUtils.repeat("<component/>", 100_000)
+				+ "</ClinicalDocument>";
+		CountingStream counting = new CountingStream(stream(xml));
+
+		assertThat(sniffer.accepts(QrdaDocumentSniffer.sniffable(counting))).isTrue();
+		assertThat(counting.read).isLessThan(xml.length() / 10);
+	}
+
+	@Test
+	void testStreamIsResetAfterSniffing() throws IOException {
+		String xml = HEADER + CLINICAL_DOCUMENT_TEMPLATE_ID + "</ClinicalDocument>";
+		InputStream in = QrdaDocumentSniffer.sniffable(new CountingStream(stream(xml)));
+
+		sniffer.accepts(in);
+
+		assertThat(IOUtils.toString(in, StandardCharsets.UTF_8)).isEqualTo(xml);
+	}
+
+	@Test
+	void testUndecidedWithinLimitIsAccepted() {
+		String xml = HEADER + "<!--" + StringUtils.repeat(' ', QrdaDocumentSniffer.SNIFF_LIMIT) + "-->"
+				+ "</ClinicalDocument>";
+
+		assertThat(sniffer.accepts(stream(xml))).isTrue();
+	}
+
+	@Test
+	void testDoctypeIsRejected() {
+		InputStream in = stream("<?xml version=\"1.0\"?><!DOCTYPE ClinicalDocument []><ClinicalDocument/>");
+
+		Assertions.assertThrows(XmlException.class, () -> sniffer.accepts(in));
+	}
+
+	@Test
+	void testMalformedXml() {
+		Assertions.assertThrows(XmlException.class, () -> sniffer.accepts(stream("invalid XML")));
+	}
+
+	private static InputStream stream(String xml) {
+		return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static class CountingStream extends FilterInputStream {
+		private long read;
+
+		CountingStream(InputStream in) {
+			super(in);
+		}
+
+		@Override
+		public int read() throws IOException {
+			int value = super.read();
+			read += value < 0 ? 0 : 1;
+			return value;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int count = super.read(b, off, len);
+			read += Math.max(count, 0);
+			return count;
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+	}
+}
@@ -31,7 +31,6 @@ class QualityMeasureIdDecoderTest {
 	void internalDecodeValid() throws XmlException {
 		Node qualityMeasureIdNode = new Node();
 		Element qualityMeasureIdElement = XmlUtils.stringToDom(getXmlFragmentWithMeasureGuid("Measurement Id Value"));
-		objectUnderTest.setNamespace(qualityMeasureIdElement.getNamespace());
 		objectUnderTest.decode(qualityMeasureIdElement, qualityMeasureIdNode);
 
 		String value = qualityMeasureIdNode.getValue("measureId");
@@ -49,7 +48,6 @@ class QualityMeasureIdDecoderTest {
 
 		Node qualityMeasureIdNode = new Node();
 		Element qualityMeasureIdElement = XmlUtils.stringToDom(xmlFragment);
-		objectUnderTest.setNamespace(qualityMeasureIdElement.getNamespace());
 		DecodeResult decodeResult = objectUnderTest.decode(qualityMeasureIdElement, qualityMeasureIdNode);
 
 		assertThat(decodeResult).isEquivalentAccordingToCompareTo(DecodeResult.TREE_CONTINUE);
@@ -63,8 +61,6 @@ class QualityMeasureIdDecoderTest {
 		Element qualityMeasureIdElement = XmlUtils.stringToDom(getBadXmlFragmentWithIncorrectRoot());
 		Node qualityMeasureIdNode = new Node();
 
-		objectUnderTest.setNamespace(qualityMeasureIdElement.getNamespace());
-
 		//execute
 		DecodeResult decodeResult = objectUnderTest.decode(qualityMeasureIdElement, qualityMeasureIdNode);
 
@@ -81,8 +77,6 @@ class QualityMeasureIdDecoderTest {
 
 		Node qualityMeasureIdNode = new Node();
 
-		objectUnderTest.setNamespace(qualityMeasureIdElement.getNamespace());
-
 		//execute
 		DecodeResult decodeResult = objectUnderTest.decode(qualityMeasureIdElement, qualityMeasureIdNode);
 
@@ -0,0 +1,78 @@
+package gov.cms.qpp.conversion.decode;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import gov.cms.qpp.conversion.Context;
+import gov.cms.qpp.conversion.model.Node;
+import gov.cms.qpp.conversion.xml.XmlUtils;
+
+class StaxDecoderEngineTest {
+
+	static Stream<Path> qrdaFiles() throws IOException {
+		return Stream.concat(
+				Stream.of(Paths.get("../qrda-files/valid-QRDA-III-latest.xml"),
+						Paths.get("src/test/resources/Qrda_CatIII_Provider.xml")),
+				Files.list(Paths.get("../sample-files/2019")));
+	}
+
+	@ParameterizedTest
+	@MethodSource("qrdaFiles")
+	void testDecodesIdenticallyToDocumentEngine(Path file) throws IOException {
+		Node expected;
+		try (InputStream in = Files.newInputStream(file)) {
+			expected = XmlDecoderEngine.decodeXml(new Context(), XmlUtils.parseXmlStream(in));
+		}
+
+		Node actual;
+		try (InputStream in = Files.newInputStream(file)) {
+			actual = new StaxDecoderEngine(new Context()).decode(in);
+		}
+
+		assertThat(actual).isNotNull();
+		assertSameTree(expected, actual);
+	}
+
+	@Test
+	void testUnknownDocument() {
+		String xml = "<ClinicalDocument xmlns=\"urn:hl7-org:v3\"><templateId root=\"nope\"/></ClinicalDocument>";
+
+		Node decoded = new StaxDecoderEngine(new Context())
+				.decode(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+
+		assertThat(decoded).isNull();
+	}
+
+	private static void assertSameTree(Node expected, Node actual) {
+		String path = expected.getOrComputePath();
+		assertWithMessage("type at %s", path).that(actual.getType()).isEqualTo(expected.getType());
+		assertWithMessage("path at %s", path).that(actual.getOrComputePath()).isEqualTo(path);
+		assertWithMessage("line at %s", path).that(actual.getLine()).isEqualTo(expected.getLine());
+		assertWithMessage("column at %s", path).that(actual.getColumn()).isEqualTo(expected.getColumn());
+		assertWithMessage("keys at %s", path).that(actual.getKeys()).isEqualTo(expected.getKeys());
+		for (String key : expected.getKeys()) {
+			assertWithMessage("value of %s at %s", key, path)
+					.that(actual.getValue(key)).isEqualTo(expected.getValue(key));
+			assertWithMessage("duplicate values of %s at %s", key, path)
+					.that(actual.getDuplicateValues(key)).isEqualTo(expected.getDuplicateValues(key));
+		}
+		assertWithMessage("children at %s", path)
+				.that(actual.getChildNodes()).hasSize(expected.getChildNodes().size());
+		for (int i = 0; i < expected.getChildNodes().size(); i++) {
+			assertSameTree(expected.getChildNodes().get(i), actual.getChildNodes().get(i));
+		}
+	}
+}
@@ -39,12 +39,10 @@ class AggregateCountEncoderTest {
 	void testEncoderWithFramework() {
 		QppOutputEncoder encoder = new QppOutputEncoder(new Context());
 
-		encoder.setNodes(nodes);
-
 		StringWriter sw = new StringWriter();
 
 		try {
-			encoder.encode(new BufferedWriter(sw), true);
+			encoder.encode(nodes, new BufferedWriter(sw), true, new EncodeReport());
 		} catch (EncodeException e) {
 			Assertions.fail("Failure to encode: " + e.getMessage());
 		}
@@ -61,10 +59,9 @@ class AggregateCountEncoderTest {
 	@Test
 	void testEncoder() {
 		AggregateCountEncoder encoder = new AggregateCountEncoder(new Context());
-		encoder.setNodes(nodes);
 		JsonWrapper json = new JsonWrapper();
 		try {
-			encoder.internalEncode(json, numeratorDenominatorNode);
+			encoder.internalEncode(json, numeratorDenominatorNode, new EncodeReport());
 		} catch (EncodeException e) {
 			Assertions.fail("Failure to encode: " + e.getMessage());
 		}
@@ -128,7 +128,7 @@ class ClinicalDocumentEncoderTest {
 	void testPerformanceYear() {
 		JsonWrapper testJsonWrapper = new JsonWrapper();
 		ClinicalDocumentEncoder clinicalDocumentEncoder = new ClinicalDocumentEncoder(new Context());
-		clinicalDocumentEncoder.internalEncode(testJsonWrapper, clinicalDocumentNode);
+		clinicalDocumentEncoder.internalEncode(testJsonWrapper, clinicalDocumentNode, new EncodeReport());
 		Object performanceYear = testJsonWrapper.getInteger(ReportingParametersActDecoder.PERFORMANCE_YEAR);
 
 		assertThat(performanceYear).isEqualTo(2017);
@@ -139,7 +139,7 @@ class ClinicalDocumentEncoderTest {
 		JsonWrapper testJsonWrapper = new JsonWrapper();
 
 		ClinicalDocumentEncoder clinicalDocumentEncoder = new ClinicalDocumentEncoder(new Context());
-		clinicalDocumentEncoder.internalEncode(testJsonWrapper, clinicalDocumentNode);
+		clinicalDocumentEncoder.internalEncode(testJsonWrapper, clinicalDocumentNode, new EncodeReport());
 
 		assertThat(testJsonWrapper.getString(ClinicalDocumentDecoder.ENTITY_TYPE))
 				.isEqualTo("individual");
@@ -155,7 +155,7 @@ class ClinicalDocumentEncoderTest {
 		JsonWrapper testJsonWrapper = new JsonWrapper();
 
 		ClinicalDocumentEncoder clinicalDocumentEncoder = new ClinicalDocumentEncoder(new Context());
-		clinicalDocumentEncoder.internalEncode(testJsonWrapper, clinicalDocumentNode);
+		clinicalDocumentEncoder.internalEncode(testJsonWrapper, clinicalDocumentNode, new EncodeReport());
 
 		Map<?, ?> clinicalDocMap = ((Map<?, ?>) testJsonWrapper.toObject());
 
@@ -170,7 +170,7 @@ class ClinicalDocumentEncoderTest {
 		JsonWrapper testJsonWrapper = new JsonWrapper();
 
 		ClinicalDocumentEncoder clinicalDocumentEncoder = new ClinicalDocumentEncoder(new Context());
-		clinicalDocumentEncoder.internalEncode(testJsonWrapper, clinicalDocumentNode);
+		clinicalDocumentEncoder.internalEncode(testJsonWrapper, clinicalDocumentNode, new EncodeReport());
 
 		Map<?, ?> clinicalDocMap = ((Map<?, ?>) testJsonWrapper.toObject());
 
@@ -185,7 +185,7 @@ class ClinicalDocumentEncoderTest {
 		JsonWrapper testJsonWrapper = new JsonWrapper();
 
 		ClinicalDocumentEncoder clinicalDocumentEncoder = new ClinicalDocumentEncoder(new Context());
-		clinicalDocumentEncoder.internalEncode(testJsonWrapper, clinicalDocumentNode);
+		clinicalDocumentEncoder.internalEncode(testJsonWrapper, clinicalDocumentNode, new EncodeReport());
 
 		Map<?, ?> clinicalDocMap = ((Map<?, ?>) testJsonWrapper.toObject());
 
@@ -202,7 +202,7 @@ class ClinicalDocumentEncoderTest {
 		String expectedSection = "aci";
 
 		ClinicalDocumentEncoder clinicalDocumentEncoder = new ClinicalDocumentEncoder(new Context());
-		clinicalDocumentEncoder.internalEncode(testJsonWrapper, clinicalDocumentNode);
+		clinicalDocumentEncoder.internalEncode(testJsonWrapper, clinicalDocumentNode, new EncodeReport());
 
 		JsonWrapper measurementSets = getMeasurementSets(testJsonWrapper);
 		String value = measurementSets.get(0).getString("category");
@@ -218,7 +218,7 @@ class ClinicalDocumentEncoderTest {
 		JsonWrapper testJsonWrapper = new JsonWrapper();
 
 		ClinicalDocumentEncoder clinicalDocumentEncoder = new ClinicalDocumentEncoder(new Context());
-		clinicalDocumentEncoder.internalEncode(testJsonWrapper, clinicalDocumentNode);
+		clinicalDocumentEncoder.internalEncode(testJsonWrapper, clinicalDocumentNode, new EncodeReport());
 
 		assertThat(testJsonWrapper.getString(ClinicalDocumentDecoder.ENTITY_ID))
 			.isEqualTo("x12345"); // TODO asdf refactor equals to toObject maybe if not comparing to JsW
@@ -230,7 +230,7 @@ class ClinicalDocumentEncoderTest {
 		clinicalDocumentNode.putValue(ClinicalDocumentDecoder.ENTITY_TYPE, "apm");
 
 		ClinicalDocumentEncoder clinicalDocumentEncoder = new ClinicalDocumentEncoder(new Context());
-		clinicalDocumentEncoder.internalEncode(testJsonWrapper, clinicalDocumentNode);
+		clinicalDocumentEncoder.internalEncode(testJsonWrapper, clinicalDocumentNode, new EncodeReport());
 
 		Map<?, ?> clinicalDocMap = ((Map<?, ?>) testJsonWrapper.toObject());
 
@@ -243,7 +243,7 @@ class ClinicalDocumentEncoderTest {
 		JsonWrapper testJsonWrapper = new JsonWrapper();
 
 		ClinicalDocumentEncoder clinicalDocumentEncoder = new ClinicalDocumentEncoder(new Context());
-		clinicalDocumentEncoder.internalEncode(testJsonWrapper, clinicalDocumentNode);
+		clinicalDocumentEncoder.internalEncode(testJsonWrapper, clinicalDocumentNode, new EncodeReport());
 
 		@SuppressWarnings("unchecked")
 		List<JsonWrapper> measurementSets = (List<JsonWrapper>) testJsonWrapper.get("measurementSets").toObject();
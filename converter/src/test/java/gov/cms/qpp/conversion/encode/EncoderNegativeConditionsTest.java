@@ -26,12 +26,10 @@ class EncoderNegativeConditionsTest {
 		List<Node> nodes = new ArrayList<>();
 		nodes.add(aNode);
 
-		encoder.setNodes(nodes);
-
 		StringWriter sw = new StringWriter();
 
 		try {
-			encoder.encode(new BufferedWriter(sw), false);
+			encoder.encode(nodes, new BufferedWriter(sw), false, new EncodeReport());
 		} catch (EncodeException e) {
 			Assertions.fail("Failure to encode: " + e.getMessage());
 		}
@@ -56,14 +54,14 @@ class EncoderNegativeConditionsTest {
 
 		QppOutputEncoder encoder = new QppOutputEncoder(new Context());
 
-		encoder.setNodes(nodes);
+		EncodeReport report = new EncodeReport();
 
 		FailingWriter failWrite = new FailingWriter();
 
-		encoder.encode(new BufferedWriter(failWrite), true);
+		encoder.encode(nodes, new BufferedWriter(failWrite), true, report);
 
-		assertThat(encoder.getErrors()).hasSize(1);
-		assertThat(encoder.getErrors().get(0).getMessage())
+		assertThat(report.getErrors()).hasSize(1);
+		assertThat(report.getErrors().get(0).getMessage())
 				.isEqualTo("Fake IOException");
 	}
 }
@@ -59,12 +59,10 @@ class IaSectionEncoderTest {
 	void testEncoder() {
 		QppOutputEncoder encoder = new QppOutputEncoder(new Context());
 
-		encoder.setNodes(nodes);
-
 		StringWriter sw = new StringWriter();
 
 		try {
-			encoder.encode(new BufferedWriter(sw), true);
+			encoder.encode(nodes, new BufferedWriter(sw), true, new EncodeReport());
 		} catch (EncodeException e) {
 			Assertions.fail("Failure to encode: " + e.getMessage());
 		}
@@ -78,12 +76,10 @@ class IaSectionEncoderTest {
 		iaSectionNode.getChildNodes().remove(iaMeasureNode);
 		QppOutputEncoder encoder = new QppOutputEncoder(new Context());
 
-		encoder.setNodes(nodes);
-
 		StringWriter sw = new StringWriter();
 
 		try {
-			encoder.encode(new BufferedWriter(sw), true);
+			encoder.encode(nodes, new BufferedWriter(sw), true, new EncodeReport());
 		} catch (EncodeException e) {
 			Assertions.fail("Failure to encode: " + e.getMessage());
 		}
@@ -97,12 +93,10 @@ class IaSectionEncoderTest {
 		iaMeasureNode.getChildNodes().remove(iaMeasurePerformedNode);
 		QppOutputEncoder encoder = new QppOutputEncoder(new Context());
 
-		encoder.setNodes(nodes);
-
 		StringWriter sw = new StringWriter();
 
 		try {
-			encoder.encode(new BufferedWriter(sw), true);
+			encoder.encode(nodes, new BufferedWriter(sw), true, new EncodeReport());
 		} catch (EncodeException e) {
 			Assertions.fail("Failure to encode: " + e.getMessage());
 		}
@@ -116,12 +110,10 @@ class IaSectionEncoderTest {
 		iaMeasurePerformedNode.putValue("measurePerformed", null);
 		QppOutputEncoder encoder = new QppOutputEncoder(new Context());
 
-		encoder.setNodes(nodes);
-
 		StringWriter sw = new StringWriter();
 
 		try {
-			encoder.encode(new BufferedWriter(sw), true);
+			encoder.encode(nodes, new BufferedWriter(sw), true, new EncodeReport());
 		} catch (EncodeException e) {
 			Assertions.fail("Failure to encode: " + e.getMessage());
 		}
@@ -18,7 +18,7 @@ class JsonOutputEncoderTest {
 	void before() {
 		joe = new JsonOutputEncoder() {
 			@Override
-			protected void internalEncode(JsonWrapper wrapper, Node node) throws EncodeException {
+			protected void internalEncode(JsonWrapper wrapper, Node node, EncodeReport report) throws EncodeException {
 				EncodeException ee = new EncodeException("thrown", new RuntimeException("test"), "id");
 				throw ee;
 			}
@@ -27,14 +27,15 @@ class JsonOutputEncoderTest {
 
 	@Test
 	void testAddValidationAndGetValidations() {
-		assertThat(joe.getErrors()).isEmpty();
+		EncodeReport report = new EncodeReport();
+		assertThat(report.getErrors()).isEmpty();
 		Detail detail1 = new Detail();
 		detail1.setMessage("error");
 		Detail detail2 = new Detail();
 		detail2.setMessage("another");
-		joe.addValidationError(detail1);
-		joe.addValidationError(detail2);
-		List<Detail> validations = joe.getErrors();
+		report.addValidationError(detail1);
+		report.addValidationError(detail2);
+		List<Detail> validations = report.getErrors();
 		assertThat(validations).hasSize(2);
 		assertThat(validations.get(0).getMessage()).isEqualTo("error");
 		assertThat(validations.get(1).getMessage()).isEqualTo("another");
@@ -42,14 +43,15 @@ class JsonOutputEncoderTest {
 
 	@Test
 	void testAddValidationAndGetValidationById() {
-		List<Detail> validations = joe.getErrors();
+		EncodeReport report = new EncodeReport();
+		List<Detail> validations = report.getErrors();
 		assertThat(validations).hasSize(0);
 
 		Detail detail = new Detail();
 		detail.setMessage("err");
-		joe.addValidationError(detail);
+		report.addValidationError(detail);
 
-		validations = joe.getErrors();
+		validations = report.getErrors();
 		assertThat(validations).isNotNull();
 		assertThat(validations).hasSize(1);
 		assertThat(validations.get(0).getMessage()).isEqualTo("err");
@@ -57,10 +59,43 @@ class JsonOutputEncoderTest {
 
 	@Test
 	void testAddValidationByEncodeException() {
-		joe.encode((JsonWrapper) null, (Node) null); // the values are not used in the test
+		EncodeReport report = new EncodeReport();
+		joe.encode((JsonWrapper) null, (Node) null, report); // the values are not used in the test
 
-		List<Detail> details = joe.getErrors();
+		List<Detail> details = report.getErrors();
 		assertThat(details)
 				.hasSize(1);
 	}
+
+	@Test
+	void testEachEncodeReportsOnlyItsOwnErrors() {
+		EncodeReport first = new EncodeReport();
+		EncodeReport second = new EncodeReport();
+		joe.encode((JsonWrapper) null, (Node) null, first);
+		joe.encode((JsonWrapper) null, (Node) null, second);
+
+		assertThat(first.getErrors()).hasSize(1);
+		assertThat(second.getErrors()).hasSize(1);
+	}
+
+	@Test
+	void testNestedEncodeKeepsTheErrorsOfTheOuterCall() {
+		JsonOutputEncoder nesting = new JsonOutputEncoder() {
+			@Override
+			protected void internalEncode(JsonWrapper wrapper, Node node, EncodeReport report) {
+				report.addValidationError(new Detail());
+				if (!node.getChildNodes().isEmpty()) {
+					encode(wrapper, node.getChildNodes().get(0), report);
+				}
+				report.addValidationError(new Detail());
+			}
+		};
+		Node parent = new Node();
+		parent.addChildNode(new Node());
+
+		EncodeReport report = new EncodeReport();
+		nesting.encode(new JsonWrapper(), parent, report);
+
+		assertThat(report.getErrors()).hasSize(4);
+	}
 }
@@ -47,7 +47,7 @@ class MeasureDataEncoderTest {
 	private JsonWrapper encode(Node measureDataNode) {
 		JsonWrapper jsonWrapper = new JsonWrapper();
 		QppOutputEncoder qppOutputEncoder = new QppOutputEncoder(new Context());
-		qppOutputEncoder.internalEncode(jsonWrapper, measureDataNode);
+		qppOutputEncoder.internalEncode(jsonWrapper, measureDataNode, new EncodeReport());
 		return jsonWrapper;
 	}
 }
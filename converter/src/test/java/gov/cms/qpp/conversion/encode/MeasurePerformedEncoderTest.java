@@ -17,7 +17,7 @@ class MeasurePerformedEncoderTest {
 		JsonWrapper jsonWrapper = new JsonWrapper();
 		QppOutputEncoder qppOutputEncoder = new QppOutputEncoder(new Context());
 
-		qppOutputEncoder.internalEncode(jsonWrapper, measurePerformedNode);
+		qppOutputEncoder.internalEncode(jsonWrapper, measurePerformedNode, new EncodeReport());
 
 		assertThat(jsonWrapper.getBoolean("value")).isTrue();
 	}
@@ -45,12 +45,11 @@ class PiMeasurePerformedRnREncoderTest {
 	@SuppressWarnings("unchecked")
 	void testEncoder() {
 		QppOutputEncoder encoder = new QppOutputEncoder(new Context());
-		encoder.setNodes(nodes);
 
 		StringWriter sw = new StringWriter();
 
 		try {
-			encoder.encode(new BufferedWriter(sw), true);
+			encoder.encode(nodes, new BufferedWriter(sw), true, new EncodeReport());
 		} catch (EncodeException e) {
 			Assertions.fail("Failure to encode: " + e.getMessage());
 		}
@@ -70,7 +69,7 @@ class PiMeasurePerformedRnREncoderTest {
 		PiMeasurePerformedRnREncoder objectUnderTest = new PiMeasurePerformedRnREncoder(new Context());
 
 		//execute
-		objectUnderTest.internalEncode(jsonWrapper, piMeasurePerformedRnR);
+		objectUnderTest.internalEncode(jsonWrapper, piMeasurePerformedRnR, new EncodeReport());
 
 		//assert
 		assertThat(jsonWrapper.getString("measureId"))
@@ -87,7 +86,7 @@ class PiMeasurePerformedRnREncoderTest {
 		piMeasurePerformedRnR.setChildNodes();
 
 		//execute
-		objectUnderTest.internalEncode(jsonWrapper, piMeasurePerformedRnR);
+		objectUnderTest.internalEncode(jsonWrapper, piMeasurePerformedRnR, new EncodeReport());
 
 		//assert
 		assertThat(jsonWrapper.getString("measureId"))
@@ -103,7 +102,7 @@ class PiMeasurePerformedRnREncoderTest {
 		PiMeasurePerformedRnREncoder objectUnderTest = new PiMeasurePerformedRnREncoder(new Context());
 		piMeasurePerformedRnR.getChildNodes().get(0).putValue("measurePerformed", "Y");
 		//execute
-		objectUnderTest.internalEncode(jsonWrapper, piMeasurePerformedRnR);
+		objectUnderTest.internalEncode(jsonWrapper, piMeasurePerformedRnR, new EncodeReport());
 
 		//assert
 		assertThat(jsonWrapper.getString("measureId"))
@@ -119,7 +118,7 @@ class PiMeasurePerformedRnREncoderTest {
 		PiMeasurePerformedRnREncoder objectUnderTest = new PiMeasurePerformedRnREncoder(new Context());
 		piMeasurePerformedRnR.getChildNodes().get(0).putValue("measurePerformed","N");
 		//execute
-		objectUnderTest.internalEncode(jsonWrapper, piMeasurePerformedRnR);
+		objectUnderTest.internalEncode(jsonWrapper, piMeasurePerformedRnR, new EncodeReport());
 
 		//assert
 		assertThat(jsonWrapper.getString("measureId"))
@@ -136,7 +135,7 @@ class PiMeasurePerformedRnREncoderTest {
 		String unknownValue = "Some unknown value";
 		piMeasurePerformedRnR.getChildNodes().get(0).putValue("measurePerformed",unknownValue);
 		//execute
-		objectUnderTest.internalEncode(jsonWrapper, piMeasurePerformedRnR);
+		objectUnderTest.internalEncode(jsonWrapper, piMeasurePerformedRnR, new EncodeReport());
 
 		//assert
 		assertThat(jsonWrapper.getString("measureId"))
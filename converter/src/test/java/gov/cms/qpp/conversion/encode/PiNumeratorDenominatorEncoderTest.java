@@ -56,12 +56,10 @@ class PiNumeratorDenominatorEncoderTest {
 	void testEncoder() {
 		QppOutputEncoder encoder = new QppOutputEncoder(new Context());
 
-		encoder.setNodes(nodes);
-
 		StringWriter sw = new StringWriter();
 
 		try {
-			encoder.encode(new BufferedWriter(sw), true);
+			encoder.encode(nodes, new BufferedWriter(sw), true, new EncodeReport());
 		} catch (EncodeException e) {
 			Assertions.fail("Failure to encode: " + e.getMessage());
 		}
@@ -79,7 +77,7 @@ class PiNumeratorDenominatorEncoderTest {
 		PiNumeratorDenominatorEncoder objectUnderTest = new PiNumeratorDenominatorEncoder(new Context());
 
 		//execute
-		objectUnderTest.internalEncode(jsonWrapper, piProportionMeasureNode);
+		objectUnderTest.internalEncode(jsonWrapper, piProportionMeasureNode, new EncodeReport());
 
 		//assert
 		assertThat(jsonWrapper.getString("measureId"))
@@ -99,14 +97,16 @@ class PiNumeratorDenominatorEncoderTest {
 		Node unknownNode = new Node();
 		piProportionMeasureNode.addChildNode(unknownNode);
 
+		EncodeReport report = new EncodeReport();
+
 		//execute
-		objectUnderTest.internalEncode(jsonWrapper, piProportionMeasureNode);
+		objectUnderTest.internalEncode(jsonWrapper, piProportionMeasureNode, report);
 
 		//assert
-		assertThat(objectUnderTest.getErrors())
+		assertThat(report.getErrors())
 				.hasSize(1);
 		assertWithMessage("The validation error must be the inability to find an encoder")
-				.that(objectUnderTest.getErrors().get(0).getMessage())
+				.that(report.getErrors().get(0).getMessage())
 				.isEqualTo(ProblemCode.CT_LABEL + "Failed to find an encoder");
 	}
 }
@@ -2,9 +2,6 @@ package gov.cms.qpp.conversion.encode;
 
 import static com.google.common.truth.Truth.assertThat;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -16,7 +13,6 @@ class PiProportionDenominatorEncoderTest {
 
 	private Node piProportionDenominatorNode;
 	private Node numeratorDenominatorValueNode;
-	private List<Node> nodes;
 	private JsonWrapper json;
 
 	@BeforeEach
@@ -30,9 +26,6 @@ class PiProportionDenominatorEncoderTest {
 		piProportionDenominatorNode.addChildNode(ensureOrderIsNotOfConcern);
 		piProportionDenominatorNode.addChildNode(numeratorDenominatorValueNode);
 
-		nodes = new ArrayList<>();
-		nodes.add(piProportionDenominatorNode);
-
 		json = new JsonWrapper();
 	}
 
@@ -66,10 +59,9 @@ class PiProportionDenominatorEncoderTest {
 	private void runEncoder() {
 		PiProportionDenominatorEncoder encoder = new PiProportionDenominatorEncoder(new Context());
 		try {
-			encoder.internalEncode(json, piProportionDenominatorNode);
+			encoder.internalEncode(json, piProportionDenominatorNode, new EncodeReport());
 		} catch (EncodeException e) {
 			throw new RuntimeException(e);
 		}
-		encoder.setNodes(nodes);
 	}
 }
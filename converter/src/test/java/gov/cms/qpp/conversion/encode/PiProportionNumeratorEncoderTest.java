@@ -32,7 +32,7 @@ class PiProportionNumeratorEncoderTest {
 	@Test
 	void testInternalEncode() throws EncodeException {
 		PiProportionNumeratorEncoder piProportionNumeratorEncoder = new PiProportionNumeratorEncoder(new Context());
-		piProportionNumeratorEncoder.internalEncode(jsonWrapper, piProportionNumeratorNode);
+		piProportionNumeratorEncoder.internalEncode(jsonWrapper, piProportionNumeratorNode, new EncodeReport());
 
 		assertThat(jsonWrapper.getInteger("numerator"))
 				.isEqualTo(600);
@@ -43,7 +43,7 @@ class PiProportionNumeratorEncoderTest {
 		piProportionNumeratorNode.getChildNodes().remove(numeratorDenominatorValueNode);
 
 		PiProportionNumeratorEncoder piProportionNumeratorEncoder = new PiProportionNumeratorEncoder(new Context());
-		piProportionNumeratorEncoder.internalEncode(jsonWrapper, piProportionNumeratorNode);
+		piProportionNumeratorEncoder.internalEncode(jsonWrapper, piProportionNumeratorNode, new EncodeReport());
 
 		assertThat(jsonWrapper.getInteger("numerator"))
 				.isNull();
@@ -54,7 +54,7 @@ class PiProportionNumeratorEncoderTest {
 		numeratorDenominatorValueNode.putValue("aggregateCount", null);
 
 		PiProportionNumeratorEncoder piProportionNumeratorEncoder = new PiProportionNumeratorEncoder(new Context());
-		piProportionNumeratorEncoder.internalEncode(jsonWrapper, piProportionNumeratorNode);
+		piProportionNumeratorEncoder.internalEncode(jsonWrapper, piProportionNumeratorNode, new EncodeReport());
 
 		assertThat(jsonWrapper.getInteger("numerator"))
 				.isNull();
@@ -126,12 +126,10 @@ class PiSectionEncoderMultiMeasureTest {
 	void testEncoder() {
 		QppOutputEncoder encoder = new QppOutputEncoder(new Context());
 
-		encoder.setNodes(nodes);
-
 		StringWriter sw = new StringWriter();
 
 		try {
-			encoder.encode(new BufferedWriter(sw), true);
+			encoder.encode(nodes, new BufferedWriter(sw), true, new EncodeReport());
 		} catch (EncodeException e) {
 			Assertions.fail("Failure to encode: " + e.getMessage());
 		}
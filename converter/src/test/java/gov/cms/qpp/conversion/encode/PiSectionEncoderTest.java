@@ -82,7 +82,7 @@ class PiSectionEncoderTest {
 	void testInternalEncode() {
 		JsonWrapper jsonWrapper = new JsonWrapper();
 		PiSectionEncoder piSectionEncoder = new PiSectionEncoder(new Context());
-		piSectionEncoder.internalEncode(jsonWrapper, piSectionNode);
+		piSectionEncoder.internalEncode(jsonWrapper, piSectionNode, new EncodeReport());
 
 		assertWithMessage("Must have a child node").that(jsonWrapper).isNotNull();
 		assertWithMessage("Must be category PI").that(jsonWrapper.getString(CATEGORY)).isEqualTo(PI);
@@ -96,7 +96,7 @@ class PiSectionEncoderTest {
 	void aboutMetadataHolder() {
 		JsonWrapper jsonWrapper = new JsonWrapper();
 		PiSectionEncoder piSectionEncoder = new PiSectionEncoder(new Context());
-		piSectionEncoder.internalEncode(jsonWrapper, piSectionNode);
+		piSectionEncoder.internalEncode(jsonWrapper, piSectionNode, new EncodeReport());
 
 		Stream<JsonWrapper> failed = jsonWrapper.getMetadata().stream() // TODO asdf
 			.filter(entry -> entry.getString("template").equals(TemplateId.REPORTING_PARAMETERS_ACT.name()))
@@ -119,10 +119,11 @@ class PiSectionEncoderTest {
 		piSectionNode.setParent(clinicalDocumentNode);
 
 		PiSectionEncoder piSectionEncoder = new PiSectionEncoder(new Context());
-		piSectionEncoder.internalEncode(testWrapper, piSectionNode);
+		EncodeReport report = new EncodeReport();
+		piSectionEncoder.internalEncode(testWrapper, piSectionNode, report);
 
-		assertThat(piSectionEncoder.getErrors()).isNotNull();
-		assertThat(piSectionEncoder.getErrors().get(0).getMessage())
+		assertThat(report.getErrors()).isNotNull();
+		assertThat(report.getErrors().get(0).getMessage())
 				.isEqualTo(ProblemCode.CT_LABEL + "Failed to find an encoder");
 	}
 
@@ -133,7 +134,7 @@ class PiSectionEncoderTest {
 
 		PiSectionEncoder encoder = spy(new PiSectionEncoder(new Context()));
 		JsonWrapper jsonWrapper = new JsonWrapper();
-		encoder.internalEncode(jsonWrapper, piSectionNode);
+		encoder.internalEncode(jsonWrapper, piSectionNode, new EncodeReport());
 
 		//verify that maintain continuity was not called for both reporting parameters
 		verify(encoder, Mockito.times(1)).maintainContinuity(any(JsonWrapper.class), any(Node.class), anyString());
@@ -17,11 +17,12 @@ class PlaceholderEncoderTest {
 		placeHolder.addChildNode(new Node());
 		JsonWrapper wrapper = new JsonWrapper();
 		PlaceholderEncoder encoder = new PlaceholderEncoder(new Context());
+		EncodeReport report = new EncodeReport();
 
 		//when
-		encoder.internalEncode(wrapper, placeHolder);
+		encoder.internalEncode(wrapper, placeHolder, report);
 
 		//then
-		assertThat(encoder.getErrors()).hasSize(1);
+		assertThat(report.getErrors()).hasSize(1);
 	}
 }
@@ -25,7 +25,7 @@ public class QedEncoder extends QppOutputEncoder {
 	 * @throws EncodeException
 	 */
 	@Override
-	public void internalEncode(JsonWrapper wrapper, Node node) throws EncodeException {
+	public void internalEncode(JsonWrapper wrapper, Node node, EncodeReport report) throws EncodeException {
 		Set<String> keys = node.getKeys();
 
 		for (String key : keys) {
@@ -215,7 +215,7 @@ class QualityMeasureIdEncoderTest {
 		qualityMeasureId.addChildNodes(populationNode, denomExclusionNode, numeratorNode, denominatorNode,
 			denominatorExceptionNode);
 		try {
-			encoder.internalEncode(wrapper, qualityMeasureId);
+			encoder.internalEncode(wrapper, qualityMeasureId, new EncodeReport());
 		} catch (EncodeException e) {
 			Assertions.fail("Failure to encode: " + e.getMessage());
 		}
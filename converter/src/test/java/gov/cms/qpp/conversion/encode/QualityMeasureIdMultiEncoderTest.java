@@ -124,7 +124,7 @@ class QualityMeasureIdMultiEncoderTest {
 				eligiblePopulationNodeTwo, eligiblePopulationExceptionNodeTwo,
 				eligiblePopulationExclusionNodeTwo, numeratorNodeTwo, denominatorNodeTwo);
 
-		encoder.internalEncode(wrapper, qualityMeasureId);
+		encoder.internalEncode(wrapper, qualityMeasureId, new EncodeReport());
 
 		JsonWrapper childValues = getChildValues();
 		JsonWrapper subPopulations = childValues.get("strata");
@@ -139,7 +139,7 @@ class QualityMeasureIdMultiEncoderTest {
 				numeratorNode, denominatorNode, eligiblePopulationNodeTwo,
 				eligiblePopulationExceptionNodeTwo, numeratorNodeTwo, denominatorNodeTwo);
 
-		encoder.internalEncode(wrapper, qualityMeasureId);
+		encoder.internalEncode(wrapper, qualityMeasureId, new EncodeReport());
 
 		JsonWrapper subPopulations = getChildValues().get("strata");
 
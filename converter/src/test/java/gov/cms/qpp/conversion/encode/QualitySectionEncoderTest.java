@@ -25,7 +25,7 @@ class QualitySectionEncoderTest {
 		Node qualitySectionNode = getQualitySectionNode();
 		QualitySectionEncoder encoder = new QualitySectionEncoder(new Context());
 		JsonWrapper jsonWrapper = new JsonWrapper();
-		encoder.internalEncode(jsonWrapper, qualitySectionNode);
+		encoder.internalEncode(jsonWrapper, qualitySectionNode, new EncodeReport());
 
 		assertThat(jsonWrapper.getString("category")).isEqualTo("quality");
 		assertThat(jsonWrapper.getString("submissionMethod")).isEqualTo("electronicHealthRecord");
@@ -38,9 +38,10 @@ class QualitySectionEncoderTest {
 
 		QualitySectionEncoder encoder = new QualitySectionEncoder(new Context());
 		JsonWrapper jsonWrapper = new JsonWrapper();
-		encoder.internalEncode(jsonWrapper, qualitySectionNode);
+		EncodeReport report = new EncodeReport();
+		encoder.internalEncode(jsonWrapper, qualitySectionNode, report);
 
-		assertThat(encoder.getErrors()).comparingElementsUsing(DetailsErrorEquals.INSTANCE)
+		assertThat(report.getErrors()).comparingElementsUsing(DetailsErrorEquals.INSTANCE)
 				.containsExactly(ProblemCode.ENCODER_MISSING);
 	}
 
@@ -52,7 +53,7 @@ class QualitySectionEncoderTest {
 
 		QualitySectionEncoder mock = mock(QualitySectionEncoder.class);
 		JsonWrapper jsonWrapper = new JsonWrapper();
-		mock.internalEncode(jsonWrapper, qualitySectionNode);
+		mock.internalEncode(jsonWrapper, qualitySectionNode, new EncodeReport());
 
 		verify(mock, never())
 				.maintainContinuity(any(), any(Node.class), any());
@@ -19,7 +19,7 @@ class ReportingParametersActEncoderTest {
 		reportingParametersActNode.putValue(ReportingParametersActEncoder.PERFORMANCE_END,"20171231");
 		JsonWrapper outputWrapper = new JsonWrapper();
 		ReportingParametersActEncoder encoder = new ReportingParametersActEncoder(new Context());
-		encoder.internalEncode(outputWrapper, reportingParametersActNode);
+		encoder.internalEncode(outputWrapper, reportingParametersActNode, new EncodeReport());
 		String performanceStart = outputWrapper.getString(ReportingParametersActEncoder.PERFORMANCE_START);
 		String performanceEnd = outputWrapper.getString(ReportingParametersActEncoder.PERFORMANCE_END);
 
@@ -33,7 +33,7 @@ class ReportingParametersActEncoderTest {
 
 		JsonWrapper outputWrapper = new JsonWrapper();
 		ReportingParametersActEncoder encoder = new ReportingParametersActEncoder(new Context());
-		encoder.internalEncode(outputWrapper, reportingParametersActNode);
+		encoder.internalEncode(outputWrapper, reportingParametersActNode, new EncodeReport());
 		String performanceStart = outputWrapper.getString(ReportingParametersActEncoder.PERFORMANCE_START);
 		String performanceEnd = outputWrapper.getString(ReportingParametersActEncoder.PERFORMANCE_END);
 
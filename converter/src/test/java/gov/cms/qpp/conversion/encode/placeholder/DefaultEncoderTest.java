@@ -3,6 +3,7 @@ package gov.cms.qpp.conversion.encode.placeholder;
 import gov.cms.qpp.conversion.Context;
 import gov.cms.qpp.conversion.decode.QrdaDecoderEngine;
 import gov.cms.qpp.conversion.encode.EncodeException;
+import gov.cms.qpp.conversion.encode.EncodeReport;
 import gov.cms.qpp.conversion.encode.JsonWrapper;
 import gov.cms.qpp.conversion.encode.QppOutputEncoder;
 import gov.cms.qpp.conversion.model.Node;
@@ -30,7 +31,7 @@ class DefaultEncoderTest {
 		Node placeHolder = new Node(TemplateId.DEFAULT, node);
 		node.addChildNode(placeHolder);
 		JsonWrapper wrapper = new JsonWrapper();
-		new QppOutputEncoder(new Context()).encode(wrapper, node);
+		new QppOutputEncoder(new Context()).encode(wrapper, node, new EncodeReport());
 
 		assertThat(wrapper.toString().length() > 10).isTrue();
 	}
@@ -41,7 +42,7 @@ class DefaultEncoderTest {
 		Node placeHolder = new Node(TemplateId.PLACEHOLDER, root);
 		root.addChildNode(placeHolder);
 		JsonWrapper wrapper = new JsonWrapper();
-		new DefaultEncoder("Default Encode test").internalEncode(wrapper, root);
+		new DefaultEncoder("Default Encode test").internalEncode(wrapper, root, new EncodeReport());
 		assertThat(wrapper.toString()).hasLength(3);
 	}
 
@@ -55,7 +56,7 @@ class DefaultEncoderTest {
 		root.addChildNode(qed);
 		qed.putValue("name2", "value2");
 		JsonWrapper wrapper = new JsonWrapper();
-		new DefaultEncoder("Default Encode test").internalEncode(wrapper, root);
+		new DefaultEncoder("Default Encode test").internalEncode(wrapper, root, new EncodeReport());
 		String json = wrapper.toString();
 		String acutal = json.replaceAll("\\s", "");
 //		String expect = "{\"DEFAULT\":[\"PLACEHOLDER\":{\"name\":\"value\"}]}"; // TODO maybe the children should be a list and data should be a map
@@ -0,0 +1,94 @@
+package gov.cms.qpp.conversion.model;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import org.jdom2.Element;
+import org.jdom2.Namespace;
+import org.jdom2.filter.Filters;
+import org.jdom2.located.Located;
+import org.jdom2.xpath.XPathFactory;
+import org.jdom2.xpath.XPathHelper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import gov.cms.qpp.conversion.Context;
+import gov.cms.qpp.conversion.decode.QrdaDecoderEngine;
+import gov.cms.qpp.conversion.xml.XmlUtils;
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+class ElementPathTest {
+
+	private static Element document;
+
+	@BeforeAll
+	static void setup() throws IOException {
+		try (InputStream in = Files.newInputStream(Paths.get("../qrda-files/valid-QRDA-III-latest.xml"))) {
+			document = XmlUtils.parseXmlStream(in);
+		}
+	}
+
+	@Test
+	void testPathMatchesXpathHelper() {
+		for (Element element : document.getDescendants(Filters.element())) {
+			assertThat(ElementPath.of(element).getAbsolutePath()).isEqualTo(XPathHelper.getAbsolutePath(element));
+		}
+	}
+
+	@Test
+	void testPathWithoutNamespace() {
+		Element root = new Element("root");
+		Element child = new Element("child");
+		root.addContent(new Element("child")).addContent(child).addContent(new Element("other"));
+
+		assertThat(ElementPath.of(child).toString()).isEqualTo(XPathHelper.getAbsolutePath(child));
+		assertThat(ElementPath.of(child).toString()).isEqualTo("/root/child[2]");
+	}
+
+	@Test
+	void testSiblingsOfAnotherNamespaceAreNotCounted() {
+		Element root = new Element("root");
+		Element child = new Element("id");
+		root.addContent(child).addContent(new Element("id", Namespace.getNamespace("sdtc", "urn:hl7-org:sdtc")));
+
+		assertThat(ElementPath.positionOf(child)).isEqualTo(ElementPath.NO_POSITION);
+	}
+
+	@Test
+	void testDecodedNodePathsLocateTheirElements() {
+		Node root = new QrdaDecoderEngine(new Context()).decode(document);
+		Deque<Node> nodes = new ArrayDeque<>();
+		nodes.push(root);
+
+		while (!nodes.isEmpty()) {
+			Node node = nodes.pop();
+			node.getChildNodes().forEach(nodes::push);
+
+			List<Element> located = XPathFactory.instance().compile(node.getOrComputePath(), Filters.element())
+					.evaluate(document);
+			assertWithMessage("elements at %s", node.getOrComputePath()).that(located).hasSize(1);
+			assertWithMessage("template id of %s", node.getOrComputePath())
+					.that(located.get(0).getChildren().stream()
+							.map(Located.class::cast)
+							.anyMatch(child -> child.getLine() == node.getLine() && child.getColumn() == node.getColumn()))
+					.isTrue();
+		}
+	}
+
+	@Test
+	void testEquals() {
+		EqualsVerifier.forClass(ElementPath.class)
+				.usingGetClass()
+				.withPrefabValues(ElementPath.class, ElementPath.root(new Element("mock-one")),
+						ElementPath.root(new Element("mock-two")))
+				.verify();
+	}
+}
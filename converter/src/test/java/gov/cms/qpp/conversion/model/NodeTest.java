@@ -3,14 +3,28 @@ package gov.cms.qpp.conversion.model;
 import static com.google.common.truth.Truth.assertThat;
 import static com.google.common.truth.Truth.assertWithMessage;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 import org.jdom2.Element;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import com.google.common.collect.Lists;
 
+import gov.cms.qpp.conversion.Context;
+import gov.cms.qpp.conversion.decode.QrdaDecoderEngine;
+import gov.cms.qpp.conversion.util.CloneHelper;
+import gov.cms.qpp.conversion.validate.QrdaValidator;
+import gov.cms.qpp.conversion.xml.XmlUtils;
+
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.Warning;
 
@@ -240,6 +254,371 @@ class NodeTest {
 		assertThat(node.hasValue("test")).isFalse();
 	}
 
+	@Test
+	void testRemoveValueKeepsOtherValues() {
+		Node node = new Node();
+		node.putValue("first", "1");
+		node.putValue("second", "2");
+		node.putValue("third", "3");
+		node.removeValue("second");
+		node.removeValue("missing");
+
+		assertThat(node.getKeys()).containsExactly("first", "third").inOrder();
+		assertThat(node.getValue("first")).isEqualTo("1");
+		assertThat(node.getValue("third")).isEqualTo("3");
+	}
+
+	@Test
+	void testPutValueWithoutReplace() {
+		Node node = new Node();
+		node.putValue("key", "first");
+		node.putValue("key", "second", false);
+		node.putValue("key", "third", false);
+
+		assertThat(node.getValue("key")).isEqualTo("first");
+		assertThat(node.getDuplicateValues("key")).containsExactly("second", "third").inOrder();
+		assertThat(node.getDuplicateValues("other")).isNull();
+	}
+
+	@Test
+	void testPutValueWithoutReplaceFillsNullValue() {
+		Node node = new Node();
+		node.putValue("key", null);
+		node.putValue("key", "value", false);
+
+		assertThat(node.getValue("key")).isEqualTo("value");
+		assertThat(node.getDuplicateValues("key")).isNull();
+	}
+
+	@Test
+	void testPutValues() {
+		Node node = new Node();
+		List<String> values = Lists.newArrayList("1", "2");
+		node.putValues("key", values);
+		values.add("3");
+
+		assertThat(node.getValues("key")).containsExactly("1", "2").inOrder();
+		assertThat(node.getValue("key")).isEqualTo("1, 2");
+		Assertions.assertThrows(UnsupportedOperationException.class, () -> node.getValues("key").add("4"));
+	}
+
+	@Test
+	void testPutValuesReplacesValue() {
+		Node node = new Node();
+		node.putValue("key", "1");
+		node.putValues("key", Arrays.asList("2", "3"));
+
+		assertThat(node.getValues("key")).containsExactly("2", "3").inOrder();
+		assertThat(node.getKeys()).containsExactly("key");
+	}
+
+	@Test
+	void testGetValuesOfSingleValue() {
+		Node node = new Node();
+		node.putValue("key", "1");
+		node.putValue("empty", null);
+
+		assertThat(node.getValues("key")).containsExactly("1");
+		assertThat(node.getValues("empty")).isEmpty();
+		assertThat(node.getValues("missing")).isEmpty();
+	}
+
+	@Test
+	void testGetKeys() {
+		Node node = new Node();
+		node.putValue("b", "1");
+		node.putValue("a", "2");
+		node.putValue("b", "3");
+
+		Set<String> keys = node.getKeys();
+		Iterator<String> iterator = keys.iterator();
+		iterator.next();
+		iterator.next();
+
+		assertThat(keys).containsExactly("b", "a").inOrder();
+		assertThat(keys.contains("a")).isTrue();
+		assertThat(((Set<?>) keys).contains(1)).isFalse();
+		Assertions.assertThrows(NoSuchElementException.class, iterator::next);
+	}
+
+	@Test
+	void testEqualValuesInAnyOrder() {
+		Node first = new Node();
+		first.putValue("a", "1");
+		first.putValue("b", "2");
+		Node second = new Node();
+		second.putValue("b", "2");
+		second.putValue("a", "1");
+
+		assertThat(first).isEqualTo(second);
+		assertThat(first.hashCode()).isEqualTo(second.hashCode());
+	}
+
+	@Test
+	void testFindNodeSeesAddedChild() {
+		Node parent = new Node(TemplateId.CLINICAL_DOCUMENT);
+		Node section = new Node(TemplateId.IA_SECTION);
+		parent.addChildNode(section);
+		assertThat(parent.findNode(TemplateId.IA_MEASURE)).isEmpty();
+
+		Node measure = new Node(TemplateId.IA_MEASURE);
+		section.addChildNode(measure);
+
+		assertThat(parent.findNode(TemplateId.IA_MEASURE)).containsExactly(measure);
+		assertThat(section.findFirstNode(TemplateId.IA_MEASURE)).isSameInstanceAs(measure);
+	}
+
+	@Test
+	void testFindNodeForgetsRemovedChild() {
+		Node parent = new Node(TemplateId.CLINICAL_DOCUMENT);
+		Node section = new Node(TemplateId.IA_SECTION);
+		Node measure = new Node(TemplateId.IA_MEASURE);
+		parent.addChildNode(section);
+		section.addChildNode(measure);
+		assertThat(parent.findFirstNode(TemplateId.IA_MEASURE)).isSameInstanceAs(measure);
+
+		parent.removeChildNode(section);
+
+		assertThat(parent.findFirstNode(TemplateId.IA_MEASURE)).isNull();
+		assertThat(section.findNode(TemplateId.IA_MEASURE)).containsExactly(measure);
+	}
+
+	@Test
+	void testFindNodeAfterChildListChanges() {
+		Node parent = new Node(TemplateId.CLINICAL_DOCUMENT);
+		Node first = new Node(TemplateId.IA_MEASURE);
+		Node second = new Node(TemplateId.IA_MEASURE);
+		Node third = new Node(TemplateId.PI_SECTION);
+		parent.setChildNodes(first, second, third);
+		assertThat(parent.findNode(TemplateId.IA_MEASURE)).containsExactly(first, second).inOrder();
+
+		parent.getChildNodes().set(0, third);
+		assertThat(parent.findNode(TemplateId.IA_MEASURE)).containsExactly(second);
+
+		parent.getChildNodes().subList(0, 2).clear();
+		assertThat(parent.findNode(TemplateId.IA_MEASURE)).isEmpty();
+
+		third.setType(TemplateId.IA_MEASURE);
+		assertThat(parent.findNode(TemplateId.IA_MEASURE)).containsExactly(third);
+	}
+
+	@Test
+	void testFindNodeIsBreadthFirst() {
+		Node parent = new Node(TemplateId.CLINICAL_DOCUMENT);
+		Node section = new Node(TemplateId.IA_SECTION);
+		Node deep = new Node(TemplateId.IA_MEASURE);
+		Node middle = new Node(TemplateId.IA_MEASURE);
+		Node shallow = new Node(TemplateId.IA_MEASURE);
+		section.addChildNodes(deep, middle);
+		parent.addChildNodes(section, shallow);
+		middle.addChildNode(new Node(TemplateId.IA_MEASURE));
+
+		List<Node> found = parent.findNode(TemplateId.IA_MEASURE);
+
+		assertThat(found.subList(0, 3)).containsExactly(shallow, deep, middle).inOrder();
+		assertThat(found).hasSize(4);
+		assertThat(parent.findFirstNode(TemplateId.IA_MEASURE)).isSameInstanceAs(shallow);
+	}
+
+	@Test
+	void testFindNodeBelowChildren() {
+		Node parent = new Node(TemplateId.CLINICAL_DOCUMENT);
+		Node section = new Node(TemplateId.IA_SECTION);
+		Node nested = new Node(TemplateId.IA_SECTION);
+		Node deep = new Node(TemplateId.IA_MEASURE);
+		Node deeper = new Node(TemplateId.IA_MEASURE);
+		Node shallow = new Node(TemplateId.IA_MEASURE);
+		Node empty = new Node(TemplateId.PI_SECTION);
+		Node leaf = new Node(TemplateId.PI_AGGREGATE_COUNT);
+		nested.addChildNode(new Node(TemplateId.MEASURE_PERFORMED));
+		nested.getChildNodes().get(0).addChildNode(deep);
+		nested.addChildNode(new Node(TemplateId.MEASURE_PERFORMED));
+		nested.getChildNodes().get(1).addChildNode(new Node(TemplateId.MEASURE_PERFORMED));
+		nested.getChildNodes().get(1).getChildNodes().get(0).addChildNode(deeper);
+		section.addChildNode(nested);
+		empty.addChildNode(leaf);
+		parent.addChildNodes(section, empty, shallow);
+
+		assertThat(parent.findFirstNode(TemplateId.IA_MEASURE)).isSameInstanceAs(shallow);
+		assertThat(section.findFirstNode(TemplateId.IA_MEASURE)).isSameInstanceAs(deep);
+		assertThat(section.findNode(TemplateId.IA_MEASURE)).containsExactly(deep, deeper).inOrder();
+		assertThat(empty.findFirstNode(TemplateId.IA_MEASURE)).isNull();
+		assertThat(leaf.findNode(TemplateId.PI_AGGREGATE_COUNT)).containsExactly(leaf);
+		assertThat(leaf.findNode(TemplateId.IA_MEASURE)).isEmpty();
+		assertThat(leaf.findFirstNode(TemplateId.IA_MEASURE)).isNull();
+	}
+
+	@Test
+	void testFindNodeWithSharedChild() {
+		Node first = new Node(TemplateId.IA_SECTION);
+		Node second = new Node(TemplateId.IA_SECTION);
+		Node shared = new Node(TemplateId.IA_MEASURE);
+		first.addChildNode(shared);
+		second.addChildNode(shared);
+
+		assertThat(first.findNode(TemplateId.IA_MEASURE)).containsExactly(shared);
+		assertThat(second.findFirstNode(TemplateId.IA_MEASURE)).isSameInstanceAs(shared);
+
+		first.removeChildNode(shared);
+		assertThat(first.findFirstNode(TemplateId.IA_MEASURE)).isNull();
+		assertThat(second.findNode(TemplateId.IA_MEASURE)).containsExactly(shared);
+	}
+
+	@Test
+	void testReplaceValues() {
+		Node node = new Node();
+		node.putValue("measureId", "abc");
+		node.putValues("npi", Arrays.asList("1", "2"));
+		node.putValue("count", "5");
+
+		node.replaceValues(String::toUpperCase);
+
+		assertThat(node.getValue("measureId")).isEqualTo("ABC");
+		assertThat(node.getValues("npi")).containsExactly("1", "2").inOrder();
+		assertThat(node.getValue("count")).isEqualTo("5");
+	}
+
+	@Test
+	void testGetChildCount() {
+		Node parent = new Node(TemplateId.IA_SECTION);
+		Node measure = new Node(TemplateId.IA_MEASURE);
+		parent.addChildNodes(measure, new Node(TemplateId.IA_MEASURE), new Node(TemplateId.MEASURE_PERFORMED));
+
+		assertThat(parent.getChildCount(TemplateId.IA_MEASURE)).isEqualTo(2);
+		assertThat(parent.getChildCount(TemplateId.MEASURE_PERFORMED)).isEqualTo(1);
+		assertThat(parent.getChildCount(TemplateId.PI_SECTION)).isEqualTo(0);
+
+		measure.setType(TemplateId.PI_SECTION);
+		assertThat(parent.getChildCount(TemplateId.IA_MEASURE)).isEqualTo(1);
+		assertThat(parent.getChildCount(TemplateId.PI_SECTION)).isEqualTo(1);
+
+		parent.removeChildNode(measure);
+		parent.getChildNodes().add(new Node(null));
+		assertThat(parent.getChildCount(TemplateId.PI_SECTION)).isEqualTo(0);
+		assertThat(parent.getChildCount(TemplateId.IA_MEASURE)).isEqualTo(1);
+	}
+
+	@Test
+	void testGetChildCountWithSharedChild() {
+		Node first = new Node(TemplateId.IA_SECTION);
+		Node second = new Node(TemplateId.IA_SECTION);
+		Node shared = new Node(TemplateId.IA_MEASURE);
+		first.addChildNode(shared);
+		assertThat(first.getChildCount(TemplateId.IA_MEASURE)).isEqualTo(1);
+
+		second.addChildNode(shared);
+		second.getChildNodes().add(null);
+		shared.setType(TemplateId.MEASURE_PERFORMED);
+
+		assertThat(first.getChildCount(TemplateId.IA_MEASURE)).isEqualTo(0);
+		assertThat(second.getChildCount(TemplateId.MEASURE_PERFORMED)).isEqualTo(1);
+	}
+
+	@Test
+	void testFindNodeInClonedTree() {
+		Node parent = new Node(TemplateId.CLINICAL_DOCUMENT);
+		Node untyped = new Node(null);
+		Node section = new Node(TemplateId.IA_SECTION, parent);
+		parent.addChildNodes(untyped, section);
+		assertThat(parent.findNode(TemplateId.IA_SECTION)).containsExactly(section);
+
+		Node cloned = CloneHelper.deepClone(parent);
+		assertThat(cloned.findNode(TemplateId.CLINICAL_DOCUMENT)).containsExactly(cloned);
+		assertThat(cloned.findFirstNode(TemplateId.IA_SECTION)).isSameInstanceAs(cloned.getChildNodes().get(1));
+
+		parent.removeChildNode(untyped);
+		cloned = CloneHelper.deepClone(parent);
+		assertThat(cloned.findNode(TemplateId.IA_SECTION)).containsExactly(cloned.getChildNodes().get(0));
+	}
+
+	@Test
+	void testFindNodeWithoutTypeOrChild() {
+		Node parent = new Node(TemplateId.CLINICAL_DOCUMENT);
+		Node untyped = new Node(null);
+		parent.addChildNode(untyped);
+		assertThat(parent.findNode(TemplateId.CLINICAL_DOCUMENT)).containsExactly(parent);
+
+		parent.removeChildNode(untyped);
+		parent.getChildNodes().add(null);
+		assertThat(parent.getChildNodes()).hasSize(1);
+		parent.getChildNodes().remove(0);
+		assertThat(parent.findFirstNode(TemplateId.CLINICAL_DOCUMENT)).isSameInstanceAs(parent);
+	}
+
+	@Test
+	void testAddingAncestorAsChildIsNotIndexed() {
+		Node parent = new Node(TemplateId.CLINICAL_DOCUMENT);
+		Node child = new Node(TemplateId.IA_SECTION);
+		parent.addChildNode(child);
+		child.getChildNodes().add(parent);
+
+		assertThat(child.getChildNodes()).containsExactly(parent);
+		child.getChildNodes().clear();
+		assertThat(parent.findNode(TemplateId.IA_SECTION)).containsExactly(child);
+	}
+
+	@Test
+	void testMovedChildIsIndexedByItsNewParent() {
+		Node holder = new Node(TemplateId.PLACEHOLDER);
+		Node section = new Node(TemplateId.IA_SECTION);
+		Node measure = new Node(TemplateId.IA_MEASURE);
+		holder.addChildNode(measure);
+		section.addChildNode(measure);
+		assertThat(TreeIndex.build(section)).isSameInstanceAs(TreeIndex.UNINDEXABLE);
+
+		holder.getChildNodes().clear();
+
+		assertThat(TreeIndex.build(section)).isNotSameInstanceAs(TreeIndex.UNINDEXABLE);
+		assertThat(section.findFirstNode(TemplateId.IA_MEASURE)).isSameInstanceAs(measure);
+	}
+
+	@Test
+	void testGroupingDoesNotOwnItsChildren() {
+		Node section = new Node(TemplateId.MEASURE_SECTION_V3);
+		Node measure = new Node(TemplateId.MEASURE_DATA_CMS_V2);
+		section.addChildNode(measure);
+		Node grouping = Node.grouping(TemplateId.MEASURE_REFERENCE_RESULTS_CMS_V2);
+
+		grouping.addChildNode(measure);
+
+		assertThat(TreeIndex.build(section)).isNotSameInstanceAs(TreeIndex.UNINDEXABLE);
+		assertThat(grouping.findNode(TemplateId.MEASURE_DATA_CMS_V2)).containsExactly(measure);
+		assertThat(grouping.getChildCount(TemplateId.MEASURE_DATA_CMS_V2)).isEqualTo(1);
+		grouping.getChildNodes().clear();
+		assertThat(section.findFirstNode(TemplateId.MEASURE_DATA_CMS_V2)).isSameInstanceAs(measure);
+	}
+
+	@Test
+	void testDecodedCpcDocumentStaysIndexable() throws IOException {
+		Element document;
+		try (InputStream in = Files.newInputStream(
+				Paths.get("../sample-files/2019/ComprehensivePrimaryCareSampleQRDA-III_SDE.xml"))) {
+			document = XmlUtils.parseXmlStream(in);
+		}
+		Context context = new Context();
+		context.setParallelDecode(true);
+		context.setParallelDecodeThreshold(1);
+		context.setParallelValidation(true);
+
+		Node decoded = new QrdaDecoderEngine(context).decode(document);
+		assertThat(TreeIndex.build(decoded)).isNotSameInstanceAs(TreeIndex.UNINDEXABLE);
+
+		new QrdaValidator(context).validate(decoded);
+		assertThat(TreeIndex.build(decoded)).isNotSameInstanceAs(TreeIndex.UNINDEXABLE);
+	}
+
+	@Test
+	void testChildNodesPositions() {
+		List<Node> childNodes = new Node().getChildNodes();
+		childNodes.add(new Node());
+
+		Assertions.assertThrows(IndexOutOfBoundsException.class, () -> childNodes.get(1));
+		Assertions.assertThrows(IndexOutOfBoundsException.class, () -> childNodes.get(-1));
+		Assertions.assertThrows(IndexOutOfBoundsException.class, () -> childNodes.add(2, new Node()));
+		Assertions.assertThrows(IndexOutOfBoundsException.class, () -> childNodes.remove(1));
+		Assertions.assertThrows(IndexOutOfBoundsException.class, () -> childNodes.set(1, new Node()));
+	}
+
 	@Test
 	void testRemoveChildNodeNull() {
 		Node node = new Node();
@@ -294,9 +673,11 @@ class NodeTest {
 		EqualsVerifier.forClass(Node.class)
 			.withPrefabValues(List.class, Lists.newArrayList(new Node()), Lists.newArrayList(new Node(TemplateId.CLINICAL_DOCUMENT), new Node(TemplateId.PI_NUMERATOR)))
 			.withPrefabValues(Node.class, new Node(TemplateId.PI_DENOMINATOR), parent)
-			.withPrefabValues(Element.class, new Element("mock-one"), new Element("mock-two"))
+			.withPrefabValues(Object[].class, new Object[] {"one", "1"}, new Object[] {"two", "2"})
+			.withPrefabValues(ElementPath.class, ElementPath.root(new Element("mock-one")),
+					ElementPath.root(new Element("mock-two")))
 			.withIgnoredFields("parent")
-			.suppress(Warning.NONFINAL_FIELDS)
+			.suppress(Warning.NONFINAL_FIELDS, Warning.NULL_FIELDS)
 			.verify();
 	}
 }
@@ -1,6 +1,8 @@
 package gov.cms.qpp.conversion.model;
 
 import org.jdom2.Element;
+import org.junit.jupiter.api.io.TempDir;
+import org.reflections.Reflections;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,7 +13,17 @@ import gov.cms.qpp.conversion.decode.DecodeResult;
 import gov.cms.qpp.conversion.decode.QrdaDecoder;
 import gov.cms.qpp.conversion.encode.AggregateCountEncoder;
 
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
 
 import static com.google.common.truth.Truth.assertThat;
@@ -191,6 +203,119 @@ class RegistryTest {
 				.that(decoder).isInstanceOf(AnotherPlaceholder.class);
 	}
 
+	@Test
+	void testIndexMatchesClasspathScan() {
+		for (Class<? extends Annotation> annotation : Arrays.asList(Decoder.class, Encoder.class, Validator.class)) {
+			Registry<?> scanned = new Registry<>(context, annotation);
+			Map<ComponentKey, Class<?>> expected = new HashMap<>();
+			for (Class<?> annotated : new Reflections("gov.cms").getTypesAnnotatedWith(annotation)) {
+				scanned.getComponentKeys(annotated).forEach(key -> expected.put(key, annotated));
+			}
+
+			assertWithMessage("index of %s", annotation.getSimpleName())
+					.that(Registry.readIndex(getClass().getClassLoader(), annotation))
+					.containsExactlyEntriesIn(expected);
+		}
+	}
+
+	@Test
+	void testReadIndexWithoutIndex() {
+		assertThat(Registry.readIndex(getClass().getClassLoader(), SuppressWarnings.class)).isNull();
+	}
+
+	@Test
+	void testReadIndexIgnoresStaleEntries(@TempDir Path temp) throws IOException {
+		Path index = temp.resolve(Registry.INDEX_DIRECTORY + Decoder.class.getName());
+		Files.createDirectories(index.getParent());
+		Files.write(index, Arrays.asList(
+				Placeholder.class.getName() + " PLACEHOLDER ALL",
+				"gov.cms.qpp.conversion.decode.RemovedDecoder PLACEHOLDER CPC",
+				AnotherPlaceholder.class.getName() + " REMOVED_TEMPLATE ALL",
+				"malformed"));
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] {temp.toUri().toURL()}, null)) {
+			Map<ComponentKey, Class<?>> indexed = Registry.readIndex(new ResourceOnlyClassLoader(classLoader), Decoder.class);
+
+			assertThat(indexed).containsExactly(new ComponentKey(TemplateId.PLACEHOLDER, Program.ALL), Placeholder.class);
+		}
+	}
+
+	@Test
+	void testReadIndexSplitsEntriesOnAnyWhitespace(@TempDir Path temp) throws IOException {
+		Path index = temp.resolve(Registry.INDEX_DIRECTORY + Decoder.class.getName());
+		Files.createDirectories(index.getParent());
+		Files.write(index, Arrays.asList(
+				Placeholder.class.getName() + "\tPLACEHOLDER  ALL ",
+				AnotherPlaceholder.class.getName() + "  PLACEHOLDER\tCPC"));
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] {temp.toUri().toURL()}, null)) {
+			Map<ComponentKey, Class<?>> indexed = Registry.readIndex(new ResourceOnlyClassLoader(classLoader), Decoder.class);
+
+			assertThat(indexed).containsExactly(
+					new ComponentKey(TemplateId.PLACEHOLDER, Program.ALL), Placeholder.class,
+					new ComponentKey(TemplateId.PLACEHOLDER, Program.CPC), AnotherPlaceholder.class);
+		}
+	}
+
+	@Test
+	void testInclusiveGetIsUnmodifiable() {
+		context.setProgram(Program.CPC);
+		registry.register(new ComponentKey(TemplateId.PLACEHOLDER, Program.CPC), AnotherPlaceholder.class);
+		registry.register(new ComponentKey(TemplateId.PLACEHOLDER, Program.ALL), Placeholder.class);
+		Set<QrdaDecoder> decoders = registry.inclusiveGet(TemplateId.PLACEHOLDER);
+
+		Assertions.assertThrows(UnsupportedOperationException.class, decoders::clear);
+	}
+
+	@Test
+	void testRegistrationDoesNotLeakToOtherContexts() {
+		registry.register(new ComponentKey(TemplateId.PLACEHOLDER, Program.ALL), Placeholder.class);
+		Registry<QrdaDecoder> other = new Context().getRegistry(Decoder.class);
+
+		assertThat(other.get(TemplateId.PLACEHOLDER)).isNull();
+		assertThat(other.size()).isEqualTo(registry.size() - 1);
+	}
+
+	@Test
+	void testRegistryWithoutHandlers() {
+		context.setProgram(Program.CPC);
+
+		assertThat(registry.get(TemplateId.PLACEHOLDER)).isNull();
+		assertThat(registry.inclusiveGet(TemplateId.PLACEHOLDER)).isEmpty();
+	}
+
+	@Test
+	void testRegistryDispatchFollowsContextProgram() {
+		registry.register(new ComponentKey(TemplateId.PLACEHOLDER, Program.ALL), Placeholder.class);
+		registry.register(new ComponentKey(TemplateId.PLACEHOLDER, Program.CPC), AnotherPlaceholder.class);
+
+		assertThat(registry.get(TemplateId.PLACEHOLDER)).isInstanceOf(Placeholder.class);
+		context.setProgram(Program.CPC);
+		assertThat(registry.get(TemplateId.PLACEHOLDER)).isInstanceOf(AnotherPlaceholder.class);
+		context.setProgram(Program.MIPS);
+		assertThat(registry.get(TemplateId.PLACEHOLDER)).isInstanceOf(Placeholder.class);
+	}
+
+	@Test
+	void testRegistryReusesHandlerInstances() {
+		registry.register(new ComponentKey(TemplateId.PLACEHOLDER, Program.ALL), Placeholder.class);
+		Registry<QrdaDecoder> other = new Context().getRegistry(Decoder.class);
+		other.register(new ComponentKey(TemplateId.PLACEHOLDER, Program.ALL), Placeholder.class);
+
+		QrdaDecoder decoder = registry.get(TemplateId.PLACEHOLDER);
+		assertThat(registry.get(TemplateId.PLACEHOLDER)).isSameInstanceAs(decoder);
+		assertThat(registry.inclusiveGet(TemplateId.PLACEHOLDER)).containsExactly(decoder);
+		assertThat(other.get(TemplateId.PLACEHOLDER)).isNotSameInstanceAs(decoder);
+	}
+
+	@Test
+	void testRegistryFromPrototypeSharesHandlersNotConstructedWithContext() {
+		registry.register(new ComponentKey(TemplateId.PLACEHOLDER, Program.ALL), Placeholder.class);
+		Registry<QrdaDecoder> derived = new Registry<>(new Context(), registry);
+
+		assertThat(derived.get(TemplateId.PLACEHOLDER)).isSameInstanceAs(registry.get(TemplateId.PLACEHOLDER));
+	}
+
 	@Test
 	void testSize() {
 		assertThat(registry.size()).isGreaterThan(0);
@@ -227,6 +352,23 @@ class AnotherPlaceholder extends QrdaDecoder {
 	}
 }
 
+/**
+ * Finds resources with the given class loader, and loads classes as the test does.
+ */
+class ResourceOnlyClassLoader extends ClassLoader {
+	private final ClassLoader resources;
+
+	ResourceOnlyClassLoader(ClassLoader resources) {
+		super(RegistryTest.class.getClassLoader());
+		this.resources = resources;
+	}
+
+	@Override
+	public Enumeration<URL> getResources(String name) throws IOException {
+		return resources.getResources(name);
+	}
+}
+
 class PrivateConstructor extends QrdaDecoder {
 
 	private PrivateConstructor() {
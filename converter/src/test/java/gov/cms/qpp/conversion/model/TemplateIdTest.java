@@ -25,7 +25,7 @@ class TemplateIdTest implements EnumContract {
 
 	@AfterEach
 	void cleanUp() {
-		System.clearProperty(Extension.STRICT_EXTENSION);
+		System.clearProperty(Context.STRICT_EXTENSION);
 	}
 
 	@Test
@@ -100,9 +100,9 @@ class TemplateIdTest implements EnumContract {
 	@ParameterizedTest
 	@EnumSource(value = TemplateId.class)
 	void testInvalidExtensionFindWithExtensionEnforcement(TemplateId templateId) {
-		System.setProperty(Extension.STRICT_EXTENSION, "yep");
+		System.setProperty(Context.STRICT_EXTENSION, "yep");
 		TemplateId actual = TemplateId.getTemplateId(templateId.getRoot(),
-			"nonExistingExtension", defaultsContext);
+			"nonExistingExtension", new Context());
 
 		assertThat(actual).isSameInstanceAs(TemplateId.UNIMPLEMENTED);
 	}
@@ -110,7 +110,7 @@ class TemplateIdTest implements EnumContract {
 	@ParameterizedTest
 	@EnumSource(value = TemplateId.class)
 	void testInvalidExtensionFindWithExtensionEnforcementHappy(TemplateId templateId) {
-		System.setProperty(Extension.STRICT_EXTENSION, "yep");
+		System.setProperty(Context.STRICT_EXTENSION, "yep");
 		TemplateId actual = TemplateId.getTemplateId(templateId.getRoot(),
 			templateId.getExtension(), new Context());
 
@@ -136,9 +136,9 @@ class TemplateIdTest implements EnumContract {
 
 	@Test
 	void testClinicalDocumentMissingExtensionFindWithExtensionEnforcement() {
-		System.setProperty(Extension.STRICT_EXTENSION, "yep");
+		System.setProperty(Context.STRICT_EXTENSION, "yep");
 		TemplateId actual = TemplateId.getTemplateId(TemplateId.CLINICAL_DOCUMENT.getRoot(),
-			null, defaultsContext);
+			null, new Context());
 
 		assertThat(actual).isSameInstanceAs(TemplateId.UNIMPLEMENTED);
 	}
@@ -154,13 +154,43 @@ class TemplateIdTest implements EnumContract {
 	@ParameterizedTest
 	@EnumSource(value = TemplateId.class, mode = EXCLUDE, names = { "CLINICAL_DOCUMENT" })
 	void testMissingExtensionFindWithExtensionEnforcement(TemplateId templateId) {
-		System.setProperty(Extension.STRICT_EXTENSION, "yep");
+		System.setProperty(Context.STRICT_EXTENSION, "yep");
 		TemplateId actual = TemplateId.getTemplateId(templateId.getRoot(),
-			null, defaultsContext);
+			null, new Context());
 
 		assertThat(actual).isSameInstanceAs(templateId);
 	}
 
+	@Test
+	void testStrictExtensionFromContext() {
+		Context context = new Context();
+		context.setStrictExtension(true);
+		TemplateId actual = TemplateId.getTemplateId(TemplateId.IA_SECTION.getRoot(),
+			"nonExistingExtension", context);
+
+		assertThat(actual).isSameInstanceAs(TemplateId.UNIMPLEMENTED);
+	}
+
+	@Test
+	void testHistoricalIgnoresStrictExtension() {
+		Context context = new Context();
+		context.setStrictExtension(true);
+		context.setHistorical(true);
+		TemplateId actual = TemplateId.getTemplateId(TemplateId.IA_SECTION.getRoot(),
+			"nonExistingExtension", context);
+
+		assertThat(actual).isSameInstanceAs(TemplateId.IA_SECTION);
+	}
+
+	@Test
+	void testStrictExtensionIsNotReadPerLookup() {
+		System.setProperty(Context.STRICT_EXTENSION, "yep");
+		TemplateId actual = TemplateId.getTemplateId(TemplateId.IA_SECTION.getRoot(),
+			"nonExistingExtension", defaultsContext);
+
+		assertThat(actual).isSameInstanceAs(TemplateId.IA_SECTION);
+	}
+
 	@Test
 	void testFindByTypeId2NotExistAgain() {
 		TemplateId actual = TemplateId.getTemplateId("nonExistingRoot",
@@ -2,8 +2,10 @@ package gov.cms.qpp.conversion.model.error;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.Warning;
+import org.jdom2.Element;
 import org.junit.jupiter.api.Test;
 
+import gov.cms.qpp.conversion.model.ElementPath;
 import gov.cms.qpp.conversion.model.Node;
 import gov.cms.qpp.conversion.model.TemplateId;
 
@@ -13,7 +15,9 @@ class DetailTest {
 
 	@Test
 	void equalsContract() {
-		EqualsVerifier.forClass(Detail.class).usingGetClass().suppress(Warning.NONFINAL_FIELDS).verify();
+		EqualsVerifier.forClass(Detail.class).usingGetClass().suppress(Warning.NONFINAL_FIELDS)
+				.withPrefabValues(ElementPath.class, ElementPath.root(new Element("meep")), ElementPath.root(new Element("moof")))
+				.verify();
 	}
 
 	@Test
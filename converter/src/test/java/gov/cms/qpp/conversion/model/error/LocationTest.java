@@ -2,11 +2,20 @@ package gov.cms.qpp.conversion.model.error;
 
 import static com.google.common.truth.Truth.assertThat;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 
+import org.jdom2.Element;
 import org.junit.jupiter.api.Test;
 
+import gov.cms.qpp.conversion.model.ElementPath;
+import gov.cms.qpp.conversion.model.Node;
+import gov.cms.qpp.conversion.model.TemplateId;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.Warning;
 
@@ -14,7 +23,10 @@ class LocationTest {
 
 	@Test
 	void equalsContract() {
-		EqualsVerifier.forClass(Location.class).usingGetClass().suppress(Warning.NONFINAL_FIELDS).verify();
+		// the transient pending values stand for the path and location until they are read
+		EqualsVerifier.forClass(Location.class).usingGetClass().suppress(Warning.NONFINAL_FIELDS, Warning.TRANSIENT_FIELDS)
+				.withPrefabValues(ElementPath.class, ElementPath.root(new Element("meep")), ElementPath.root(new Element("moof")))
+				.verify();
 	}
 
 	@Test
@@ -29,4 +41,88 @@ class LocationTest {
 		assertThat(location).isEqualTo(copy);
 	}
 
+	@Test
+	void testLocateResolvesWhenRead() {
+		Node node = locatableNode();
+		Location location = new Location();
+		location.locate(node);
+
+		assertThat(location.getLine()).isEqualTo(3);
+		assertThat(location.getColumn()).isEqualTo(5);
+		assertThat(location.getPath()).isEqualTo(node.getOrComputePath());
+		assertThat(location.getLocation()).isEqualTo(TemplateId.MEASURE_REFERENCE_RESULTS_CMS_V2
+				.getHumanReadableTitle() + " Moof");
+	}
+
+	@Test
+	void testLocateIsMemoized() {
+		Node node = locatableNode();
+		Location location = new Location();
+		location.locate(node);
+		String resolved = location.getLocation();
+
+		node.putValue("measureId", "Meep");
+
+		assertThat(location.getLocation()).isSameInstanceAs(resolved);
+	}
+
+	@Test
+	void testLocateDoesNotFollowLaterChangesToTheNode() {
+		Node node = locatableNode();
+		Location location = new Location();
+		location.locate(node);
+
+		node.putValue("measureId", "Meep");
+		node.setElementPath(ElementPath.of(new Element("meep")));
+
+		assertThat(location.getPath()).isEqualTo("/measure");
+		assertThat(location.getLocation()).isEqualTo(TemplateId.MEASURE_REFERENCE_RESULTS_CMS_V2
+				.getHumanReadableTitle() + " Moof");
+	}
+
+	@Test
+	void testCopyOfLocatedNode() {
+		Location location = new Location();
+		location.locate(locatableNode());
+		Location copy = new Location(location);
+
+		assertThat(copy).isEqualTo(location);
+		assertThat(copy.toString()).isEqualTo(location.toString());
+	}
+
+	@Test
+	void testSetterReplacesLocatedValue() {
+		Location location = new Location();
+		location.locate(locatableNode());
+		location.setPath("/meep");
+
+		assertThat(location.getPath()).isEqualTo("/meep");
+		assertThat(location.getLocation()).isNotEmpty();
+	}
+
+	@Test
+	void testSerializedLocationIsResolved() throws IOException, ClassNotFoundException {
+		Location location = new Location();
+		location.locate(locatableNode());
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(location);
+		}
+		Object read;
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			read = in.readObject();
+		}
+
+		assertThat(read).isEqualTo(location);
+	}
+
+	private static Node locatableNode() {
+		Node node = new Node(TemplateId.MEASURE_REFERENCE_RESULTS_CMS_V2);
+		node.putValue("measureId", "Moof");
+		node.setLine(3);
+		node.setColumn(5);
+		node.setElementPath(ElementPath.of(new Element("measure")));
+		return node;
+	}
 }
@@ -0,0 +1,98 @@
+package gov.cms.qpp.conversion.model.validation;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ValidationPlanTest {
+
+	@Test
+	void testCountsUniqueIdsPerLabel() {
+		ValidationPlan plan = ValidationPlan.compile(config("CMS1v1",
+				subPopulation("IPOP1", "DENOM1", "NUMER1", "DENEX1", null),
+				subPopulation("IPOP2", "DENOM2", "NUMER2", null, null)));
+
+		assertThat(plan.getExpectedCount(SubPopulationLabel.DENOM)).isEqualTo(2);
+		assertThat(plan.getExpectedCount(SubPopulationLabel.NUMER)).isEqualTo(2);
+		assertThat(plan.getExpectedCount(SubPopulationLabel.DENEX)).isEqualTo(1);
+		assertThat(plan.getExpectedCount(SubPopulationLabel.DENEXCEP)).isEqualTo(0);
+	}
+
+	@Test
+	void testIndexesPopulationUuids() {
+		ValidationPlan plan = ValidationPlan.compile(config("CMS1v1",
+				subPopulation("IPOP1", "DENOM1", "NUMER1", null, null),
+				subPopulation("IPOP2", "DENOM2", "NUMER2", null, null)));
+
+		assertThat(plan.getSubPopulationIndex("IPOP1")).isEqualTo(0);
+		assertThat(plan.getSubPopulationIndex("NUMER2")).isEqualTo(1);
+		assertThat(plan.getSubPopulationIndex("MOOF")).isNull();
+	}
+
+	@Test
+	void testRequiresAPerformanceRatePerStratum() {
+		ValidationPlan plan = ValidationPlan.compile(config("CMS1v1",
+				subPopulation("IPOP1", "DENOM1", "NUMER1", null, null),
+				subPopulation("IPOP2", "DENOM2", "NUMER2", null, null)));
+
+		assertThat(plan.isStratified()).isTrue();
+		assertThat(plan.getRequiredPerformanceRateCount()).isEqualTo(2);
+	}
+
+	@Test
+	void testSingleToMultipleDropsMissingSubPopulations() {
+		ValidationPlan plan = ValidationPlan.compile(config(ValidationPlan.SINGLE_TO_MULTIPLE_SUB_POPULATION,
+				subPopulation("IPOP1", "DENOM1", "NUMER1", null, null),
+				null));
+
+		assertThat(plan.getSubPopulations()).hasSize(1);
+		assertThat(plan.getRequiredPerformanceRateCount()).isEqualTo(1);
+	}
+
+	@Test
+	void testUnstratifiedMeasure() {
+		MeasureConfig config = new MeasureConfig();
+		ValidationPlan plan = ValidationPlan.compile(config);
+
+		assertThat(plan.isStratified()).isFalse();
+		assertThat(plan.getSubPopulations()).isEmpty();
+		assertThat(plan.getRequiredPerformanceRateCount()).isEqualTo(0);
+	}
+
+	@Test
+	void testNullConfigThrowsNullPointerException() {
+		Assertions.assertThrows(NullPointerException.class, () -> ValidationPlan.compile(null));
+	}
+
+	@Test
+	void testPlansAreCompiledForEveryConfiguration() {
+		assertThat(MeasureConfigs.getValidationPlanMap().keySet())
+				.containsExactlyElementsIn(MeasureConfigs.getConfigurationMap().keySet());
+	}
+
+	private static MeasureConfig config(String electronicMeasureId, SubPopulation... subPopulations) {
+		MeasureConfig config = new MeasureConfig();
+		config.setElectronicMeasureId(electronicMeasureId);
+		config.setStrata(Arrays.stream(subPopulations).map(subPopulation -> {
+			Strata strata = new Strata();
+			strata.setElectronicMeasureUuids(subPopulation);
+			return strata;
+		}).collect(Collectors.toList()));
+		return config;
+	}
+
+	private static SubPopulation subPopulation(String ipop, String denom, String numer, String denex,
+			String denexcep) {
+		SubPopulation subPopulation = new SubPopulation();
+		subPopulation.setInitialPopulationUuid(ipop);
+		subPopulation.setDenominatorUuid(denom);
+		subPopulation.setNumeratorUuid(numer);
+		subPopulation.setDenominatorExclusionsUuid(denex);
+		subPopulation.setDenominatorExceptionsUuid(denexcep);
+		return subPopulation;
+	}
+}
@@ -4,6 +4,7 @@ import gov.cms.qpp.conversion.model.Node;
 import gov.cms.qpp.conversion.model.error.Detail;
 import gov.cms.qpp.conversion.model.error.ProblemCode;
 import gov.cms.qpp.conversion.validate.NodeValidator;
+import gov.cms.qpp.conversion.validate.Validation;
 
 /**
  * Validator instance for use in unit tests.
@@ -13,11 +14,11 @@ import gov.cms.qpp.conversion.validate.NodeValidator;
 public class TestDefaultValidator extends NodeValidator {
 
 	@Override
-	protected void performValidation(Node node) {
+	protected void performValidation(Node node, Validation validation) {
 		if (node.getValue("problem") != null) {
 			Detail detail = Detail.forProblemCode(ProblemCode.UNEXPECTED_ERROR);
 			detail.setMessage("Test validation error for Jenny");
-			addError(detail);
+			validation.addError(detail);
 		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,95 @@
+package gov.cms.qpp.conversion.validate;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import gov.cms.qpp.conversion.model.Node;
+import gov.cms.qpp.conversion.model.TemplateId;
+import gov.cms.qpp.conversion.model.error.Detail;
+import gov.cms.qpp.conversion.model.error.FormattedProblemCode;
+import gov.cms.qpp.conversion.model.error.LocalizedProblem;
+import gov.cms.qpp.conversion.model.error.ProblemCode;
+
+class AppraisalTest {
+
+	private static final LocalizedProblem ERROR_MESSAGE =
+			new FormattedProblemCode(ProblemCode.UNEXPECTED_ERROR, "the checker failed");
+
+	@Test
+	void testReadsValuesOnce() {
+		Node node = new Node();
+		node.putValue("count", "12");
+		Appraisal appraisal = new Appraisal(node);
+
+		assertThat(appraisal.intValue("count")).isEqualTo(12);
+		node.putValue("count", "13");
+
+		assertThat(appraisal.value("count")).isEqualTo("12");
+		assertThat(appraisal.intValue("count")).isEqualTo(12);
+	}
+
+	@Test
+	void testParsesEachWay() {
+		Node node = new Node();
+		node.putValue("rate", "0.5");
+		node.putValue("date", "20190101");
+		Appraisal appraisal = new Appraisal(node);
+
+		assertThat(appraisal.floatValue("rate")).isEqualTo(0.5f);
+		assertThat(appraisal.dateValue("date")).isEqualTo(LocalDate.of(2019, 1, 1));
+	}
+
+	@Test
+	void testRethrowsFailedParse() {
+		Node node = new Node();
+		node.putValue("count", "meep");
+		Appraisal appraisal = new Appraisal(node);
+
+		NumberFormatException first = Assertions.assertThrows(NumberFormatException.class,
+				() -> appraisal.intValue("count"));
+		NumberFormatException second = Assertions.assertThrows(NumberFormatException.class,
+				() -> appraisal.intValue("count"));
+
+		assertThat(second).isSameInstanceAs(first);
+	}
+
+	@Test
+	void testInvalidDateThrows() {
+		Node node = new Node();
+		node.putValue("date", "meep");
+		Appraisal appraisal = new Appraisal(node);
+
+		Assertions.assertThrows(DateTimeParseException.class, () -> appraisal.dateValue("date"));
+	}
+
+	@Test
+	void testCountsDuplications() {
+		Node node = new Node();
+		node.putValue("count", "1");
+		node.putValue("count", "2", false);
+		Appraisal appraisal = new Appraisal(node);
+
+		assertThat(appraisal.duplications("count")).isEqualTo(2);
+		assertThat(appraisal.duplications("other")).isEqualTo(0);
+	}
+
+	@Test
+	void testCheckerIgnoresAppraisalOfAnotherNode() {
+		Node node = new Node();
+		node.putValue("count", "meep");
+		Node other = new Node(TemplateId.PLACEHOLDER);
+		other.putValue("count", "12");
+		List<Detail> details = new ArrayList<>();
+
+		Checker.check(node, details, null, new Appraisal(other)).intValue(ERROR_MESSAGE, "count");
+
+		assertThat(details).hasSize(1);
+	}
+}
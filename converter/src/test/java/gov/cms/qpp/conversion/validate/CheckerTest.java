@@ -46,6 +46,22 @@ class CheckerTest {
 				.containsExactly(ERROR_MESSAGE);
 	}
 
+	@Test
+	void testSpentErrorBudgetLeavesOutLocation() {
+		Node meepNode = new Node();
+		meepNode.setLine(7);
+		ErrorBudget budget = new ErrorBudget(1);
+
+		Checker checker = Checker.forceCheck(meepNode, details, budget);
+		checker.value(ERROR_MESSAGE, VALUE)
+				.value(OTHER_ERROR_MESSAGE, VALUE);
+
+		assertThat(details).comparingElementsUsing(DetailsErrorEquals.INSTANCE)
+				.containsExactly(ERROR_MESSAGE, OTHER_ERROR_MESSAGE).inOrder();
+		assertThat(details.get(0).getLocation().getLine()).isEqualTo(7);
+		assertThat(details.get(1).getLocation().getLine()).isNull();
+	}
+
 	@Test
 	void testParentFailure() {
 		Node meepNode = new Node();
@@ -0,0 +1,53 @@
+package gov.cms.qpp.conversion.validate;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import gov.cms.qpp.conversion.model.error.Detail;
+import gov.cms.qpp.conversion.model.error.ProblemCode;
+
+class ErrorBudgetTest {
+
+	private static final Detail FIRST = Detail.forProblemCode(ProblemCode.UNEXPECTED_ERROR);
+	private static final Detail SECOND = Detail.forProblemCode(ProblemCode.NOT_VALID_XML_DOCUMENT);
+	private static final Detail THIRD = Detail.forProblemCode(ProblemCode.ENCODER_MISSING);
+
+	@Test
+	void testAdmitsErrorsUpToLimit() {
+		ErrorBudget budget = new ErrorBudget(2);
+		budget.admit(Arrays.asList(FIRST, SECOND, THIRD, THIRD, SECOND));
+
+		assertThat(budget.getAdmitted()).containsExactly(FIRST, SECOND).inOrder();
+		assertThat(budget.getSuppressed()).containsExactly(THIRD.getErrorCode(), 2, SECOND.getErrorCode(), 1)
+				.inOrder();
+		assertThat(budget.getTotal()).isEqualTo(5);
+	}
+
+	@Test
+	void testIsSpentCountsPendingErrors() {
+		ErrorBudget budget = new ErrorBudget(2);
+		budget.admit(Arrays.asList(FIRST));
+
+		assertThat(budget.isSpent(0)).isFalse();
+		assertThat(budget.isSpent(1)).isTrue();
+	}
+
+	@Test
+	void testAdmittingLaterBudgetMatchesAdmittingItsErrors() {
+		ErrorBudget sequential = new ErrorBudget(2);
+		sequential.admit(Arrays.asList(FIRST, THIRD, SECOND, SECOND, THIRD, FIRST));
+
+		ErrorBudget merged = new ErrorBudget(2);
+		merged.admit(Arrays.asList(FIRST));
+		ErrorBudget later = new ErrorBudget(2);
+		later.admit(Arrays.asList(THIRD, SECOND, SECOND, THIRD, FIRST));
+		merged.admit(later);
+
+		assertThat(merged.getAdmitted()).containsExactlyElementsIn(sequential.getAdmitted()).inOrder();
+		assertThat(merged.getSuppressed()).containsExactlyEntriesIn(sequential.getSuppressed()).inOrder();
+		assertThat(merged.getTotal()).isEqualTo(sequential.getTotal());
+	}
+}
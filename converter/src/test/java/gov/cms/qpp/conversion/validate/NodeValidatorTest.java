@@ -0,0 +1,130 @@
+package gov.cms.qpp.conversion.validate;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import gov.cms.qpp.conversion.model.Node;
+import gov.cms.qpp.conversion.model.TemplateId;
+import gov.cms.qpp.conversion.model.error.Detail;
+import gov.cms.qpp.conversion.model.error.ProblemCode;
+import gov.cms.qpp.conversion.model.error.ValidationResult;
+
+class NodeValidatorTest {
+
+	@Test
+	void testDetailsBelongToEachCall() {
+		NodeValidator validator = new ValueValidator();
+
+		ValidationResult first = validator.validateSingleNode(node("first"));
+		ValidationResult second = validator.validateSingleNode(node("second"));
+
+		assertThat(messages(first.getErrors())).containsExactly("first");
+		assertThat(messages(first.getWarnings())).containsExactly("first");
+		assertThat(messages(second.getErrors())).containsExactly("second");
+	}
+
+	@Test
+	void testDetailsOutsideOfCallBelongToValidation() {
+		NodeValidator validator = new ValueValidator();
+		Validation validation = new Validation();
+		validation.addWarning(detail("standalone"));
+
+		validator.validateSingleNode(node("call"));
+
+		assertThat(messages(validation.viewWarnings())).containsExactly("standalone");
+		assertThat(validation.viewErrors()).isEmpty();
+	}
+
+	@Test
+	void testNestedCallsOfSameValidator() {
+		NodeValidator validator = new NestingValidator();
+		Node parent = node("parent");
+		parent.addChildNode(node("child"));
+
+		ValidationResult result = validator.validateSingleNode(parent);
+
+		assertThat(messages(result.getErrors())).containsExactly("child", "parent").inOrder();
+	}
+
+	@Test
+	void testNestedCallOfOtherValidator() {
+		NodeValidator inner = new ValueValidator();
+		NodeValidator outer = new NodeValidator() {
+			@Override
+			protected void performValidation(Node node, Validation validation) {
+				ValidationResult innerResult = inner.validateSingleNode(node);
+				assertThat(messages(innerResult.getErrors())).containsExactly("node");
+				validation.addError(detail("outer"));
+			}
+		};
+
+		ValidationResult result = outer.validateSingleNode(node("node"));
+
+		assertThat(messages(result.getErrors())).containsExactly("outer");
+	}
+
+	@Test
+	void testConcurrentCallsOfSharedValidator() throws Exception {
+		NodeValidator validator = new ValueValidator();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Callable<ValidationResult>> calls = IntStream.range(0, 200)
+					.mapToObj(index -> (Callable<ValidationResult>) () -> validator.validateSingleNode(node("n" + index)))
+					.collect(Collectors.toList());
+			List<Future<ValidationResult>> results = executor.invokeAll(calls);
+
+			for (int index = 0; index < results.size(); index++) {
+				assertThat(messages(results.get(index).get().getErrors())).containsExactly("n" + index);
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private static Node node(String value) {
+		Node node = new Node(TemplateId.PLACEHOLDER);
+		node.putValue("value", value);
+		return node;
+	}
+
+	private static Detail detail(String message) {
+		Detail detail = Detail.forProblemCode(ProblemCode.UNEXPECTED_ERROR);
+		detail.setMessage(message);
+		return detail;
+	}
+
+	private static List<String> messages(List<Detail> details) {
+		return details.stream().map(Detail::getMessage).collect(Collectors.toList());
+	}
+
+	private static class ValueValidator extends NodeValidator {
+		@Override
+		protected void performValidation(Node node, Validation validation) {
+			validation.addError(detail(node.getValue("value")));
+			validation.addWarning(detail(node.getValue("value")));
+		}
+	}
+
+	private static class NestingValidator extends NodeValidator {
+		@Override
+		protected void performValidation(Node node, Validation validation) {
+			for (Node child : node.getChildNodes()) {
+				validation.viewErrors();
+				ValidationResult result = validateSingleNode(child);
+				result.getErrors().forEach(validation::addError);
+			}
+			if (!validation.containsError(detail("never added"))) {
+				validation.addError(detail(node.getValue("value")));
+			}
+		}
+	}
+}
@@ -151,18 +151,18 @@ public class QrdaValidatorTest {
 	public static class RequiredTestValidator extends NodeValidator {
 
 		@Override
-		public void performValidation(final Node node) {
+		public void performValidation(final Node node, final Validation validation) {
 			nodesPassedIntoValidateSingleNode.add(node);
-			addError(TEST_VALIDATION_ERROR_FOR_SINGLE_NODE);
+			validation.addError(TEST_VALIDATION_ERROR_FOR_SINGLE_NODE);
 		}
 	}
 
 	public static class OptionalTestValidator extends NodeValidator {
 
 		@Override
-		public void performValidation(final Node node) {
+		public void performValidation(final Node node, final Validation validation) {
 			nodesPassedIntoValidateSingleNode.add(node);
-			addError(TEST_VALIDATION_ERROR_FOR_SINGLE_NODE);
+			validation.addError(TEST_VALIDATION_ERROR_FOR_SINGLE_NODE);
 		}
 	}
 }
\ No newline at end of file
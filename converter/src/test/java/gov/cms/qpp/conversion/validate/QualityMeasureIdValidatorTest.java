@@ -261,6 +261,27 @@ class QualityMeasureIdValidatorTest {
 				.containsExactly(expectedErrorMessage, expectedUuidErrorMessage);
 	}
 
+	@Test
+	void testMissingTypeIsReportedOnceBeforeTheCounts() {
+		Node measureReferenceResultsNode = createCorrectMeasureReference(MULTIPLE_POPULATION_DENOM_EXCEPTION_GUID)
+			.removeSubPopulationMeasureData(SubPopulationLabel.DENEXCEP.name(), MULTIPLE_POPULATION_DENOM_EXCEPTION_DENEXCEP1_GUID)
+			.removeSubPopulationMeasureData(SubPopulationLabel.NUMER.name(), MULTIPLE_POPULATION_DENOM_EXCEPTION_NUMER1_GUID)
+			.build();
+		measureReferenceResultsNode.addChildNode(new Node(TemplateId.MEASURE_DATA_CMS_V2));
+
+		List<Detail> details = objectUnderTest.validateSingleNode(measureReferenceResultsNode).getErrors();
+
+		LocalizedProblem denexcepCountMessage =
+			ProblemCode.POPULATION_CRITERIA_COUNT_INCORRECT.format("CMS52v5", 2, SubPopulationLabel.DENEXCEP.name(), 1);
+		LocalizedProblem numerCountMessage =
+			ProblemCode.POPULATION_CRITERIA_COUNT_INCORRECT.format("CMS52v5", 3, SubPopulationLabel.NUMER.name(), 2);
+		assertWithMessage("Incorrect validation errors.")
+				.that(details.subList(0, 3)).comparingElementsUsing(DetailsErrorEquals.INSTANCE)
+				.containsExactly(ProblemCode.QUALITY_MEASURE_ID_MISSING_SINGLE_MEASURE_TYPE, denexcepCountMessage,
+						numerCountMessage)
+				.inOrder();
+	}
+
 	@Test
 	void testIncorrectUuid() {
 		Node measureReferenceResultsNode = createCorrectMeasureReference(MULTIPLE_POPULATION_DENOM_EXCEPTION_GUID)
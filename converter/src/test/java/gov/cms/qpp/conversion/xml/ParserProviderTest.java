@@ -0,0 +1,76 @@
+package gov.cms.qpp.conversion.xml;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+
+import javax.xml.stream.XMLInputFactory;
+
+import org.jdom2.input.SAXBuilder;
+import org.jdom2.located.LocatedElement;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ParserProviderTest {
+
+	private static final String DOCTYPE = "<?xml version=\"1.0\"?><!DOCTYPE root [<!ENTITY meep \"meep\">]><root>&meep;</root>";
+
+	@Test
+	void testSaxBuilderIsReusedByThread() {
+		assertThat(ParserProvider.saxBuilder()).isSameInstanceAs(ParserProvider.saxBuilder());
+	}
+
+	@Test
+	void testSaxBuilderIsNotSharedAcrossThreads() {
+		SAXBuilder other = CompletableFuture.supplyAsync(ParserProvider::saxBuilder).join();
+
+		assertThat(ParserProvider.saxBuilder()).isNotSameInstanceAs(other);
+	}
+
+	@Test
+	void testInputFactoryIsReusedByThread() {
+		assertThat(ParserProvider.inputFactory()).isSameInstanceAs(ParserProvider.inputFactory());
+	}
+
+	@Test
+	void testInputFactoryIsHardened() {
+		XMLInputFactory factory = ParserProvider.inputFactory();
+
+		assertThat(factory.getProperty(XMLInputFactory.SUPPORT_DTD)).isEqualTo(false);
+		assertThat(factory.getProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES)).isEqualTo(false);
+	}
+
+	@Test
+	void testUsageCountsProvidedParsers() {
+		ParserProvider.saxBuilder();
+		ParserProvider.inputFactory();
+		ParserProvider.Usage before = ParserProvider.usage();
+
+		XmlUtils.stringToDom("<root/>");
+		XmlUtils.stringToDom("<root/>");
+		ParserProvider.Usage after = ParserProvider.usage();
+
+		assertThat(after.getSaxBuildersProvided()).isAtLeast(before.getSaxBuildersProvided() + 2);
+		assertThat(after.getSaxBuildersCreated()).isAtLeast(1L);
+		assertThat(after.getInputFactoriesProvided()).isAtLeast(before.getInputFactoriesProvided());
+		assertThat(after.getInputFactoriesCreated()).isAtLeast(1L);
+		assertThat(after.toString()).contains("saxBuildersProvided");
+	}
+
+	@Test
+	void testDoctypeIsRejected() {
+		Assertions.assertThrows(XmlException.class, () -> XmlUtils.stringToDom(DOCTYPE));
+	}
+
+	@Test
+	void testReusedBuilderParsesAfterFailure() {
+		Assertions.assertThrows(XmlException.class, () -> XmlUtils.stringToDom("<root>"));
+
+		assertThat(XmlUtils.stringToDom("<root><child/></root>").getChildren()).hasSize(1);
+	}
+
+	@Test
+	void testBuiltElementsAreLocated() {
+		assertThat(XmlUtils.stringToDom("<root/>")).isInstanceOf(LocatedElement.class);
+	}
+}
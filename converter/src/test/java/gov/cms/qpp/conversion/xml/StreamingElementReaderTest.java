@@ -0,0 +1,112 @@
+package gov.cms.qpp.conversion.xml;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import org.jdom2.Element;
+import org.jdom2.located.Located;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableSet;
+
+class StreamingElementReaderTest {
+
+	private final StreamingElementReader reader = new StreamingElementReader(
+			ImmutableSet.of("observation", "value"), Collections.singleton("addr"));
+
+	private String xmlFragment = XmlUtils.buildString("<root xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\">",
+			"  <text><table><tr><td>narrative</td></tr></table></text>",
+			"  <component>",
+			"    <observation classCode=\"OBS\" moodCode=\"EVN\">",
+			"      <templateId root=\"2.16.840.1.113883.10.20.27.3.3\"/>",
+			"      <code code=\"MSRAGG\"/>",
+			"      <value xsi:type=\"INT\" value=\"600\"/>",
+			"    </observation>",
+			"  </component>",
+			"  <author><assignedAuthor id=\"1\"/></author>",
+			"  <addr><streetAddressLine>1 Main St</streetAddressLine><city>Town</city></addr>",
+			"</root>");
+
+	@Test
+	void testUnreferencedElementsAreHollowed() {
+		Element root = read(xmlFragment);
+
+		Element text = root.getChild("text");
+		Element author = root.getChild("author");
+
+		assertThat(text.getContentSize()).isEqualTo(0);
+		assertThat(author.getContentSize()).isEqualTo(0);
+		assertThat(author.getAttributes()).isEmpty();
+	}
+
+	@Test
+	void testTemplateAncestryIsRetained() {
+		Element observation = read(xmlFragment).getChild("component").getChild("observation");
+
+		assertThat(observation.getAttributeValue("classCode")).isEqualTo("OBS");
+		assertThat(observation.getChild("templateId").getAttributeValue("root"))
+				.isEqualTo("2.16.840.1.113883.10.20.27.3.3");
+		assertThat(observation.getChild("value").getAttributeValue("value")).isEqualTo("600");
+		assertThat(observation.getChild("code").getAttributes()).isEmpty();
+	}
+
+	@Test
+	void testElementPositionsArePreserved() {
+		Element full = XmlUtils.stringToDom(xmlFragment);
+		Element pruned = read(xmlFragment);
+
+		assertThat(pruned.getChildren()).hasSize(full.getChildren().size());
+		assertThat(pruned.getChild("component").getChild("observation").getChildren())
+				.hasSize(full.getChild("component").getChild("observation").getChildren().size());
+	}
+
+	@Test
+	void testValueElementsKeepText() {
+		Element addr = read(xmlFragment).getChild("addr");
+
+		assertThat(addr.getValue()).isEqualTo("1 Main StTown");
+	}
+
+	@Test
+	void testLocationsMatchDocumentParse() {
+		Element full = XmlUtils.stringToDom(xmlFragment).getChild("component").getChild("observation");
+		Element pruned = read(xmlFragment).getChild("component").getChild("observation");
+
+		assertThat(((Located) pruned).getLine()).isEqualTo(((Located) full).getLine());
+		assertThat(((Located) pruned).getColumn()).isEqualTo(((Located) full).getColumn());
+	}
+
+	@Test
+	void testRootBelongsToDocument() {
+		Element root = read(xmlFragment);
+
+		assertThat(root.getDocument()).isNotNull();
+	}
+
+	@Test
+	void testDoctypeIsRejected() {
+		String xml = "<?xml version=\"1.0\"?><!DOCTYPE root [<!ENTITY e \"boom\">]><root>&e;</root>";
+
+		Assertions.assertThrows(XmlException.class, () -> read(xml));
+	}
+
+	@Test
+	void testMalformedXml() {
+		Assertions.assertThrows(XmlException.class, () -> read("<root><unclosed></root>"));
+	}
+
+	@Test
+	void testEmptyInput() {
+		Assertions.assertThrows(XmlException.class, () -> read(""));
+	}
+
+	private Element read(String xml) {
+		InputStream stream = new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+		return reader.read(stream);
+	}
+}
@@ -4,11 +4,11 @@ import com.google.common.base.Strings;
 import org.jdom2.Document;
 import org.jdom2.Element;
 import org.jdom2.Namespace;
-import org.jdom2.input.SAXBuilder;
 import org.jdom2.output.Format;
 import org.jdom2.output.XMLOutputter;
 
 import gov.cms.qpp.conversion.model.TemplateId;
+import gov.cms.qpp.conversion.xml.XmlUtils;
 
 import java.io.FileWriter;
 import java.io.IOException;
@@ -58,10 +58,8 @@ public class CpcRaceGenerator {
 	}
 
 	static Document addSupplementalRaceData(Path path) {
-		try {
-			SAXBuilder saxBuilder = new SAXBuilder();
-			InputStream inputStream = Files.newInputStream(path);
-			Document document = saxBuilder.build(inputStream);
+		try (InputStream inputStream = Files.newInputStream(path)) {
+			Document document = XmlUtils.parseXmlStream(inputStream).getDocument();
 			Element rootElement = document.getDocument().getRootElement();
 			rootElement.detach();
 			Namespace rootNamespace = rootElement.getNamespace();
@@ -0,0 +1,165 @@
+package gov.cms.qpp.generator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parsed form of a correlation xpath that consists solely of namespaced child element steps, attribute equality
+ * predicates and an optional trailing attribute step, e.g.
+ * {@code ./*[local-name() = 'id' and namespace-uri() = '<nsuri>'][@root='1.2.3']/@extension}.
+ */
+public class CorrelationPath {
+	private static final String RELATIVE_PREFIX = "./";
+	private static final Pattern STEP = Pattern.compile(
+			"\\*\\[local-name\\(\\) = '([\\w.-]+)' and namespace-uri\\(\\) = '([^']*)'\\]((?:\\[@\\w+='[^'\\\\\"]*'\\])*)");
+	private static final Pattern PREDICATE = Pattern.compile("\\[@(\\w+)='([^']*)'\\]");
+	private static final Pattern ATTRIBUTE = Pattern.compile("@(\\w+)");
+
+	private final List<Step> steps;
+	private final String attribute;
+
+	private CorrelationPath(List<Step> steps, String attribute) {
+		this.steps = steps;
+		this.attribute = attribute;
+	}
+
+	/**
+	 * Parse the given xpath.
+	 *
+	 * @param xpath correlation xpath
+	 * @param uriSubstitution placeholder that stands in for the namespace uri of the decoded element
+	 * @return parsed path, or null if the xpath uses anything beyond the supported subset
+	 */
+	public static CorrelationPath parse(String xpath, String uriSubstitution) {
+		if (xpath == null || !xpath.startsWith(RELATIVE_PREFIX)) {
+			return null;
+		}
+
+		List<Step> steps = new ArrayList<>();
+		String attribute = null;
+		for (String token : xpath.substring(RELATIVE_PREFIX.length()).split("/", -1)) {
+			Matcher step = STEP.matcher(token);
+			Matcher attr = ATTRIBUTE.matcher(token);
+			if (attribute == null && step.matches() && uriSubstitution.equals(step.group(2))) {
+				steps.add(new Step(step.group(1), parsePredicates(step.group(3))));
+			} else if (attribute == null && !steps.isEmpty() && attr.matches()) {
+				attribute = attr.group(1);
+			} else {
+				return null;
+			}
+		}
+
+		return new CorrelationPath(steps, attribute);
+	}
+
+	private static List<String[]> parsePredicates(String predicates) {
+		List<String[]> parsed = new ArrayList<>();
+		Matcher matcher = PREDICATE.matcher(predicates);
+		while (matcher.find()) {
+			parsed.add(new String[] {matcher.group(1), matcher.group(2)});
+		}
+		return parsed;
+	}
+
+	/**
+	 * Retrieve the element steps.
+	 *
+	 * @return element steps
+	 */
+	public List<Step> getSteps() {
+		return Collections.unmodifiableList(steps);
+	}
+
+	/**
+	 * Retrieve the name of the selected attribute.
+	 *
+	 * @return attribute name, or null if the path selects elements
+	 */
+	public String getAttribute() {
+		return attribute;
+	}
+
+	/**
+	 * Render a method body that walks the path from an element named {@code context}, adding each match to a
+	 * list named {@code results}. The namespace to match is expected in a variable named {@code namespace}.
+	 *
+	 * @param indent indentation of the first statement
+	 * @return java statements
+	 */
+	public String toJava(String indent) {
+		StringBuilder java = new StringBuilder();
+		String current = "context";
+		String currentIndent = indent;
+		int openBlocks = 0;
+
+		for (int i = 0; i < steps.size(); i++) {
+			Step step = steps.get(i);
+			String child = "child" + (i + 1);
+			line(java, currentIndent, "for (Element " + child + " : " + current
+					+ ".getChildren(\"" + step.getName() + "\", namespace)) {");
+			currentIndent += "\t";
+			openBlocks++;
+			for (String[] predicate : step.getPredicates()) {
+				line(java, currentIndent, "if (\"" + predicate[1] + "\".equals(" + child
+						+ ".getAttributeValue(\"" + predicate[0] + "\"))) {");
+				currentIndent += "\t";
+				openBlocks++;
+			}
+			current = child;
+		}
+
+		if (attribute == null) {
+			line(java, currentIndent, "results.add(" + current + ");");
+		} else {
+			line(java, currentIndent, "Attribute attribute = " + current + ".getAttribute(\"" + attribute + "\");");
+			line(java, currentIndent, "if (attribute != null) {");
+			line(java, currentIndent + "\t", "results.add(attribute);");
+			line(java, currentIndent, "}");
+		}
+
+		for (int i = 0; i < openBlocks; i++) {
+			currentIndent = currentIndent.substring(1);
+			line(java, currentIndent, "}");
+		}
+
+		return java.toString();
+	}
+
+	private static void line(StringBuilder java, String indent, String statement) {
+		java.append(indent).append(statement).append('\n');
+	}
+
+	/**
+	 * A child element step.
+	 */
+	public static class Step {
+		private final String name;
+		private final List<String[]> predicates;
+
+		Step(String name, List<String[]> predicates) {
+			this.name = name;
+			this.predicates = predicates;
+		}
+
+		/**
+		 * Retrieve the local name of the child element.
+		 *
+		 * @return local name
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * Retrieve the attribute name/value pairs the child element must have.
+		 *
+		 * @return attribute equality predicates
+		 */
+		public List<String[]> getPredicates() {
+			return Collections.unmodifiableList(predicates);
+		}
+	}
+}
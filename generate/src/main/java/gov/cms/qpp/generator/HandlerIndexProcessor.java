@@ -0,0 +1,206 @@
+package gov.cms.qpp.generator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Writes an index of the conversion handlers annotated with {@code @Decoder}, {@code @Encoder} or {@code @Validator}
+ * so that the converter's {@code Registry} can find them without scanning the class path.
+ *
+ * One resource is written per annotation, named {@value #INDEX_DIRECTORY} followed by the annotation's name. Each
+ * line of a resource holds the binary name of an annotated class, its {@code TemplateId} and its {@code Program},
+ * separated by spaces. The annotations are matched by name, so the processor does not depend on the converter.
+ *
+ * An incremental build compiles only some of the sources, so an index left by an earlier build is merged rather than
+ * replaced: its entries are kept for the classes not compiled this time that still exist. For that the processor
+ * runs on every compilation, even one without any handlers left in it.
+ */
+public class HandlerIndexProcessor extends AbstractProcessor {
+	static final String INDEX_DIRECTORY = "META-INF/qpp-handlers/";
+	static final List<String> HANDLER_ANNOTATIONS = Collections.unmodifiableList(Arrays.asList(
+			"gov.cms.qpp.conversion.model.Decoder",
+			"gov.cms.qpp.conversion.model.Encoder",
+			"gov.cms.qpp.conversion.model.Validator"));
+
+	private static final String TEMPLATE_ID = "value";
+	private static final String PROGRAM = "program";
+
+	private final Map<String, Set<String>> entries = new LinkedHashMap<>();
+	private final List<Element> originatingElements = new ArrayList<>();
+	private final Set<String> compiledTypes = new HashSet<>();
+
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		return Collections.singleton("*");
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		addCompiledTypes(ElementFilter.typesIn(roundEnv.getRootElements()));
+		for (TypeElement annotation : annotations) {
+			if (!HANDLER_ANNOTATIONS.contains(annotation.getQualifiedName().toString())) {
+				continue;
+			}
+			Set<String> lines = entries.computeIfAbsent(annotation.getQualifiedName().toString(), ignore -> new TreeSet<>());
+			for (Element annotated : roundEnv.getElementsAnnotatedWith(annotation)) {
+				AnnotationMirror mirror = findMirror(annotated, annotation);
+				if (annotated instanceof TypeElement && mirror != null) {
+					lines.add(toLine((TypeElement) annotated, mirror));
+					originatingElements.add(annotated);
+				}
+			}
+		}
+
+		if (roundEnv.processingOver()) {
+			writeIndex();
+		}
+		return false;
+	}
+
+	private void addCompiledTypes(Iterable<TypeElement> types) {
+		for (TypeElement type : types) {
+			compiledTypes.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+			addCompiledTypes(ElementFilter.typesIn(type.getEnclosedElements()));
+		}
+	}
+
+	private static AnnotationMirror findMirror(Element annotated, TypeElement annotation) {
+		for (AnnotationMirror mirror : annotated.getAnnotationMirrors()) {
+			if (mirror.getAnnotationType().asElement().equals(annotation)) {
+				return mirror;
+			}
+		}
+		return null;
+	}
+
+	private String toLine(TypeElement annotated, AnnotationMirror mirror) {
+		String templateId = null;
+		String program = null;
+		Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+				processingEnv.getElementUtils().getElementValuesWithDefaults(mirror);
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value : values.entrySet()) {
+			String name = value.getKey().getSimpleName().toString();
+			if (TEMPLATE_ID.equals(name)) {
+				templateId = constantName(value.getValue());
+			} else if (PROGRAM.equals(name)) {
+				program = constantName(value.getValue());
+			}
+		}
+		return processingEnv.getElementUtils().getBinaryName(annotated) + " " + templateId + " " + program;
+	}
+
+	private static String constantName(AnnotationValue value) {
+		Object constant = value.getValue();
+		return constant instanceof VariableElement
+				? ((VariableElement) constant).getSimpleName().toString() : String.valueOf(constant);
+	}
+
+	private void writeIndex() {
+		Element[] originating = originatingElements.toArray(new Element[0]);
+		for (String annotation : HANDLER_ANNOTATIONS) {
+			String name = INDEX_DIRECTORY + annotation;
+			try {
+				Set<String> lines = new TreeSet<>(entries.getOrDefault(annotation, Collections.emptySet()));
+				List<String> previous = readPreviousIndex(name);
+				for (String line : previous) {
+					if (isUncompiledHandler(line)) {
+						lines.add(line);
+					}
+				}
+				if (lines.isEmpty() && previous.isEmpty()) {
+					continue;
+				}
+
+				FileObject resource = processingEnv.getFiler()
+						.createResource(StandardLocation.CLASS_OUTPUT, "", name, originating);
+				try (Writer writer = new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8)) {
+					for (String line : lines) {
+						writer.write(line);
+						writer.write('\n');
+					}
+				}
+			} catch (IOException e) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+						"Unable to write handler index for " + annotation + ": " + e.getMessage());
+			}
+		}
+		entries.clear();
+		originatingElements.clear();
+		compiledTypes.clear();
+	}
+
+	/**
+	 * Reads the index written by an earlier build to the class output, if there is one.
+	 *
+	 * @param name of the index resource
+	 * @return the lines of the index, or an empty list if there is none
+	 */
+	private List<String> readPreviousIndex(String name) {
+		List<String> lines = new ArrayList<>();
+		try {
+			FileObject resource = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", name);
+			try (Reader reader = new InputStreamReader(resource.openInputStream(), StandardCharsets.UTF_8);
+					BufferedReader buffered = new BufferedReader(reader)) {
+				String line;
+				while ((line = buffered.readLine()) != null) {
+					if (!line.trim().isEmpty()) {
+						lines.add(line.trim());
+					}
+				}
+			}
+		} catch (IOException | IllegalArgumentException e) {
+			lines.clear(); // no earlier index, which is the case for a clean build
+		}
+		return lines;
+	}
+
+	/**
+	 * Whether an entry of an earlier index names a class that was not compiled this time but still exists, so that
+	 * the entry still holds.
+	 *
+	 * @param line an entry of an earlier index
+	 * @return true if the entry should be kept
+	 */
+	private boolean isUncompiledHandler(String line) {
+		String binaryName = line.split("\\s+", 2)[0];
+		if (compiledTypes.contains(binaryName)) {
+			return false;
+		}
+		Elements elements = processingEnv.getElementUtils();
+		return elements.getTypeElement(binaryName.replace('$', '.')) != null;
+	}
+}
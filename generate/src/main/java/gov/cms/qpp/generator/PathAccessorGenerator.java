@@ -0,0 +1,168 @@
+package gov.cms.qpp.generator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mustachejava.DefaultMustacheFactory;
+import com.github.mustachejava.Mustache;
+import com.github.mustachejava.MustacheFactory;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates direct navigation {@code PathAccessor}s from the path correlation configuration so that decoders
+ * need not evaluate xpaths at runtime. Correlations whose xpath can not be expressed as a walk of child elements
+ * are left out, and are resolved through xpath evaluation instead.
+ */
+@Mojo(name = "generatePathAccessors", defaultPhase = LifecyclePhase.GENERATE_SOURCES)
+public class PathAccessorGenerator extends AbstractMojo {
+	static final String PACKAGE = "gov.cms.qpp.conversion.correlation";
+	static final String CLASS_NAME = "PathAccessors";
+	private static final String KEY_DELIMITER = "#";
+
+	@Parameter(defaultValue = "${project.basedir}/src/main/resources/pathing/path-correlation.json")
+	private File correlationFile;
+
+	@Parameter(defaultValue = "${project.build.directory}/generated-sources/path-accessors")
+	private File outputDirectory;
+
+	@Parameter(defaultValue = "${project}", readonly = true)
+	private MavenProject project;
+
+	@Override
+	public void execute() throws MojoExecutionException {
+		getLog().info("Generating path accessors from " + correlationFile);
+
+		try {
+			Path source = generate(correlationFile, outputDirectory);
+			getLog().info("Wrote " + source);
+		} catch (IOException e) {
+			throw new MojoExecutionException("Path accessor generation problems", e);
+		}
+
+		if (project != null) {
+			project.addCompileSourceRoot(outputDirectory.getAbsolutePath());
+		}
+	}
+
+	/**
+	 * Generate the path accessors source file.
+	 *
+	 * @param correlationFile path correlation configuration
+	 * @param outputDirectory source root to write to
+	 * @return the written source file
+	 * @throws IOException when the configuration can not be read or the source can not be written
+	 */
+	Path generate(File correlationFile, File outputDirectory) throws IOException {
+		JsonNode config = new ObjectMapper().readTree(correlationFile);
+		Map<String, Object> scope = buildScope(config);
+
+		Path packageDir = outputDirectory.toPath().resolve(PACKAGE.replace('.', File.separatorChar));
+		Files.createDirectories(packageDir);
+		Path source = packageDir.resolve(CLASS_NAME + ".java");
+
+		MustacheFactory mf = new DefaultMustacheFactory();
+		Mustache template = mf.compile("path-accessor/path-accessors-template.java.mustache");
+		try (Writer writer = new OutputStreamWriter(Files.newOutputStream(source), StandardCharsets.UTF_8)) {
+			template.execute(writer, scope).flush();
+		}
+		return source;
+	}
+
+	/**
+	 * Assemble the template scope: one accessor method per supported correlation config and one registration per
+	 * template and label that refers to it.
+	 *
+	 * @param config path correlation configuration
+	 * @return template scope
+	 */
+	Map<String, Object> buildScope(JsonNode config) {
+		String uriSubstitution = config.get("uriSubstitution").asText();
+		Map<String, Map<String, String>> methodsByCorrelation = new HashMap<>();
+		List<Map<String, String>> methods = new ArrayList<>();
+
+		for (JsonNode correlation : config.get("correlations")) {
+			String correlationId = correlation.get("correlationId").asText();
+			Map<String, String> methodsByLabel = new LinkedHashMap<>();
+			int index = 0;
+			for (JsonNode conf : correlation.get("config")) {
+				String xpath = conf.get("goods").get("relativeXPath").asText();
+				CorrelationPath path = CorrelationPath.parse(xpath, uriSubstitution);
+				String methodName = null;
+				index++;
+				if (path == null) {
+					getLog().warn("No accessor generated for " + correlationId + " xpath " + xpath);
+				} else {
+					methodName = correlationId.replaceAll("\\W", "_") + index;
+					Map<String, String> method = new LinkedHashMap<>();
+					method.put("name", methodName);
+					method.put("xpath", xpath);
+					method.put("body", path.toJava("\t\t"));
+					methods.add(method);
+				}
+
+				// later configs replace earlier ones, as they do in PathCorrelator
+				for (String label : labels(conf)) {
+					methodsByLabel.put(label, methodName);
+				}
+			}
+			methodsByCorrelation.put(correlationId, methodsByLabel);
+		}
+
+		Map<String, String> methodsByKey = new LinkedHashMap<>();
+		for (JsonNode template : config.get("templates")) {
+			String templateId = template.get("templateId").asText();
+			Map<String, String> methodsByLabel = methodsByCorrelation.get(template.get("correlationId").asText());
+			if (methodsByLabel != null) {
+				methodsByLabel.forEach((label, method) -> methodsByKey.put(templateId + KEY_DELIMITER + label, method));
+			}
+		}
+
+		List<Map<String, String>> registrations = new ArrayList<>();
+		methodsByKey.forEach((key, method) -> {
+			if (method != null) {
+				Map<String, String> registration = new LinkedHashMap<>();
+				registration.put("key", key);
+				registration.put("method", method);
+				registrations.add(registration);
+			}
+		});
+
+		Map<String, Object> scope = new HashMap<>();
+		scope.put("package", PACKAGE);
+		scope.put("className", CLASS_NAME);
+		scope.put("methods", methods);
+		scope.put("registrations", registrations);
+		return scope;
+	}
+
+	private static List<String> labels(JsonNode conf) {
+		List<String> labels = new ArrayList<>();
+		JsonNode decodeLabel = conf.get("decodeLabel");
+		if (decodeLabel != null && !decodeLabel.isNull()) {
+			labels.add(decodeLabel.asText());
+		}
+		JsonNode encodeLabels = conf.get("encodeLabels");
+		if (encodeLabels != null) {
+			encodeLabels.forEach(label -> labels.add(label.asText()));
+		}
+		return labels;
+	}
+}
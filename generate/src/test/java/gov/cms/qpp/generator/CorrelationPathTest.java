@@ -0,0 +1,79 @@
+package gov.cms.qpp.generator;
+
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+public class CorrelationPathTest {
+
+	private static final String NS = "<nsuri>";
+	private static final String ID_EXTENSION = "./*[local-name() = 'assignedEntity' and namespace-uri() = '<nsuri>']"
+			+ "/*[local-name() = 'id' and namespace-uri() = '<nsuri>'][@root='2.16.840.1.113883.4.6']/@extension";
+
+	@Test
+	public void testParseAttributePath() {
+		CorrelationPath path = CorrelationPath.parse(ID_EXTENSION, NS);
+
+		assertThat(path.getSteps()).hasSize(2);
+		assertThat(path.getSteps().get(0).getName()).isEqualTo("assignedEntity");
+		assertThat(path.getSteps().get(1).getName()).isEqualTo("id");
+		assertThat(path.getSteps().get(1).getPredicates().get(0))
+				.asList().containsExactly("root", "2.16.840.1.113883.4.6").inOrder();
+		assertThat(path.getAttribute()).isEqualTo("extension");
+	}
+
+	@Test
+	public void testParseElementPath() {
+		CorrelationPath path = CorrelationPath.parse(
+				"./*[local-name() = 'participant' and namespace-uri() = '<nsuri>']", NS);
+
+		assertThat(path.getSteps()).hasSize(1);
+		assertThat(path.getAttribute()).isNull();
+	}
+
+	@Test
+	public void testUnsupportedAxis() {
+		assertThat(CorrelationPath.parse(
+				"./*[local-name() = 'participant' and namespace-uri() = '<nsuri>']/following-sibling::*/@code", NS))
+				.isNull();
+	}
+
+	@Test
+	public void testUnsupportedLiteralNamespace() {
+		assertThat(CorrelationPath.parse(
+				"./*[local-name() = 'participant' and namespace-uri() = 'urn:hl7-org:v3']/@code", NS))
+				.isNull();
+	}
+
+	@Test
+	public void testUnsupportedAbsolutePath() {
+		assertThat(CorrelationPath.parse("/*[local-name() = 'participant' and namespace-uri() = '<nsuri>']", NS))
+				.isNull();
+		assertThat(CorrelationPath.parse(null, NS)).isNull();
+	}
+
+	@Test
+	public void testAttributeMustBeLast() {
+		assertThat(CorrelationPath.parse(
+				"./@code/*[local-name() = 'participant' and namespace-uri() = '<nsuri>']", NS)).isNull();
+	}
+
+	@Test
+	public void testToJavaWalksChildren() {
+		String java = CorrelationPath.parse(ID_EXTENSION, NS).toJava("");
+
+		assertThat(java).contains("for (Element child1 : context.getChildren(\"assignedEntity\", namespace)) {");
+		assertThat(java).contains("for (Element child2 : child1.getChildren(\"id\", namespace)) {");
+		assertThat(java).contains("if (\"2.16.840.1.113883.4.6\".equals(child2.getAttributeValue(\"root\"))) {");
+		assertThat(java).contains("Attribute attribute = child2.getAttribute(\"extension\");");
+		assertThat(java).endsWith("}\n");
+	}
+
+	@Test
+	public void testToJavaAddsElements() {
+		String java = CorrelationPath.parse(
+				"./*[local-name() = 'participant' and namespace-uri() = '<nsuri>']", NS).toJava("");
+
+		assertThat(java).contains("results.add(child1);");
+	}
+}
@@ -0,0 +1,163 @@
+package gov.cms.qpp.generator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static com.google.common.truth.Truth.assertThat;
+
+public class HandlerIndexProcessorTest {
+
+	private static final String MODEL = "gov.cms.qpp.conversion.model";
+
+	@TempDir
+	Path sources;
+
+	@TempDir
+	Path classes;
+
+	@BeforeEach
+	protected void setUp() throws IOException {
+		write(MODEL, "TemplateId", "public enum TemplateId { CLINICAL_DOCUMENT, IA_MEASURE }");
+		write(MODEL, "Program", "public enum Program { ALL, CPC }");
+		for (String annotation : Arrays.asList("Decoder", "Encoder", "Validator")) {
+			write(MODEL, annotation, "@java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)\n"
+					+ "public @interface " + annotation + " { TemplateId value(); Program program() default Program.ALL; }");
+		}
+	}
+
+	@Test
+	public void testIndexesDefaultProgram() throws Exception {
+		write("test.decode", "IaDecoder", "@gov.cms.qpp.conversion.model.Decoder("
+				+ "gov.cms.qpp.conversion.model.TemplateId.IA_MEASURE) public class IaDecoder {}");
+
+		compile();
+
+		assertThat(index("Decoder")).containsExactly("test.decode.IaDecoder IA_MEASURE ALL");
+	}
+
+	@Test
+	public void testIndexesExplicitProgram() throws Exception {
+		write("test.validate", "CpcValidator", "import gov.cms.qpp.conversion.model.*;\n"
+				+ "@Validator(value = TemplateId.CLINICAL_DOCUMENT, program = Program.CPC) public class CpcValidator {}");
+
+		compile();
+
+		assertThat(index("Validator")).containsExactly("test.validate.CpcValidator CLINICAL_DOCUMENT CPC");
+	}
+
+	@Test
+	public void testIndexesNestedClassesByBinaryName() throws Exception {
+		write("test.encode", "Encoders", "import gov.cms.qpp.conversion.model.*;\n"
+				+ "public class Encoders { @Encoder(TemplateId.IA_MEASURE) public static class Ia {} }");
+
+		compile();
+
+		assertThat(index("Encoder")).containsExactly("test.encode.Encoders$Ia IA_MEASURE ALL");
+	}
+
+	@Test
+	public void testSortsEntries() throws Exception {
+		write("test.decode", "ZDecoder", "@gov.cms.qpp.conversion.model.Decoder("
+				+ "gov.cms.qpp.conversion.model.TemplateId.IA_MEASURE) public class ZDecoder {}");
+		write("test.decode", "ADecoder", "@gov.cms.qpp.conversion.model.Decoder("
+				+ "gov.cms.qpp.conversion.model.TemplateId.CLINICAL_DOCUMENT) public class ADecoder {}");
+
+		compile();
+
+		assertThat(index("Decoder"))
+				.containsExactly("test.decode.ADecoder CLINICAL_DOCUMENT ALL", "test.decode.ZDecoder IA_MEASURE ALL")
+				.inOrder();
+	}
+
+	@Test
+	public void testWritesNoIndexWithoutHandlers() throws Exception {
+		compile();
+
+		assertThat(Files.exists(classes.resolve(HandlerIndexProcessor.INDEX_DIRECTORY))).isFalse();
+	}
+
+	@Test
+	public void testKeepsEntriesOfClassesNotRecompiled() throws Exception {
+		write("test.decode", "IaDecoder", "@gov.cms.qpp.conversion.model.Decoder("
+				+ "gov.cms.qpp.conversion.model.TemplateId.IA_MEASURE) public class IaDecoder {}");
+		compile();
+
+		delete("test.decode", "IaDecoder");
+		write("test.decode", "ClinicalDocumentDecoder", "@gov.cms.qpp.conversion.model.Decoder("
+				+ "gov.cms.qpp.conversion.model.TemplateId.CLINICAL_DOCUMENT) public class ClinicalDocumentDecoder {}");
+		compile();
+
+		assertThat(index("Decoder")).containsExactly(
+				"test.decode.ClinicalDocumentDecoder CLINICAL_DOCUMENT ALL", "test.decode.IaDecoder IA_MEASURE ALL");
+	}
+
+	@Test
+	public void testDropsEntriesOfRecompiledClassesNoLongerAnnotated() throws Exception {
+		write("test.decode", "IaDecoder", "@gov.cms.qpp.conversion.model.Decoder("
+				+ "gov.cms.qpp.conversion.model.TemplateId.IA_MEASURE) public class IaDecoder {}");
+		compile();
+
+		write("test.decode", "IaDecoder", "public class IaDecoder {}");
+		compile();
+
+		assertThat(index("Decoder")).isEmpty();
+	}
+
+	@Test
+	public void testDropsEntriesOfRemovedClasses() throws Exception {
+		write("test.decode", "IaDecoder", "@gov.cms.qpp.conversion.model.Decoder("
+				+ "gov.cms.qpp.conversion.model.TemplateId.IA_MEASURE) public class IaDecoder {}");
+		compile();
+
+		delete("test.decode", "IaDecoder");
+		Files.delete(classes.resolve("test/decode/IaDecoder.class"));
+		compile();
+
+		assertThat(index("Decoder")).isEmpty();
+	}
+
+	private void write(String packageName, String className, String body) throws IOException {
+		Path packageDir = sources.resolve(packageName.replace('.', '/'));
+		Files.createDirectories(packageDir);
+		Files.write(packageDir.resolve(className + ".java"),
+				Collections.singletonList("package " + packageName + ";\n" + body), StandardCharsets.UTF_8);
+	}
+
+	private void delete(String packageName, String className) throws IOException {
+		Files.delete(sources.resolve(packageName.replace('.', '/')).resolve(className + ".java"));
+	}
+
+	private void compile() throws Exception {
+		Path processorPath = Paths.get(HandlerIndexProcessor.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+		List<String> arguments = new ArrayList<>(Arrays.asList(
+				"-d", classes.toString(),
+				"-classpath", classes.toString(),
+				"-processor", HandlerIndexProcessor.class.getName(),
+				"-processorpath", processorPath.toString()));
+		try (Stream<Path> walk = Files.walk(sources)) {
+			walk.filter(path -> path.toString().endsWith(".java")).forEach(path -> arguments.add(path.toString()));
+		}
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		assertThat(compiler.run(null, null, null, arguments.toArray(new String[0]))).isEqualTo(0);
+	}
+
+	private List<String> index(String annotation) throws IOException {
+		return Files.readAllLines(classes.resolve(HandlerIndexProcessor.INDEX_DIRECTORY + MODEL + "." + annotation));
+	}
+}
@@ -0,0 +1,67 @@
+package gov.cms.qpp.generator;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static com.google.common.truth.Truth.assertThat;
+
+public class PathAccessorGeneratorTest {
+
+	private static final File SAMPLE = Paths.get("src/test/resources/path-correlation-sample.json").toFile();
+
+	PathAccessorGenerator gen;
+
+	@TempDir
+	Path outputDirectory;
+
+	@BeforeEach
+	protected void setUp() {
+		gen = new PathAccessorGenerator();
+	}
+
+	@Test
+	public void testGeneratesSourceInPackage() throws Exception {
+		Path source = gen.generate(SAMPLE, outputDirectory.toFile());
+
+		assertThat(source.toString()).endsWith(
+				Paths.get("gov", "cms", "qpp", "conversion", "correlation", "PathAccessors.java").toString());
+		assertThat(Files.exists(source)).isTrue();
+	}
+
+	@Test
+	public void testRegistersEveryLabelOfEveryTemplate() throws Exception {
+		String java = generate();
+
+		assertThat(java).contains("ACCESSORS.put(\"CLINICAL_DOCUMENT#programName\", PathAccessors::topLevel1);");
+		assertThat(java).contains("ACCESSORS.put(\"CLINICAL_DOCUMENT#practiceSiteAddr\", PathAccessors::topLevel2);");
+		assertThat(java).contains("ACCESSORS.put(\"IA_MEASURE#measureId\", PathAccessors::measure1);");
+	}
+
+	@Test
+	public void testUnsupportedCorrelationFallsBack() throws Exception {
+		String java = generate();
+
+		assertThat(java).doesNotContain("topLevel3");
+		assertThat(java).doesNotContain("CLINICAL_DOCUMENT#entityType");
+	}
+
+	@Test
+	public void testMethodsCarryTheirXpath() throws Exception {
+		String java = generate();
+
+		assertThat(java).contains("// ./*[local-name() = 'participant' and namespace-uri() = '<nsuri>']");
+		assertThat(java).contains("private static List<Object> topLevel2(Element context, Namespace namespace) {");
+	}
+
+	private String generate() throws Exception {
+		Path source = gen.generate(SAMPLE, outputDirectory.toFile());
+		return new String(Files.readAllBytes(source), StandardCharsets.UTF_8);
+	}
+}
@@ -5,11 +5,11 @@ import org.jdom2.Attribute;
 import org.jdom2.Document;
 import org.jdom2.Element;
 import org.jdom2.Namespace;
-import org.jdom2.input.SAXBuilder;
 import org.jdom2.output.Format;
 import org.jdom2.output.XMLOutputter;
 
 import gov.cms.qpp.conversion.model.TemplateId;
+import gov.cms.qpp.conversion.xml.XmlUtils;
 import gov.cms.qpp.conversion.model.validation.MeasureConfig;
 import gov.cms.qpp.conversion.model.validation.SubPopulation;
 
@@ -67,10 +67,8 @@ public class QrdaUpdater {
 	}
 
 	static Document updateQrdaMeasureData(Path path) {
-		try {
-			SAXBuilder saxBuilder = new SAXBuilder();
-			InputStream inputStream = Files.newInputStream(path);
-			Document document = saxBuilder.build(inputStream);
+		try (InputStream inputStream = Files.newInputStream(path)) {
+			Document document = XmlUtils.parseXmlStream(inputStream).getDocument();
 			Element rootElement = document.getDocument().getRootElement();
 			rootElement.detach();
 			Namespace rootNamespace = rootElement.getNamespace();
@@ -21,7 +21,8 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
 import gov.cms.qpp.conversion.ConversionReport;
-import gov.cms.qpp.conversion.InputStreamSupplierSource;
+import gov.cms.qpp.conversion.IncrementalInputStreamSource;
+import gov.cms.qpp.conversion.Source;
 import gov.cms.qpp.conversion.api.exceptions.AuditException;
 import gov.cms.qpp.conversion.api.exceptions.InvalidPurposeException;
 import gov.cms.qpp.conversion.api.model.Metadata;
@@ -38,12 +39,35 @@ public abstract class SkeletalQrdaController<T> {
 
 	private static final Logger API_LOG = LoggerFactory.getLogger(SkeletalQrdaController.class);
 	private static final int MAX_PURPOSE_LENGTH = 25;
+	private static final String DEFAULT_STREAM_FILENAME = "upload.xml";
 
 	protected final QrdaService qrdaService;
 	protected final ValidationService validationService;
 	protected final AuditService auditService;
 
-	protected abstract T respond(MultipartFile file, String checkedPurpose, HttpHeaders httpHeaders);
+	/**
+	 * Create a response for uploaded content
+	 *
+	 * @param filename name of the uploaded file
+	 * @param inputStream content of the uploaded file
+	 * @param checkedPurpose the purpose for the conversion
+	 * @param httpHeaders headers of the response
+	 * @return the response body
+	 */
+	protected abstract T respond(String filename, InputStream inputStream, String checkedPurpose,
+			HttpHeaders httpHeaders);
+
+	/**
+	 * Create a response for an uploaded file
+	 *
+	 * @param file Uploaded file
+	 * @param checkedPurpose the purpose for the conversion
+	 * @param httpHeaders headers of the response
+	 * @return the response body
+	 */
+	protected T respond(MultipartFile file, String checkedPurpose, HttpHeaders httpHeaders) {
+		return respond(file.getOriginalFilename(), inputStream(file), checkedPurpose, httpHeaders);
+	}
 
 	/**
 	 * init dependencies
@@ -70,34 +94,79 @@ public abstract class SkeletalQrdaController<T> {
 		@RequestParam(name = "file") MultipartFile file,
 		@RequestHeader(required = false, name = "Purpose") String purpose) {
 
-		if (!StringUtils.isEmpty(purpose)) {
-			if (purpose.length() > MAX_PURPOSE_LENGTH) {
-				throw new InvalidPurposeException("Given Purpose (header) is too large. Max length is "
-						+ MAX_PURPOSE_LENGTH + ", yours was " + purpose.length());
-			}
-			API_LOG.info("Conversion request received for " + purpose);
-		} else {
-			purpose = null; // if it's an empty string, make it null
-			API_LOG.info("Conversion request received");
-		}
+		String checkedPurpose = checkPurpose(purpose);
 
 		HttpHeaders httpHeaders = new HttpHeaders();
 		httpHeaders.setContentType(MediaType.APPLICATION_JSON);
 		
-		T response = respond(file, purpose, httpHeaders);
+		T response = respond(file, checkedPurpose, httpHeaders);
+
+		API_LOG.info("Conversion request succeeded");
+
+		return new ResponseEntity<>(response, httpHeaders, HttpStatus.CREATED);
+	}
+
+	/**
+	 * Endpoint to transform a file sent as the request body into a valid or error json response.
+	 * The body is converted as it is received, rather than after the upload completes.
+	 *
+	 * @param body Request body
+	 * @param filename the name of the uploaded file
+	 * @param purpose the purpose for the conversion
+	 * @return Valid json or error json content
+	 */
+	@PostMapping(consumes = {MediaType.APPLICATION_XML_VALUE, MediaType.TEXT_XML_VALUE,
+			MediaType.APPLICATION_OCTET_STREAM_VALUE})
+	public ResponseEntity<T> uploadQrdaStream(InputStream body,
+		@RequestHeader(required = false, name = "Filename") String filename,
+		@RequestHeader(required = false, name = "Purpose") String purpose) {
+
+		String checkedPurpose = checkPurpose(purpose);
+
+		HttpHeaders httpHeaders = new HttpHeaders();
+		httpHeaders.setContentType(MediaType.APPLICATION_JSON);
+
+		T response = respond(StringUtils.isEmpty(filename) ? DEFAULT_STREAM_FILENAME : filename, body,
+				checkedPurpose, httpHeaders);
 
 		API_LOG.info("Conversion request succeeded");
 
 		return new ResponseEntity<>(response, httpHeaders, HttpStatus.CREATED);
 	}
 
+	private String checkPurpose(String purpose) {
+		if (StringUtils.isEmpty(purpose)) {
+			API_LOG.info("Conversion request received");
+			return null; // if it's an empty string, make it null
+		}
+
+		if (purpose.length() > MAX_PURPOSE_LENGTH) {
+			throw new InvalidPurposeException("Given Purpose (header) is too large. Max length is "
+					+ MAX_PURPOSE_LENGTH + ", yours was " + purpose.length());
+		}
+		API_LOG.info("Conversion request received for " + purpose);
+		return purpose;
+	}
+
 	protected ConversionReport buildReport(String filename, InputStream inputStream, String purpose) {
-		ConversionReport conversionReport = qrdaService.convertQrda3ToQpp(
-				new InputStreamSupplierSource(filename, inputStream, purpose));
+		ConversionReport conversionReport = qrdaService.convertQrda3ToQpp(createSource(filename, inputStream, purpose));
 		validationService.validateQpp(conversionReport);
 		return conversionReport;
 	}
 
+	/**
+	 * Creates the source to convert. The stream is read as the conversion proceeds, so it must remain open until the
+	 * conversion has been audited.
+	 *
+	 * @param filename name of the source
+	 * @param inputStream content of the source
+	 * @param purpose the purpose for the conversion
+	 * @return the source
+	 */
+	protected Source createSource(String filename, InputStream inputStream, String purpose) {
+		return new IncrementalInputStreamSource(filename, inputStream, purpose);
+	}
+
 	/**
 	 * Input stream from a file
 	 *
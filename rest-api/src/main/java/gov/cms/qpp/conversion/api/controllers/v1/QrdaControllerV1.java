@@ -1,9 +1,10 @@
 package gov.cms.qpp.conversion.api.controllers.v1;
 
+import java.io.InputStream;
+
 import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.multipart.MultipartFile;
 
 import gov.cms.qpp.conversion.ConversionReport;
 import gov.cms.qpp.conversion.api.controllers.SkeletalQrdaController;
@@ -31,8 +32,9 @@ public class QrdaControllerV1 extends SkeletalQrdaController<String> {
 	}
 
 	@Override
-	protected String respond(MultipartFile file, String checkedPurpose, HttpHeaders httpHeaders) {
-		ConversionReport conversionReport = buildReport(file.getOriginalFilename(), inputStream(file), checkedPurpose);
+	protected String respond(String filename, InputStream inputStream, String checkedPurpose,
+			HttpHeaders httpHeaders) {
+		ConversionReport conversionReport = buildReport(filename, inputStream, checkedPurpose);
 		Metadata metadata = audit(conversionReport);
 		if (null != metadata) {
 			httpHeaders.add("Location", metadata.getUuid());
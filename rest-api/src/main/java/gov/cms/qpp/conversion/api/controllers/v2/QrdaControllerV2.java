@@ -1,9 +1,10 @@
 package gov.cms.qpp.conversion.api.controllers.v2;
 
+import java.io.InputStream;
+
 import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.multipart.MultipartFile;
 
 import gov.cms.qpp.conversion.ConversionReport;
 import gov.cms.qpp.conversion.api.controllers.SkeletalQrdaController;
@@ -38,8 +39,9 @@ public class QrdaControllerV2 extends SkeletalQrdaController<ConvertResponse> {
 	 * The version 2 API responds with validation warnings as well as the encoded QPP JsonWrapper.
 	 */
 	@Override
-	protected ConvertResponse respond(MultipartFile file, String checkedPurpose, HttpHeaders httpHeaders) {
-		ConversionReport conversionReport = buildReport(file.getOriginalFilename(), inputStream(file), checkedPurpose);
+	protected ConvertResponse respond(String filename, InputStream inputStream, String checkedPurpose,
+			HttpHeaders httpHeaders) {
+		ConversionReport conversionReport = buildReport(filename, inputStream, checkedPurpose);
 		ConvertResponse response = new ConvertResponse();
 		response.setQpp(conversionReport.getEncodedWithMetadata().copyWithoutMetadata().toObject());
 		response.setWarnings(conversionReport.getWarnings());
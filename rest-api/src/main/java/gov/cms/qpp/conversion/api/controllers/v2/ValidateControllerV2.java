@@ -0,0 +1,108 @@
+package gov.cms.qpp.conversion.api.controllers.v2;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import gov.cms.qpp.conversion.IncrementalInputStreamSource;
+import gov.cms.qpp.conversion.api.model.Constants;
+import gov.cms.qpp.conversion.api.model.ValidateResponse;
+import gov.cms.qpp.conversion.api.services.QrdaService;
+import gov.cms.qpp.conversion.model.error.ValidationResult;
+
+/**
+ * Controller to handle uploading files for QRDA-III validation only. The files are decoded and validated, but not
+ * converted, and neither they nor the results are stored.
+ */
+@RestController
+@CrossOrigin(allowCredentials = "true")
+@RequestMapping(path = "/validate", headers = {"Accept=" + Constants.V2_API_ACCEPT})
+public class ValidateControllerV2 {
+
+	private static final Logger API_LOG = LoggerFactory.getLogger(ValidateControllerV2.class);
+	private static final String DEFAULT_STREAM_FILENAME = "upload.xml";
+
+	private final QrdaService qrdaService;
+
+	/**
+	 * init dependencies
+	 *
+	 * @param qrdaService {@link QrdaService} to perform QRDA validation
+	 */
+	public ValidateControllerV2(QrdaService qrdaService) {
+		this.qrdaService = qrdaService;
+	}
+
+	/**
+	 * Endpoint to validate an uploaded file
+	 *
+	 * @param file Uploaded file
+	 * @return the errors and warnings found, with an HTTP status 422 if there are errors
+	 */
+	@PostMapping
+	public ResponseEntity<ValidateResponse> validateQrdaFile(@RequestParam(name = "file") MultipartFile file) {
+		API_LOG.info("Validation request received");
+		return respond(file.getOriginalFilename(), inputStream(file));
+	}
+
+	/**
+	 * Endpoint to validate a file sent as the request body. The body is validated as it is received.
+	 *
+	 * @param body Request body
+	 * @param filename the name of the uploaded file
+	 * @return the errors and warnings found, with an HTTP status 422 if there are errors
+	 */
+	@PostMapping(consumes = {MediaType.APPLICATION_XML_VALUE, MediaType.TEXT_XML_VALUE,
+			MediaType.APPLICATION_OCTET_STREAM_VALUE})
+	public ResponseEntity<ValidateResponse> validateQrdaStream(InputStream body,
+		@RequestHeader(required = false, name = "Filename") String filename) {
+		API_LOG.info("Validation request received");
+		return respond(StringUtils.isEmpty(filename) ? DEFAULT_STREAM_FILENAME : filename, body);
+	}
+
+	private ResponseEntity<ValidateResponse> respond(String filename, InputStream inputStream) {
+		ValidationResult result = qrdaService.validateQrda3(
+				new IncrementalInputStreamSource(filename, inputStream, null));
+
+		ValidateResponse response = new ValidateResponse();
+		response.setErrors(result.getErrors());
+		response.setWarnings(result.getWarnings());
+
+		HttpHeaders httpHeaders = new HttpHeaders();
+		httpHeaders.setContentType(MediaType.APPLICATION_JSON);
+		HttpStatus status = result.getErrors().isEmpty() ? HttpStatus.OK : HttpStatus.UNPROCESSABLE_ENTITY;
+
+		API_LOG.info("Validation request succeeded");
+
+		return new ResponseEntity<>(response, httpHeaders, status);
+	}
+
+	/**
+	 * Input stream from a file
+	 *
+	 * @param file the attachment
+	 * @return an input stream from the {@link MultipartFile}
+	 */
+	private InputStream inputStream(MultipartFile file) {
+		try {
+			return file.getInputStream();
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+}
@@ -4,6 +4,8 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
@@ -17,6 +19,8 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
 import gov.cms.qpp.conversion.ConversionReport;
+import gov.cms.qpp.conversion.InputStreamSupplierSource;
+import gov.cms.qpp.conversion.Source;
 import gov.cms.qpp.conversion.api.controllers.SkeletalQrdaController;
 import gov.cms.qpp.conversion.api.model.ConvertResponse;
 import gov.cms.qpp.conversion.api.model.Metadata;
@@ -42,8 +46,25 @@ public class ZipController extends SkeletalQrdaController<List<ConvertResponse>>
 
 	@Override
 	protected List<ConvertResponse> respond(MultipartFile file, String checkedPurpose, HttpHeaders httpHeaders) {
-		File tempFile = createTempFile(file);
+		return respond(createTempFile(file), checkedPurpose);
+	}
+
+	@Override
+	protected List<ConvertResponse> respond(String filename, InputStream inputStream, String checkedPurpose,
+			HttpHeaders httpHeaders) {
+		return respond(createTempFile(inputStream), checkedPurpose);
+	}
+
+	/**
+	 * Zip entries are closed along with their archive, which may be before a failed conversion is audited, so the
+	 * content of each entry is read up front.
+	 */
+	@Override
+	protected Source createSource(String filename, InputStream inputStream, String purpose) {
+		return new InputStreamSupplierSource(filename, inputStream, purpose);
+	}
 
+	private List<ConvertResponse> respond(File tempFile, String checkedPurpose) {
 		try (ZipFile zipFile = new ZipFile(tempFile)) {
 			List<ConvertResponse> responses = zipFile.stream()
 					.map(entry -> buildResponseForEntry(zipFile, entry, checkedPurpose))
@@ -67,6 +88,16 @@ public class ZipController extends SkeletalQrdaController<List<ConvertResponse>>
 		}
 	}
 
+	private File createTempFile(InputStream inputStream) {
+		try {
+			File tempFile = File.createTempFile("zipUpload", null);
+			Files.copy(inputStream, tempFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			return tempFile;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
 	private ConvertResponse buildResponseForEntry(ZipFile zipFile, ZipEntry entry, String purpose) {
 		try {
 			InputStream inputStream = zipFile.getInputStream(entry);
@@ -6,10 +6,9 @@ import gov.cms.qpp.conversion.model.Node;
 import gov.cms.qpp.conversion.model.error.Detail;
 import gov.cms.qpp.conversion.model.error.ProblemCode;
 import gov.cms.qpp.conversion.model.error.LocalizedProblem;
-import gov.cms.qpp.conversion.validate.NodeValidator;
+import gov.cms.qpp.conversion.validate.Validation;
 import gov.cms.qpp.conversion.validate.pii.PiiValidator;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -22,26 +21,24 @@ public class SpecPiiValidator implements PiiValidator {
 	}
 
 	@Override
-	public void validateApmTinNpiCombination(Node node, NodeValidator validator) {
+	public void validateApmTinNpiCombination(Node node, Validation validation) {
 		String apm = node.getValue(ClinicalDocumentDecoder.PRACTICE_ID);
-		List<String> npiList = Arrays.asList(
-			node.getValue(ClinicalDocumentDecoder.NATIONAL_PROVIDER_IDENTIFIER).split(","));
-		List<String> tinList = Arrays.asList(
-			node.getValue(ClinicalDocumentDecoder.TAX_PAYER_IDENTIFICATION_NUMBER).split(","));
+		List<String> npiList = node.getValues(ClinicalDocumentDecoder.NATIONAL_PROVIDER_IDENTIFIER);
+		List<String> tinList = node.getValues(ClinicalDocumentDecoder.TAX_PAYER_IDENTIFICATION_NUMBER);
 
 		Map<String, List<String>> tinNpisMap = file.getApmTinNpiCombinationMap().get(apm);
 		if (tinNpisMap == null) {
-			validator.addWarning(Detail.forProblemAndNode(ProblemCode.MISSING_API_TIN_NPI_FILE, node));
+			validation.addWarning(Detail.forProblemAndNode(ProblemCode.MISSING_API_TIN_NPI_FILE, node));
 		} else {
 			int npiSize = npiList.size();
 			for (int index = 0; index < npiSize; index++) {
-				String currentTin = tinList.get(index).trim();
-				String currentNpi = npiList.get(index).trim();
+				String currentTin = tinList.get(index);
+				String currentNpi = npiList.get(index);
 				String maskedTin = "*****" + currentTin.substring(5);
 				LocalizedProblem error = ProblemCode.INCORRECT_API_NPI_COMBINATION
 					.format(currentNpi, maskedTin, apm);
 				if (tinNpisMap.get(currentTin) == null || !(tinNpisMap.get(currentTin).indexOf(currentNpi) > -1)) {
-					validator.addWarning(Detail.forProblemAndNode(error, node));
+					validation.addWarning(Detail.forProblemAndNode(error, node));
 				}
 			}
 		}
@@ -0,0 +1,51 @@
+package gov.cms.qpp.conversion.api.model;
+
+import java.util.List;
+import java.util.Objects;
+
+import gov.cms.qpp.conversion.model.error.Detail;
+
+public class ValidateResponse {
+
+	private List<Detail> errors;
+	private List<Detail> warnings;
+
+	public List<Detail> getErrors() {
+		return errors;
+	}
+
+	public void setErrors(List<Detail> errors) {
+		this.errors = errors;
+	}
+
+	public List<Detail> getWarnings() {
+		return warnings;
+	}
+
+	public void setWarnings(List<Detail> warnings) {
+		this.warnings = warnings;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+
+		if (o == null || o.getClass() != getClass()) {
+			return false;
+		}
+
+		ValidateResponse that = (ValidateResponse) o;
+
+		boolean equals = Objects.equals(errors, that.errors);
+		equals &= Objects.equals(warnings, that.warnings);
+		return equals;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(errors, warnings);
+	}
+
+}
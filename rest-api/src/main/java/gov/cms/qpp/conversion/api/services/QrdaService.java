@@ -2,6 +2,7 @@ package gov.cms.qpp.conversion.api.services;
 
 import gov.cms.qpp.conversion.ConversionReport;
 import gov.cms.qpp.conversion.Source;
+import gov.cms.qpp.conversion.model.error.ValidationResult;
 
 import java.io.InputStream;
 
@@ -18,6 +19,14 @@ public interface QrdaService {
 	 */
 	ConversionReport convertQrda3ToQpp(Source source);
 
+	/**
+	 * Validates a given source without converting it, so nothing is encoded or stored
+	 *
+	 * @param source Object to be validated
+	 * @return Errors and warnings found
+	 */
+	ValidationResult validateQrda3(Source source);
+
 	/**
 	 * Opens a stream to retrieve the CPC+ Validation file for the QPP Service
 	 *
@@ -13,6 +13,7 @@ import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 
 import gov.cms.qpp.conversion.Context;
+import gov.cms.qpp.conversion.ConversionEngine;
 import gov.cms.qpp.conversion.ConversionReport;
 import gov.cms.qpp.conversion.Converter;
 import gov.cms.qpp.conversion.Source;
@@ -20,6 +21,7 @@ import gov.cms.qpp.conversion.api.internal.pii.SpecPiiValidator;
 import gov.cms.qpp.conversion.api.model.CpcValidationInfoMap;
 import gov.cms.qpp.conversion.api.services.QrdaService;
 import gov.cms.qpp.conversion.api.services.StorageService;
+import gov.cms.qpp.conversion.model.error.ValidationResult;
 import gov.cms.qpp.conversion.model.validation.MeasureConfigs;
 
 /**
@@ -29,8 +31,11 @@ import gov.cms.qpp.conversion.model.validation.MeasureConfigs;
 public class QrdaServiceImpl implements QrdaService {
 
 	private static final Logger API_LOG = LoggerFactory.getLogger(QrdaServiceImpl.class);
+	private static final Logger VALIDATE_ONLY_LOG =
+			LoggerFactory.getLogger(QrdaServiceImpl.class.getName() + ".validateOnly");
 
 	private final StorageService storageService;
+	private final ConversionEngine conversionEngine = new ConversionEngine();
 	private Supplier<CpcValidationInfoMap> cpcValidationData = () -> null;
 
 	QrdaServiceImpl(StorageService storageService) {
@@ -64,6 +69,23 @@ public class QrdaServiceImpl implements QrdaService {
 		return converter.getReport();
 	}
 
+	/**
+	 * Validates a given source without converting it. Its latency is logged apart from that of conversions.
+	 *
+	 * @param source Object to be validated
+	 * @return Errors and warnings found
+	 */
+	@Override
+	public ValidationResult validateQrda3(Source source) {
+		Converter converter = initConverter(source);
+		API_LOG.info("Performing QRDA3 validation only");
+		long start = System.nanoTime();
+		ValidationResult result = converter.validate();
+		VALIDATE_ONLY_LOG.info("Validated {} in {} ms with {} errors",
+				source.getName(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), result.getErrorCount());
+		return result;
+	}
+
 	/**
 	 * Opens a stream to retrieve the CPC+ Validation file for the QPP Service
 	 *
@@ -92,7 +114,7 @@ public class QrdaServiceImpl implements QrdaService {
 	 * @return converter instance
 	 */
 	Converter initConverter(Source source) {
-		Context context = new Context();
+		Context context = conversionEngine.newContext();
 		CpcValidationInfoMap apmToNpiValidationFile = cpcValidationData.get();
 		if (apmToNpiValidationFile != null && apmToNpiValidationFile.getApmTinNpiCombinationMap() != null) {
 			context.setPiiValidator(new SpecPiiValidator(apmToNpiValidationFile));
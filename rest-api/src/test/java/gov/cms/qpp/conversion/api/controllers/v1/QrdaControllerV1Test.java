@@ -36,6 +36,7 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
 import gov.cms.qpp.conversion.ConversionReport;
+import gov.cms.qpp.conversion.IncrementalInputStreamSource;
 import gov.cms.qpp.conversion.Source;
 import gov.cms.qpp.conversion.api.exceptions.AuditException;
 import gov.cms.qpp.conversion.api.exceptions.InvalidPurposeException;
@@ -90,6 +91,21 @@ class QrdaControllerV1Test {
 				new ByteArrayInputStream(GOOD_FILE_CONTENT.getBytes()));
 	}
 
+	@Test
+	void uploadQrdaStream() {
+		ArgumentCaptor<Source> sourceCaptor = ArgumentCaptor.forClass(Source.class);
+		when(qrdaService.convertQrda3ToQpp(sourceCaptor.capture())).thenReturn(report);
+		when(auditService.success(any(ConversionReport.class))).then(invocation -> null);
+
+		ResponseEntity<String> qppResponse = objectUnderTest.uploadQrdaStream(
+				new ByteArrayInputStream(GOOD_FILE_CONTENT.getBytes()), "streamed.xml", null);
+
+		assertThat(qppResponse.getBody())
+				.isEqualTo(report.getEncodedWithMetadata().toString());
+		assertThat(sourceCaptor.getValue()).isInstanceOf(IncrementalInputStreamSource.class);
+		assertThat(sourceCaptor.getValue().getName()).isEqualTo("streamed.xml");
+	}
+
 	@Test
 	void uploadQrdaFile() {
 		Metadata metadata = Metadata.create();
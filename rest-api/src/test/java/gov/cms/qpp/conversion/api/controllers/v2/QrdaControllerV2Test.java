@@ -26,11 +26,13 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
 import gov.cms.qpp.conversion.ConversionReport;
+import gov.cms.qpp.conversion.IncrementalInputStreamSource;
 import gov.cms.qpp.conversion.Source;
 import gov.cms.qpp.conversion.api.exceptions.AuditException;
 import gov.cms.qpp.conversion.api.model.ConvertResponse;
@@ -85,6 +87,34 @@ class QrdaControllerV2Test {
 				new ByteArrayInputStream(GOOD_FILE_CONTENT.getBytes()));
 	}
 
+	@Test
+	void uploadQrdaStream() {
+		ArgumentCaptor<Source> sourceCaptor = ArgumentCaptor.forClass(Source.class);
+		when(qrdaService.convertQrda3ToQpp(sourceCaptor.capture())).thenReturn(report);
+		when(auditService.success(any(ConversionReport.class))).then(invocation -> null);
+
+		ResponseEntity<ConvertResponse> qppResponse = objectUnderTest.uploadQrdaStream(
+				new ByteArrayInputStream(GOOD_FILE_CONTENT.getBytes()), "streamed.xml", null);
+
+		assertThat(qppResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+		assertThat(qppResponse.getBody().getQpp().toString())
+				.isEqualTo(report.getEncodedWithMetadata().toObject().toString());
+		assertThat(sourceCaptor.getValue()).isInstanceOf(IncrementalInputStreamSource.class);
+		assertThat(sourceCaptor.getValue().getName()).isEqualTo("streamed.xml");
+	}
+
+	@Test
+	void uploadQrdaStreamWithoutFilename() {
+		ArgumentCaptor<Source> sourceCaptor = ArgumentCaptor.forClass(Source.class);
+		when(qrdaService.convertQrda3ToQpp(sourceCaptor.capture())).thenReturn(report);
+		when(auditService.success(any(ConversionReport.class))).then(invocation -> null);
+
+		objectUnderTest.uploadQrdaStream(new ByteArrayInputStream(GOOD_FILE_CONTENT.getBytes()), null, "Test");
+
+		assertThat(sourceCaptor.getValue().getName()).isEqualTo("upload.xml");
+		assertThat(sourceCaptor.getValue().getPurpose()).isEqualTo("Test");
+	}
+
 	@Test
 	void uploadQrdaFile() {
 		Metadata metadata = Metadata.create();
@@ -0,0 +1,90 @@
+package gov.cms.qpp.conversion.api.controllers.v2;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockMultipartFile;
+
+import gov.cms.qpp.conversion.Source;
+import gov.cms.qpp.conversion.api.model.ValidateResponse;
+import gov.cms.qpp.conversion.api.services.QrdaService;
+import gov.cms.qpp.conversion.model.error.Detail;
+import gov.cms.qpp.conversion.model.error.ProblemCode;
+import gov.cms.qpp.conversion.model.error.ValidationResult;
+import gov.cms.qpp.test.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ValidateControllerV2Test {
+
+	private static final String FILE_CONTENT = "Some file";
+
+	@InjectMocks
+	private ValidateControllerV2 objectUnderTest;
+
+	@Mock
+	private QrdaService qrdaService;
+
+	@Test
+	void testValidFileIsOk() {
+		when(qrdaService.validateQrda3(any(Source.class)))
+				.thenReturn(new ValidationResult(Collections.emptyList(), Collections.emptyList()));
+
+		ResponseEntity<ValidateResponse> response = objectUnderTest.validateQrdaFile(
+				new MockMultipartFile("file", FILE_CONTENT.getBytes(StandardCharsets.UTF_8)));
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody().getErrors()).isEmpty();
+	}
+
+	@Test
+	void testInvalidFileIsUnprocessable() {
+		Detail error = Detail.forProblemCode(ProblemCode.NOT_VALID_XML_DOCUMENT);
+		when(qrdaService.validateQrda3(any(Source.class)))
+				.thenReturn(new ValidationResult(Collections.singletonList(error), Collections.emptyList()));
+
+		ResponseEntity<ValidateResponse> response = objectUnderTest.validateQrdaFile(
+				new MockMultipartFile("file", FILE_CONTENT.getBytes(StandardCharsets.UTF_8)));
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+		assertThat(response.getBody().getErrors()).containsExactly(error);
+	}
+
+	@Test
+	void testStreamUsesFilenameHeader() {
+		when(qrdaService.validateQrda3(any(Source.class)))
+				.thenReturn(new ValidationResult(Collections.emptyList(), Collections.emptyList()));
+
+		objectUnderTest.validateQrdaStream(
+				new ByteArrayInputStream(FILE_CONTENT.getBytes(StandardCharsets.UTF_8)), "meep.xml");
+
+		ArgumentCaptor<Source> source = ArgumentCaptor.forClass(Source.class);
+		verify(qrdaService).validateQrda3(source.capture());
+		assertThat(source.getValue().getName()).isEqualTo("meep.xml");
+	}
+
+	@Test
+	void testStreamWithoutFilenameHeader() {
+		when(qrdaService.validateQrda3(any(Source.class)))
+				.thenReturn(new ValidationResult(Collections.emptyList(), Collections.emptyList()));
+
+		objectUnderTest.validateQrdaStream(
+				new ByteArrayInputStream(FILE_CONTENT.getBytes(StandardCharsets.UTF_8)), null);
+
+		ArgumentCaptor<Source> source = ArgumentCaptor.forClass(Source.class);
+		verify(qrdaService).validateQrda3(source.capture());
+		assertThat(source.getValue().getName()).isEqualTo("upload.xml");
+	}
+}
@@ -31,6 +31,7 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
 import gov.cms.qpp.conversion.ConversionReport;
+import gov.cms.qpp.conversion.InputStreamSupplierSource;
 import gov.cms.qpp.conversion.Source;
 import gov.cms.qpp.conversion.api.exceptions.AuditException;
 import gov.cms.qpp.conversion.api.model.ConvertResponse;
@@ -85,6 +86,22 @@ class ZipControllerTest {
 		multipartFile = new MockMultipartFile(GOOD_FILE_CONTENT, Files.newInputStream(goodZipFilePath));
 	}
 
+	@Test
+	void uploadQrdaStream() throws IOException {
+		ArgumentCaptor<Source> sourceCaptor = ArgumentCaptor.forClass(Source.class);
+		when(qrdaService.convertQrda3ToQpp(sourceCaptor.capture())).thenReturn(report);
+		when(auditService.success(any(ConversionReport.class))).then(invocation -> null);
+
+		ResponseEntity<List<ConvertResponse>> qppResponse;
+		try (InputStream zip = Files.newInputStream(goodZipFilePath)) {
+			qppResponse = objectUnderTest.uploadQrdaStream(zip, null, null);
+		}
+
+		assertThat(qppResponse.getBody().get(0).getQpp().toString())
+				.isEqualTo(report.getEncodedWithMetadata().toObject().toString());
+		assertThat(sourceCaptor.getValue()).isInstanceOf(InputStreamSupplierSource.class);
+	}
+
 	@Test
 	void uploadQrdaFile() {
 		Metadata metadata = Metadata.create();
@@ -1,6 +1,7 @@
 package gov.cms.qpp.conversion.api.internal.pii;
 
 import java.io.InputStream;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
@@ -12,7 +13,7 @@ import gov.cms.qpp.conversion.api.model.CpcValidationInfoMap;
 import gov.cms.qpp.conversion.decode.ClinicalDocumentDecoder;
 import gov.cms.qpp.conversion.model.Node;
 import gov.cms.qpp.conversion.model.TemplateId;
-import gov.cms.qpp.conversion.validate.NodeValidator;
+import gov.cms.qpp.conversion.validate.Validation;
 
 public class SpecPiiValidatorTest {
 
@@ -20,65 +21,45 @@ public class SpecPiiValidatorTest {
 	void testValidCombination() throws Exception {
 		SpecPiiValidator validator = validator("DogCow_APM", "DogCow_NPI");
 		Node node = node("DogCow_APM", "DogCow_NPI,DogCow_NPI2", "DogCow,DogCow");
-		NodeValidator nodeValidator = new NodeValidator() {
-			@Override
-			protected void performValidation(Node node) {
-			}
-		};
-		validator.validateApmTinNpiCombination(node, nodeValidator);
-		Truth.assertThat(nodeValidator.viewWarnings()).isEmpty();
+		Validation validation = new Validation();
+		validator.validateApmTinNpiCombination(node, validation);
+		Truth.assertThat(validation.viewWarnings()).isEmpty();
 	}
 
 	@Test
 	void testDuplicateSpecStillValid() throws Exception {
 		SpecPiiValidator validator = validatorWithDupeSpec("DogCow_APM", "DogCow_NPI");
 		Node node = node("DogCow_APM", "DogCow_NPI", "DogCow");
-		NodeValidator nodeValidator = new NodeValidator() {
-			@Override
-			protected void performValidation(Node node) {
-			}
-		};
-		validator.validateApmTinNpiCombination(node, nodeValidator);
-		Truth.assertThat(nodeValidator.viewWarnings()).isEmpty();
+		Validation validation = new Validation();
+		validator.validateApmTinNpiCombination(node, validation);
+		Truth.assertThat(validation.viewWarnings()).isEmpty();
 	}
 
 	@Test
 	void testInvalidCombination() throws Exception {
 		SpecPiiValidator validator = validator("Valid_DogCow_APM", "Valid_DogCow_NPI");
 		Node node = node("Valid_DogCow_APM", "Invalid_Entered_DogCow_NPI", "DogCow");
-		NodeValidator nodeValidator = new NodeValidator() {
-			@Override
-			protected void performValidation(Node node) {
-			}
-		};
-		validator.validateApmTinNpiCombination(node, nodeValidator);
-		Truth.assertThat(nodeValidator.viewWarnings()).isNotEmpty();
+		Validation validation = new Validation();
+		validator.validateApmTinNpiCombination(node, validation);
+		Truth.assertThat(validation.viewWarnings()).isNotEmpty();
 	}
 
 	@Test
 	void testNullSpec() throws  Exception {
 		SpecPiiValidator validator = validator("Valid_DogCow_APM", "Valid_DogCow_NPI");
 		Node node = node("invalid", "Invalid_Entered_DogCow_NPI", "DogCow");
-		NodeValidator nodeValidator = new NodeValidator() {
-			@Override
-			protected void performValidation(Node node) {
-			}
-		};
-		validator.validateApmTinNpiCombination(node, nodeValidator);
-		Truth.assertThat(nodeValidator.viewWarnings()).isNotEmpty();
+		Validation validation = new Validation();
+		validator.validateApmTinNpiCombination(node, validation);
+		Truth.assertThat(validation.viewWarnings()).isNotEmpty();
 	}
 
 	@Test
 	void testMasking() throws Exception {
 		SpecPiiValidator validator = validator("DogCow_APM", "DogCow_NPI");
 		Node node = node("DogCow_APM", "DogCow_NPI", "_____INVALID");
-		NodeValidator nodeValidator = new NodeValidator() {
-			@Override
-			protected void performValidation(Node node) {
-			}
-		};
-		validator.validateApmTinNpiCombination(node, nodeValidator);
-		Truth.assertThat(nodeValidator.viewWarnings().get(0).getMessage()).contains("*****INVALID");
+		Validation validation = new Validation();
+		validator.validateApmTinNpiCombination(node, validation);
+		Truth.assertThat(validation.viewWarnings().get(0).getMessage()).contains("*****INVALID");
 	}
 
 	private SpecPiiValidator validator(String apm, String npi) throws Exception {
@@ -130,8 +111,8 @@ public class SpecPiiValidatorTest {
 	private Node node(String apm, String npi, String tin) {
 		Node clinicalDocumentNode = new Node(TemplateId.CLINICAL_DOCUMENT);
 		clinicalDocumentNode.putValue(ClinicalDocumentDecoder.PRACTICE_ID, apm);
-		clinicalDocumentNode.putValue(ClinicalDocumentDecoder.NATIONAL_PROVIDER_IDENTIFIER, npi);
-		clinicalDocumentNode.putValue(ClinicalDocumentDecoder.TAX_PAYER_IDENTIFICATION_NUMBER, tin);
+		clinicalDocumentNode.putValues(ClinicalDocumentDecoder.NATIONAL_PROVIDER_IDENTIFIER, Arrays.asList(npi.split(",")));
+		clinicalDocumentNode.putValues(ClinicalDocumentDecoder.TAX_PAYER_IDENTIFICATION_NUMBER, Arrays.asList(tin.split(",")));
 		return clinicalDocumentNode;
 	}
 
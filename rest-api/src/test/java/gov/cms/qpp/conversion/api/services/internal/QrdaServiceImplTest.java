@@ -17,6 +17,7 @@ import gov.cms.qpp.conversion.encode.JsonWrapper;
 import gov.cms.qpp.conversion.model.error.AllErrors;
 import gov.cms.qpp.conversion.model.error.Error;
 import gov.cms.qpp.conversion.model.error.TransformException;
+import gov.cms.qpp.conversion.model.error.ValidationResult;
 import gov.cms.qpp.test.MockitoExtension;
 
 import java.io.ByteArrayInputStream;
@@ -25,6 +26,7 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
 
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -42,6 +44,8 @@ class QrdaServiceImplTest {
 	private static final String MOCK_SUCCESS_QPP_STRING = "Good Qpp";
 	private static final String MOCK_ERROR_SOURCE_IDENTIFIER = "Error Identifier";
 	private static final Path VALIDATION_JSON_FILE_PATH = Paths.get("src/test/resources/testCpcPlusValidationFile.json");
+	private static final ValidationResult MOCK_VALIDATION_RESULT =
+			new ValidationResult(Collections.emptyList(), Collections.emptyList());
 	private InputStream MOCK_INPUT_STREAM;
 
 	@Spy
@@ -80,6 +84,12 @@ class QrdaServiceImplTest {
 		assertThat(allErrors.getErrors().get(0).getSourceIdentifier()).isSameInstanceAs(MOCK_ERROR_SOURCE_IDENTIFIER);
 	}
 
+	@Test
+	void testValidateQrda3() {
+		ValidationResult result = objectUnderTest.validateQrda3(MOCK_SUCCESS_QRDA_SOURCE);
+		assertThat(result).isSameInstanceAs(MOCK_VALIDATION_RESULT);
+	}
+
 	@Test
 	void testPostConstructForCoverage() {
 		objectUnderTest.preloadMeasureConfigs();
@@ -95,6 +105,7 @@ class QrdaServiceImplTest {
 
 		when(report.getEncodedWithMetadata()).thenReturn(qpp);
 		when(mockConverter.getReport()).thenReturn(report);
+		when(mockConverter.validate()).thenReturn(MOCK_VALIDATION_RESULT);
 
 		return mockConverter;
 	}
@@ -0,0 +1,21 @@
+package gov.cms.qpp.test.annotations;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Mark a method as a JUnit 5 benchmark test. Benchmarks only run under the {@code benchmark} profile.
+ */
+@Retention(RUNTIME)
+@Target({ METHOD, ANNOTATION_TYPE })
+@Test
+@Tag("benchmark")
+public @interface BenchmarkTest {
+}
@@ -0,0 +1,85 @@
+package gov.cms.qpp.test.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulates an upload from a slow client. Content is delivered in fixed size chunks, each of which arrives after a
+ * delay, so a read never returns more than one chunk.
+ */
+public class SlowClientInputStream extends InputStream {
+
+	private final byte[] content;
+	private final int chunkSize;
+	private final long delayNanos;
+	private int position;
+	private volatile int delivered;
+
+	/**
+	 * Creates a stream that delivers the given content a chunk at a time.
+	 *
+	 * @param content the content to deliver
+	 * @param chunkSize the most bytes to deliver at once
+	 * @param delay the time each chunk takes to arrive
+	 * @param unit the unit of the delay
+	 */
+	public SlowClientInputStream(byte[] content, int chunkSize, long delay, TimeUnit unit) {
+		this.content = Arrays.copyOf(content, content.length);
+		this.chunkSize = chunkSize;
+		this.delayNanos = unit.toNanos(delay);
+	}
+
+	@Override
+	public int read() throws IOException {
+		byte[] single = new byte[1];
+		return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+	}
+
+	@Override
+	public int read(byte[] destination, int offset, int count) throws IOException {
+		if (count == 0) {
+			return 0;
+		}
+		if (position == content.length) {
+			return -1;
+		}
+
+		try {
+			TimeUnit.NANOSECONDS.sleep(delayNanos);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for a chunk");
+		}
+
+		int read = Math.min(Math.min(count, chunkSize), content.length - position);
+		System.arraycopy(content, position, destination, offset, read);
+		position += read;
+		delivered = position;
+		return read;
+	}
+
+	/**
+	 * @return the number of bytes delivered so far
+	 */
+	public int getDelivered() {
+		return delivered;
+	}
+
+	/**
+	 * @return whether the entire content has been delivered
+	 */
+	public boolean isComplete() {
+		return delivered == content.length;
+	}
+
+	/**
+	 * @return the time it takes to deliver the entire content, in milliseconds
+	 */
+	public long getUploadMillis() {
+		long chunks = ((long) content.length + chunkSize - 1) / chunkSize;
+		return TimeUnit.NANOSECONDS.toMillis(chunks * delayNanos);
+	}
+}